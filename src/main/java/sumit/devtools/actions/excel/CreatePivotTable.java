@@ -0,0 +1,220 @@
+package sumit.devtools.actions.excel;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.ListType;
+import com.automationanywhere.commandsdk.annotations.rules.LocalFile;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.DataConsolidateFunction;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.AreaReference;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.usermodel.XSSFPivotTable;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import sumit.devtools.utils.PivotTableUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Create pivot table",
+    name = "createPivotTable",
+    icon = "Table.svg",
+    group_label = "Excel",
+    description = "Adds a pivot table to an XLSX workbook from a range of a sheet. The workbook is saved in place",
+    node_label = "Create pivot table in {{filePath}} from {{sourceSheet}} on {{targetSheet}}"
+)
+public class CreatePivotTable {
+
+  @Execute
+  public static void action(
+      @Idx(index = "1", type = AttributeType.FILE)
+      @Pkg(label = "File path", description = "Path to the XLSX workbook to update")
+      @NotEmpty
+      @LocalFile
+      String filePath,
+
+      @Idx(index = "2", type = AttributeType.TEXT)
+      @Pkg(label = "Source sheet", description = "Name of the sheet containing the data")
+      @NotEmpty
+      String sourceSheet,
+
+      @Idx(index = "3", type = AttributeType.TEXT)
+      @Pkg(label = "Source range",
+          description = "Optional. Range with the header row first. Example: A1:D100. " +
+              "When empty, the used range of the source sheet is detected.")
+      String sourceRange,
+
+      @Idx(index = "4", type = AttributeType.TEXT)
+      @Pkg(label = "Target sheet",
+          description = "Sheet to place the pivot table on. Created if it does not exist.",
+          default_value = "Pivot",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String targetSheet,
+
+      @Idx(index = "5", type = AttributeType.TEXT)
+      @Pkg(label = "Target cell", description = "Top left cell of the pivot table. Example: A3",
+          default_value = "A3",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String targetCell,
+
+      @Idx(index = "6", type = AttributeType.LIST)
+      @Pkg(label = "Row label columns",
+          description = "Headers of the columns to use as row labels. Example: ['Region', 'Product']")
+      @NotEmpty
+      @ListType(DataType.STRING)
+      List<StringValue> rowColumns,
+
+      @Idx(index = "7", type = AttributeType.LIST)
+      @Pkg(label = "Column label columns",
+          description = "Optional. Headers of the columns to use as column labels.")
+      @ListType(DataType.STRING)
+      List<StringValue> columnColumns,
+
+      @Idx(index = "8", type = AttributeType.TEXT)
+      @Pkg(label = "Value column", description = "Header of the column to aggregate")
+      @NotEmpty
+      String valueColumn,
+
+      @Idx(index = "9", type = AttributeType.SELECT, options = {
+          @Idx.Option(index = "9.1", pkg = @Pkg(label = "Sum", value = "SUM")),
+          @Idx.Option(index = "9.2", pkg = @Pkg(label = "Count", value = "COUNT")),
+          @Idx.Option(index = "9.3", pkg = @Pkg(label = "Average", value = "AVERAGE")),
+          @Idx.Option(index = "9.4", pkg = @Pkg(label = "Min", value = "MIN")),
+          @Idx.Option(index = "9.5", pkg = @Pkg(label = "Max", value = "MAX"))
+      })
+      @Pkg(label = "Aggregate", default_value = "SUM", default_value_type = DataType.STRING)
+      @NotEmpty
+      String aggregation
+  ) {
+    try {
+      File file = new File(filePath);
+      if (!file.exists() || !file.isFile()) {
+        throw new BotCommandException("File not found at specified path: " + filePath);
+      }
+
+      DataConsolidateFunction function = toConsolidateFunction(aggregation);
+      Path path = file.toPath();
+
+      try (InputStream in = Files.newInputStream(path);
+          XSSFWorkbook workbook = new XSSFWorkbook(in)) {
+        XSSFSheet source = workbook.getSheet(sourceSheet);
+        if (source == null) {
+          throw new BotCommandException("Sheet not found: " + sourceSheet);
+        }
+
+        AreaReference area;
+        if (sourceRange == null || sourceRange.trim().isEmpty()) {
+          area = PivotTableUtil.detectDataRange(source);
+        } else {
+          area = new AreaReference(sourceRange.trim(), SpreadsheetVersion.EXCEL2007);
+          PivotTableUtil.validateRangeDimensions(area);
+        }
+        PivotTableUtil.validateHeaders(source, area);
+        PivotTableUtil.validateDataRows(source, area);
+
+        Map<String, Integer> headerIndexes = readHeaderIndexes(source, area);
+
+        XSSFSheet target = workbook.getSheet(targetSheet);
+        if (target == null) {
+          target = workbook.createSheet(targetSheet);
+        }
+
+        XSSFPivotTable pivotTable = target.createPivotTable(area,
+            new CellReference(targetCell.trim()), source);
+        for (StringValue column : rowColumns) {
+          pivotTable.addRowLabel(findHeader(headerIndexes, column));
+        }
+        if (columnColumns != null) {
+          for (StringValue column : columnColumns) {
+            pivotTable.addColLabel(findHeader(headerIndexes, column));
+          }
+        }
+        pivotTable.addColumnLabel(function,
+            findHeader(headerIndexes, new StringValue(valueColumn)));
+
+        // Write next to the original and swap, so a failed save leaves the workbook intact
+        Path parent = path.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(parent, "pivot", ".tmp");
+        try {
+          try (OutputStream out = Files.newOutputStream(tempFile)) {
+            workbook.write(out);
+          }
+          Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+          Files.deleteIfExists(tempFile);
+        }
+      }
+
+    } catch (Exception e) {
+      throw new BotCommandException("Error creating pivot table: " + e.getMessage(), e);
+    }
+  }
+
+  private static DataConsolidateFunction toConsolidateFunction(String aggregation) {
+    switch (aggregation == null ? "" : aggregation.toUpperCase(Locale.ROOT)) {
+      case "SUM":
+        return DataConsolidateFunction.SUM;
+      case "COUNT":
+        return DataConsolidateFunction.COUNT;
+      case "AVERAGE":
+        return DataConsolidateFunction.AVERAGE;
+      case "MIN":
+        return DataConsolidateFunction.MIN;
+      case "MAX":
+        return DataConsolidateFunction.MAX;
+      default:
+        throw new BotCommandException("Invalid aggregate function: " + aggregation);
+    }
+  }
+
+  /**
+   * Maps trimmed, lower-cased header names to column offsets within the area. Headers are
+   * normalized the same way as in PivotTableUtil.validateHeaders, which rejects collisions.
+   */
+  private static Map<String, Integer> readHeaderIndexes(XSSFSheet sheet, AreaReference area) {
+    Row headerRow = sheet.getRow(area.getFirstCell().getRow());
+    int firstCol = area.getFirstCell().getCol();
+    int lastCol = area.getLastCell().getCol();
+
+    Map<String, Integer> headerIndexes = new HashMap<>();
+    for (int i = firstCol; i <= lastCol; i++) {
+      String header = PivotTableUtil.getCellValueAsString(headerRow.getCell(i));
+      headerIndexes.put(header.trim().toLowerCase(Locale.ROOT), i - firstCol);
+    }
+    return headerIndexes;
+  }
+
+  private static int findHeader(Map<String, Integer> headerIndexes, Value column) {
+    String name = column == null || column.get() == null ? "" : column.get().toString();
+    Integer index = headerIndexes.get(name.trim().toLowerCase(Locale.ROOT));
+    if (index == null) {
+      throw new BotCommandException("Column not found in source range: " + name);
+    }
+    return index;
+  }
+
+}
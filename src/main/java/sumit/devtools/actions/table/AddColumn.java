@@ -24,6 +24,8 @@ import com.automationanywhere.commandsdk.annotations.rules.VariableType;
 import com.automationanywhere.commandsdk.model.AttributeType;
 import com.automationanywhere.commandsdk.model.DataType;
 import java.util.List;
+import sumit.devtools.utils.ParallelRows;
+import sumit.devtools.utils.TableExpression;
 import sumit.devtools.utils.TableUtil;
 
 /**
@@ -74,7 +76,8 @@ public class AddColumn {
 
       @Idx(index = "5", type = SELECT, options = {
           @Idx.Option(index = "5.1", pkg = @Pkg(label = "Default", value = "DEFAULT")),
-          @Idx.Option(index = "5.2", pkg = @Pkg(label = "List", value = "LIST"))})
+          @Idx.Option(index = "5.2", pkg = @Pkg(label = "List", value = "LIST")),
+          @Idx.Option(index = "5.3", pkg = @Pkg(label = "Expression", value = "EXPRESSION"))})
       @Pkg(label = "Column value", description = "Added column's cell values", default_value = "DEFAULT",
           default_value_type = DataType.STRING)
       @NotEmpty
@@ -89,17 +92,54 @@ public class AddColumn {
       @Idx(index = "5.2.1", type = AttributeType.LIST)
       @Pkg(label = "List of cell values", description = "List size should not be less than table row count")
       @NotEmpty
-      List<Value> columnValues
+      List<Value> columnValues,
+
+      @Idx(index = "5.3.1", type = TEXT)
+      @Pkg(label = "Expression", description = "Computed from other columns of the same row. " +
+          "Supports + - * / %, parentheses, [Column Name] for names with spaces, text in single " +
+          "quotes and the functions CONCAT, UPPER, LOWER, TRIM, LENGTH, ROUND, ABS, MIN, MAX. " +
+          "Example: Qty * Price or CONCAT(First, ' ', Last)")
+      @NotEmpty
+      String expression,
+
+      @Idx(index = "5.3.2", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Case-sensitive comparison",
+          description = "Controls whether column names in the expression are matched case-sensitively. " +
+              "When false (default): Case-insensitive (e.g., 'Qty' matches 'qty', 'QTY'). " +
+              "When true: Case-sensitive (e.g., 'Qty' does not match 'qty').",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean caseSensitive,
+
+      @Idx(index = "5.3.3", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Process large tables in parallel",
+          description = "When true (default): Tables with " + ParallelRows.PARALLEL_THRESHOLD +
+              " rows or more are processed on multiple CPU cores; the row order is unchanged. " +
+              "When false: Always processes on a single thread.",
+          default_value = "true",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean parallel
 
   ) {
     try {
+      // Compiled and evaluated on the input before the copy is changed, so column positions match
+      List<Value> computedValues = null;
+      if (insertMethod.equals("EXPRESSION")) {
+        computedValues = TableExpression.compileColumn(expression, inputTable.getSchema(),
+            Boolean.TRUE.equals(caseSensitive)).evaluate(inputTable.getRows(), Boolean.TRUE.equals(parallel));
+      }
+
       Table Output = TableUtil.copyTable(inputTable);
       boolean insertAtEnd = insertType.equals("END");
       int insertIndex = insertAtEnd ? Output.getSchema().size() : itemPosition.intValue();
 
       boolean insertDefaultValues = insertMethod.equals("DEFAULT");
 
-      if (!insertDefaultValues && columnValues.size() < Output.getRows().size()) {
+      if (computedValues != null) {
+        columnValues = computedValues;
+      } else if (!insertDefaultValues && columnValues.size() < Output.getRows().size()) {
         throw new BotCommandException(
             "List of added column's cell values size is less than the existing " +
                 "number of rows");
@@ -0,0 +1,114 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.Sessions;
+import com.automationanywhere.commandsdk.annotations.rules.ListType;
+import com.automationanywhere.commandsdk.annotations.rules.LocalFile;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import sumit.devtools.utils.MappedBinaryTable;
+import sumit.devtools.utils.TableIndex;
+import sumit.devtools.utils.TableUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Build index from binary file",
+    name = "buildBinaryFileIndex",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Indexes a table saved with Save table to binary file without loading it. The file is memory-mapped and rows are read only when Lookup rows by key finds them, so large reference tables use little bot memory. Remove table index releases the file",
+    node_label = "Build index {{indexName}} of binary file {{filePath}} by {{keyColumns}}",
+    return_description = "Number of distinct keys in the index",
+    return_label = "Assign distinct key count to",
+    return_type = DataType.NUMBER
+)
+public class BuildBinaryFileIndex {
+
+  @Sessions
+  private Map<String, Object> sessions;
+
+  @Execute
+  public NumberValue action(
+      @Idx(index = "1", type = AttributeType.TEXT)
+      @Pkg(label = "Index name",
+          description = "Name used by Lookup rows by key. An existing index with the same name is replaced.",
+          default_value = "Default",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String indexName,
+
+      @Idx(index = "2", type = AttributeType.FILE)
+      @Pkg(label = "File path",
+          description = "Path to a file saved with Save table to binary file. The file cannot be " +
+              "overwritten while the index is in use; on Windows it stays locked until the index " +
+              "is removed with Remove table index or the bot ends.")
+      @NotEmpty
+      @LocalFile
+      String filePath,
+
+      @Idx(index = "3", type = AttributeType.LIST)
+      @Pkg(label = "Key columns",
+          description = "Columns that form the key, in order. Example: ['Region', 'Code']")
+      @NotEmpty
+      @ListType(DataType.STRING)
+      List<StringValue> keyColumns,
+
+      @Idx(index = "4", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Case-sensitive comparison",
+          description = "Controls whether column names and key values are compared case-sensitively. " +
+              "When false (default): Case-insensitive (e.g., key 'abc' finds rows with 'ABC'). " +
+              "When true: Case-sensitive (e.g., key 'abc' does not find rows with 'ABC').",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean caseSensitive
+  ) {
+    try {
+      if (indexName == null || indexName.trim().isEmpty()) {
+        throw new BotCommandException("Index name cannot be empty.");
+      }
+      if (keyColumns == null || keyColumns.isEmpty()) {
+        throw new BotCommandException("At least one key column is required.");
+      }
+      File inputFile = new File(filePath);
+      if (!inputFile.exists() || !inputFile.isFile()) {
+        throw new BotCommandException("File not found at specified path: " + filePath);
+      }
+
+      boolean matchCase = Boolean.TRUE.equals(caseSensitive);
+      MappedBinaryTable table = MappedBinaryTable.open(inputFile.toPath());
+      TableIndex index;
+      try {
+        int[] columns = TableUtil.requireColumnIndexes(table.getSchema(), keyColumns, matchCase);
+        index = new TableIndex(table, columns, matchCase);
+      } catch (Exception e) {
+        table.close();
+        throw e;
+      }
+      TableIndex.store(sessions, indexName.trim(), index);
+
+      return new NumberValue(index.getKeyCount());
+    } catch (Exception e) {
+      throw new BotCommandException("Error building index from binary file: " + e.getMessage(), e);
+    }
+  }
+
+  public void setSessions(Map<String, Object> sessions) {
+    this.sessions = sessions;
+  }
+
+}
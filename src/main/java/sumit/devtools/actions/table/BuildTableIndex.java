@@ -0,0 +1,102 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.Sessions;
+import com.automationanywhere.commandsdk.annotations.rules.ListType;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.VariableType;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.util.List;
+import java.util.Map;
+import sumit.devtools.utils.TableIndex;
+import sumit.devtools.utils.TableUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Build table index",
+    name = "buildTableIndex",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Indexes a table by one or more key columns and keeps the index for the rest of the bot run. Use Lookup rows by key to find rows without rescanning the table",
+    node_label = "Build index {{indexName}} of {{inputTable}} by {{keyColumns}}",
+    return_description = "Number of distinct keys in the index",
+    return_label = "Assign distinct key count to",
+    return_type = DataType.NUMBER
+)
+public class BuildTableIndex {
+
+  @Sessions
+  private Map<String, Object> sessions;
+
+  @Execute
+  public NumberValue action(
+      @Idx(index = "1", type = AttributeType.TEXT)
+      @Pkg(label = "Index name",
+          description = "Name used by Lookup rows by key. An existing index with the same name is replaced.",
+          default_value = "Default",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String indexName,
+
+      @Idx(index = "2", type = AttributeType.VARIABLE)
+      @Pkg(label = "Base table")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table inputTable,
+
+      @Idx(index = "3", type = AttributeType.LIST)
+      @Pkg(label = "Key columns",
+          description = "Columns that form the key, in order. Example: ['Region', 'Code']")
+      @NotEmpty
+      @ListType(DataType.STRING)
+      List<StringValue> keyColumns,
+
+      @Idx(index = "4", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Case-sensitive comparison",
+          description = "Controls whether column names and key values are compared case-sensitively. " +
+              "When false (default): Case-insensitive (e.g., key 'abc' finds rows with 'ABC'). " +
+              "When true: Case-sensitive (e.g., key 'abc' does not find rows with 'ABC').",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean caseSensitive
+  ) {
+    try {
+      if (inputTable == null) {
+        throw new BotCommandException("Input table cannot be null.");
+      }
+      if (indexName == null || indexName.trim().isEmpty()) {
+        throw new BotCommandException("Index name cannot be empty.");
+      }
+      if (keyColumns == null || keyColumns.isEmpty()) {
+        throw new BotCommandException("At least one key column is required.");
+      }
+
+      boolean matchCase = Boolean.TRUE.equals(caseSensitive);
+      int[] columns = TableUtil.requireColumnIndexes(inputTable.getSchema(), keyColumns, matchCase);
+      TableIndex index = new TableIndex(inputTable, columns, matchCase);
+      TableIndex.store(sessions, indexName.trim(), index);
+
+      return new NumberValue(index.getKeyCount());
+    } catch (Exception e) {
+      throw new BotCommandException("Error building table index: " + e.getMessage(), e);
+    }
+  }
+
+  public void setSessions(Map<String, Object> sessions) {
+    this.sessions = sessions;
+  }
+
+}
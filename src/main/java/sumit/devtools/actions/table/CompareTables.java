@@ -0,0 +1,234 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.BooleanValue;
+import com.automationanywhere.botcommand.data.impl.DictionaryValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.ListType;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.VariableType;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import sumit.devtools.utils.AggregationUtil;
+import sumit.devtools.utils.RowKey;
+import sumit.devtools.utils.TableUtil;
+import sumit.devtools.utils.ValueUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Compare tables",
+    name = "compareTables",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Compares a previous and a current table by key columns and returns the added, removed and modified rows, with a change flag for every compared column. Cells compare by their text, so the number 100 and the text '100' are equal",
+    node_label = "Compare {{previousTable}} with {{currentTable}} by {{keyColumns}} and assign to {{returnTo}}",
+    return_description = "Dictionary with the tables 'added', 'removed' and 'modified'",
+    return_required = true,
+    return_label = "Assign differences to",
+    return_type = DataType.DICTIONARY, return_sub_type = DataType.ANY
+)
+public class CompareTables {
+
+  public static final String ADDED = "added";
+  public static final String REMOVED = "removed";
+  public static final String MODIFIED = "modified";
+
+  @Execute
+  public static DictionaryValue action(
+      @Idx(index = "1", type = AttributeType.VARIABLE)
+      @Pkg(label = "Previous table", description = "Earlier version of the data, e.g. yesterday's extract")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table previousTable,
+
+      @Idx(index = "2", type = AttributeType.VARIABLE)
+      @Pkg(label = "Current table", description = "Later version of the data, e.g. today's extract")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table currentTable,
+
+      @Idx(index = "3", type = AttributeType.LIST)
+      @Pkg(label = "Key columns",
+          description = "Columns that identify a row in both tables. Each key must be unique " +
+              "within a table. Example: ['InvoiceId']")
+      @NotEmpty
+      @ListType(DataType.STRING)
+      List<StringValue> keyColumns,
+
+      @Idx(index = "4", type = AttributeType.LIST)
+      @Pkg(label = "Compare columns",
+          description = "Columns checked for changes. When empty, every non-key column of the " +
+              "current table that also exists in the previous table is compared.")
+      @ListType(DataType.STRING)
+      List<StringValue> compareColumns,
+
+      @Idx(index = "5", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Case-sensitive comparison",
+          description = "Controls whether column names, keys and values are compared case-sensitively. " +
+              "When false (default): Case-insensitive (e.g., 'Paid' and 'PAID' are the same value). " +
+              "When true: Case-sensitive (e.g., 'Paid' and 'PAID' are a change).",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean caseSensitive
+  ) {
+    try {
+      if (previousTable == null || currentTable == null) {
+        throw new BotCommandException("Input table cannot be null.");
+      }
+
+      boolean matchCase = Boolean.TRUE.equals(caseSensitive);
+      List<Schema> previousSchema = previousTable.getSchema();
+      List<Schema> currentSchema = currentTable.getSchema();
+      int[] previousKeys = TableUtil.requireColumnIndexes(previousSchema, keyColumns, matchCase);
+      int[] currentKeys = TableUtil.requireColumnIndexes(currentSchema, keyColumns, matchCase);
+
+      // Pairs of column indexes (current, previous) to check for changes
+      List<int[]> compared = new ArrayList<>();
+      if (compareColumns == null || compareColumns.isEmpty()) {
+        for (int column = 0; column < currentSchema.size(); column++) {
+          if (contains(currentKeys, column)) {
+            continue;
+          }
+          int previousColumn = TableUtil.getColumnIndex(previousSchema,
+              currentSchema.get(column).getName(), matchCase);
+          if (previousColumn >= 0) {
+            compared.add(new int[]{column, previousColumn});
+          }
+        }
+      } else {
+        for (StringValue name : compareColumns) {
+          String columnName = name == null || name.get() == null ? "" : name.get();
+          compared.add(new int[]{
+              TableUtil.requireColumnIndex(currentSchema, columnName, matchCase),
+              TableUtil.requireColumnIndex(previousSchema, columnName, matchCase)});
+        }
+      }
+
+      // Index the previous table once; every current row is then a single lookup
+      List<Row> previousRows = previousTable.getRows();
+      Map<RowKey, Integer> previousIndex = new HashMap<>(previousRows.size() * 2);
+      for (int i = 0; i < previousRows.size(); i++) {
+        RowKey key = new RowKey(previousRows.get(i), previousKeys, matchCase);
+        if (previousIndex.putIfAbsent(key, i) != null) {
+          throw new BotCommandException("Duplicate key in previous table at row " + (i + 1));
+        }
+      }
+
+      List<Schema> modifiedSchema = new ArrayList<>();
+      for (int column : currentKeys) {
+        modifiedSchema.add(new Schema(currentSchema.get(column).getName()));
+      }
+      for (int[] pair : compared) {
+        String name = currentSchema.get(pair[0]).getName();
+        modifiedSchema.add(new Schema(name + "_old"));
+        modifiedSchema.add(new Schema(name + "_new"));
+        modifiedSchema.add(new Schema(name + "_changed"));
+      }
+
+      boolean[] matched = new boolean[previousRows.size()];
+      List<Row> addedRows = new ArrayList<>();
+      List<Row> modifiedRows = new ArrayList<>();
+      Set<RowKey> currentKeysSeen = new HashSet<>();
+      int rowNumber = 0;
+      for (Row row : currentTable.getRows()) {
+        rowNumber++;
+        RowKey key = new RowKey(row, currentKeys, matchCase);
+        if (!currentKeysSeen.add(key)) {
+          throw new BotCommandException("Duplicate key in current table at row " + rowNumber);
+        }
+        Integer previousPosition = previousIndex.get(key);
+        if (previousPosition == null) {
+          addedRows.add(TableUtil.copyRow(row));
+          continue;
+        }
+        matched[previousPosition] = true;
+        Row previousRow = previousRows.get(previousPosition);
+
+        boolean[] changed = new boolean[compared.size()];
+        boolean anyChanged = false;
+        for (int c = 0; c < changed.length; c++) {
+          int[] pair = compared.get(c);
+          changed[c] = !RowKey.cellsEqual(AggregationUtil.cell(row, pair[0]),
+              AggregationUtil.cell(previousRow, pair[1]), matchCase);
+          anyChanged |= changed[c];
+        }
+        if (!anyChanged) {
+          continue;
+        }
+
+        List<Value> values = new ArrayList<>(modifiedSchema.size());
+        for (int column : currentKeys) {
+          values.add(copyCell(AggregationUtil.cell(row, column)));
+        }
+        for (int c = 0; c < changed.length; c++) {
+          int[] pair = compared.get(c);
+          values.add(copyCell(AggregationUtil.cell(previousRow, pair[1])));
+          values.add(copyCell(AggregationUtil.cell(row, pair[0])));
+          values.add(new BooleanValue(changed[c]));
+        }
+        modifiedRows.add(new Row(values));
+      }
+
+      List<Row> removedRows = new ArrayList<>();
+      for (int i = 0; i < previousRows.size(); i++) {
+        if (!matched[i]) {
+          removedRows.add(TableUtil.copyRow(previousRows.get(i)));
+        }
+      }
+
+      Map<String, Value> result = new LinkedHashMap<>();
+      result.put(ADDED, new TableValue(new Table(copySchema(currentSchema), addedRows)));
+      result.put(REMOVED, new TableValue(new Table(copySchema(previousSchema), removedRows)));
+      result.put(MODIFIED, new TableValue(new Table(modifiedSchema, modifiedRows)));
+
+      DictionaryValue dictValue = new DictionaryValue();
+      dictValue.set(result);
+      return dictValue;
+    } catch (Exception e) {
+      throw new BotCommandException("Error comparing tables: " + e.getMessage(), e);
+    }
+  }
+
+  private static Value copyCell(Value value) {
+    return value == null ? new StringValue("") : ValueUtil.deepCopyValue(value);
+  }
+
+  private static List<Schema> copySchema(List<Schema> schema) {
+    List<Schema> copy = new ArrayList<>(schema.size());
+    for (Schema column : schema) {
+      copy.add(new Schema(column.getName(), column.getType()));
+    }
+    return copy;
+  }
+
+  private static boolean contains(int[] values, int value) {
+    for (int v : values) {
+      if (v == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
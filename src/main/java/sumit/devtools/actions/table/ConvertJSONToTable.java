@@ -0,0 +1,126 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.LocalFile;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.SelectModes;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import sumit.devtools.utils.CsvUtil;
+import sumit.devtools.utils.JsonUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Convert JSON to table",
+    name = "convertJSONToTable",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Reads a JSON array of objects, an object of column arrays or a single object into a data table. Nested objects can be flattened into dotted columns",
+    node_label = "Convert JSON to table and assign to {{returnTo}}",
+    return_description = "Table with one column per key",
+    return_required = true,
+    return_label = "Assign table to",
+    return_type = DataType.TABLE
+)
+public class ConvertJSONToTable {
+
+  @Execute
+  public static TableValue action(
+      @Idx(index = "1", type = AttributeType.SELECT, options = {
+          @Idx.Option(index = "1.1", pkg = @Pkg(label = "Text", value = "STRING")),
+          @Idx.Option(index = "1.2", pkg = @Pkg(label = "File", value = "FILE"))
+      })
+      @Pkg(label = "Read JSON from", default_value = "STRING", default_value_type = DataType.STRING)
+      @NotEmpty
+      @SelectModes
+      String inputFrom,
+
+      @Idx(index = "1.1.1", type = AttributeType.TEXT)
+      @Pkg(label = "JSON text",
+          description = "Example: [{\"Name\": \"A\", \"Address\": {\"City\": \"Pune\"}}]")
+      @NotEmpty
+      String jsonText,
+
+      @Idx(index = "1.2.1", type = AttributeType.FILE)
+      @Pkg(label = "File path", description = "Path to the JSON file to read")
+      @NotEmpty
+      @LocalFile
+      String filePath,
+
+      @Idx(index = "1.2.2", type = AttributeType.SELECT, options = {
+          @Idx.Option(index = "1.2.2.1", pkg = @Pkg(label = "UTF-8", value = "UTF-8")),
+          @Idx.Option(index = "1.2.2.2", pkg = @Pkg(label = "ISO-8859-1", value = "ISO-8859-1")),
+          @Idx.Option(index = "1.2.2.3", pkg = @Pkg(label = "US-ASCII", value = "US-ASCII")),
+          @Idx.Option(index = "1.2.2.4", pkg = @Pkg(label = "UTF-16", value = "UTF-16")),
+          @Idx.Option(index = "1.2.2.5", pkg = @Pkg(label = "UTF-16BE", value = "UTF-16BE")),
+          @Idx.Option(index = "1.2.2.6", pkg = @Pkg(label = "UTF-16LE", value = "UTF-16LE")),
+          @Idx.Option(index = "1.2.2.7", pkg = @Pkg(label = "UTF-32", value = "UTF-32")),
+          @Idx.Option(index = "1.2.2.8", pkg = @Pkg(label = "UTF-32BE", value = "UTF-32BE")),
+          @Idx.Option(index = "1.2.2.9", pkg = @Pkg(label = "UTF-32LE", value = "UTF-32LE"))
+      })
+      @Pkg(label = "Character Set", default_value = "UTF-8", default_value_type = DataType.STRING)
+      @NotEmpty
+      String charsetName,
+
+      @Idx(index = "2", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Flatten nested objects",
+          description = "Controls how nested objects are read. " +
+              "When true (default): Each nested key becomes a column named by its path " +
+              "(e.g., {\"Address\": {\"City\": \"Pune\"}} gives column 'Address.City'). " +
+              "When false: Nested objects are kept as JSON text in one column. " +
+              "Arrays are always kept as JSON text.",
+          default_value = "true",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean flatten
+  ) {
+    try {
+      Reader reader;
+      if ("FILE".equalsIgnoreCase(inputFrom)) {
+        File file = new File(filePath);
+        if (!file.exists() || !file.isFile()) {
+          throw new BotCommandException("File not found at specified path: " + filePath);
+        }
+        // Parsed while reading, so the file text is never held in memory as a whole
+        Charset charset = charsetName == null || charsetName.isEmpty()
+            ? StandardCharsets.UTF_8 : Charset.forName(charsetName);
+        reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file.toPath()),
+            charset), CsvUtil.BUFFER_SIZE);
+      } else {
+        if (jsonText == null || jsonText.trim().isEmpty()) {
+          throw new BotCommandException("JSON text cannot be empty.");
+        }
+        reader = new StringReader(jsonText);
+      }
+
+      try (Reader input = reader) {
+        CsvUtil.skipByteOrderMark(input);
+        return new TableValue(JsonUtil.readTable(input, !Boolean.FALSE.equals(flatten)));
+      }
+
+    } catch (IOException e) {
+      throw new BotCommandException("Error reading file: " + e.getMessage(), e);
+    } catch (Exception e) {
+      throw new BotCommandException("Error converting JSON to table: " + e.getMessage(), e);
+    }
+  }
+
+}
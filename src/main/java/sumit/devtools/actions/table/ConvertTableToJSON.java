@@ -0,0 +1,149 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.LocalFile;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.SelectModes;
+import com.automationanywhere.commandsdk.annotations.rules.VariableType;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.apache.commons.io.output.StringBuilderWriter;
+import sumit.devtools.utils.CsvUtil;
+import sumit.devtools.utils.JsonUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Convert table to JSON",
+    name = "convertTableToJSON",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Converts a data table to a JSON array of row objects or an object of column arrays. Can stream the JSON directly to a UTF-8 file",
+    node_label = "Convert {{inputTable}} to JSON and assign to {{returnTo}}",
+    return_description = "JSON text, or the path of the written file when writing to a file",
+    return_required = true,
+    return_label = "Assign output to",
+    return_type = DataType.STRING
+)
+public class ConvertTableToJSON {
+
+  @Execute
+  public static StringValue action(
+      @Idx(index = "1", type = AttributeType.VARIABLE)
+      @Pkg(label = "Base table")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table inputTable,
+
+      @Idx(index = "2", type = AttributeType.RADIO, options = {
+          @Idx.Option(index = "2.1", pkg = @Pkg(label = "Array of row objects", value = "ROWS")),
+          @Idx.Option(index = "2.2", pkg = @Pkg(label = "Object of column arrays", value = "COLUMNS"))
+      })
+      @Pkg(label = "JSON layout",
+          description = "Array of row objects (default): [{\"Name\": \"A\", \"Age\": 30}, ...]. " +
+              "Object of column arrays: {\"Name\": [\"A\", ...], \"Age\": [30, ...]}",
+          default_value = "ROWS",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String layout,
+
+      @Idx(index = "3", type = AttributeType.SELECT, options = {
+          @Idx.Option(index = "3.1", pkg = @Pkg(label = "Text", value = "STRING")),
+          @Idx.Option(index = "3.2", pkg = @Pkg(label = "File", value = "FILE"))
+      })
+      @Pkg(label = "Output to", default_value = "STRING", default_value_type = DataType.STRING)
+      @NotEmpty
+      @SelectModes
+      String outputTo,
+
+      @Idx(index = "3.2.1", type = AttributeType.FILE)
+      @Pkg(label = "Output file path", description = "Path where the JSON file will be saved")
+      @NotEmpty
+      @LocalFile
+      String filePath,
+
+      @Idx(index = "3.2.2", type = AttributeType.RADIO, options = {
+          @Idx.Option(index = "3.2.2.1", pkg = @Pkg(label = "Fail", value = "FAIL")),
+          @Idx.Option(index = "3.2.2.2", pkg = @Pkg(label = "Overwrite", value = "OVERWRITE"))
+      })
+      @Pkg(label = "If file exists",
+          description = "Fail (default): Fails with an error if the file exists. " +
+              "Overwrite: Replaces the existing file.",
+          default_value = "FAIL",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String existingFileAction,
+
+      @Idx(index = "4", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Write empty cells as null",
+          description = "Controls how empty cells are written. " +
+              "When false (default): As empty text (e.g., \"Name\": \"\"). " +
+              "When true: As null (e.g., \"Name\": null).",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean emptyAsNull
+  ) {
+    try {
+      if (inputTable == null) {
+        throw new BotCommandException("Input table cannot be null.");
+      }
+
+      boolean columnar = "COLUMNS".equalsIgnoreCase(layout);
+      boolean writeNull = Boolean.TRUE.equals(emptyAsNull);
+
+      if ("FILE".equalsIgnoreCase(outputTo)) {
+        File outputFile = new File(filePath);
+        if (outputFile.exists() && !"OVERWRITE".equalsIgnoreCase(existingFileAction)) {
+          throw new BotCommandException(
+              "Output file already exists and overwrite option is not enabled");
+        }
+
+        // Ensure parent directories exist
+        Path path = outputFile.toPath();
+        Path parentDir = path.toAbsolutePath().getParent();
+        if (parentDir != null) {
+          Files.createDirectories(parentDir);
+        }
+
+        // Tokens are written as they are produced; only the writer buffer is held in memory
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+            Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING), StandardCharsets.UTF_8),
+            CsvUtil.BUFFER_SIZE)) {
+          JsonUtil.writeTable(inputTable, columnar, writeNull, writer);
+        }
+        return new StringValue(path.toAbsolutePath().toString());
+      }
+
+      // Sized from a sample of the rows so the buffer rarely has to grow
+      StringBuilderWriter writer = new StringBuilderWriter(
+          JsonUtil.estimateLength(inputTable, columnar));
+      JsonUtil.writeTable(inputTable, columnar, writeNull, writer);
+      return new StringValue(writer.toString());
+
+    } catch (IOException e) {
+      throw new BotCommandException("Error writing to file: " + e.getMessage(), e);
+    } catch (Exception e) {
+      throw new BotCommandException("Error converting table to JSON: " + e.getMessage(), e);
+    }
+  }
+
+}
@@ -0,0 +1,103 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.VariableType;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import sumit.devtools.utils.ParallelRows;
+import sumit.devtools.utils.TableExpression;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Filter table rows",
+    name = "filterTableRows",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Creates an independent table copy containing only the rows that match a condition. The original table remains unchanged.",
+    node_label = "Filter {{inputTable}} where {{condition}} and assign to {{returnTo}}",
+    return_description = "Independent table copy with the matching rows",
+    return_required = true,
+    return_label = "Assign filtered table to",
+    return_type = DataType.TABLE
+)
+public class FilterTableRows {
+
+  @Execute
+  public static TableValue action(
+      @Idx(index = "1", type = AttributeType.VARIABLE)
+      @Pkg(label = "Base table")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table inputTable,
+
+      @Idx(index = "2", type = AttributeType.TEXT)
+      @Pkg(label = "Condition",
+          description = "Condition over column names. Text values go in single quotes, column " +
+              "names with spaces in [brackets]. Operators: = != < <= > >= CONTAINS STARTS_WITH " +
+              "ENDS_WITH IN (...) IS EMPTY, combined with AND, OR, NOT and parentheses. " +
+              "Example: Amount > 1000 AND Status = 'OPEN'")
+      @NotEmpty
+      String condition,
+
+      @Idx(index = "3", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Case-sensitive comparison",
+          description = "Controls whether column names and text values are compared case-sensitively. " +
+              "When false (default): Case-insensitive (e.g., 'open' matches 'OPEN'). " +
+              "When true: Case-sensitive (e.g., 'open' does not match 'OPEN').",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean caseSensitive,
+
+      @Idx(index = "4", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Process large tables in parallel",
+          description = "When true (default): Tables with " + ParallelRows.PARALLEL_THRESHOLD +
+              " rows or more are processed on multiple CPU cores; the row order is unchanged. " +
+              "When false: Always processes on a single thread.",
+          default_value = "true",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean parallel
+  ) {
+    try {
+      if (inputTable == null) {
+        throw new BotCommandException("Input table cannot be null.");
+      }
+
+      // Parsed and resolved once, then applied to every row
+      Predicate<Row> predicate = TableExpression.compilePredicate(condition,
+          inputTable.getSchema(), Boolean.TRUE.equals(caseSensitive));
+
+      // Rows are tested and copied in row ranges, so the result keeps the input order
+      boolean inParallel = Boolean.TRUE.equals(parallel);
+      int[] matches = ParallelRows.filterIndexes(inputTable.getRows(), inParallel, predicate);
+      List<Row> outputRows = ParallelRows.copyRows(inputTable.getRows(), matches, inParallel);
+
+      List<Schema> outputSchema = new ArrayList<>();
+      for (Schema schema : inputTable.getSchema()) {
+        outputSchema.add(new Schema(schema.getName(), schema.getType()));
+      }
+
+      return new TableValue(new Table(outputSchema, outputRows));
+    } catch (Exception e) {
+      throw new BotCommandException("Error filtering table: " + e.getMessage(), e);
+    }
+  }
+
+}
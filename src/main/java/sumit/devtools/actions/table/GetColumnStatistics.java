@@ -0,0 +1,283 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.ListType;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.VariableType;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.apache.commons.math3.stat.descriptive.rank.PSquarePercentile;
+import org.apache.commons.math3.stat.descriptive.rank.Percentile;
+import org.apache.commons.math3.stat.descriptive.rank.Percentile.EstimationType;
+import org.apache.commons.math3.util.ResizableDoubleArray;
+import sumit.devtools.utils.AggregationUtil;
+import sumit.devtools.utils.CsvUtil;
+import sumit.devtools.utils.TableUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Get column statistics",
+    name = "getColumnStatistics",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Computes count, empty count, distinct count, min, max, sum, mean, standard deviation and percentiles for one or more columns in a single pass",
+    node_label = "Get statistics of {{columnNames}} in {{inputTable}} and assign to {{returnTo}}",
+    return_description = "Table with one row per column and one column per statistic",
+    return_required = true,
+    return_label = "Assign statistics table to",
+    return_type = DataType.TABLE
+)
+public class GetColumnStatistics {
+
+  // Above this row count the AUTO method switches to approximate percentiles
+  static final int EXACT_PERCENTILE_LIMIT = 100_000;
+
+  private static final double[] DEFAULT_PERCENTILES = {25, 50, 75};
+
+  @Execute
+  public static TableValue action(
+      @Idx(index = "1", type = AttributeType.VARIABLE)
+      @Pkg(label = "Base table")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table inputTable,
+
+      @Idx(index = "2", type = AttributeType.LIST)
+      @Pkg(label = "Column names",
+          description = "Columns to describe. When empty, every column is described. " +
+              "Example: ['Amount', 'Quantity']")
+      @ListType(DataType.STRING)
+      List<StringValue> columnNames,
+
+      @Idx(index = "3", type = AttributeType.LIST)
+      @Pkg(label = "Percentiles",
+          description = "Percentiles to compute, each greater than 0 and at most 100. " +
+              "When empty: 25, 50 (median) and 75. Example: [50, 90, 99]")
+      @ListType(DataType.NUMBER)
+      List<Value> percentiles,
+
+      @Idx(index = "4", type = AttributeType.RADIO, options = {
+          @Idx.Option(index = "4.1", pkg = @Pkg(label = "Automatic", value = "AUTO")),
+          @Idx.Option(index = "4.2", pkg = @Pkg(label = "Exact", value = "EXACT")),
+          @Idx.Option(index = "4.3", pkg = @Pkg(label = "Approximate", value = "APPROXIMATE"))
+      })
+      @Pkg(label = "Percentile method",
+          description = "Exact: Same result as Excel PERCENTILE.INC, keeps every number in memory. " +
+              "Approximate: Streaming P-square estimate with constant memory per percentile, for huge tables. " +
+              "The distinct count is always exact and keeps each distinct value in memory. " +
+              "Automatic (default): Exact up to " + EXACT_PERCENTILE_LIMIT + " rows, approximate above.",
+          default_value = "AUTO",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String percentileMethod,
+
+      @Idx(index = "5", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Case-sensitive comparison",
+          description = "Controls whether column names and text values are compared case-sensitively. " +
+              "When false (default): Case-insensitive (e.g., 'Paid' and 'PAID' count as one distinct value). " +
+              "When true: Case-sensitive (e.g., 'Paid' and 'PAID' count as two distinct values).",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean caseSensitive
+  ) {
+    try {
+      if (inputTable == null) {
+        throw new BotCommandException("Input table cannot be null.");
+      }
+
+      boolean matchCase = Boolean.TRUE.equals(caseSensitive);
+      List<Schema> schema = inputTable.getSchema();
+      int[] columns;
+      if (columnNames == null || columnNames.isEmpty()) {
+        columns = new int[schema.size()];
+        for (int i = 0; i < columns.length; i++) {
+          columns[i] = i;
+        }
+      } else {
+        columns = TableUtil.requireColumnIndexes(schema, columnNames, matchCase);
+      }
+
+      double[] percents = parsePercentiles(percentiles);
+      boolean exact;
+      switch (percentileMethod == null ? "AUTO" : percentileMethod.toUpperCase()) {
+        case "AUTO":
+          exact = inputTable.getRows().size() <= EXACT_PERCENTILE_LIMIT;
+          break;
+        case "EXACT":
+          exact = true;
+          break;
+        case "APPROXIMATE":
+          exact = false;
+          break;
+        default:
+          throw new BotCommandException("Invalid percentile method: " + percentileMethod);
+      }
+
+      // Single pass over the rows, updating every requested column
+      ColumnStatistics[] statistics = new ColumnStatistics[columns.length];
+      for (int i = 0; i < columns.length; i++) {
+        statistics[i] = new ColumnStatistics(percents, exact, matchCase);
+      }
+      for (Row row : inputTable.getRows()) {
+        for (int i = 0; i < columns.length; i++) {
+          statistics[i].add(AggregationUtil.cell(row, columns[i]));
+        }
+      }
+
+      List<Schema> outputSchema = new ArrayList<>();
+      for (String name : new String[]{"Column", "Count", "Empty", "Distinct", "Numeric", "Min",
+          "Max", "Sum", "Mean", "StdDev"}) {
+        outputSchema.add(new Schema(name));
+      }
+      for (double percent : percents) {
+        outputSchema.add(new Schema("P" + CsvUtil.toCellText(new NumberValue(percent))));
+      }
+
+      List<Row> outputRows = new ArrayList<>(columns.length);
+      for (int i = 0; i < columns.length; i++) {
+        List<Value> values = new ArrayList<>(outputSchema.size());
+        values.add(new StringValue(schema.get(columns[i]).getName()));
+        statistics[i].addResults(values);
+        outputRows.add(new Row(values));
+      }
+
+      return new TableValue(new Table(outputSchema, outputRows));
+    } catch (Exception e) {
+      throw new BotCommandException("Error computing column statistics: " + e.getMessage(), e);
+    }
+  }
+
+  private static double[] parsePercentiles(List<Value> percentiles) {
+    if (percentiles == null || percentiles.isEmpty()) {
+      return DEFAULT_PERCENTILES.clone();
+    }
+    double[] percents = new double[percentiles.size()];
+    for (int i = 0; i < percents.length; i++) {
+      Double percent;
+      try {
+        percent = AggregationUtil.toNumber(percentiles.get(i));
+      } catch (IllegalArgumentException e) {
+        percent = null;
+      }
+      if (percent == null || !(percent > 0 && percent <= 100)) {
+        throw new BotCommandException("Invalid percentile: " +
+            CsvUtil.toCellText(percentiles.get(i)) + ". Expected a number greater than 0 and at most 100");
+      }
+      percents[i] = percent;
+    }
+    return percents;
+  }
+
+  /**
+   * Streaming statistics of one column. Numeric statistics cover the cells that are numbers or
+   * number text; the other non-empty cells only add to the counts. The distinct count is exact
+   * with either percentile method, so its memory grows with the number of distinct values.
+   */
+  private static final class ColumnStatistics {
+
+    private final double[] percents;
+    private final boolean caseSensitive;
+    private final SummaryStatistics summary = new SummaryStatistics();
+    private final Set<String> distinct = new HashSet<>();
+    // Exact percentiles keep the numbers; approximate ones keep one estimator per percentile
+    private final ResizableDoubleArray numbers;
+    private final PSquarePercentile[] estimators;
+    private long count;
+    private long empty;
+
+    private ColumnStatistics(double[] percents, boolean exact, boolean caseSensitive) {
+      this.percents = percents;
+      this.caseSensitive = caseSensitive;
+      if (exact) {
+        numbers = new ResizableDoubleArray();
+        estimators = null;
+      } else {
+        numbers = null;
+        estimators = new PSquarePercentile[percents.length];
+        for (int i = 0; i < percents.length; i++) {
+          estimators[i] = new PSquarePercentile(percents[i]);
+        }
+      }
+    }
+
+    private void add(Value value) {
+      String text = CsvUtil.toCellText(value);
+      if (text.trim().isEmpty()) {
+        empty++;
+        return;
+      }
+      count++;
+      distinct.add(AggregationUtil.toKeyText(value, caseSensitive));
+
+      Double number;
+      try {
+        number = AggregationUtil.toNumber(value);
+      } catch (IllegalArgumentException e) {
+        return;
+      }
+      if (number == null || number.isNaN()) {
+        return;
+      }
+      summary.addValue(number);
+      if (numbers != null) {
+        numbers.addElement(number);
+      } else {
+        for (PSquarePercentile estimator : estimators) {
+          estimator.increment(number);
+        }
+      }
+    }
+
+    private void addResults(List<Value> values) {
+      values.add(new NumberValue(count));
+      values.add(new NumberValue(empty));
+      values.add(new NumberValue(distinct.size()));
+      values.add(new NumberValue(summary.getN()));
+
+      boolean numeric = summary.getN() > 0;
+      values.add(result(numeric, summary.getMin()));
+      values.add(result(numeric, summary.getMax()));
+      values.add(result(numeric, summary.getSum()));
+      values.add(result(numeric, summary.getMean()));
+      values.add(result(summary.getN() > 1, summary.getStandardDeviation()));
+
+      if (numbers != null) {
+        Percentile percentile = new Percentile().withEstimationType(EstimationType.R_7);
+        percentile.setData(numbers.getElements());
+        for (double percent : percents) {
+          values.add(result(numeric, numeric ? percentile.evaluate(percent) : Double.NaN));
+        }
+      } else {
+        for (PSquarePercentile estimator : estimators) {
+          values.add(result(numeric, estimator.getResult()));
+        }
+      }
+    }
+
+    private static Value result(boolean available, double number) {
+      return available && !Double.isNaN(number) ? new NumberValue(number) : new StringValue("");
+    }
+  }
+
+}
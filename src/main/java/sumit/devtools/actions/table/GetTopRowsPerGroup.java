@@ -0,0 +1,174 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.GreaterThanEqualTo;
+import com.automationanywhere.commandsdk.annotations.rules.ListType;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.NumberInteger;
+import com.automationanywhere.commandsdk.annotations.rules.VariableType;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import sumit.devtools.utils.AggregationUtil;
+import sumit.devtools.utils.SortUtil;
+import sumit.devtools.utils.TableUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Get top rows per group",
+    name = "getTopRowsPerGroup",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Returns the first N rows of each group in sort order, e.g. the 5 largest invoices per vendor. Only N rows per group are kept while reading, the table is not sorted",
+    node_label = "Get top {{rowCount}} rows of {{inputTable}} per {{groupColumns}} by {{sortColumns}} and assign to {{returnTo}}",
+    return_description = "New table with up to N rows per group, groups in order of first appearance",
+    return_required = true,
+    return_label = "Assign top rows to",
+    return_type = DataType.TABLE
+)
+public class GetTopRowsPerGroup {
+
+  @Execute
+  public static TableValue action(
+      @Idx(index = "1", type = AttributeType.VARIABLE)
+      @Pkg(label = "Base table")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table inputTable,
+
+      @Idx(index = "2", type = AttributeType.LIST)
+      @Pkg(label = "Group by columns",
+          description = "Optional. Columns that form a group. When empty, the whole table is one " +
+              "group. Example: ['Vendor']")
+      @ListType(DataType.STRING)
+      List<StringValue> groupColumns,
+
+      @Idx(index = "3", type = AttributeType.LIST)
+      @Pkg(label = "Sort columns",
+          description = "Order that decides the top rows, most significant first, as in Sort " +
+              "table. Use DESC for the largest values and ASC for the smallest. " +
+              "Example: ['Amount DESC NUMERIC', 'Date ASC']")
+      @NotEmpty
+      @ListType(DataType.STRING)
+      List<StringValue> sortColumns,
+
+      @Idx(index = "4", type = AttributeType.NUMBER)
+      @Pkg(label = "Rows per group",
+          description = "Largest number of rows returned for each group. Rows with equal sort " +
+              "values keep their table order.",
+          default_value = "5",
+          default_value_type = DataType.NUMBER)
+      @NotEmpty
+      @GreaterThanEqualTo("1")
+      @NumberInteger
+      Double rowCount,
+
+      @Idx(index = "5", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Case-sensitive comparison",
+          description = "Controls whether column names, group values and text sort values are " +
+              "compared case-sensitively, unless a sort entry says otherwise. " +
+              "When false (default): Case-insensitive (e.g., 'Acme' and 'ACME' are the same group). " +
+              "When true: Case-sensitive (e.g., 'Acme' and 'ACME' are different groups).",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean caseSensitive
+  ) {
+    try {
+      if (inputTable == null) {
+        throw new BotCommandException("Input table cannot be null.");
+      }
+      if (rowCount == null || rowCount < 1) {
+        throw new BotCommandException("Rows per group must be at least 1");
+      }
+
+      boolean matchCase = Boolean.TRUE.equals(caseSensitive);
+      int limit = (int) Math.min(Integer.MAX_VALUE, rowCount.longValue());
+      List<Schema> schema = inputTable.getSchema();
+      int[] groupIndexes = groupColumns == null || groupColumns.isEmpty()
+          ? new int[0]
+          : TableUtil.requireColumnIndexes(schema, groupColumns, matchCase);
+      SortUtil.SortColumns sort = SortUtil.parseSortColumns(sortColumns, matchCase,
+          columnName -> TableUtil.requireColumnIndex(schema, columnName, matchCase));
+
+      // Earlier rows win ties, so the result does not depend on heap order
+      Comparator<Candidate> order = (c1, c2) -> {
+        int result = SortUtil.compareSortKeys(c1.keys, c2.keys, sort);
+        return result != 0 ? result : Integer.compare(c1.rowNumber, c2.rowNumber);
+      };
+
+      // Each group keeps a heap of its best rows with the worst on top, at most limit rows
+      Map<List<String>, PriorityQueue<Candidate>> heaps = new HashMap<>();
+      List<PriorityQueue<Candidate>> groups = new ArrayList<>();
+      int rowNumber = 0;
+      for (Row row : inputTable.getRows()) {
+        Candidate candidate = new Candidate(row, SortUtil.toSortKeys(row, sort), rowNumber++);
+        List<String> key = AggregationUtil.groupKey(row, groupIndexes, matchCase);
+        PriorityQueue<Candidate> heap = heaps.get(key);
+        if (heap == null) {
+          heap = new PriorityQueue<>(Math.min(limit, 16) + 1, order.reversed());
+          heaps.put(key, heap);
+          groups.add(heap);
+        }
+        if (heap.size() < limit) {
+          heap.add(candidate);
+        } else if (order.compare(candidate, heap.peek()) < 0) {
+          heap.poll();
+          heap.add(candidate);
+        }
+      }
+
+      List<Schema> outputSchema = new ArrayList<>(schema.size());
+      for (Schema column : schema) {
+        outputSchema.add(new Schema(column.getName(), column.getType()));
+      }
+      List<Row> outputRows = new ArrayList<>();
+      for (PriorityQueue<Candidate> heap : groups) {
+        List<Candidate> best = new ArrayList<>(heap);
+        best.sort(order);
+        for (Candidate candidate : best) {
+          outputRows.add(TableUtil.copyRow(candidate.row));
+        }
+      }
+
+      return new TableValue(new Table(outputSchema, outputRows));
+    } catch (Exception e) {
+      throw new BotCommandException("Error getting top rows per group: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * A row with its sort keys, computed once.
+   */
+  private static final class Candidate {
+
+    private final Row row;
+    private final Object[] keys;
+    private final int rowNumber;
+
+    private Candidate(Row row, Object[] keys, int rowNumber) {
+      this.row = row;
+      this.keys = keys;
+      this.rowNumber = rowNumber;
+    }
+  }
+
+}
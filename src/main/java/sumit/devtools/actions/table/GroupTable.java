@@ -0,0 +1,190 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.ListType;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.VariableType;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import sumit.devtools.utils.AggregationUtil;
+import sumit.devtools.utils.AggregationUtil.Accumulator;
+import sumit.devtools.utils.AggregationUtil.Function;
+import sumit.devtools.utils.TableUtil;
+import sumit.devtools.utils.ValueUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Group table by columns",
+    name = "groupTable",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Groups rows by one or more columns and computes aggregates (sum, count, min, max, average, distinct count) for each group in a single pass",
+    node_label = "Group {{inputTable}} by {{groupColumns}} and assign to {{returnTo}}",
+    return_description = "New table with the group columns followed by one column per aggregate",
+    return_required = true,
+    return_label = "Assign grouped table to",
+    return_type = DataType.TABLE
+)
+public class GroupTable {
+
+  // FUNCTION(column) with an optional "as" alias, e.g. SUM(Amount) as Total
+  private static final Pattern AGGREGATE_PATTERN = Pattern.compile(
+      "^\\s*([A-Za-z_]+)\\s*\\(\\s*(.*?)\\s*\\)\\s*(?:(?i:as)\\s+(.+?))?\\s*$");
+
+  @Execute
+  public static TableValue action(
+      @Idx(index = "1", type = AttributeType.VARIABLE)
+      @Pkg(label = "Base table")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table inputTable,
+
+      @Idx(index = "2", type = AttributeType.LIST)
+      @Pkg(label = "Group by columns",
+          description = "Names of the columns to group by. Example: ['Region', 'Product'] gives one " +
+              "row per distinct region and product.")
+      @NotEmpty
+      @ListType(DataType.STRING)
+      List<StringValue> groupColumns,
+
+      @Idx(index = "3", type = AttributeType.LIST)
+      @Pkg(label = "Aggregates",
+          description = "Aggregates to compute, written as FUNCTION(column) with an optional alias. " +
+              "Functions: SUM, COUNT, AVERAGE, MIN, MAX, DISTINCT_COUNT, and FIRST for the first " +
+              "non-empty value. COUNT(*) counts rows. " +
+              "Example: ['SUM(Amount) as Total', 'COUNT(*)', 'DISTINCT_COUNT(Customer)']")
+      @NotEmpty
+      @ListType(DataType.STRING)
+      List<StringValue> aggregates,
+
+      @Idx(index = "4", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Case-sensitive comparison",
+          description = "Controls whether column names and group values are compared case-sensitively. " +
+              "When false (default): Case-insensitive (e.g., 'North' and 'NORTH' are the same group). " +
+              "When true: Case-sensitive (e.g., 'North' and 'NORTH' are different groups).",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean caseSensitive
+  ) {
+    try {
+      if (inputTable == null) {
+        throw new BotCommandException("Input table cannot be null.");
+      }
+      if (aggregates == null || aggregates.isEmpty()) {
+        throw new BotCommandException("At least one aggregate is required");
+      }
+
+      boolean matchCase = Boolean.TRUE.equals(caseSensitive);
+      List<Schema> schema = inputTable.getSchema();
+      int[] groupIndexes = TableUtil.requireColumnIndexes(schema, groupColumns, matchCase);
+
+      // Parse the aggregate expressions once, before reading any rows
+      int aggregateCount = aggregates.size();
+      Function[] functions = new Function[aggregateCount];
+      int[] valueIndexes = new int[aggregateCount];
+      List<Schema> outputSchema = new ArrayList<>();
+      for (int column : groupIndexes) {
+        outputSchema.add(new Schema(schema.get(column).getName()));
+      }
+      for (int i = 0; i < aggregateCount; i++) {
+        StringValue aggregate = aggregates.get(i);
+        String expression = aggregate == null || aggregate.get() == null
+            ? "" : aggregate.get().toString();
+        Matcher matcher = AGGREGATE_PATTERN.matcher(expression);
+        if (!matcher.matches()) {
+          throw new BotCommandException("Invalid aggregate: '" + expression +
+              "'. Expected FUNCTION(column), e.g. SUM(Amount)");
+        }
+
+        functions[i] = AggregationUtil.parseFunction(matcher.group(1));
+        String column = matcher.group(2);
+        if ("*".equals(column)) {
+          if (functions[i] != Function.COUNT) {
+            throw new BotCommandException("Only COUNT can be used with *: " + expression);
+          }
+          valueIndexes[i] = -1;
+        } else {
+          valueIndexes[i] = TableUtil.requireColumnIndex(schema, column, matchCase);
+        }
+
+        String alias = matcher.group(3);
+        outputSchema.add(new Schema(alias != null ? alias : expression.trim()));
+      }
+
+      // Single pass: look up the group of each row and update its accumulators
+      Map<List<String>, Integer> groupPositions = new HashMap<>();
+      List<Row> groupRows = new ArrayList<>();
+      List<Accumulator[]> groupAccumulators = new ArrayList<>();
+
+      int rowNumber = 0;
+      for (Row row : inputTable.getRows()) {
+        rowNumber++;
+        List<String> key = AggregationUtil.groupKey(row, groupIndexes, matchCase);
+        Integer position = groupPositions.get(key);
+        Accumulator[] accumulators;
+        if (position == null) {
+          groupPositions.put(key, groupRows.size());
+          List<Value> keyValues = new ArrayList<>(groupIndexes.length + aggregateCount);
+          for (int column : groupIndexes) {
+            Value value = AggregationUtil.cell(row, column);
+            keyValues.add(value == null ? new StringValue("") : ValueUtil.deepCopyValue(value));
+          }
+          groupRows.add(new Row(keyValues));
+          accumulators = new Accumulator[aggregateCount];
+          for (int i = 0; i < aggregateCount; i++) {
+            accumulators[i] = new Accumulator(functions[i], matchCase);
+          }
+          groupAccumulators.add(accumulators);
+        } else {
+          accumulators = groupAccumulators.get(position);
+        }
+
+        for (int i = 0; i < aggregateCount; i++) {
+          if (valueIndexes[i] < 0) {
+            accumulators[i].countRow();
+            continue;
+          }
+          try {
+            accumulators[i].add(AggregationUtil.cell(row, valueIndexes[i]));
+          } catch (IllegalArgumentException e) {
+            throw new BotCommandException(e.getMessage() + " in column '" +
+                schema.get(valueIndexes[i]).getName() + "' at row " + rowNumber);
+          }
+        }
+      }
+
+      for (int group = 0; group < groupRows.size(); group++) {
+        List<Value> values = groupRows.get(group).getValues();
+        for (Accumulator accumulator : groupAccumulators.get(group)) {
+          values.add(accumulator.result());
+        }
+      }
+
+      return new TableValue(new Table(outputSchema, groupRows));
+    } catch (Exception e) {
+      throw new BotCommandException("Error grouping table: " + e.getMessage(), e);
+    }
+  }
+
+}
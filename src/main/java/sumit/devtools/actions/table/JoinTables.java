@@ -0,0 +1,337 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.ListType;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.VariableType;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import sumit.devtools.utils.AggregationUtil;
+import sumit.devtools.utils.TableUtil;
+import sumit.devtools.utils.ValueUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Join tables",
+    name = "joinTables",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Joins two tables on one or more key columns (inner, left, right, full or anti join) using a hash lookup instead of nested loops",
+    node_label = "{{joinType}} join {{leftTable}} with {{rightTable}} and assign to {{returnTo}}",
+    return_description = "New table with the left columns followed by the non-key right columns",
+    return_required = true,
+    return_label = "Assign joined table to",
+    return_type = DataType.TABLE
+)
+public class JoinTables {
+
+  private static final String DUPLICATE_SUFFIX = "_right";
+
+  @Execute
+  public static TableValue action(
+      @Idx(index = "1", type = AttributeType.VARIABLE)
+      @Pkg(label = "Left table")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table leftTable,
+
+      @Idx(index = "2", type = AttributeType.VARIABLE)
+      @Pkg(label = "Right table")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table rightTable,
+
+      @Idx(index = "3", type = AttributeType.LIST)
+      @Pkg(label = "Left key columns",
+          description = "Names of the key columns in the left table. Example: ['CustomerId']")
+      @NotEmpty
+      @ListType(DataType.STRING)
+      List<StringValue> leftKeys,
+
+      @Idx(index = "4", type = AttributeType.LIST)
+      @Pkg(label = "Right key columns",
+          description = "Optional. Names of the matching key columns in the right table, in the " +
+              "same order. When empty, the left key column names are used.")
+      @ListType(DataType.STRING)
+      List<StringValue> rightKeys,
+
+      @Idx(index = "5", type = AttributeType.SELECT, options = {
+          @Idx.Option(index = "5.1", pkg = @Pkg(label = "Inner", value = "INNER")),
+          @Idx.Option(index = "5.2", pkg = @Pkg(label = "Left", value = "LEFT")),
+          @Idx.Option(index = "5.3", pkg = @Pkg(label = "Right", value = "RIGHT")),
+          @Idx.Option(index = "5.4", pkg = @Pkg(label = "Full", value = "FULL")),
+          @Idx.Option(index = "5.5", pkg = @Pkg(label = "Anti (left rows without match)", value = "ANTI"))
+      })
+      @Pkg(label = "Join type",
+          description = "Inner: Only matching rows. Left: All left rows, with right values when " +
+              "matched. Right: All right rows, with left values when matched. Full: All rows of " +
+              "both tables. Anti: Left rows that have no match, with left columns only.",
+          default_value = "INNER",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String joinType,
+
+      @Idx(index = "6", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Case-sensitive comparison",
+          description = "Controls whether column names and key values are compared case-sensitively. " +
+              "When false (default): Case-insensitive (e.g., 'abc' matches 'ABC'). " +
+              "When true: Case-sensitive (e.g., 'abc' does not match 'ABC').",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean caseSensitive
+  ) {
+    try {
+      if (leftTable == null || rightTable == null) {
+        throw new BotCommandException("Input tables cannot be null.");
+      }
+
+      String type = joinType == null ? "" : joinType.trim().toUpperCase(Locale.ROOT);
+      if (!Set.of("INNER", "LEFT", "RIGHT", "FULL", "ANTI").contains(type)) {
+        throw new BotCommandException("Invalid join type: " + joinType);
+      }
+
+      boolean matchCase = Boolean.TRUE.equals(caseSensitive);
+      List<Schema> leftSchema = leftTable.getSchema();
+      List<Schema> rightSchema = rightTable.getSchema();
+      int[] leftKeyIndexes = TableUtil.requireColumnIndexes(leftSchema, leftKeys, matchCase);
+      int[] rightKeyIndexes = TableUtil.requireColumnIndexes(rightSchema,
+          rightKeys == null || rightKeys.isEmpty() ? leftKeys : rightKeys, matchCase);
+      if (leftKeyIndexes.length != rightKeyIndexes.length) {
+        throw new BotCommandException("Left and right key column counts differ: " +
+            leftKeyIndexes.length + " and " + rightKeyIndexes.length);
+      }
+
+      List<Row> leftRows = leftTable.getRows();
+      List<Row> rightRows = rightTable.getRows();
+      List<List<Integer>> leftMatches = matchRows(leftRows, leftKeyIndexes, rightRows,
+          rightKeyIndexes, matchCase);
+
+      // Right columns other than the keys are appended after the left columns
+      Set<Integer> rightKeySet = new HashSet<>();
+      for (int index : rightKeyIndexes) {
+        rightKeySet.add(index);
+      }
+      List<Integer> rightValueIndexes = new ArrayList<>();
+      for (int i = 0; i < rightSchema.size(); i++) {
+        if (!rightKeySet.contains(i)) {
+          rightValueIndexes.add(i);
+        }
+      }
+
+      List<Schema> outputSchema = new ArrayList<>();
+      Set<String> usedNames = new HashSet<>();
+      for (Schema schema : leftSchema) {
+        outputSchema.add(new Schema(schema.getName()));
+        usedNames.add(normalize(schema.getName(), matchCase));
+      }
+      if (!"ANTI".equals(type)) {
+        for (int index : rightValueIndexes) {
+          String name = rightSchema.get(index).getName();
+          while (usedNames.contains(normalize(name, matchCase))) {
+            name = name + DUPLICATE_SUFFIX;
+          }
+          usedNames.add(normalize(name, matchCase));
+          outputSchema.add(new Schema(name));
+        }
+      }
+
+      JoinedRowBuilder builder = new JoinedRowBuilder(leftSchema.size(), leftKeyIndexes,
+          rightKeyIndexes, rightValueIndexes);
+      List<Row> outputRows = new ArrayList<>();
+
+      if ("RIGHT".equals(type)) {
+        // Invert the matches so the output follows the right table order
+        List<List<Integer>> rightMatches = new ArrayList<>(rightRows.size());
+        for (int j = 0; j < rightRows.size(); j++) {
+          rightMatches.add(new ArrayList<>());
+        }
+        for (int i = 0; i < leftMatches.size(); i++) {
+          for (int j : leftMatches.get(i)) {
+            rightMatches.get(j).add(i);
+          }
+        }
+        for (int j = 0; j < rightRows.size(); j++) {
+          if (rightMatches.get(j).isEmpty()) {
+            outputRows.add(builder.build(null, rightRows.get(j)));
+          }
+          for (int i : rightMatches.get(j)) {
+            outputRows.add(builder.build(leftRows.get(i), rightRows.get(j)));
+          }
+        }
+        return new TableValue(new Table(outputSchema, outputRows));
+      }
+
+      boolean[] rightMatched = new boolean[rightRows.size()];
+      for (int i = 0; i < leftRows.size(); i++) {
+        List<Integer> matches = leftMatches.get(i);
+        if ("ANTI".equals(type)) {
+          if (matches.isEmpty()) {
+            outputRows.add(builder.buildLeftOnly(leftRows.get(i)));
+          }
+          continue;
+        }
+        if (matches.isEmpty() && !"INNER".equals(type)) {
+          outputRows.add(builder.build(leftRows.get(i), null));
+        }
+        for (int j : matches) {
+          rightMatched[j] = true;
+          outputRows.add(builder.build(leftRows.get(i), rightRows.get(j)));
+        }
+      }
+
+      if ("FULL".equals(type)) {
+        for (int j = 0; j < rightRows.size(); j++) {
+          if (!rightMatched[j]) {
+            outputRows.add(builder.build(null, rightRows.get(j)));
+          }
+        }
+      }
+
+      return new TableValue(new Table(outputSchema, outputRows));
+    } catch (Exception e) {
+      throw new BotCommandException("Error joining tables: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Finds the matching right rows of every left row. The hash table is built on the smaller table
+   * and probed with the larger one; matches are listed in right table order either way. Rows with
+   * an empty key cell never match.
+   *
+   * @return For each left row, the indexes of its matching right rows
+   */
+  private static List<List<Integer>> matchRows(List<Row> leftRows, int[] leftKeyIndexes,
+      List<Row> rightRows, int[] rightKeyIndexes, boolean caseSensitive) {
+    List<List<Integer>> leftMatches = new ArrayList<>(leftRows.size());
+
+    if (rightRows.size() <= leftRows.size()) {
+      Map<List<String>, List<Integer>> rightIndex = buildIndex(rightRows, rightKeyIndexes,
+          caseSensitive);
+      for (Row row : leftRows) {
+        List<String> key = joinKey(row, leftKeyIndexes, caseSensitive);
+        List<Integer> matches = key == null ? null : rightIndex.get(key);
+        leftMatches.add(matches == null ? Collections.emptyList() : matches);
+      }
+      return leftMatches;
+    }
+
+    Map<List<String>, List<Integer>> leftIndex = buildIndex(leftRows, leftKeyIndexes,
+        caseSensitive);
+    for (int i = 0; i < leftRows.size(); i++) {
+      leftMatches.add(new ArrayList<>(1));
+    }
+    for (int j = 0; j < rightRows.size(); j++) {
+      List<String> key = joinKey(rightRows.get(j), rightKeyIndexes, caseSensitive);
+      List<Integer> matches = key == null ? null : leftIndex.get(key);
+      if (matches != null) {
+        for (int i : matches) {
+          leftMatches.get(i).add(j);
+        }
+      }
+    }
+    return leftMatches;
+  }
+
+  private static Map<List<String>, List<Integer>> buildIndex(List<Row> rows, int[] keyIndexes,
+      boolean caseSensitive) {
+    Map<List<String>, List<Integer>> index = new HashMap<>(rows.size() * 2);
+    for (int i = 0; i < rows.size(); i++) {
+      List<String> key = joinKey(rows.get(i), keyIndexes, caseSensitive);
+      if (key != null) {
+        index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(i);
+      }
+    }
+    return index;
+  }
+
+  /**
+   * @return The key of the row, or null if any key cell is empty
+   */
+  private static List<String> joinKey(Row row, int[] keyIndexes, boolean caseSensitive) {
+    List<String> key = AggregationUtil.groupKey(row, keyIndexes, caseSensitive);
+    return key.contains("") ? null : key;
+  }
+
+  private static String normalize(String name, boolean caseSensitive) {
+    String text = name == null ? "" : name;
+    return caseSensitive ? text : text.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Builds output rows as independent copies of the joined cells.
+   */
+  private static final class JoinedRowBuilder {
+
+    private final int leftWidth;
+    private final int[] leftKeyIndexes;
+    private final int[] rightKeyIndexes;
+    private final List<Integer> rightValueIndexes;
+
+    JoinedRowBuilder(int leftWidth, int[] leftKeyIndexes, int[] rightKeyIndexes,
+        List<Integer> rightValueIndexes) {
+      this.leftWidth = leftWidth;
+      this.leftKeyIndexes = leftKeyIndexes;
+      this.rightKeyIndexes = rightKeyIndexes;
+      this.rightValueIndexes = rightValueIndexes;
+    }
+
+    Row buildLeftOnly(Row left) {
+      List<Value> values = new ArrayList<>(leftWidth);
+      for (int i = 0; i < leftWidth; i++) {
+        values.add(copy(AggregationUtil.cell(left, i)));
+      }
+      return new Row(values);
+    }
+
+    /**
+     * @param left  Left row, or null for an unmatched right row
+     * @param right Right row, or null for an unmatched left row
+     */
+    Row build(Row left, Row right) {
+      List<Value> values = new ArrayList<>(leftWidth + rightValueIndexes.size());
+      if (left != null) {
+        values.addAll(buildLeftOnly(left).getValues());
+      } else {
+        // Unmatched right row: the left key columns take the right key values
+        for (int i = 0; i < leftWidth; i++) {
+          values.add(new StringValue(""));
+        }
+        for (int k = 0; k < leftKeyIndexes.length; k++) {
+          values.set(leftKeyIndexes[k], copy(AggregationUtil.cell(right, rightKeyIndexes[k])));
+        }
+      }
+      for (int index : rightValueIndexes) {
+        values.add(right == null ? new StringValue("") : copy(AggregationUtil.cell(right, index)));
+      }
+      return new Row(values);
+    }
+
+    private static Value copy(Value value) {
+      return value == null ? new StringValue("") : ValueUtil.deepCopyValue(value);
+    }
+  }
+
+}
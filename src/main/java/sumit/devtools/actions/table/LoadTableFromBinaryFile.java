@@ -0,0 +1,79 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.LocalFile;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.io.File;
+import sumit.devtools.utils.BinaryTableFile;
+import sumit.devtools.utils.ParallelRows;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Load table from binary file",
+    name = "loadTableFromBinaryFile",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Loads a table saved with Save table to binary file, with its column types and cell types (numbers, booleans, dates and text)",
+    node_label = "Load table from binary file {{filePath}} and assign to {{returnTo}}",
+    return_description = "Table read from the file",
+    return_required = true,
+    return_label = "Assign table to",
+    return_type = DataType.TABLE
+)
+public class LoadTableFromBinaryFile {
+
+  @Execute
+  public static TableValue action(
+      @Idx(index = "1", type = AttributeType.FILE)
+      @Pkg(label = "File path", description = "Path to a file saved with Save table to binary file")
+      @NotEmpty
+      @LocalFile
+      String filePath,
+
+      @Idx(index = "2", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Memory-map the file",
+          description = "Controls how the file is read. " +
+              "When false (default): Each column is read into memory, then decoded. " +
+              "When true: Columns are decoded straight from the operating system's file cache, " +
+              "which avoids a copy for large files. Each column is unmapped once it is decoded, " +
+              "so the file is not left locked.",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean memoryMap,
+
+      @Idx(index = "3", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Load large tables in parallel",
+          description = "When true (default): Tables with " + ParallelRows.PARALLEL_THRESHOLD +
+              " rows or more decode their columns on multiple CPU cores. " +
+              "When false: Always loads on a single thread.",
+          default_value = "true",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean parallel
+  ) {
+    try {
+      File inputFile = new File(filePath);
+      if (!inputFile.exists() || !inputFile.isFile()) {
+        throw new BotCommandException("File not found at specified path: " + filePath);
+      }
+
+      return new TableValue(BinaryTableFile.read(inputFile.toPath(),
+          Boolean.TRUE.equals(memoryMap), Boolean.TRUE.equals(parallel)));
+    } catch (Exception e) {
+      throw new BotCommandException("Error loading table from binary file: " + e.getMessage(), e);
+    }
+  }
+
+}
@@ -0,0 +1,118 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.Sessions;
+import com.automationanywhere.commandsdk.annotations.rules.ListType;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import sumit.devtools.utils.CsvUtil;
+import sumit.devtools.utils.TableIndex;
+import sumit.devtools.utils.TableUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Lookup rows by key",
+    name = "lookupRowsByKey",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Finds the rows of an indexed table that have the given key, using an index created by Build table index or Build index from binary file",
+    node_label = "Lookup {{keyValues}} in index {{indexName}} and assign to {{returnTo}}",
+    return_description = "Table with the matching rows, in table order",
+    return_required = true,
+    return_label = "Assign matching rows to",
+    return_type = DataType.TABLE
+)
+public class LookupRowsByKey {
+
+  @Sessions
+  private Map<String, Object> sessions;
+
+  @Execute
+  public TableValue action(
+      @Idx(index = "1", type = AttributeType.TEXT)
+      @Pkg(label = "Index name",
+          description = "Name given when the index was built",
+          default_value = "Default",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String indexName,
+
+      @Idx(index = "2", type = AttributeType.LIST)
+      @Pkg(label = "Key values",
+          description = "One value per key column, in the order the key columns were given. " +
+              "Example: ['North', 'A-100']")
+      @NotEmpty
+      @ListType(DataType.ANY)
+      List<Value> keyValues,
+
+      @Idx(index = "3", type = AttributeType.RADIO, options = {
+          @Idx.Option(index = "3.1", pkg = @Pkg(label = "Return an empty table", value = "EMPTY")),
+          @Idx.Option(index = "3.2", pkg = @Pkg(label = "Fail", value = "FAIL"))
+      })
+      @Pkg(label = "If no row matches", default_value = "EMPTY", default_value_type = DataType.STRING)
+      @NotEmpty
+      String noMatchAction
+  ) {
+    try {
+      String name = indexName == null ? "" : indexName.trim();
+      Object session = sessions == null ? null : sessions.get(name);
+      if (!(session instanceof TableIndex)) {
+        throw new BotCommandException("Table index not found: " + name +
+            ". Build it with Build table index or Build index from binary file first");
+      }
+      TableIndex index = (TableIndex) session;
+
+      int[] matches;
+      try {
+        matches = index.lookup(keyValues);
+      } catch (IllegalArgumentException e) {
+        throw new BotCommandException(e.getMessage());
+      }
+      if (matches.length == 0 && "FAIL".equalsIgnoreCase(noMatchAction)) {
+        List<String> key = new ArrayList<>();
+        for (Value value : keyValues) {
+          key.add(CsvUtil.toCellText(value));
+        }
+        throw new BotCommandException("No row found for key: " + key);
+      }
+
+      List<Schema> schema = new ArrayList<>();
+      for (Schema column : index.getSchema()) {
+        schema.add(new Schema(column.getName(), column.getType()));
+      }
+      List<Row> rows = new ArrayList<>(matches.length);
+      for (int rowNumber : matches) {
+        rows.add(TableUtil.copyRow(index.getRow(rowNumber)));
+      }
+      return new TableValue(new Table(schema, rows));
+    } catch (Exception e) {
+      throw new BotCommandException("Error looking up rows: " + e.getMessage(), e);
+    } catch (InternalError e) {
+      // Reading a mapped file that was truncated or replaced faults in the JVM
+      throw new BotCommandException("Error looking up rows: The indexed file was changed " +
+          "while the index was in use. Build the index again. " + e.getMessage(), e);
+    }
+  }
+
+  public void setSessions(Map<String, Object> sessions) {
+    this.sessions = sessions;
+  }
+
+}
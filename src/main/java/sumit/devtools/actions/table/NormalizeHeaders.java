@@ -16,7 +16,7 @@ import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
 import com.automationanywhere.commandsdk.annotations.rules.VariableType;
 import com.automationanywhere.commandsdk.model.AttributeType;
 import com.automationanywhere.commandsdk.model.DataType;
-import sumit.devtools.utils.TableUtil;
+import sumit.devtools.utils.CopyOnWriteTable;
 
 @BotCommand
 @CommandPkg(
@@ -84,11 +84,11 @@ public class NormalizeHeaders {
       String help
   ) {
     try {
-      // Create deep copy of the table
-      Table Output = TableUtil.copyTable(inputTable);
+      // Copy only the schema; rows are shared with the input table
+      CopyOnWriteTable Output = new CopyOnWriteTable(inputTable);
 
       // Apply transformations to each header
-      for (Schema schema : Output.getSchema()) {
+      for (Schema schema : Output.editSchema()) {
         String headerName = schema.getName();
 
         // Step 1: Normalize whitespace (if enabled)
@@ -124,7 +124,7 @@ public class NormalizeHeaders {
         schema.setName(headerName);
       }
 
-      return new TableValue(Output);
+      return new TableValue(Output.toTable());
     } catch (Exception e) {
       throw new BotCommandException(
           "Error occurred while normalizing headers: " + e.getMessage(), e);
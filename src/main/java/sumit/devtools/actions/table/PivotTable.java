@@ -0,0 +1,207 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.ListType;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.VariableType;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import sumit.devtools.utils.AggregationUtil;
+import sumit.devtools.utils.AggregationUtil.Accumulator;
+import sumit.devtools.utils.AggregationUtil.Function;
+import sumit.devtools.utils.CsvUtil;
+import sumit.devtools.utils.TableUtil;
+import sumit.devtools.utils.ValueUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Pivot table",
+    name = "pivotTable",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Summarizes a table by row and column labels (sum, count, average, min or max) in a single pass, without Excel",
+    node_label = "Pivot {{inputTable}} by {{rowColumns}} and assign to {{returnTo}}",
+    return_description = "New table with one row per distinct row label and one column per distinct column label",
+    return_required = true,
+    return_label = "Assign pivot table to",
+    return_type = DataType.TABLE
+)
+public class PivotTable {
+
+  @Execute
+  public static TableValue action(
+      @Idx(index = "1", type = AttributeType.VARIABLE)
+      @Pkg(label = "Base table")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table inputTable,
+
+      @Idx(index = "2", type = AttributeType.LIST)
+      @Pkg(label = "Row label columns",
+          description = "Names of the columns whose distinct values become the rows of the pivot. " +
+              "Example: ['Region', 'Product'] gives one row per region and product.")
+      @NotEmpty
+      @ListType(DataType.STRING)
+      List<StringValue> rowColumns,
+
+      @Idx(index = "3", type = AttributeType.TEXT)
+      @Pkg(label = "Column label column",
+          description = "Optional. Column whose distinct values become the columns of the pivot. " +
+              "When empty, a single column holds the aggregate.")
+      String columnColumn,
+
+      @Idx(index = "4", type = AttributeType.TEXT)
+      @Pkg(label = "Value column", description = "Column whose values are aggregated")
+      @NotEmpty
+      String valueColumn,
+
+      @Idx(index = "5", type = AttributeType.SELECT, options = {
+          @Idx.Option(index = "5.1", pkg = @Pkg(label = "Sum", value = "SUM")),
+          @Idx.Option(index = "5.2", pkg = @Pkg(label = "Count", value = "COUNT")),
+          @Idx.Option(index = "5.3", pkg = @Pkg(label = "Average", value = "AVERAGE")),
+          @Idx.Option(index = "5.4", pkg = @Pkg(label = "Min", value = "MIN")),
+          @Idx.Option(index = "5.5", pkg = @Pkg(label = "Max", value = "MAX")),
+          @Idx.Option(index = "5.6", pkg = @Pkg(label = "First value", value = "FIRST"))
+      })
+      @Pkg(label = "Aggregate",
+          description = "Empty cells are ignored. Count counts non-empty cells and First value " +
+              "keeps the first cell as is, which turns unpivoted rows back into columns. The other " +
+              "functions fail on text that is not a number.",
+          default_value = "SUM",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String aggregation,
+
+      @Idx(index = "6", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Case-sensitive comparison",
+          description = "Controls whether column names and label values are compared case-sensitively. " +
+              "When false (default): Case-insensitive (e.g., 'North' and 'NORTH' are the same label). " +
+              "When true: Case-sensitive (e.g., 'North' and 'NORTH' are different labels).",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean caseSensitive
+  ) {
+    try {
+      if (inputTable == null) {
+        throw new BotCommandException("Input table cannot be null.");
+      }
+
+      boolean matchCase = Boolean.TRUE.equals(caseSensitive);
+      Function function = AggregationUtil.parseFunction(aggregation);
+      List<Schema> schema = inputTable.getSchema();
+
+      int[] rowKeyIndexes = TableUtil.requireColumnIndexes(schema, rowColumns, matchCase);
+      int valueIndex = TableUtil.requireColumnIndex(schema, valueColumn, matchCase);
+      int columnKeyIndex = columnColumn == null || columnColumn.trim().isEmpty()
+          ? -1
+          : TableUtil.requireColumnIndex(schema, columnColumn, matchCase);
+
+      // Groups and column labels are kept in order of first appearance
+      Map<List<String>, Integer> groupIndexes = new HashMap<>();
+      List<Row> groupRows = new ArrayList<>();
+      List<List<Accumulator>> groupCells = new ArrayList<>();
+
+      Map<String, Integer> labelIndexes = new HashMap<>();
+      List<String> labelNames = new ArrayList<>();
+      if (columnKeyIndex < 0) {
+        labelIndexes.put("", 0);
+        labelNames.add(toTitle(function) + " of " + schema.get(valueIndex).getName());
+      }
+
+      // Single pass: each row updates exactly one accumulator
+      int rowNumber = 0;
+      for (Row row : inputTable.getRows()) {
+        rowNumber++;
+        List<String> key = AggregationUtil.groupKey(row, rowKeyIndexes, matchCase);
+        Integer group = groupIndexes.get(key);
+        if (group == null) {
+          group = groupRows.size();
+          groupIndexes.put(key, group);
+          List<Value> labelValues = new ArrayList<>(rowKeyIndexes.length);
+          for (int column : rowKeyIndexes) {
+            Value value = AggregationUtil.cell(row, column);
+            labelValues.add(value == null ? new StringValue("") : ValueUtil.deepCopyValue(value));
+          }
+          groupRows.add(new Row(labelValues));
+          groupCells.add(new ArrayList<>());
+        }
+
+        int label = 0;
+        if (columnKeyIndex >= 0) {
+          Value labelValue = AggregationUtil.cell(row, columnKeyIndex);
+          String labelKey = AggregationUtil.toKeyText(labelValue, matchCase);
+          Integer existing = labelIndexes.get(labelKey);
+          if (existing == null) {
+            existing = labelNames.size();
+            labelIndexes.put(labelKey, existing);
+            String name = CsvUtil.toCellText(labelValue);
+            labelNames.add(name.isEmpty() ? "(blank)" : name);
+          }
+          label = existing;
+        }
+
+        List<Accumulator> cells = groupCells.get(group);
+        while (cells.size() <= label) {
+          cells.add(null);
+        }
+        Accumulator accumulator = cells.get(label);
+        if (accumulator == null) {
+          accumulator = new Accumulator(function);
+          cells.set(label, accumulator);
+        }
+        try {
+          accumulator.add(AggregationUtil.cell(row, valueIndex));
+        } catch (IllegalArgumentException e) {
+          throw new BotCommandException(e.getMessage() + " at row " + rowNumber);
+        }
+      }
+
+      List<Schema> outputSchema = new ArrayList<>();
+      for (int column : rowKeyIndexes) {
+        outputSchema.add(new Schema(schema.get(column).getName()));
+      }
+      for (String name : labelNames) {
+        outputSchema.add(new Schema(name));
+      }
+
+      // Combinations that never occur are left empty
+      for (int group = 0; group < groupRows.size(); group++) {
+        List<Value> values = groupRows.get(group).getValues();
+        List<Accumulator> cells = groupCells.get(group);
+        for (int label = 0; label < labelNames.size(); label++) {
+          Accumulator accumulator = label < cells.size() ? cells.get(label) : null;
+          values.add(accumulator == null ? new StringValue("") : accumulator.result());
+        }
+      }
+
+      return new TableValue(new Table(outputSchema, groupRows));
+    } catch (Exception e) {
+      throw new BotCommandException("Error creating pivot table: " + e.getMessage(), e);
+    }
+  }
+
+  private static String toTitle(Function function) {
+    String name = function.name();
+    return name.charAt(0) + name.substring(1).toLowerCase();
+  }
+
+}
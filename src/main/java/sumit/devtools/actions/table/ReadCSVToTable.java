@@ -0,0 +1,135 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.GreaterThanEqualTo;
+import com.automationanywhere.commandsdk.annotations.rules.LocalFile;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.NumberInteger;
+import com.automationanywhere.commandsdk.annotations.rules.SelectModes;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.io.File;
+import java.nio.charset.Charset;
+import sumit.devtools.utils.CsvTableReader;
+import sumit.devtools.utils.CsvUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Read CSV to table",
+    name = "readCSVToTable",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Streams records from a CSV file into a table. Supports skipping and limiting rows to read large files page by page",
+    node_label = "Read CSV {{filePath}} and assign to {{returnTo}}",
+    return_description = "Table containing the CSV records read",
+    return_required = true,
+    return_label = "Assign table to",
+    return_type = DataType.TABLE
+)
+public class ReadCSVToTable {
+
+  @Execute
+  public static TableValue action(
+      @Idx(index = "1", type = AttributeType.FILE)
+      @Pkg(label = "File path", description = "Path to the CSV file to read")
+      @NotEmpty
+      @LocalFile
+      String filePath,
+
+      @Idx(index = "2", type = AttributeType.SELECT, options = {
+          @Idx.Option(index = "2.1", pkg = @Pkg(label = "UTF-8", value = "UTF-8")),
+          @Idx.Option(index = "2.2", pkg = @Pkg(label = "ISO-8859-1", value = "ISO-8859-1")),
+          @Idx.Option(index = "2.3", pkg = @Pkg(label = "US-ASCII", value = "US-ASCII")),
+          @Idx.Option(index = "2.4", pkg = @Pkg(label = "UTF-16", value = "UTF-16")),
+          @Idx.Option(index = "2.5", pkg = @Pkg(label = "UTF-16BE", value = "UTF-16BE")),
+          @Idx.Option(index = "2.6", pkg = @Pkg(label = "UTF-16LE", value = "UTF-16LE")),
+          @Idx.Option(index = "2.7", pkg = @Pkg(label = "UTF-32", value = "UTF-32")),
+          @Idx.Option(index = "2.8", pkg = @Pkg(label = "UTF-32BE", value = "UTF-32BE")),
+          @Idx.Option(index = "2.9", pkg = @Pkg(label = "UTF-32LE", value = "UTF-32LE"))
+      })
+      @Pkg(label = "Character Set", default_value = "UTF-8", default_value_type = DataType.STRING)
+      @NotEmpty
+      String charsetName,
+
+      @Idx(index = "3", type = AttributeType.SELECT, options = {
+          @Idx.Option(index = "3.1", pkg = @Pkg(label = "Comma", value = "COMMA")),
+          @Idx.Option(index = "3.2", pkg = @Pkg(label = "Semicolon", value = "SEMICOLON")),
+          @Idx.Option(index = "3.3", pkg = @Pkg(label = "Tab", value = "TAB")),
+          @Idx.Option(index = "3.4", pkg = @Pkg(label = "Pipe", value = "PIPE")),
+          @Idx.Option(index = "3.5", pkg = @Pkg(label = "Custom", value = "CUSTOM"))
+      })
+      @Pkg(label = "Delimiter", default_value = "COMMA", default_value_type = DataType.STRING)
+      @NotEmpty
+      @SelectModes
+      String delimiterType,
+
+      @Idx(index = "3.5.1", type = AttributeType.TEXT)
+      @Pkg(label = "Custom delimiter")
+      @NotEmpty
+      String customDelimiter,
+
+      @Idx(index = "4", type = AttributeType.BOOLEAN)
+      @Pkg(label = "First row contains headers",
+          description = "Controls whether the first record is used as column names. " +
+              "When true (default): The first record becomes the table header and is not included in the rows. " +
+              "When false: All records are read as rows and columns have empty names.",
+          default_value = "true",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean hasHeader,
+
+      @Idx(index = "5", type = AttributeType.NUMBER)
+      @Pkg(label = "Rows to skip",
+          description = "Number of data rows to skip before reading (header row is not counted). " +
+              "Example: 1000 starts reading at the 1001st data row.",
+          default_value = "0",
+          default_value_type = DataType.NUMBER)
+      @GreaterThanEqualTo("0")
+      @NumberInteger
+      Double skipRows,
+
+      @Idx(index = "6", type = AttributeType.NUMBER)
+      @Pkg(label = "Maximum rows to read",
+          description = "Maximum number of data rows to read. 0 (default) reads all remaining rows. " +
+              "Reading stops as soon as the limit is reached, so the rest of the file is not read.",
+          default_value = "0",
+          default_value_type = DataType.NUMBER)
+      @GreaterThanEqualTo("0")
+      @NumberInteger
+      Double maxRows
+  ) {
+    try {
+      // Validate file path
+      File file = new File(filePath);
+      if (!file.exists() || !file.isFile()) {
+        throw new BotCommandException("File not found at specified path: " + filePath);
+      }
+
+      if (!file.canRead()) {
+        throw new BotCommandException("Cannot read file (check permissions): " + filePath);
+      }
+
+      Charset charset = Charset.forName(charsetName);
+      long skipCount = skipRows == null ? 0 : skipRows.longValue();
+      long maxCount = maxRows == null ? 0 : maxRows.longValue();
+
+      try (CsvTableReader reader = new CsvTableReader(file.toPath(), charset,
+          CsvUtil.buildFormat(delimiterType, customDelimiter), Boolean.TRUE.equals(hasHeader))) {
+        reader.skip(skipCount);
+        return new TableValue(reader.readTable(maxCount));
+      }
+    } catch (Exception e) {
+      throw new BotCommandException("Error reading CSV file: " + e.getMessage(), e);
+    }
+  }
+
+}
@@ -0,0 +1,140 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.GreaterThanEqualTo;
+import com.automationanywhere.commandsdk.annotations.rules.LocalFile;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.NumberInteger;
+import com.automationanywhere.commandsdk.annotations.rules.SelectModes;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.io.File;
+import sumit.devtools.utils.XlsxSheetReader;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Read Excel sheet to table",
+    name = "readExcelSheetToTable",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Streams rows from a sheet of an XLSX workbook into a table without opening the workbook in Excel or loading it fully into memory",
+    node_label = "Read sheet from {{filePath}} and assign to {{returnTo}}",
+    return_description = "Table containing the sheet rows read, as displayed text",
+    return_required = true,
+    return_label = "Assign table to",
+    return_type = DataType.TABLE
+)
+public class ReadExcelSheetToTable {
+
+  @Execute
+  public static TableValue action(
+      @Idx(index = "1", type = AttributeType.FILE)
+      @Pkg(label = "File path", description = "Path to the XLSX workbook to read")
+      @NotEmpty
+      @LocalFile
+      String filePath,
+
+      @Idx(index = "2", type = AttributeType.SELECT, options = {
+          @Idx.Option(index = "2.1", pkg = @Pkg(label = "By name", value = "NAME")),
+          @Idx.Option(index = "2.2", pkg = @Pkg(label = "By position", value = "INDEX"))
+      })
+      @Pkg(label = "Sheet", default_value = "INDEX", default_value_type = DataType.STRING)
+      @NotEmpty
+      @SelectModes
+      String sheetSelection,
+
+      @Idx(index = "2.1.1", type = AttributeType.TEXT)
+      @Pkg(label = "Sheet name", description = "Exact name of the sheet (case-sensitive)")
+      @NotEmpty
+      String sheetName,
+
+      @Idx(index = "2.2.1", type = AttributeType.NUMBER)
+      @Pkg(label = "Sheet position",
+          description = "1-based position of the sheet in the workbook. Example: 1 reads the first sheet.",
+          default_value = "1",
+          default_value_type = DataType.NUMBER)
+      @NotEmpty
+      @GreaterThanEqualTo("1")
+      @NumberInteger
+      Double sheetPosition,
+
+      @Idx(index = "3", type = AttributeType.BOOLEAN)
+      @Pkg(label = "First row contains headers",
+          description = "Controls whether the first row is used as column names. " +
+              "When true (default): The first row becomes the table header and is not included in the rows. " +
+              "When false: All rows are read as data and columns have empty names.",
+          default_value = "true",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean hasHeader,
+
+      @Idx(index = "4", type = AttributeType.NUMBER)
+      @Pkg(label = "Rows to skip",
+          description = "Number of data rows to skip before reading (header row is not counted). " +
+              "Example: 1000 starts reading at the 1001st data row.",
+          default_value = "0",
+          default_value_type = DataType.NUMBER)
+      @GreaterThanEqualTo("0")
+      @NumberInteger
+      Double skipRows,
+
+      @Idx(index = "5", type = AttributeType.NUMBER)
+      @Pkg(label = "Maximum rows to read",
+          description = "Maximum number of data rows to read. 0 (default) reads all remaining rows. " +
+              "Reading stops as soon as the limit is reached, so the rest of the sheet is not read.",
+          default_value = "0",
+          default_value_type = DataType.NUMBER)
+      @GreaterThanEqualTo("0")
+      @NumberInteger
+      Double maxRows
+  ) {
+    try {
+      // Validate file path
+      File file = new File(filePath);
+      if (!file.exists() || !file.isFile()) {
+        throw new BotCommandException("File not found at specified path: " + filePath);
+      }
+
+      if (!file.canRead()) {
+        throw new BotCommandException("Cannot read file (check permissions): " + filePath);
+      }
+
+      String name = null;
+      int index = 0;
+      if ("NAME".equals(sheetSelection)) {
+        if (sheetName == null || sheetName.isEmpty()) {
+          throw new BotCommandException("Sheet name cannot be empty");
+        }
+        name = sheetName;
+      } else if ("INDEX".equals(sheetSelection)) {
+        index = sheetPosition == null ? 0 : sheetPosition.intValue() - 1;
+        if (index < 0) {
+          throw new BotCommandException("Sheet position must be 1 or greater");
+        }
+      } else {
+        throw new BotCommandException("Invalid sheet selection: " + sheetSelection);
+      }
+
+      long skipCount = skipRows == null ? 0 : skipRows.longValue();
+      long maxCount = maxRows == null ? 0 : maxRows.longValue();
+
+      try (XlsxSheetReader reader = new XlsxSheetReader(file.toPath(), name, index,
+          Boolean.TRUE.equals(hasHeader))) {
+        reader.skip(skipCount);
+        return new TableValue(reader.readTable(maxCount));
+      }
+    } catch (Exception e) {
+      throw new BotCommandException("Error reading Excel sheet: " + e.getMessage(), e);
+    }
+  }
+
+}
@@ -0,0 +1,166 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.ListType;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.SelectModes;
+import com.automationanywhere.commandsdk.annotations.rules.VariableType;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import sumit.devtools.utils.RowKey;
+import sumit.devtools.utils.TableUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Remove duplicate rows",
+    name = "removeDuplicateRows",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Creates an independent table copy without duplicate rows, comparing whole rows or selected key columns. Cells compare by their text, so the number 1 and the text '1' are equal, as in Group table. The original table remains unchanged.",
+    node_label = "Remove duplicate rows from {{inputTable}} and assign to {{returnTo}}",
+    return_description = "Independent table copy with the unique rows, or with the removed duplicates",
+    return_required = true,
+    return_label = "Assign table to",
+    return_type = DataType.TABLE
+)
+public class RemoveDuplicateRows {
+
+  @Execute
+  public static TableValue action(
+      @Idx(index = "1", type = AttributeType.VARIABLE)
+      @Pkg(label = "Base table")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table inputTable,
+
+      @Idx(index = "2", type = AttributeType.SELECT, options = {
+          @Idx.Option(index = "2.1", pkg = @Pkg(label = "All columns", value = "ALL_COLUMNS")),
+          @Idx.Option(index = "2.2", pkg = @Pkg(label = "Key columns", value = "KEY_COLUMNS"))
+      })
+      @Pkg(label = "Compare rows by", default_value = "ALL_COLUMNS",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      @SelectModes
+      String compareBy,
+
+      @Idx(index = "2.2.1", type = AttributeType.LIST)
+      @Pkg(label = "Key columns",
+          description = "Names of the columns that identify a row. Rows with equal values in all " +
+              "of these columns are duplicates. Example: ['Email']")
+      @NotEmpty
+      @ListType(DataType.STRING)
+      List<StringValue> keyColumns,
+
+      @Idx(index = "3", type = AttributeType.RADIO, options = {
+          @Idx.Option(index = "3.1", pkg = @Pkg(label = "First occurrence", value = "FIRST")),
+          @Idx.Option(index = "3.2", pkg = @Pkg(label = "Last occurrence", value = "LAST"))
+      })
+      @Pkg(label = "Keep", default_value = "FIRST", default_value_type = DataType.STRING)
+      @NotEmpty
+      String keep,
+
+      @Idx(index = "4", type = AttributeType.RADIO, options = {
+          @Idx.Option(index = "4.1", pkg = @Pkg(label = "Unique rows", value = "UNIQUE")),
+          @Idx.Option(index = "4.2", pkg = @Pkg(label = "Removed duplicates", value = "DUPLICATES"))
+      })
+      @Pkg(label = "Return",
+          description = "Unique rows (default): The table without duplicates. " +
+              "Removed duplicates: Only the rows that were removed, to review or log them.",
+          default_value = "UNIQUE",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String output,
+
+      @Idx(index = "5", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Case-sensitive comparison",
+          description = "Controls whether column names and text values are compared case-sensitively. " +
+              "When false (default): Case-insensitive (e.g., 'abc' and 'ABC' are duplicates). " +
+              "When true: Case-sensitive (e.g., 'abc' and 'ABC' are different).",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean caseSensitive
+  ) {
+    try {
+      if (inputTable == null) {
+        throw new BotCommandException("Input table cannot be null.");
+      }
+
+      boolean matchCase = Boolean.TRUE.equals(caseSensitive);
+      List<Schema> schema = inputTable.getSchema();
+
+      int[] columns;
+      if ("KEY_COLUMNS".equals(compareBy)) {
+        columns = TableUtil.requireColumnIndexes(schema, keyColumns, matchCase);
+      } else if ("ALL_COLUMNS".equals(compareBy)) {
+        int width = schema.size();
+        for (Row row : inputTable.getRows()) {
+          width = Math.max(width, row == null || row.getValues() == null
+              ? 0 : row.getValues().size());
+        }
+        columns = new int[width];
+        for (int i = 0; i < width; i++) {
+          columns[i] = i;
+        }
+      } else {
+        throw new BotCommandException("Invalid compare option: " + compareBy);
+      }
+
+      boolean keepLast = "LAST".equals(keep);
+      boolean returnDuplicates = "DUPLICATES".equals(output);
+
+      // Index of the occurrence to keep for each key
+      List<Row> rows = inputTable.getRows();
+      Map<RowKey, Integer> keptIndexes = new HashMap<>(rows.size() * 2);
+      for (int i = 0; i < rows.size(); i++) {
+        RowKey key = new RowKey(rows.get(i), columns, matchCase);
+        if (keepLast) {
+          keptIndexes.put(key, i);
+        } else {
+          keptIndexes.putIfAbsent(key, i);
+        }
+      }
+
+      boolean[] kept = new boolean[rows.size()];
+      for (int index : keptIndexes.values()) {
+        kept[index] = true;
+      }
+
+      List<Row> outputRows = new ArrayList<>();
+      for (int i = 0; i < rows.size(); i++) {
+        if (kept[i] != returnDuplicates) {
+          Row row = rows.get(i);
+          outputRows.add(row == null || row.getValues() == null
+              ? new Row(new ArrayList<>()) : TableUtil.copyRow(row));
+        }
+      }
+
+      List<Schema> outputSchema = new ArrayList<>();
+      for (Schema column : schema) {
+        outputSchema.add(new Schema(column.getName(), column.getType()));
+      }
+
+      return new TableValue(new Table(outputSchema, outputRows));
+    } catch (Exception e) {
+      throw new BotCommandException("Error removing duplicate rows: " + e.getMessage(), e);
+    }
+  }
+
+}
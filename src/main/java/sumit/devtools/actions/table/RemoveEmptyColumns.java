@@ -20,7 +20,6 @@ import com.automationanywhere.commandsdk.model.AttributeType;
 import com.automationanywhere.commandsdk.model.DataType;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import sumit.devtools.utils.ValueUtil;
 
 @BotCommand
@@ -60,15 +59,16 @@ public class RemoveEmptyColumns {
 
       List<Integer> nonEmptyColumnIndices = new ArrayList<>();
 
-      // Check each column to see if it has at least one non-empty cell
+      // Check each column to see if it has at least one non-empty cell; most stop at the first row
       for (int colIndex = 0; colIndex < columnCount; colIndex++) {
         boolean hasNonEmptyCell = false;
 
         for (Row row : inputRows) {
-          List<Value> rowValues = row.getValues();
-          if (colIndex < rowValues.size()) {
+          List<Value> rowValues = row == null ? null : row.getValues();
+          if (rowValues != null && colIndex < rowValues.size()) {
             Value cellValue = rowValues.get(colIndex);
-            if (cellValue != null && !cellValue.get().toString().isEmpty()) {
+            if (cellValue != null && cellValue.get() != null
+                && !cellValue.get().toString().isEmpty()) {
               hasNonEmptyCell = true;
               break;
             }
@@ -81,27 +81,24 @@ public class RemoveEmptyColumns {
       }
 
       // 2. Deep copy schema for non-empty columns only
-      List<Schema> copySchema = nonEmptyColumnIndices.stream()
-          .map(index -> {
-            Schema originalSchema = inputSchema.get(index);
-            return new Schema(originalSchema.getName(), originalSchema.getType());
-          })
-          .collect(Collectors.toList());
-
-      // 3. Deep copy rows with only non-empty columns
-      List<Row> deepCopiedRows = inputRows.stream()
-          .map(row -> {
-            List<Value> deepCopiedValues = new ArrayList<>();
-            for (Integer colIndex : nonEmptyColumnIndices) {
-              Value value = null;
-              if (colIndex < row.getValues().size()) {
-                value = row.getValues().get(colIndex);
-              }
-              deepCopiedValues.add(ValueUtil.deepCopyValue(value));
-            }
-            return new Row(deepCopiedValues);
-          })
-          .collect(Collectors.toList());
+      List<Schema> copySchema = new ArrayList<>(nonEmptyColumnIndices.size());
+      for (int colIndex : nonEmptyColumnIndices) {
+        Schema originalSchema = inputSchema.get(colIndex);
+        copySchema.add(new Schema(originalSchema.getName(), originalSchema.getType()));
+      }
+
+      // 3. Deep copy rows with only non-empty columns, padding short rows with null
+      List<Row> deepCopiedRows = new ArrayList<>(inputRows.size());
+      for (Row row : inputRows) {
+        List<Value> rowValues = row == null ? null : row.getValues();
+        List<Value> deepCopiedValues = new ArrayList<>(nonEmptyColumnIndices.size());
+        for (int colIndex : nonEmptyColumnIndices) {
+          Value value = rowValues != null && colIndex < rowValues.size()
+              ? rowValues.get(colIndex) : null;
+          deepCopiedValues.add(ValueUtil.deepCopyValue(value));
+        }
+        deepCopiedRows.add(new Row(deepCopiedValues));
+      }
 
       // 4. Build result table
       Table Output = new Table();
@@ -2,10 +2,7 @@ package sumit.devtools.actions.table;
 
 import static com.automationanywhere.commandsdk.model.AttributeType.HELP;
 
-import com.automationanywhere.botcommand.data.Value;
 import com.automationanywhere.botcommand.data.impl.TableValue;
-import com.automationanywhere.botcommand.data.model.Schema;
-import com.automationanywhere.botcommand.data.model.table.Row;
 import com.automationanywhere.botcommand.data.model.table.Table;
 import com.automationanywhere.botcommand.exception.BotCommandException;
 import com.automationanywhere.commandsdk.annotations.BotCommand;
@@ -18,10 +15,8 @@ import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
 import com.automationanywhere.commandsdk.annotations.rules.VariableType;
 import com.automationanywhere.commandsdk.model.AttributeType;
 import com.automationanywhere.commandsdk.model.DataType;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
-import sumit.devtools.utils.ValueUtil;
+import sumit.devtools.utils.ColumnarTable;
+import sumit.devtools.utils.ParallelRows;
 
 @BotCommand
 @CommandPkg(
@@ -50,40 +45,28 @@ public class RemoveEmptyRows {
       @Pkg(label = "Base table")
       @NotEmpty
       @VariableType(value = DataType.TABLE)
-      Table inputTable
+      Table inputTable,
+
+      @Idx(index = "3", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Process large tables in parallel",
+          description = "When true (default): Tables with " + ParallelRows.PARALLEL_THRESHOLD +
+              " rows or more are processed on multiple CPU cores; the row order is unchanged. " +
+              "When false: Always processes on a single thread.",
+          default_value = "true",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean parallel
   ) {
     try {
-      // 1. Filter rows from original table (read-only, no copying yet)
-      List<Row> nonEmptyRows = new ArrayList<>();
-      for (Row row : inputTable.getRows()) {
-        for (Value cellValue : row.getValues()) {
-          if (cellValue != null && !cellValue.get().toString().isEmpty()) {
-            nonEmptyRows.add(row);
-            break;
-          }
-        }
-      }
-
-      // 2. Deep copy schema (lightweight operation)
-      List<Schema> copySchema = inputTable.getSchema().stream()
-          .map(schema -> new Schema(schema.getName(), schema.getType()))
-          .collect(Collectors.toList());
+      boolean inParallel = Boolean.TRUE.equals(parallel);
+      ColumnarTable columnarTable = ColumnarTable.fromTable(inputTable);
 
-      // 3. Deep copy ONLY the filtered non-empty rows
-      List<Row> deepCopiedRows = nonEmptyRows.stream()
-          .map(row -> {
-            List<Value> deepCopiedValues = new ArrayList<>();
-            for (Value value : row.getValues()) {
-              deepCopiedValues.add(ValueUtil.deepCopyValue(value));
-            }
-            return new Row(deepCopiedValues);
-          })
-          .collect(Collectors.toList());
+      // 1. Find non-empty rows by combining the per-column empty bitsets
+      int[] nonEmptyRows = columnarTable.getNonEmptyRows(inParallel).stream().toArray();
 
-      // 4. Build result table
-      Table Output = new Table();
-      Output.setSchema(copySchema);
-      Output.setRows(deepCopiedRows);
+      // 2. Build result table from the non-empty rows only, keeping each row's length
+      Table Output = columnarTable.toTable(columnarTable.allColumns(), nonEmptyRows, false,
+          inParallel);
 
       return new TableValue(Output);
     } catch (Exception e) {
@@ -0,0 +1,62 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.impl.BooleanValue;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.Sessions;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.util.Map;
+import sumit.devtools.utils.TableIndex;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Remove table index",
+    name = "removeTableIndex",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Removes an index created by Build table index or Build index from binary file and frees its memory. A binary file index is unmapped, so the file can be overwritten or deleted again",
+    node_label = "Remove index {{indexName}}",
+    return_description = "True if the index existed and was removed",
+    return_label = "Assign removed flag to",
+    return_type = DataType.BOOLEAN
+)
+public class RemoveTableIndex {
+
+  @Sessions
+  private Map<String, Object> sessions;
+
+  @Execute
+  public BooleanValue action(
+      @Idx(index = "1", type = AttributeType.TEXT)
+      @Pkg(label = "Index name",
+          description = "Name given when the index was built. Nothing happens if no index has this name.",
+          default_value = "Default",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String indexName
+  ) {
+    try {
+      if (indexName == null || indexName.trim().isEmpty()) {
+        throw new BotCommandException("Index name cannot be empty.");
+      }
+      boolean removed = sessions != null && TableIndex.remove(sessions, indexName.trim());
+      return new BooleanValue(removed);
+    } catch (Exception e) {
+      throw new BotCommandException("Error removing table index: " + e.getMessage(), e);
+    }
+  }
+
+  public void setSessions(Map<String, Object> sessions) {
+    this.sessions = sessions;
+  }
+
+}
@@ -20,15 +20,18 @@ import com.automationanywhere.commandsdk.annotations.Pkg;
 import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
 import com.automationanywhere.commandsdk.annotations.rules.VariableType;
 import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 import sumit.devtools.utils.TableUtil;
+import sumit.devtools.utils.TableView;
 
 @BotCommand
-@CommandPkg(label = "Reverse table", description = "Creates an independent copy of the table with rows in reverse order. The original table remains unchanged.", icon = "Table.svg",
+@CommandPkg(label = "Reverse table", description = "Creates an independent copy of the table with rows in reverse order, or a lightweight view of it. The original table remains unchanged.", icon = "Table.svg",
     name = "reverseRowOrder", group_label = "Table",
     node_label = "Create reversed copy of {{inputTable}} and assign to {{returnTo}}", return_description =
-    "Independent copy of table with reversed row order",
+    "Independent copy, or view, of table with reversed row order",
     return_required = true,
     return_type = TABLE)
 public class ReverseTableRows {
@@ -36,7 +39,7 @@ public class ReverseTableRows {
   @Execute
   public static TableValue action(
       @Idx(index = "1", type = HELP)
-      @Pkg(label = "Tip", description = "This action creates an independent copy. To update the original table, assign the output back to the same variable.")
+      @Pkg(label = "Tip", description = "This action creates an independent copy, or with 'Return a lightweight view' a view that shares rows and cells with the base table until they are changed. To update the original table, assign the output back to the same variable.")
       @Inject
       String help,
 
@@ -44,9 +47,26 @@ public class ReverseTableRows {
       @Pkg(label = "Base table")
       @NotEmpty
       @VariableType(value = TABLE)
-      Table inputTable
+      Table inputTable,
+
+      @Idx(index = "3", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Return a lightweight view",
+          description = "When false (default): Returns an independent deep copy. " +
+              "When true: Returns a view that reads the rows from the base table and copies " +
+              "a row only when it is changed or a list, dictionary, table or record cell is read. " +
+              "Other cells are shared with the base table. Faster for large tables that are only read afterwards.",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean returnView
   ) {
     try {
+      if (Boolean.TRUE.equals(returnView)) {
+        int rowCount = inputTable.getRows().size();
+        int[] reversed = IntStream.range(0, rowCount).map(i -> rowCount - 1 - i).toArray();
+        return new TableValue(TableView.ofRows(inputTable, reversed));
+      }
+
       Table Output = TableUtil.copyTable(inputTable);
       List<Row> rows = Output.getRows();
       Collections.reverse(rows);
@@ -0,0 +1,90 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.LocalFile;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.VariableType;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import sumit.devtools.utils.BinaryTableFile;
+import sumit.devtools.utils.MappedBinaryTable;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Save table to binary file",
+    name = "saveTableToBinaryFile",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Saves a table to a compact binary file that keeps column types and cell types. Load it again with Load table from binary file, which is much faster than parsing CSV or JSON",
+    node_label = "Save {{inputTable}} to binary file {{filePath}}"
+)
+public class SaveTableToBinaryFile {
+
+  @Execute
+  public static void action(
+      @Idx(index = "1", type = AttributeType.VARIABLE)
+      @Pkg(label = "Base table")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table inputTable,
+
+      @Idx(index = "2", type = AttributeType.FILE)
+      @Pkg(label = "Output file path", description = "Path where the binary file will be saved")
+      @NotEmpty
+      @LocalFile
+      String filePath,
+
+      @Idx(index = "3", type = AttributeType.RADIO, options = {
+          @Idx.Option(index = "3.1", pkg = @Pkg(label = "Fail", value = "FAIL")),
+          @Idx.Option(index = "3.2", pkg = @Pkg(label = "Overwrite", value = "OVERWRITE"))
+      })
+      @Pkg(label = "If file exists",
+          description = "Fail (default): Fails with an error if the file exists. " +
+              "Overwrite: Replaces the existing file, unless a binary file index is using it.",
+          default_value = "FAIL",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String existingFileAction
+  ) {
+    try {
+      if (inputTable == null) {
+        throw new BotCommandException("Input table cannot be null.");
+      }
+
+      File outputFile = new File(filePath);
+      if (outputFile.exists() && !"OVERWRITE".equalsIgnoreCase(existingFileAction)) {
+        throw new BotCommandException(
+            "Output file already exists and overwrite option is not enabled");
+      }
+      // The index would keep reading the replaced file, and Windows refuses to replace it
+      if (MappedBinaryTable.isOpen(outputFile.toPath())) {
+        throw new BotCommandException("File is in use by a table index: " + filePath +
+            ". Remove the index with Remove table index first");
+      }
+
+      // Ensure parent directories exist
+      Path path = outputFile.toPath();
+      Path parentDir = path.toAbsolutePath().getParent();
+      if (parentDir != null) {
+        Files.createDirectories(parentDir);
+      }
+
+      BinaryTableFile.write(inputTable, path);
+    } catch (Exception e) {
+      throw new BotCommandException("Error saving table to binary file: " + e.getMessage(), e);
+    }
+  }
+
+}
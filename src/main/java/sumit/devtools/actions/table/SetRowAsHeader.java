@@ -20,7 +20,7 @@ import com.automationanywhere.commandsdk.model.AttributeType;
 import com.automationanywhere.commandsdk.model.DataType;
 import java.util.List;
 import java.util.stream.Collectors;
-import sumit.devtools.utils.TableUtil;
+import sumit.devtools.utils.CopyOnWriteTable;
 
 
 @BotCommand
@@ -69,23 +69,23 @@ public class SetRowAsHeader {
 
   ) {
     try {
-      Table Output = TableUtil.copyTable(inputTable);
+      CopyOnWriteTable Output = new CopyOnWriteTable(inputTable);
 
-      if (rowPosition > Output.getRows().size() - 1 || rowPosition < 0) {
+      if (rowPosition > Output.getRowCount() - 1 || rowPosition < 0) {
         throw new BotCommandException("Row not found at specified index");
       }
 
-      List<Schema> updatedSchema = Output.getRows().get(rowPosition.intValue()).getValues().stream()
+      List<Schema> updatedSchema = Output.getRow(rowPosition.intValue()).getValues().stream()
           .map(value -> new Schema(value.get().toString()))
           .collect(Collectors.toList());
 
       Output.setSchema(updatedSchema);
 
       if (isRowToBeRemoved) {
-        Output.getRows().remove(rowPosition.intValue());
+        Output.removeRow(rowPosition.intValue());
       }
 
-      return new TableValue(Output);
+      return new TableValue(Output.toTable());
 
     } catch (Exception e) {
       throw new BotCommandException("Error Occurred while setting row as header: " + e.getMessage(),
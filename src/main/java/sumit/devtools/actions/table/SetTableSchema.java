@@ -22,7 +22,7 @@ import com.automationanywhere.commandsdk.model.AttributeType;
 import com.automationanywhere.commandsdk.model.DataType;
 import java.util.List;
 import java.util.stream.Collectors;
-import sumit.devtools.utils.TableUtil;
+import sumit.devtools.utils.CopyOnWriteTable;
 
 
 @BotCommand
@@ -82,7 +82,7 @@ public class SetTableSchema {
 
   ) {
     try {
-      Table Output = TableUtil.copyTable(inputTable);
+      CopyOnWriteTable Output = new CopyOnWriteTable(inputTable);
       List<Schema> sourceSchema;
       if (selectMethod.equals("record")) {
         sourceSchema = inputRecord.getSchema();
@@ -95,7 +95,7 @@ public class SetTableSchema {
       if (updatecriteria.equals("append_schema")) {
         for (Schema curentRSchema : sourceSchema) {
           if (!Output.getSchema().contains(curentRSchema)) {
-            Output.getSchema().add(new Schema(curentRSchema.getName(), curentRSchema.getType()));
+            Output.editSchema().add(new Schema(curentRSchema.getName(), curentRSchema.getType()));
           }
         }
 
@@ -108,7 +108,7 @@ public class SetTableSchema {
         throw new BotCommandException("Invalid update method: " + updatecriteria);
       }
 
-      return new TableValue(Output);
+      return new TableValue(Output.toTable());
 
     } catch (Exception e) {
       throw new BotCommandException(
@@ -5,7 +5,6 @@ import com.automationanywhere.botcommand.data.impl.NumberValue;
 import com.automationanywhere.botcommand.data.impl.StringValue;
 import com.automationanywhere.botcommand.data.impl.TableValue;
 import com.automationanywhere.botcommand.data.model.Schema;
-import com.automationanywhere.botcommand.data.model.table.Row;
 import com.automationanywhere.botcommand.data.model.table.Table;
 import com.automationanywhere.botcommand.exception.BotCommandException;
 import com.automationanywhere.commandsdk.annotations.BotCommand;
@@ -19,21 +18,21 @@ import com.automationanywhere.commandsdk.annotations.rules.SelectModes;
 import com.automationanywhere.commandsdk.annotations.rules.VariableType;
 import com.automationanywhere.commandsdk.model.AttributeType;
 import com.automationanywhere.commandsdk.model.DataType;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import sumit.devtools.utils.ValueUtil;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import sumit.devtools.utils.ColumnarTable;
+import sumit.devtools.utils.TableView;
 
 
 @BotCommand
-@CommandPkg(label = "Extract table columns", description = "Creates an independent table copy containing only the specified columns. The original table remains unchanged.", icon =
+@CommandPkg(label = "Extract table columns", description = "Creates an independent table copy, or a lightweight view, containing only the specified columns. The original table remains unchanged.", icon =
     "Table" +
         ".svg", name = "sliceColumns", group_label = "Table",
     node_label = "Create copy of {{inputTable}} with selected columns and assign to {{returnTo}}", return_description =
-    "Independent table copy with only selected columns",
+    "Independent table copy, or view, with only selected columns",
     return_required = true,
     return_label = "Assign sliced table to",
     return_type = DataType.TABLE)
@@ -70,39 +69,37 @@ public class SliceColumns {
           "Example: ['Name', 'Email', 'Phone'] extracts only these three columns.")
       @NotEmpty
       @ListType(DataType.STRING)
-      List<StringValue> columnNameList
+      List<StringValue> columnNameList,
+
+      @Idx(index = "3", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Return a lightweight view",
+          description = "When false (default): Returns an independent deep copy. " +
+              "When true: Returns a view that reads the selected columns from the base table and copies " +
+              "a row only when it is changed or a list, dictionary, table or record cell is read. " +
+              "Other cells are shared with the base table. Faster for large tables that are only read afterwards.",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean returnView
   ) {
     try {
       List<Schema> inputSchema = inputTable.getSchema();
-      List<Schema> copySchema = new ArrayList<>();
-      List<Row> retRows;
+      int[] columnIndexArray;
       switch (selectMethod.toUpperCase()) {
         case "INDEX_LIST":
           if (indexList == null) {
             throw new BotCommandException("No column index provided");
           }
-          int[] columnIndexArray = indexList.stream()
+          columnIndexArray = indexList.stream()
               .map(value -> (new NumberValue(value.get())).getAsDouble())
               .mapToInt(Double::intValue)
               .toArray();
 
-          copySchema = Arrays.stream(columnIndexArray)
-              .mapToObj(i -> {
-                Schema originalSchema = inputSchema.get(i);
-                return new Schema(originalSchema.getName(), originalSchema.getType());
-              })
-              .collect(Collectors.toList());
-
-          retRows = inputTable.getRows().parallelStream()
-              .map(row -> {
-                List<Value> extractedValues = Arrays.stream(columnIndexArray)
-                    .mapToObj(row.getValues()::get)
-                    .map(ValueUtil::deepCopyValue)  // Deep copy each value
-                    .collect(Collectors.toList());
-                return new Row(extractedValues);
-              })
-              .collect(Collectors.toList());
-
+          for (int index : columnIndexArray) {
+            if (index < 0 || index >= inputSchema.size()) {
+              throw new BotCommandException("Column index out of range: " + index);
+            }
+          }
           break;
 
         case "COLUMN_NAMES":
@@ -114,37 +111,25 @@ public class SliceColumns {
             schemaNameToIndexMap.put(inputSchema.get(i).getName(), i);
           }
 
-          for (Value columnName : columnNameList) {
-            if (schemaNameToIndexMap.containsKey(columnName.get().toString())) {
-              int index = schemaNameToIndexMap.get(columnName.toString());
-              copySchema.add(new Schema(inputSchema.get(index).getName(),
-                  inputSchema.get(index).getType()));
-            }
-          }
-
-          List<Schema> finalCopySchema = copySchema;
-          retRows = inputTable.getRows().parallelStream()
-              .map(row -> {
-                List<Value> extractedValues = finalCopySchema.stream()
-                    .map(schema -> {
-                      int index = schemaNameToIndexMap.get(schema.getName());
-                      return row.getValues().get(index);
-                    })
-                    .map(ValueUtil::deepCopyValue)  // Deep copy each value
-                    .collect(Collectors.toList());
-                return new Row(extractedValues);
-              })
-              .collect(Collectors.toList());
-
+          columnIndexArray = columnNameList.stream()
+              .map(columnName -> schemaNameToIndexMap.get(columnName.get().toString()))
+              .filter(Objects::nonNull)
+              .mapToInt(Integer::intValue)
+              .toArray();
           break;
         default:
           throw new Exception("Invalid select method: " + selectMethod);
       }
 
-      Table retTable = new Table();
-      retTable.setSchema(copySchema);
-      retTable.setRows(retRows);
-      return new TableValue(retTable);
+      if (Boolean.TRUE.equals(returnView)) {
+        int[] allRows = IntStream.range(0, inputTable.getRows().size()).toArray();
+        return new TableValue(TableView.of(inputTable, allRows, columnIndexArray));
+      }
+
+      // Only the selected columns are converted and copied into the result
+      ColumnarTable columnarTable = ColumnarTable.fromTable(inputTable);
+      int[] allRows = IntStream.range(0, columnarTable.getRowCount()).toArray();
+      return new TableValue(columnarTable.toTable(columnIndexArray, allRows, true));
     } catch (Exception e) {
       throw new BotCommandException(
           "Error Occurred while extracting table columns: " + e.getMessage(), e);
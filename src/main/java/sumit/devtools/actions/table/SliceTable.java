@@ -28,14 +28,15 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import sumit.devtools.utils.TableView;
 import sumit.devtools.utils.ValueUtil;
 
 
 @BotCommand
-@CommandPkg(label = "Extract table rows", description = "Creates an independent table copy containing only the specified rows. The original table remains unchanged.", icon = "Table.svg",
+@CommandPkg(label = "Extract table rows", description = "Creates an independent table copy, or a lightweight view, containing only the specified rows. The original table remains unchanged.", icon = "Table.svg",
     name = "sliceTable", group_label = "Table",
-    node_label = "Create independent copy with selected rows from {{inputTable}} and assign to {{returnTo}}", return_description =
-    "Independent table copy with only the selected rows",
+    node_label = "Extract selected rows from {{inputTable}} and assign to {{returnTo}}", return_description =
+    "Independent table copy, or view, with only the selected rows",
     return_required = true,
     return_type = TABLE)
 
@@ -79,7 +80,18 @@ public class SliceTable {
           "Example: [0, 2, 4] extracts the 1st, 3rd, and 5th rows.")
       @NotEmpty
       @ListType(NUMBER)
-      List<Value> indexList
+      List<Value> indexList,
+
+      @Idx(index = "3", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Return a lightweight view",
+          description = "When false (default): Returns an independent deep copy of the selected rows. " +
+              "When true: Returns a view that reads the selected rows from the base table and copies " +
+              "a row only when it is changed or a list, dictionary, table or record cell is read. " +
+              "Other cells are shared with the base table. Faster for large tables that are only read afterwards.",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean returnView
   ) {
     try {
 
@@ -87,7 +99,7 @@ public class SliceTable {
           .map(schema -> new Schema(schema.getName(), schema.getType()))
           .collect(Collectors.toList());
 
-      List<Row> retRows;
+      int[] rowIndexes;
 
       switch (selectMethod.toUpperCase()) {
         case "RANGE":
@@ -96,46 +108,38 @@ public class SliceTable {
           int maxIndex = inputTable.getRows().size() - 1;
           endRowIndexInt = Math.min(endRowIndexInt, maxIndex);
 
-          retRows = IntStream.rangeClosed(startRowIndexInt, endRowIndexInt)
-              .mapToObj(i -> inputTable.getRows().get(i))
-              .map(row -> {
-                // Deep copy each value in the row
-                List<Value> deepCopiedValues = new ArrayList<>();
-                for (Value value : row.getValues()) {
-                  deepCopiedValues.add(ValueUtil.deepCopyValue(value));
-                }
-                return new Row(deepCopiedValues);
-              })
-              .collect(Collectors.toList());
-
+          rowIndexes = IntStream.rangeClosed(startRowIndexInt, endRowIndexInt).toArray();
           break;
         case "INDEX_LIST":
           if (indexList == null) {
             throw new BotCommandException("No row index provided");
           }
-          int[] intIndexList = indexList.stream()
+          rowIndexes = indexList.stream()
               .map(value -> (new NumberValue(value.get())).getAsDouble())
               .mapToInt(Double::intValue)
               .toArray();
-
-          retRows = Arrays.stream(intIndexList).sequential()
-              .mapToObj(i -> inputTable.getRows().get(i))
-              .map(row -> {
-                // Deep copy each value in the row
-                List<Value> deepCopiedValues = new ArrayList<>();
-                for (Value value : row.getValues()) {
-                  deepCopiedValues.add(ValueUtil.deepCopyValue(value));
-                }
-                return new Row(deepCopiedValues);
-              })
-              .collect(Collectors.toList());
-
           break;
 
         default:
           throw new BotCommandException("Invalid option: " + selectMethod);
       }
 
+      if (Boolean.TRUE.equals(returnView)) {
+        return new TableValue(TableView.ofRows(inputTable, rowIndexes));
+      }
+
+      List<Row> retRows = Arrays.stream(rowIndexes)
+          .mapToObj(i -> inputTable.getRows().get(i))
+          .map(row -> {
+            // Deep copy each value in the row
+            List<Value> deepCopiedValues = new ArrayList<>();
+            for (Value value : row.getValues()) {
+              deepCopiedValues.add(ValueUtil.deepCopyValue(value));
+            }
+            return new Row(deepCopiedValues);
+          })
+          .collect(Collectors.toList());
+
       Table retTable = new Table();
       retTable.setSchema(copySchema);
       retTable.setRows(retRows);
@@ -0,0 +1,269 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.GreaterThanEqualTo;
+import com.automationanywhere.commandsdk.annotations.rules.ListType;
+import com.automationanywhere.commandsdk.annotations.rules.LocalFile;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.NumberInteger;
+import com.automationanywhere.commandsdk.annotations.rules.SelectModes;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import sumit.devtools.utils.CsvTableReader;
+import sumit.devtools.utils.CsvUtil;
+import sumit.devtools.utils.ExternalRowSorter;
+import sumit.devtools.utils.SortUtil;
+import sumit.devtools.utils.TableUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Sort CSV file",
+    name = "sortCSVFile",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Sorts the records of a CSV file into another CSV file within a memory budget. Files larger than the budget are sorted in runs on disk and merged",
+    node_label = "Sort CSV {{inputFilePath}} by {{sortColumns}} into {{outputFilePath}}",
+    return_description = "Number of data records sorted",
+    return_label = "Assign record count to",
+    return_type = DataType.NUMBER
+)
+public class SortCSVFile {
+
+  // Records read from the file per batch
+  private static final int READ_BATCH_ROWS = 1000;
+
+  @Execute
+  public static NumberValue action(
+      @Idx(index = "1", type = AttributeType.FILE)
+      @Pkg(label = "Input file path", description = "Path to the CSV file to sort")
+      @NotEmpty
+      @LocalFile
+      String inputFilePath,
+
+      @Idx(index = "2", type = AttributeType.FILE)
+      @Pkg(label = "Output file path",
+          description = "Path where the sorted CSV file will be saved. May be the input file when overwriting.")
+      @NotEmpty
+      @LocalFile
+      String outputFilePath,
+
+      @Idx(index = "3", type = AttributeType.SELECT, options = {
+          @Idx.Option(index = "3.1", pkg = @Pkg(label = "UTF-8", value = "UTF-8")),
+          @Idx.Option(index = "3.2", pkg = @Pkg(label = "ISO-8859-1", value = "ISO-8859-1")),
+          @Idx.Option(index = "3.3", pkg = @Pkg(label = "US-ASCII", value = "US-ASCII")),
+          @Idx.Option(index = "3.4", pkg = @Pkg(label = "UTF-16", value = "UTF-16")),
+          @Idx.Option(index = "3.5", pkg = @Pkg(label = "UTF-16BE", value = "UTF-16BE")),
+          @Idx.Option(index = "3.6", pkg = @Pkg(label = "UTF-16LE", value = "UTF-16LE")),
+          @Idx.Option(index = "3.7", pkg = @Pkg(label = "UTF-32", value = "UTF-32")),
+          @Idx.Option(index = "3.8", pkg = @Pkg(label = "UTF-32BE", value = "UTF-32BE")),
+          @Idx.Option(index = "3.9", pkg = @Pkg(label = "UTF-32LE", value = "UTF-32LE"))
+      })
+      @Pkg(label = "Character Set", description = "Character set of both files",
+          default_value = "UTF-8", default_value_type = DataType.STRING)
+      @NotEmpty
+      String charsetName,
+
+      @Idx(index = "4", type = AttributeType.SELECT, options = {
+          @Idx.Option(index = "4.1", pkg = @Pkg(label = "Comma", value = "COMMA")),
+          @Idx.Option(index = "4.2", pkg = @Pkg(label = "Semicolon", value = "SEMICOLON")),
+          @Idx.Option(index = "4.3", pkg = @Pkg(label = "Tab", value = "TAB")),
+          @Idx.Option(index = "4.4", pkg = @Pkg(label = "Pipe", value = "PIPE")),
+          @Idx.Option(index = "4.5", pkg = @Pkg(label = "Custom", value = "CUSTOM"))
+      })
+      @Pkg(label = "Delimiter", default_value = "COMMA", default_value_type = DataType.STRING)
+      @NotEmpty
+      @SelectModes
+      String delimiterType,
+
+      @Idx(index = "4.5.1", type = AttributeType.TEXT)
+      @Pkg(label = "Custom delimiter")
+      @NotEmpty
+      String customDelimiter,
+
+      @Idx(index = "5", type = AttributeType.BOOLEAN)
+      @Pkg(label = "First row contains headers",
+          description = "Controls whether the first record holds column names. " +
+              "When true (default): The header is written first and is not sorted. " +
+              "When false: All records are sorted and columns are named by 0-based index (e.g., '2 DESC').",
+          default_value = "true",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean hasHeader,
+
+      @Idx(index = "6", type = AttributeType.LIST)
+      @Pkg(label = "Sort columns",
+          description = "Columns to sort by, most significant first. Each entry is a column name " +
+              "optionally followed by ASC or DESC, CASE_SENSITIVE or CASE_INSENSITIVE, and NUMERIC " +
+              "to sort as numbers. Example: ['Region', 'Amount DESC NUMERIC']")
+      @NotEmpty
+      @ListType(DataType.STRING)
+      List<StringValue> sortColumns,
+
+      @Idx(index = "7", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Case-sensitive comparison",
+          description = "Controls whether column names and text values are compared case-sensitively, " +
+              "unless an entry says otherwise. " +
+              "When false (default): Case-insensitive (e.g., 'apple' sorts next to 'Apple'). " +
+              "When true: Case-sensitive (e.g., uppercase letters sort before lowercase).",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean caseSensitive,
+
+      @Idx(index = "8", type = AttributeType.NUMBER)
+      @Pkg(label = "Memory budget (MB)",
+          description = "Approximate memory used to hold records. Larger files are sorted in runs " +
+              "that are written to the temporary folder and merged.",
+          default_value = "256",
+          default_value_type = DataType.NUMBER)
+      @NotEmpty
+      @GreaterThanEqualTo("1")
+      @NumberInteger
+      Double memoryBudgetMb,
+
+      @Idx(index = "9", type = AttributeType.TEXT)
+      @Pkg(label = "Temporary folder",
+          description = "Folder for the sorted runs. When empty, the system temporary folder is used. " +
+              "Needs free space of about the size of the input file.")
+      String tempFolder,
+
+      @Idx(index = "10", type = AttributeType.RADIO, options = {
+          @Idx.Option(index = "10.1", pkg = @Pkg(label = "Fail", value = "FAIL")),
+          @Idx.Option(index = "10.2", pkg = @Pkg(label = "Overwrite", value = "OVERWRITE"))
+      })
+      @Pkg(label = "If output file exists",
+          description = "Fail (default): Fails with an error if the file exists. " +
+              "Overwrite: Replaces the existing file.",
+          default_value = "FAIL",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String existingFileAction
+  ) {
+    try {
+      File inputFile = new File(inputFilePath);
+      if (!inputFile.exists() || !inputFile.isFile()) {
+        throw new BotCommandException("File not found at specified path: " + inputFilePath);
+      }
+      File outputFile = new File(outputFilePath);
+      if (outputFile.exists() && !"OVERWRITE".equalsIgnoreCase(existingFileAction)) {
+        throw new BotCommandException(
+            "Output file already exists and overwrite option is not enabled");
+      }
+      if (memoryBudgetMb == null || memoryBudgetMb < 1) {
+        throw new BotCommandException("Memory budget must be at least 1 MB");
+      }
+
+      Charset charset = Charset.forName(charsetName);
+      CSVFormat format = CsvUtil.buildFormat(delimiterType, customDelimiter);
+      boolean header = Boolean.TRUE.equals(hasHeader);
+      boolean defaultCase = Boolean.TRUE.equals(caseSensitive);
+      Path tempParent = tempFolder == null || tempFolder.trim().isEmpty()
+          ? null : Files.createDirectories(Paths.get(tempFolder.trim()));
+
+      List<String> headerNames;
+      ExternalRowSorter sorter = null;
+      try {
+        try (CsvTableReader reader = new CsvTableReader(inputFile.toPath(), charset, format,
+            header)) {
+          headerNames = new ArrayList<>(reader.getHeader());
+          List<Schema> schema = new ArrayList<>(headerNames.size());
+          for (String name : headerNames) {
+            schema.add(new Schema(name));
+          }
+          SortUtil.SortColumns sort = SortUtil.parseSortColumns(sortColumns, defaultCase,
+              columnName -> header
+                  ? TableUtil.requireColumnIndex(schema, columnName, defaultCase)
+                  : parseColumnIndex(columnName));
+
+          sorter = new ExternalRowSorter(sort, (long) (memoryBudgetMb * 1024 * 1024), tempParent);
+          // Only a batch and the rows below the budget are held in memory
+          while (reader.hasNext()) {
+            Table batch = reader.readTable(READ_BATCH_ROWS);
+            for (Row row : batch.getRows()) {
+              sorter.add(row);
+            }
+          }
+        }
+
+        // The input is closed before writing, so the output may replace it
+        writeSorted(sorter, outputFile.toPath(), charset, format, header ? headerNames : null);
+        return new NumberValue(sorter.getRowCount());
+      } finally {
+        // Deletes the spilled runs
+        if (sorter != null) {
+          sorter.close();
+        }
+      }
+    } catch (Exception e) {
+      throw new BotCommandException("Error sorting CSV file: " + e.getMessage(), e);
+    }
+  }
+
+  private static void writeSorted(ExternalRowSorter sorter, Path path, Charset charset,
+      CSVFormat format, List<String> headerNames) throws IOException {
+    // Ensure parent directories exist
+    Path parentDir = path.toAbsolutePath().getParent();
+    if (parentDir != null) {
+      Files.createDirectories(parentDir);
+    }
+
+    try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+        Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING), charset), CsvUtil.BUFFER_SIZE);
+        CSVPrinter printer = new CSVPrinter(writer, format)) {
+      if (headerNames != null) {
+        printer.printRecord(headerNames);
+      }
+      List<String> record = new ArrayList<>();
+      sorter.forEachSorted(row -> {
+        record.clear();
+        for (Value value : row.getValues()) {
+          record.add(CsvUtil.toCellText(value));
+        }
+        printer.printRecord(record);
+      });
+      printer.flush();
+    }
+  }
+
+  private static int parseColumnIndex(String columnName) {
+    try {
+      int index = Integer.parseInt(columnName.trim());
+      if (index >= 0) {
+        return index;
+      }
+    } catch (NumberFormatException e) {
+      // Reported below
+    }
+    throw new BotCommandException("Column index must be a 0-based number when the file has no " +
+        "header: " + columnName);
+  }
+
+}
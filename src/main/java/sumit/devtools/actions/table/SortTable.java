@@ -0,0 +1,109 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.ListType;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.VariableType;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.util.ArrayList;
+import java.util.List;
+import sumit.devtools.utils.SortUtil;
+import sumit.devtools.utils.TableUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Sort table",
+    name = "sortTable",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Creates an independent table copy sorted by one or more columns, each ascending or descending. The original table remains unchanged.",
+    node_label = "Sort {{inputTable}} by {{sortColumns}} and assign to {{returnTo}}",
+    return_description = "Independent table copy with rows in sorted order",
+    return_required = true,
+    return_label = "Assign sorted table to",
+    return_type = DataType.TABLE
+)
+public class SortTable {
+
+  @Execute
+  public static TableValue action(
+      @Idx(index = "1", type = AttributeType.VARIABLE)
+      @Pkg(label = "Base table")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table inputTable,
+
+      @Idx(index = "2", type = AttributeType.LIST)
+      @Pkg(label = "Sort columns",
+          description = "Columns to sort by, most significant first. Each entry is a column name " +
+              "optionally followed by ASC or DESC, CASE_SENSITIVE or CASE_INSENSITIVE, and NUMERIC " +
+              "to sort text cells as numbers. " +
+              "Example: ['Region', 'Amount DESC NUMERIC', 'Code ASC CASE_SENSITIVE']")
+      @NotEmpty
+      @ListType(DataType.STRING)
+      List<StringValue> sortColumns,
+
+      @Idx(index = "3", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Case-sensitive comparison",
+          description = "Controls whether column names and text values are compared case-sensitively, " +
+              "unless an entry says otherwise. " +
+              "When false (default): Case-insensitive (e.g., 'apple' sorts next to 'Apple'). " +
+              "When true: Case-sensitive (e.g., uppercase letters sort before lowercase).",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean caseSensitive,
+
+      @Idx(index = "4", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Sort large tables in parallel",
+          description = "When true (default): Tables with " + SortUtil.PARALLEL_THRESHOLD +
+              " rows or more are sorted on multiple CPU cores. " +
+              "When false: Always sorts on a single thread.",
+          default_value = "true",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean parallel
+  ) {
+    try {
+      if (inputTable == null) {
+        throw new BotCommandException("Input table cannot be null.");
+      }
+
+      boolean defaultCase = Boolean.TRUE.equals(caseSensitive);
+      List<Schema> schema = inputTable.getSchema();
+      SortUtil.SortColumns sort = SortUtil.parseSortColumns(sortColumns, defaultCase,
+          columnName -> TableUtil.requireColumnIndex(schema, columnName, defaultCase));
+
+      List<Row> sortedRows = SortUtil.sortRows(inputTable.getRows(), sort,
+          Boolean.TRUE.equals(parallel));
+
+      List<Schema> outputSchema = new ArrayList<>(schema.size());
+      for (Schema column : schema) {
+        outputSchema.add(new Schema(column.getName(), column.getType()));
+      }
+      List<Row> outputRows = new ArrayList<>(sortedRows.size());
+      for (Row row : sortedRows) {
+        outputRows.add(TableUtil.copyRow(row));
+      }
+
+      return new TableValue(new Table(outputSchema, outputRows));
+    } catch (Exception e) {
+      throw new BotCommandException("Error sorting table: " + e.getMessage(), e);
+    }
+  }
+
+}
@@ -0,0 +1,204 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.ListType;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.VariableType;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import sumit.devtools.utils.AggregationUtil;
+import sumit.devtools.utils.CsvUtil;
+import sumit.devtools.utils.TableUtil;
+import sumit.devtools.utils.ValueUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Unpivot columns to rows",
+    name = "unpivotTable",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Turns value columns into rows of name and value (also called melt), e.g. one column per month into one row per month. Use Pivot table with First value to turn them back into columns",
+    node_label = "Unpivot {{inputTable}} keeping {{idColumns}} and assign to {{returnTo}}",
+    return_description = "New table with the identifier columns, a name column and a value column",
+    return_required = true,
+    return_label = "Assign unpivoted table to",
+    return_type = DataType.TABLE
+)
+public class UnpivotTable {
+
+  @Execute
+  public static TableValue action(
+      @Idx(index = "1", type = AttributeType.VARIABLE)
+      @Pkg(label = "Base table")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table inputTable,
+
+      @Idx(index = "2", type = AttributeType.LIST)
+      @Pkg(label = "Identifier columns",
+          description = "Columns repeated on every output row. Example: ['Region', 'Product']")
+      @NotEmpty
+      @ListType(DataType.STRING)
+      List<StringValue> idColumns,
+
+      @Idx(index = "3", type = AttributeType.LIST)
+      @Pkg(label = "Value columns",
+          description = "Optional. Columns turned into rows, in output order. When empty, every " +
+              "column that is not an identifier column is used. Example: ['Jan', 'Feb', 'Mar']")
+      @ListType(DataType.STRING)
+      List<StringValue> valueColumns,
+
+      @Idx(index = "4", type = AttributeType.TEXT)
+      @Pkg(label = "Name column header",
+          description = "Header of the output column that holds the value column names",
+          default_value = "Attribute",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String nameHeader,
+
+      @Idx(index = "5", type = AttributeType.TEXT)
+      @Pkg(label = "Value column header",
+          description = "Header of the output column that holds the cell values",
+          default_value = "Value",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String valueHeader,
+
+      @Idx(index = "6", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Skip empty values",
+          description = "When true: No row is created for empty cells. " +
+              "When false (default): Every cell of the value columns becomes a row.",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean skipEmpty,
+
+      @Idx(index = "7", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Case-sensitive comparison",
+          description = "Controls whether column names are compared case-sensitively. " +
+              "When false (default): Case-insensitive (e.g., 'jan' matches column 'Jan'). " +
+              "When true: Case-sensitive (e.g., 'jan' does not match column 'Jan').",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean caseSensitive
+  ) {
+    try {
+      if (inputTable == null) {
+        throw new BotCommandException("Input table cannot be null.");
+      }
+
+      boolean matchCase = Boolean.TRUE.equals(caseSensitive);
+      boolean skip = Boolean.TRUE.equals(skipEmpty);
+      List<Schema> schema = inputTable.getSchema();
+      int[] idIndexes = TableUtil.requireColumnIndexes(schema, idColumns, matchCase);
+      int[] valueIndexes = resolveValueColumns(schema, idIndexes, valueColumns, matchCase);
+
+      String nameTitle = nameHeader == null ? "" : nameHeader.trim();
+      String valueTitle = valueHeader == null ? "" : valueHeader.trim();
+      if (nameTitle.isEmpty() || valueTitle.isEmpty()) {
+        throw new BotCommandException("Name and value column headers cannot be empty.");
+      }
+      List<Schema> outputSchema = new ArrayList<>(idIndexes.length + 2);
+      Set<String> headers = new HashSet<>();
+      for (int column : idIndexes) {
+        Schema source = schema.get(column);
+        outputSchema.add(new Schema(source.getName(), source.getType()));
+        headers.add(headerKey(source.getName(), matchCase));
+      }
+      for (String title : new String[]{nameTitle, valueTitle}) {
+        if (!headers.add(headerKey(title, matchCase))) {
+          throw new BotCommandException("Column header is already used: " + title);
+        }
+        outputSchema.add(new Schema(title));
+      }
+
+      String[] names = new String[valueIndexes.length];
+      for (int i = 0; i < valueIndexes.length; i++) {
+        names[i] = schema.get(valueIndexes[i]).getName();
+      }
+
+      List<Row> inputRows = inputTable.getRows();
+      // Without skipping, the output size is known before the first row
+      List<Row> outputRows = new ArrayList<>(skip ? inputRows.size()
+          : (int) Math.min(Integer.MAX_VALUE - 8, (long) inputRows.size() * valueIndexes.length));
+      for (Row row : inputRows) {
+        for (int i = 0; i < valueIndexes.length; i++) {
+          Value value = AggregationUtil.cell(row, valueIndexes[i]);
+          boolean empty = CsvUtil.toCellText(value).isEmpty();
+          if (empty && skip) {
+            continue;
+          }
+          List<Value> values = new ArrayList<>(idIndexes.length + 2);
+          for (int column : idIndexes) {
+            Value id = AggregationUtil.cell(row, column);
+            values.add(id == null ? new StringValue("") : ValueUtil.deepCopyValue(id));
+          }
+          values.add(new StringValue(names[i]));
+          values.add(value == null ? new StringValue("") : ValueUtil.deepCopyValue(value));
+          outputRows.add(new Row(values));
+        }
+      }
+
+      return new TableValue(new Table(outputSchema, outputRows));
+    } catch (Exception e) {
+      throw new BotCommandException("Error unpivoting table: " + e.getMessage(), e);
+    }
+  }
+
+  private static String headerKey(String name, boolean caseSensitive) {
+    String text = name == null ? "" : name;
+    return caseSensitive ? text : text.toLowerCase(Locale.ROOT);
+  }
+
+  private static int[] resolveValueColumns(List<Schema> schema, int[] idIndexes,
+      List<StringValue> valueColumns, boolean caseSensitive) {
+    Set<Integer> ids = new HashSet<>();
+    for (int column : idIndexes) {
+      ids.add(column);
+    }
+
+    int[] indexes;
+    if (valueColumns == null || valueColumns.isEmpty()) {
+      indexes = new int[schema.size() - ids.size()];
+      int count = 0;
+      for (int column = 0; column < schema.size(); column++) {
+        if (!ids.contains(column)) {
+          indexes[count++] = column;
+        }
+      }
+    } else {
+      indexes = TableUtil.requireColumnIndexes(schema, valueColumns, caseSensitive);
+      for (int column : indexes) {
+        if (ids.contains(column)) {
+          throw new BotCommandException("Column cannot be both an identifier and a value column: " +
+              schema.get(column).getName());
+        }
+      }
+    }
+    if (indexes.length == 0) {
+      throw new BotCommandException("No value columns to unpivot");
+    }
+    return indexes;
+  }
+
+}
@@ -20,6 +20,7 @@ import com.automationanywhere.commandsdk.annotations.rules.SelectModes;
 import com.automationanywhere.commandsdk.annotations.rules.VariableType;
 import com.automationanywhere.commandsdk.model.AttributeType;
 import com.automationanywhere.commandsdk.model.DataType;
+import sumit.devtools.utils.CopyOnWriteTable;
 import sumit.devtools.utils.TableUtil;
 
 @BotCommand
@@ -91,9 +92,9 @@ public class UpdateCell {
   ) {
     try {
 
-      Table copyTable = TableUtil.copyTable(inputTable);
+      CopyOnWriteTable copyTable = new CopyOnWriteTable(inputTable);
       int schemaIndex;
-      int maxRowIndex = copyTable.getRows().size() - 1;
+      int maxRowIndex = copyTable.getRowCount() - 1;
       int rowIndexInt = rowIndex.intValue();
       if (selectMethod.equalsIgnoreCase("NAME")) {
         schemaIndex = TableUtil.getColumnIndex(copyTable.getSchema(), colName, caseSensitive);
@@ -110,9 +111,10 @@ public class UpdateCell {
         throw new BotCommandException("Invalid row index");
       }
 
-      copyTable.getRows().get(rowIndexInt).getValues().set(schemaIndex, newValue);
+      // Only the updated row is copied; all other rows are shared with the input table
+      copyTable.editRow(rowIndexInt).getValues().set(schemaIndex, newValue);
 
-      return new TableValue(copyTable);
+      return new TableValue(copyTable.toTable());
 
     } catch (Exception e) {
       throw new BotCommandException("Error occurred while updating table cell: " + e.getMessage(),
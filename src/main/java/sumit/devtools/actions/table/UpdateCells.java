@@ -0,0 +1,223 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.DictionaryValue;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.SelectModes;
+import com.automationanywhere.commandsdk.annotations.rules.VariableType;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import sumit.devtools.utils.CopyOnWriteTable;
+import sumit.devtools.utils.TableUtil;
+import sumit.devtools.utils.ValueUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Update cells in bulk",
+    name = "updateTableCells",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Applies many cell updates to a data table in one pass. Only the updated rows are copied; the original table remains unchanged.",
+    node_label = "Update cells of {{inputTable}} and assign to {{returnTo}}",
+    return_description = "Table with all updates applied",
+    return_required = true,
+    return_label = "Assign modified table to",
+    return_type = DataType.TABLE
+)
+public class UpdateCells {
+
+  @Execute
+  public static TableValue action(
+      @Idx(index = "1", type = AttributeType.VARIABLE)
+      @Pkg(label = "Base table")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table inputTable,
+
+      @Idx(index = "2", type = AttributeType.SELECT, options = {
+          @Idx.Option(index = "2.1", pkg = @Pkg(label = "Table of updates", value = "TABLE")),
+          @Idx.Option(index = "2.2", pkg = @Pkg(label = "Dictionary by row index", value = "DICTIONARY"))})
+      @Pkg(label = "Read updates from", default_value = "TABLE", default_value_type = DataType.STRING)
+      @NotEmpty
+      @SelectModes
+      String updateSource,
+
+      @Idx(index = "2.1.1", type = AttributeType.VARIABLE)
+      @Pkg(label = "Updates table",
+          description = "One update per row: the first column is the row index (0-based), the second " +
+              "is the column and the third is the new value. Example row: [12, 'Status', 'Done']")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table updatesTable,
+
+      @Idx(index = "2.2.1", type = AttributeType.VARIABLE)
+      @Pkg(label = "Updates dictionary",
+          description = "Keys are row indexes (0-based); each value is a dictionary of column to new " +
+              "value. Example: {'12': {'Status': 'Done', 'Amount': 10}}")
+      @NotEmpty
+      @VariableType(value = DataType.DICTIONARY)
+      Map<String, Value> updatesDictionary,
+
+      @Idx(index = "3", type = AttributeType.SELECT, options = {
+          @Idx.Option(index = "3.1", pkg = @Pkg(label = "Header", value = "NAME")),
+          @Idx.Option(index = "3.2", pkg = @Pkg(label = "Index", value = "INDEX"))})
+      @Pkg(label = "Identify columns by", description = "Whether updates name their column by header or by " +
+          "0-based index", default_value = "NAME", default_value_type = DataType.STRING)
+      @NotEmpty
+      @SelectModes
+      String columnSelectMethod,
+
+      @Idx(index = "3.1.1", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Case-sensitive comparison",
+          description = "Controls whether column name comparison should be case-sensitive. " +
+              "When false (default): Case-insensitive (e.g., 'Name' matches 'name', 'NAME'). " +
+              "When true: Case-sensitive (e.g., 'Name' does not match 'name').",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean caseSensitive
+  ) {
+    try {
+      if (inputTable == null) {
+        throw new BotCommandException("Input table cannot be null.");
+      }
+
+      CopyOnWriteTable copyTable = new CopyOnWriteTable(inputTable);
+      ColumnResolver columns = new ColumnResolver(copyTable.getSchema(),
+          "INDEX".equalsIgnoreCase(columnSelectMethod), Boolean.TRUE.equals(caseSensitive));
+
+      switch (updateSource.toUpperCase()) {
+        case "TABLE":
+          if (updatesTable == null) {
+            throw new BotCommandException("Updates table cannot be null.");
+          }
+          int updateNumber = 0;
+          for (Row update : updatesTable.getRows()) {
+            updateNumber++;
+            List<Value> values = update.getValues();
+            if (values == null || values.size() < 3) {
+              throw new BotCommandException("Update " + updateNumber +
+                  " must have a row index, a column and a value");
+            }
+            String context = "update " + updateNumber;
+            setCell(copyTable, toRowIndex(values.get(0), copyTable.getRowCount(), context),
+                columns.resolve(values.get(1), context), values.get(2));
+          }
+          break;
+
+        case "DICTIONARY":
+          if (updatesDictionary == null) {
+            throw new BotCommandException("Updates dictionary cannot be null.");
+          }
+          for (Map.Entry<String, Value> entry : updatesDictionary.entrySet()) {
+            String context = "row key '" + entry.getKey() + "'";
+            int rowIndex = toRowIndex(new StringValue(entry.getKey()), copyTable.getRowCount(),
+                context);
+            if (!(entry.getValue() instanceof DictionaryValue)
+                || ((DictionaryValue) entry.getValue()).get() == null) {
+              throw new BotCommandException("Value of " + context +
+                  " must be a dictionary of column to new value");
+            }
+            for (Map.Entry<String, Value> cell :
+                ((DictionaryValue) entry.getValue()).get().entrySet()) {
+              setCell(copyTable, rowIndex,
+                  columns.resolve(new StringValue(cell.getKey()), context), cell.getValue());
+            }
+          }
+          break;
+
+        default:
+          throw new BotCommandException("Invalid option: " + updateSource);
+      }
+
+      return new TableValue(copyTable.toTable());
+    } catch (Exception e) {
+      throw new BotCommandException("Error occurred while updating table cells: " + e.getMessage(),
+          e);
+    }
+  }
+
+  private static void setCell(CopyOnWriteTable copyTable, int rowIndex, int columnIndex,
+      Value newValue) {
+    // A row is copied on its first update only; later updates to it are in place
+    List<Value> values = copyTable.editRow(rowIndex).getValues();
+    while (values.size() <= columnIndex) {
+      values.add(new StringValue());
+    }
+    values.set(columnIndex, newValue == null ? new StringValue() : ValueUtil.deepCopyValue(newValue));
+  }
+
+  private static int toRowIndex(Value value, int rowCount, String context) {
+    double number;
+    try {
+      number = value instanceof NumberValue
+          ? ((NumberValue) value).get()
+          : Double.parseDouble(String.valueOf(value == null ? null : value.get()).trim());
+    } catch (NumberFormatException e) {
+      throw new BotCommandException("Invalid row index in " + context + ": " +
+          (value == null ? null : value.get()));
+    }
+    if (number != Math.rint(number) || number < 0 || number >= rowCount) {
+      throw new BotCommandException("Invalid row index in " + context + ": " + number);
+    }
+    return (int) number;
+  }
+
+  /**
+   * Resolves column names or indexes to schema positions, looking each distinct column up once.
+   */
+  private static class ColumnResolver {
+
+    private final List<Schema> schema;
+    private final boolean byIndex;
+    private final boolean caseSensitive;
+    private final Map<String, Integer> resolved = new HashMap<>();
+
+    ColumnResolver(List<Schema> schema, boolean byIndex, boolean caseSensitive) {
+      this.schema = schema;
+      this.byIndex = byIndex;
+      this.caseSensitive = caseSensitive;
+    }
+
+    int resolve(Value column, String context) {
+      String key = column == null || column.get() == null ? "" : column.get().toString().trim();
+      Integer index = resolved.get(key);
+      if (index == null) {
+        index = byIndex ? parseIndex(key) : TableUtil.getColumnIndex(schema, key, caseSensitive);
+        if (index < 0) {
+          throw new BotCommandException("Column not found in " + context + ": " + key);
+        }
+        resolved.put(key, index);
+      }
+      return index;
+    }
+
+    private int parseIndex(String key) {
+      try {
+        double number = Double.parseDouble(key);
+        return number == Math.rint(number) && number < schema.size() ? (int) number : -1;
+      } catch (NumberFormatException e) {
+        return -1;
+      }
+    }
+  }
+
+}
@@ -0,0 +1,175 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.LocalFile;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.SelectModes;
+import com.automationanywhere.commandsdk.annotations.rules.VariableType;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.csv.CSVPrinter;
+import sumit.devtools.utils.CsvUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Write table to CSV",
+    name = "writeTableToCSV",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Streams table rows to a CSV file. Can append to an existing file to write large results in chunks",
+    node_label = "Write {{inputTable}} to CSV {{filePath}}"
+)
+public class WriteTableToCSV {
+
+  @Execute
+  public static void action(
+      @Idx(index = "1", type = AttributeType.VARIABLE)
+      @Pkg(label = "Base table")
+      @NotEmpty
+      @VariableType(value = DataType.TABLE)
+      Table inputTable,
+
+      @Idx(index = "2", type = AttributeType.FILE)
+      @Pkg(label = "Output file path", description = "Path where the CSV file will be saved")
+      @NotEmpty
+      @LocalFile
+      String filePath,
+
+      @Idx(index = "3", type = AttributeType.SELECT, options = {
+          @Idx.Option(index = "3.1", pkg = @Pkg(label = "UTF-8", value = "UTF-8")),
+          @Idx.Option(index = "3.2", pkg = @Pkg(label = "ISO-8859-1", value = "ISO-8859-1")),
+          @Idx.Option(index = "3.3", pkg = @Pkg(label = "US-ASCII", value = "US-ASCII")),
+          @Idx.Option(index = "3.4", pkg = @Pkg(label = "UTF-16", value = "UTF-16")),
+          @Idx.Option(index = "3.5", pkg = @Pkg(label = "UTF-16BE", value = "UTF-16BE")),
+          @Idx.Option(index = "3.6", pkg = @Pkg(label = "UTF-16LE", value = "UTF-16LE")),
+          @Idx.Option(index = "3.7", pkg = @Pkg(label = "UTF-32", value = "UTF-32")),
+          @Idx.Option(index = "3.8", pkg = @Pkg(label = "UTF-32BE", value = "UTF-32BE")),
+          @Idx.Option(index = "3.9", pkg = @Pkg(label = "UTF-32LE", value = "UTF-32LE"))
+      })
+      @Pkg(label = "Character Set", default_value = "UTF-8", default_value_type = DataType.STRING)
+      @NotEmpty
+      String charsetName,
+
+      @Idx(index = "4", type = AttributeType.SELECT, options = {
+          @Idx.Option(index = "4.1", pkg = @Pkg(label = "Comma", value = "COMMA")),
+          @Idx.Option(index = "4.2", pkg = @Pkg(label = "Semicolon", value = "SEMICOLON")),
+          @Idx.Option(index = "4.3", pkg = @Pkg(label = "Tab", value = "TAB")),
+          @Idx.Option(index = "4.4", pkg = @Pkg(label = "Pipe", value = "PIPE")),
+          @Idx.Option(index = "4.5", pkg = @Pkg(label = "Custom", value = "CUSTOM"))
+      })
+      @Pkg(label = "Delimiter", default_value = "COMMA", default_value_type = DataType.STRING)
+      @NotEmpty
+      @SelectModes
+      String delimiterType,
+
+      @Idx(index = "4.5.1", type = AttributeType.TEXT)
+      @Pkg(label = "Custom delimiter")
+      @NotEmpty
+      String customDelimiter,
+
+      @Idx(index = "5", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Write headers",
+          description = "Controls whether column names are written as the first record. " +
+              "When true (default): Headers are written, except when appending to a non-empty file. " +
+              "When false: Only rows are written.",
+          default_value = "true",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean writeHeader,
+
+      @Idx(index = "6", type = AttributeType.RADIO, options = {
+          @Idx.Option(index = "6.1", pkg = @Pkg(label = "Fail", value = "FAIL")),
+          @Idx.Option(index = "6.2", pkg = @Pkg(label = "Overwrite", value = "OVERWRITE")),
+          @Idx.Option(index = "6.3", pkg = @Pkg(label = "Append", value = "APPEND"))
+      })
+      @Pkg(label = "If file exists",
+          description = "Fail (default): Fails with an error if the file exists. " +
+              "Overwrite: Replaces the existing file. " +
+              "Append: Adds rows to the end of the existing file.",
+          default_value = "FAIL",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String existingFileAction
+  ) {
+    try {
+      File outputFile = new File(filePath);
+      boolean fileExists = outputFile.exists();
+      boolean append = "APPEND".equalsIgnoreCase(existingFileAction);
+
+      if (fileExists && !append && !"OVERWRITE".equalsIgnoreCase(existingFileAction)) {
+        throw new BotCommandException(
+            "Output file already exists and overwrite/append option is not enabled");
+      }
+
+      // Ensure parent directories exist
+      Path path = outputFile.toPath();
+      Path parentDir = path.toAbsolutePath().getParent();
+      if (parentDir != null) {
+        Files.createDirectories(parentDir);
+      }
+
+      boolean printHeader = Boolean.TRUE.equals(writeHeader)
+          && !(append && fileExists && outputFile.length() > 0);
+      StandardOpenOption mode = append
+          ? StandardOpenOption.APPEND
+          : StandardOpenOption.TRUNCATE_EXISTING;
+
+      Charset charset = Charset.forName(charsetName);
+      try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+          Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode),
+          charset), CsvUtil.BUFFER_SIZE);
+          CSVPrinter printer = new CSVPrinter(writer,
+              CsvUtil.buildFormat(delimiterType, customDelimiter))) {
+
+        if (printHeader) {
+          List<String> header = new ArrayList<>();
+          for (Schema schema : inputTable.getSchema()) {
+            header.add(schema.getName());
+          }
+          printer.printRecord(header);
+        }
+
+        // Rows are written one at a time; only the writer buffer is held in memory
+        List<String> record = new ArrayList<>();
+        for (Row row : inputTable.getRows()) {
+          record.clear();
+          if (row != null && row.getValues() != null) {
+            for (Value value : row.getValues()) {
+              record.add(CsvUtil.toCellText(value));
+            }
+          }
+          printer.printRecord(record);
+        }
+        printer.flush();
+      }
+
+    } catch (IOException e) {
+      throw new BotCommandException("Error writing to file: " + e.getMessage(), e);
+    } catch (Exception e) {
+      throw new BotCommandException("Error writing table to CSV: " + e.getMessage(), e);
+    }
+  }
+
+}
@@ -0,0 +1,200 @@
+package sumit.devtools.actions.table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.BooleanValue;
+import com.automationanywhere.botcommand.data.impl.DateTimeValue;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.Execute;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.GreaterThan;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.NumberInteger;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFRow;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import sumit.devtools.utils.CsvUtil;
+
+/**
+ * @author Sumit Kumar
+ */
+@BotCommand
+@CommandPkg(
+    label = "Write table to Excel",
+    name = "writeTableToExcel",
+    icon = "Table.svg",
+    group_label = "Table",
+    description = "Streams a table into a new XLSX workbook. Only a window of rows is kept in memory, older rows are flushed to disk",
+    node_label = "Write {{inputTable}} to Excel {{filePath}}"
+)
+public class WriteTableToExcel {
+
+  private static final String DATE_FORMAT = "yyyy-mm-dd hh:mm:ss";
+
+  @Execute
+  public static void action(
+      @Idx(index = "1", type = AttributeType.TABLE)
+      @Pkg(label = "Table to write")
+      @NotEmpty
+      Table inputTable,
+
+      @Idx(index = "2", type = AttributeType.FILE)
+      @Pkg(label = "File path", description = "Path of the XLSX workbook to create")
+      @NotEmpty
+      String filePath,
+
+      @Idx(index = "3", type = AttributeType.TEXT)
+      @Pkg(label = "Sheet name",
+          default_value = "Sheet1",
+          default_value_type = DataType.STRING)
+      @NotEmpty
+      String sheetName,
+
+      @Idx(index = "4", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Write headers",
+          description = "Controls whether column names are written as the first row. " +
+              "When true (default): Headers are written to the first row. " +
+              "When false: Only rows are written.",
+          default_value = "true",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean writeHeader,
+
+      @Idx(index = "5", type = AttributeType.NUMBER)
+      @Pkg(label = "Rows kept in memory",
+          description = "Number of rows held in memory while writing. Older rows are flushed to a " +
+              "temporary file. Larger values use more memory but write slightly faster.",
+          default_value = "100",
+          default_value_type = DataType.NUMBER)
+      @NotEmpty
+      @GreaterThan("0")
+      @NumberInteger
+      Double rowWindow,
+
+      @Idx(index = "6", type = AttributeType.BOOLEAN)
+      @Pkg(label = "Overwrite existing file",
+          description = "When false (default): Fails with an error if the file exists. " +
+              "When true: Replaces the existing file.",
+          default_value = "false",
+          default_value_type = DataType.BOOLEAN)
+      @NotEmpty
+      Boolean overwrite
+  ) {
+    try {
+      File outputFile = new File(filePath);
+      if (outputFile.exists() && !Boolean.TRUE.equals(overwrite)) {
+        throw new BotCommandException(
+            "Output file already exists and overwrite option is not enabled");
+      }
+
+      try {
+        WorkbookUtil.validateSheetName(sheetName);
+      } catch (IllegalArgumentException e) {
+        throw new BotCommandException("Invalid sheet name: " + e.getMessage());
+      }
+
+      boolean printHeader = Boolean.TRUE.equals(writeHeader);
+      List<Row> rows = inputTable.getRows();
+      int totalRows = rows.size() + (printHeader ? 1 : 0);
+      int maxRows = SpreadsheetVersion.EXCEL2007.getMaxRows();
+      if (totalRows > maxRows) {
+        throw new BotCommandException(
+            "Table has too many rows for one sheet: " + totalRows + " (maximum " + maxRows + ")");
+      }
+
+      // Ensure parent directories exist
+      Path path = outputFile.toPath();
+      Path parentDir = path.toAbsolutePath().getParent();
+      if (parentDir != null) {
+        Files.createDirectories(parentDir);
+      }
+
+      try (SXSSFWorkbook workbook = new SXSSFWorkbook(rowWindow.intValue())) {
+        workbook.setCompressTempFiles(true);
+        SXSSFSheet sheet = workbook.createSheet(sheetName);
+
+        CellStyle dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat(workbook.createDataFormat().getFormat(DATE_FORMAT));
+
+        int rowIndex = 0;
+        if (printHeader) {
+          SXSSFRow headerRow = sheet.createRow(rowIndex++);
+          List<Schema> schemaList = inputTable.getSchema();
+          for (int i = 0; i < schemaList.size(); i++) {
+            Schema schema = schemaList.get(i);
+            headerRow.createCell(i).setCellValue(schema == null ? "" : schema.getName());
+          }
+        }
+
+        // Rows beyond the window are flushed to a temp file as they are created
+        for (Row row : rows) {
+          SXSSFRow sheetRow = sheet.createRow(rowIndex++);
+          if (row == null || row.getValues() == null) {
+            continue;
+          }
+          List<Value> values = row.getValues();
+          for (int i = 0; i < values.size(); i++) {
+            Value value = values.get(i);
+            if (value == null || value.get() == null) {
+              continue;
+            }
+            writeCell(sheetRow.createCell(i), value, dateStyle);
+          }
+        }
+
+        try (OutputStream out = Files.newOutputStream(path)) {
+          workbook.write(out);
+        }
+      }
+
+    } catch (IOException e) {
+      throw new BotCommandException("Error writing to file: " + e.getMessage(), e);
+    } catch (Exception e) {
+      throw new BotCommandException("Error writing table to Excel: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Writes a value with the matching cell type: numbers as numeric cells, dates as date formatted
+   * numeric cells, booleans as boolean cells and everything else as text.
+   */
+  private static void writeCell(Cell cell, Value value, CellStyle dateStyle) {
+    if (value instanceof NumberValue) {
+      Double number = ((NumberValue) value).get();
+      if (!number.isNaN() && !number.isInfinite()) {
+        cell.setCellValue(number);
+        return;
+      }
+    } else if (value instanceof DateTimeValue) {
+      // Excel dates have no zone, keep the local time shown in the bot
+      ZonedDateTime dateTime = ((DateTimeValue) value).get();
+      cell.setCellValue(dateTime.toLocalDateTime());
+      cell.setCellStyle(dateStyle);
+      return;
+    } else if (value instanceof BooleanValue) {
+      cell.setCellValue(((BooleanValue) value).get());
+      return;
+    }
+    cell.setCellValue(CsvUtil.toCellText(value));
+  }
+
+}
@@ -0,0 +1,232 @@
+package sumit.devtools.iterators.csv;
+
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.BotCommand.CommandType;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.HasNext;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Inject;
+import com.automationanywhere.commandsdk.annotations.Next;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.GreaterThan;
+import com.automationanywhere.commandsdk.annotations.rules.LocalFile;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.NumberInteger;
+import com.automationanywhere.commandsdk.annotations.rules.SelectModes;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import sumit.devtools.utils.CsvTableReader;
+import sumit.devtools.utils.CsvUtil;
+
+/**
+ * Iterator for CSV files that reads a fixed number of rows per iteration. Only the current chunk
+ * is held in memory, so files of any size can be processed in a loop.
+ *
+ * @author Sumit Kumar
+ */
+@BotCommand(commandType = CommandType.Iterator)
+@CommandPkg(
+    label = "CSV Table Iterator",
+    description = "Iterates through a CSV file in tables of N rows.",
+    icon = "Table.svg",
+    name = "csvTableIterator",
+    node_label = "from {{filePath}} in chunks of {{chunkSize}} rows and assign to {{returnTo}}",
+    return_label = "Assign the current chunk to",
+    return_description = "Table containing the next rows of the CSV file",
+    return_required = true,
+    return_type = DataType.TABLE
+)
+public class CSVTableIterator {
+
+  // Input parameters - injected via setters
+  @Idx(index = "1", type = AttributeType.FILE)
+  @Pkg(label = "File path",
+      description = "Path to the CSV file to iterate")
+  @NotEmpty
+  @LocalFile
+  @Inject
+  private String filePath;
+
+  @Idx(index = "2", type = AttributeType.SELECT, options = {
+      @Idx.Option(index = "2.1", pkg = @Pkg(label = "UTF-8", value = "UTF-8")),
+      @Idx.Option(index = "2.2", pkg = @Pkg(label = "ISO-8859-1", value = "ISO-8859-1")),
+      @Idx.Option(index = "2.3", pkg = @Pkg(label = "US-ASCII", value = "US-ASCII")),
+      @Idx.Option(index = "2.4", pkg = @Pkg(label = "UTF-16", value = "UTF-16")),
+      @Idx.Option(index = "2.5", pkg = @Pkg(label = "UTF-16BE", value = "UTF-16BE")),
+      @Idx.Option(index = "2.6", pkg = @Pkg(label = "UTF-16LE", value = "UTF-16LE")),
+      @Idx.Option(index = "2.7", pkg = @Pkg(label = "UTF-32", value = "UTF-32")),
+      @Idx.Option(index = "2.8", pkg = @Pkg(label = "UTF-32BE", value = "UTF-32BE")),
+      @Idx.Option(index = "2.9", pkg = @Pkg(label = "UTF-32LE", value = "UTF-32LE"))
+  })
+  @Pkg(label = "Character Set",
+      description = "Character encoding for file reading",
+      default_value = "UTF-8",
+      default_value_type = DataType.STRING)
+  @NotEmpty
+  @Inject
+  private String charsetName;
+
+  @Idx(index = "3", type = AttributeType.SELECT, options = {
+      @Idx.Option(index = "3.1", pkg = @Pkg(label = "Comma", value = "COMMA")),
+      @Idx.Option(index = "3.2", pkg = @Pkg(label = "Semicolon", value = "SEMICOLON")),
+      @Idx.Option(index = "3.3", pkg = @Pkg(label = "Tab", value = "TAB")),
+      @Idx.Option(index = "3.4", pkg = @Pkg(label = "Pipe", value = "PIPE")),
+      @Idx.Option(index = "3.5", pkg = @Pkg(label = "Custom", value = "CUSTOM"))
+  })
+  @Pkg(label = "Delimiter", default_value = "COMMA", default_value_type = DataType.STRING)
+  @NotEmpty
+  @SelectModes
+  @Inject
+  private String delimiterType;
+
+  @Idx(index = "3.5.1", type = AttributeType.TEXT)
+  @Pkg(label = "Custom delimiter")
+  @NotEmpty
+  @Inject
+  private String customDelimiter;
+
+  @Idx(index = "4", type = AttributeType.BOOLEAN)
+  @Pkg(label = "First row contains headers",
+      description = "When true (default): The first record is used as header of every chunk. " +
+          "When false: All records are read as rows and columns have empty names.",
+      default_value = "true",
+      default_value_type = DataType.BOOLEAN)
+  @NotEmpty
+  @Inject
+  private Boolean hasHeader;
+
+  @Idx(index = "5", type = AttributeType.NUMBER)
+  @Pkg(label = "Rows per chunk",
+      description = "Maximum number of data rows in each table returned by the iterator",
+      default_value = "1000",
+      default_value_type = DataType.NUMBER)
+  @NotEmpty
+  @GreaterThan("0")
+  @NumberInteger
+  @Inject
+  private Double chunkSize;
+
+  // Internal state - open reader positioned at the next chunk
+  private CsvTableReader reader;
+  private boolean exhausted = false;
+  private int chunkIndex = 0;
+
+  /**
+   * Opens the CSV file and reads the header row, if any.
+   * Called automatically on the first hasNext call.
+   */
+  public void initialize() {
+    try {
+      File file = new File(filePath);
+      if (!file.exists() || !file.isFile()) {
+        throw new BotCommandException("File not found at specified path: " + filePath);
+      }
+
+      reader = new CsvTableReader(
+          file.toPath(),
+          Charset.forName(charsetName),
+          CsvUtil.buildFormat(delimiterType, customDelimiter),
+          Boolean.TRUE.equals(hasHeader)
+      );
+      chunkIndex = 0;
+
+    } catch (Exception e) {
+      throw new BotCommandException(
+          "Failed to initialize CSV table iterator: " + e.getMessage(), e
+      );
+    }
+  }
+
+  /**
+   * Checks if more rows are available. Closes the file once all rows have been read.
+   *
+   * @return true if more rows exist, false otherwise
+   */
+  @HasNext
+  public boolean hasNext() {
+    if (exhausted) {
+      return false;
+    }
+    // Lazy initialization on first hasNext call
+    if (reader == null) {
+      initialize();
+    }
+    if (!reader.hasNext()) {
+      close();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the next chunk of rows as a TableValue.
+   *
+   * @return TableValue containing up to chunkSize rows
+   * @throws Exception if no more rows are available or reading fails
+   */
+  @Next
+  public TableValue next() throws Exception {
+    if (!hasNext()) {
+      throw new BotCommandException(
+          "No more rows available. Chunks read: " + chunkIndex
+      );
+    }
+
+    try {
+      TableValue chunk = new TableValue(reader.readTable(chunkSize.longValue()));
+      chunkIndex++;
+      return chunk;
+
+    } catch (Exception e) {
+      close();
+      throw new BotCommandException(
+          "Error reading chunk at index " + chunkIndex + ": " + e.getMessage(), e
+      );
+    }
+  }
+
+  /**
+   * Releases the file handle and marks the iterator as finished.
+   */
+  private void close() {
+    exhausted = true;
+    if (reader != null) {
+      try {
+        reader.close();
+      } catch (IOException e) {
+        // Ignore, nothing left to read
+      }
+      reader = null;
+    }
+  }
+
+  // Setters for dependency injection
+  public void setFilePath(String filePath) {
+    this.filePath = filePath;
+  }
+
+  public void setCharsetName(String charsetName) {
+    this.charsetName = charsetName;
+  }
+
+  public void setDelimiterType(String delimiterType) {
+    this.delimiterType = delimiterType;
+  }
+
+  public void setCustomDelimiter(String customDelimiter) {
+    this.customDelimiter = customDelimiter;
+  }
+
+  public void setHasHeader(Boolean hasHeader) {
+    this.hasHeader = hasHeader;
+  }
+
+  public void setChunkSize(Double chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+}
@@ -0,0 +1,230 @@
+package sumit.devtools.iterators.excel;
+
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.commandsdk.annotations.BotCommand;
+import com.automationanywhere.commandsdk.annotations.BotCommand.CommandType;
+import com.automationanywhere.commandsdk.annotations.CommandPkg;
+import com.automationanywhere.commandsdk.annotations.HasNext;
+import com.automationanywhere.commandsdk.annotations.Idx;
+import com.automationanywhere.commandsdk.annotations.Inject;
+import com.automationanywhere.commandsdk.annotations.Next;
+import com.automationanywhere.commandsdk.annotations.Pkg;
+import com.automationanywhere.commandsdk.annotations.rules.GreaterThan;
+import com.automationanywhere.commandsdk.annotations.rules.GreaterThanEqualTo;
+import com.automationanywhere.commandsdk.annotations.rules.LocalFile;
+import com.automationanywhere.commandsdk.annotations.rules.NotEmpty;
+import com.automationanywhere.commandsdk.annotations.rules.NumberInteger;
+import com.automationanywhere.commandsdk.annotations.rules.SelectModes;
+import com.automationanywhere.commandsdk.model.AttributeType;
+import com.automationanywhere.commandsdk.model.DataType;
+import java.io.File;
+import java.io.IOException;
+import sumit.devtools.utils.XlsxSheetReader;
+
+/**
+ * Iterator for XLSX sheets that reads a fixed number of rows per iteration. The sheet is streamed,
+ * so only the current chunk is held in memory and sheets of any size can be processed in a loop.
+ *
+ * @author Sumit Kumar
+ */
+@BotCommand(commandType = CommandType.Iterator)
+@CommandPkg(
+    label = "Excel Table Iterator",
+    description = "Iterates through a sheet of an XLSX workbook in tables of N rows.",
+    icon = "Table.svg",
+    name = "excelTableIterator",
+    node_label = "from {{filePath}} in chunks of {{chunkSize}} rows and assign to {{returnTo}}",
+    return_label = "Assign the current chunk to",
+    return_description = "Table containing the next rows of the sheet",
+    return_required = true,
+    return_type = DataType.TABLE
+)
+public class ExcelTableIterator {
+
+  // Input parameters - injected via setters
+  @Idx(index = "1", type = AttributeType.FILE)
+  @Pkg(label = "File path",
+      description = "Path to the XLSX workbook to iterate")
+  @NotEmpty
+  @LocalFile
+  @Inject
+  private String filePath;
+
+  @Idx(index = "2", type = AttributeType.SELECT, options = {
+      @Idx.Option(index = "2.1", pkg = @Pkg(label = "By name", value = "NAME")),
+      @Idx.Option(index = "2.2", pkg = @Pkg(label = "By position", value = "INDEX"))
+  })
+  @Pkg(label = "Sheet", default_value = "INDEX", default_value_type = DataType.STRING)
+  @NotEmpty
+  @SelectModes
+  @Inject
+  private String sheetSelection;
+
+  @Idx(index = "2.1.1", type = AttributeType.TEXT)
+  @Pkg(label = "Sheet name", description = "Exact name of the sheet (case-sensitive)")
+  @NotEmpty
+  @Inject
+  private String sheetName;
+
+  @Idx(index = "2.2.1", type = AttributeType.NUMBER)
+  @Pkg(label = "Sheet position",
+      description = "1-based position of the sheet in the workbook",
+      default_value = "1",
+      default_value_type = DataType.NUMBER)
+  @NotEmpty
+  @GreaterThanEqualTo("1")
+  @NumberInteger
+  @Inject
+  private Double sheetPosition;
+
+  @Idx(index = "3", type = AttributeType.BOOLEAN)
+  @Pkg(label = "First row contains headers",
+      description = "When true (default): The first row is used as header of every chunk. " +
+          "When false: All rows are read as data and columns have empty names.",
+      default_value = "true",
+      default_value_type = DataType.BOOLEAN)
+  @NotEmpty
+  @Inject
+  private Boolean hasHeader;
+
+  @Idx(index = "4", type = AttributeType.NUMBER)
+  @Pkg(label = "Rows per chunk",
+      description = "Maximum number of data rows in each table returned by the iterator",
+      default_value = "1000",
+      default_value_type = DataType.NUMBER)
+  @NotEmpty
+  @GreaterThan("0")
+  @NumberInteger
+  @Inject
+  private Double chunkSize;
+
+  // Internal state - open reader positioned at the next chunk
+  private XlsxSheetReader reader;
+  private boolean exhausted = false;
+  private int chunkIndex = 0;
+
+  /**
+   * Opens the workbook, locates the sheet and reads the header row, if any.
+   * Called automatically on the first hasNext call.
+   */
+  public void initialize() {
+    try {
+      File file = new File(filePath);
+      if (!file.exists() || !file.isFile()) {
+        throw new BotCommandException("File not found at specified path: " + filePath);
+      }
+
+      String name = null;
+      int index = 0;
+      if ("NAME".equals(sheetSelection)) {
+        name = sheetName;
+      } else if ("INDEX".equals(sheetSelection)) {
+        index = sheetPosition == null ? 0 : sheetPosition.intValue() - 1;
+      } else {
+        throw new BotCommandException("Invalid sheet selection: " + sheetSelection);
+      }
+
+      reader = new XlsxSheetReader(file.toPath(), name, index, Boolean.TRUE.equals(hasHeader));
+      chunkIndex = 0;
+
+    } catch (Exception e) {
+      throw new BotCommandException(
+          "Failed to initialize Excel table iterator: " + e.getMessage(), e
+      );
+    }
+  }
+
+  /**
+   * Checks if more rows are available. Closes the workbook once all rows have been read.
+   *
+   * @return true if more rows exist, false otherwise
+   */
+  @HasNext
+  public boolean hasNext() {
+    if (exhausted) {
+      return false;
+    }
+    // Lazy initialization on first hasNext call
+    if (reader == null) {
+      initialize();
+    }
+    try {
+      if (!reader.hasNext()) {
+        close();
+        return false;
+      }
+    } catch (IOException e) {
+      close();
+      throw new BotCommandException("Error reading sheet: " + e.getMessage(), e);
+    }
+    return true;
+  }
+
+  /**
+   * Returns the next chunk of rows as a TableValue.
+   *
+   * @return TableValue containing up to chunkSize rows
+   * @throws Exception if no more rows are available or reading fails
+   */
+  @Next
+  public TableValue next() throws Exception {
+    if (!hasNext()) {
+      throw new BotCommandException(
+          "No more rows available. Chunks read: " + chunkIndex
+      );
+    }
+
+    try {
+      TableValue chunk = new TableValue(reader.readTable(chunkSize.longValue()));
+      chunkIndex++;
+      return chunk;
+
+    } catch (Exception e) {
+      close();
+      throw new BotCommandException(
+          "Error reading chunk at index " + chunkIndex + ": " + e.getMessage(), e
+      );
+    }
+  }
+
+  /**
+   * Releases the workbook and marks the iterator as finished.
+   */
+  private void close() {
+    exhausted = true;
+    if (reader != null) {
+      try {
+        reader.close();
+      } catch (IOException e) {
+        // Ignore, nothing left to read
+      }
+      reader = null;
+    }
+  }
+
+  // Setters for dependency injection
+  public void setFilePath(String filePath) {
+    this.filePath = filePath;
+  }
+
+  public void setSheetSelection(String sheetSelection) {
+    this.sheetSelection = sheetSelection;
+  }
+
+  public void setSheetName(String sheetName) {
+    this.sheetName = sheetName;
+  }
+
+  public void setSheetPosition(Double sheetPosition) {
+    this.sheetPosition = sheetPosition;
+  }
+
+  public void setHasHeader(Boolean hasHeader) {
+    this.hasHeader = hasHeader;
+  }
+
+  public void setChunkSize(Double chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+}
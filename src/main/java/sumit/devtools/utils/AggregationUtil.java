@@ -0,0 +1,208 @@
+package sumit.devtools.utils;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Utility class for grouping table rows and aggregating column values in a single pass.
+ *
+ * @author Sumit Kumar
+ */
+public class AggregationUtil {
+
+  /**
+   * Supported aggregate functions.
+   */
+  public enum Function {
+    SUM, COUNT, AVERAGE, MIN, MAX, DISTINCT_COUNT,
+    /**
+     * First non-empty cell, kept with its type; used to pivot values without aggregating them.
+     */
+    FIRST
+  }
+
+  /**
+   * Parses an aggregate function name as used by action SELECT options.
+   *
+   * @throws BotCommandException If the name is not a supported function
+   */
+  public static Function parseFunction(String name) {
+    try {
+      return Function.valueOf(name.trim().toUpperCase(Locale.ROOT));
+    } catch (RuntimeException e) {
+      throw new BotCommandException("Invalid aggregate function: " + name);
+    }
+  }
+
+  /**
+   * Returns the text used to compare a cell when grouping. Numbers are normalized so that 1 and
+   * 1.0 fall in the same group, and empty cells give an empty string.
+   *
+   * @param value         Cell value, may be null
+   * @param caseSensitive When false, text is lower-cased
+   * @return Comparable key text
+   */
+  public static String toKeyText(Value value, boolean caseSensitive) {
+    String text = CsvUtil.toCellText(value);
+    return caseSensitive ? text : text.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Builds a composite group key from the given columns of a row. Missing cells count as empty.
+   */
+  public static List<String> groupKey(Row row, int[] columns, boolean caseSensitive) {
+    List<String> key = new ArrayList<>(columns.length);
+    for (int column : columns) {
+      key.add(toKeyText(cell(row, column), caseSensitive));
+    }
+    return key;
+  }
+
+  /**
+   * @return The value at the column, or null if the row is too short
+   */
+  public static Value cell(Row row, int column) {
+    if (row == null || row.getValues() == null || column >= row.getValues().size()) {
+      return null;
+    }
+    return row.getValues().get(column);
+  }
+
+  /**
+   * Converts a cell to a number for aggregation.
+   *
+   * @return The numeric value, or null if the cell is empty
+   * @throws IllegalArgumentException If the cell holds text that is not a number
+   */
+  public static Double toNumber(Value value) {
+    if (value == null || value.get() == null) {
+      return null;
+    }
+    if (value instanceof NumberValue) {
+      return ((NumberValue) value).get();
+    }
+    String text = value.get().toString().trim();
+    if (text.isEmpty()) {
+      return null;
+    }
+    try {
+      return Double.parseDouble(text);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Value is not a number: '" + text + "'");
+    }
+  }
+
+  /**
+   * Running aggregate of one group. Empty cells are ignored by every function, COUNT counts the
+   * non-empty cells and DISTINCT_COUNT the distinct non-empty cells.
+   */
+  public static final class Accumulator {
+
+    private final Function function;
+    private final boolean caseSensitive;
+    private Set<String> distinct;
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private Value first;
+
+    public Accumulator(Function function) {
+      this(function, true);
+    }
+
+    /**
+     * @param function      Aggregate function
+     * @param caseSensitive Whether DISTINCT_COUNT treats text differing only in case as distinct
+     */
+    public Accumulator(Function function, boolean caseSensitive) {
+      this.function = function;
+      this.caseSensitive = caseSensitive;
+    }
+
+    /**
+     * Counts a row regardless of its cells, as COUNT(*) does.
+     */
+    public void countRow() {
+      count++;
+    }
+
+    /**
+     * Adds a cell to the aggregate.
+     *
+     * @throws IllegalArgumentException If a numeric function gets text that is not a number
+     */
+    public void add(Value value) {
+      if (function == Function.COUNT) {
+        if (!CsvUtil.toCellText(value).isEmpty()) {
+          count++;
+        }
+        return;
+      }
+      if (function == Function.FIRST) {
+        if (first == null && !CsvUtil.toCellText(value).isEmpty()) {
+          first = ValueUtil.deepCopyValue(value);
+        }
+        return;
+      }
+      if (function == Function.DISTINCT_COUNT) {
+        String key = toKeyText(value, caseSensitive);
+        if (!key.isEmpty()) {
+          if (distinct == null) {
+            distinct = new HashSet<>();
+          }
+          distinct.add(key);
+        }
+        return;
+      }
+
+      Double number = toNumber(value);
+      if (number == null) {
+        return;
+      }
+      count++;
+      sum += number;
+      min = Math.min(min, number);
+      max = Math.max(max, number);
+    }
+
+    /**
+     * @return The aggregate as a number, the cell itself for FIRST, or an empty value when FIRST,
+     * MIN, MAX or AVERAGE saw no values
+     */
+    public Value result() {
+      switch (function) {
+        case FIRST:
+          return first != null ? first : new StringValue("");
+        case COUNT:
+          return new NumberValue(count);
+        case SUM:
+          return new NumberValue(sum);
+        case DISTINCT_COUNT:
+          return new NumberValue(distinct == null ? 0 : distinct.size());
+        default:
+          break;
+      }
+      if (count == 0) {
+        return new StringValue("");
+      }
+      switch (function) {
+        case MIN:
+          return new NumberValue(min);
+        case MAX:
+          return new NumberValue(max);
+        default:
+          return new NumberValue(sum / count);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,315 @@
+package sumit.devtools.utils;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcore.api.dto.AttributeType;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Columnar binary file for tables, so a table saved by one bot step reloads without text parsing.
+ * <p>
+ * Layout: the magic bytes {@code AATB}, a version byte and the header length, then the header:
+ * row count, column count, the schema (name and type of each column) and the byte length of each
+ * column block. The column blocks follow, one per column, holding the column's cells in
+ * {@link RowCodec} cell format. Because every block's offset is known from the header, columns
+ * are read, or memory-mapped, and decoded independently.
+ * <p>
+ * Rows shorter than the widest row are padded with empty cells.
+ *
+ * @author Sumit Kumar
+ */
+public final class BinaryTableFile {
+
+  private static final byte[] MAGIC = {'A', 'A', 'T', 'B'};
+  private static final int VERSION = 1;
+  // Magic, version and header length
+  private static final int PREAMBLE_LENGTH = MAGIC.length + 1 + 4;
+
+  private BinaryTableFile() {
+  }
+
+  /**
+   * Writes a table to a file. The file is written under a temporary name in the same folder and
+   * then moved over the target, so the target is replaced in one step.
+   *
+   * @param table Table to write
+   * @param path  File to write
+   * @throws IOException If writing fails
+   */
+  public static void write(Table table, Path path) throws IOException {
+    List<Schema> schema = table.getSchema() != null ? table.getSchema() : new ArrayList<>();
+    List<Row> rows = table.getRows() != null ? table.getRows() : new ArrayList<>();
+    int columnCount = schema.size();
+    for (Row row : rows) {
+      if (row != null && row.getValues() != null) {
+        columnCount = Math.max(columnCount, row.getValues().size());
+      }
+    }
+
+    // Written next to the file and swapped in, so a failed save leaves the old file intact and
+    // other processes that have the old file mapped keep reading it
+    Path parent = path.toAbsolutePath().getParent();
+    Path tempFile = Files.createTempFile(parent, "table", ".tmp");
+    try {
+      long[] blockLengths = new long[columnCount];
+      try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+        // The header is written again once the block lengths are known; its size does not change
+        ByteBuffer header = header(schema, rows.size(), blockLengths);
+        writeFully(channel, header);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream block = new DataOutputStream(bytes);
+        for (int column = 0; column < columnCount; column++) {
+          bytes.reset();
+          for (Row row : rows) {
+            RowCodec.writeValue(AggregationUtil.cell(row, column), block);
+          }
+          block.flush();
+          blockLengths[column] = bytes.size();
+          writeFully(channel, ByteBuffer.wrap(bytes.toByteArray()));
+        }
+
+        channel.position(0);
+        writeFully(channel, header(schema, rows.size(), blockLengths));
+      }
+      try {
+        Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
+  /**
+   * Reads a table written by {@link #write}.
+   *
+   * @param path      File to read
+   * @param memoryMap Whether column blocks are memory-mapped instead of read into the heap
+   * @param parallel  Whether tables with at least {@link ParallelRows#PARALLEL_THRESHOLD} rows
+   *                  decode their columns in parallel
+   * @return The table, with the saved schema names and types
+   * @throws IOException If the file cannot be read or is not a binary table
+   */
+  public static Table read(Path path, boolean memoryMap, boolean parallel) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      Layout layout = readLayout(channel, path);
+      int rowCount = layout.rowCount;
+      int columnCount = layout.offsets.length;
+
+      // Columns decode independently; positional reads and mappings are thread-safe
+      Value[][] cells = new Value[columnCount][];
+      forEachColumn(columnCount, parallel && rowCount >= ParallelRows.PARALLEL_THRESHOLD,
+          column -> {
+            ByteBuffer block = memoryMap
+                ? map(channel, layout, column)
+                : readFully(channel, layout.offsets[column], layout.lengths[column]);
+            Value[] values = new Value[rowCount];
+            try {
+              for (int row = 0; row < rowCount; row++) {
+                values[row] = RowCodec.readValue(block);
+              }
+            } finally {
+              // Decoded cells hold no reference to the block, so the file is released at once
+              if (memoryMap) {
+                MappedBinaryTable.unmap(block);
+              }
+            }
+            cells[column] = values;
+          });
+
+      List<Row> rows = new ArrayList<>(rowCount);
+      for (int row = 0; row < rowCount; row++) {
+        List<Value> values = new ArrayList<>(columnCount);
+        for (int column = 0; column < columnCount; column++) {
+          values.add(cells[column][row]);
+        }
+        rows.add(new Row(values));
+      }
+      return new Table(layout.schema, rows);
+    }
+  }
+
+  /**
+   * Schema and column block positions from the header of a binary table file.
+   */
+  static final class Layout {
+
+    final List<Schema> schema;
+    final int rowCount;
+    final long[] offsets;
+    final long[] lengths;
+
+    private Layout(List<Schema> schema, int rowCount, long[] offsets, long[] lengths) {
+      this.schema = schema;
+      this.rowCount = rowCount;
+      this.offsets = offsets;
+      this.lengths = lengths;
+    }
+  }
+
+  /**
+   * Work on one column block.
+   */
+  @FunctionalInterface
+  interface ColumnTask {
+
+    void run(int column) throws IOException;
+  }
+
+  /**
+   * Reads and checks the preamble and header.
+   *
+   * @throws IOException If the file is not a binary table or ends early
+   */
+  static Layout readLayout(FileChannel channel, Path path) throws IOException {
+    try {
+      ByteBuffer preamble = readFully(channel, 0, PREAMBLE_LENGTH);
+      byte[] magic = new byte[MAGIC.length];
+      preamble.get(magic);
+      if (!Arrays.equals(magic, MAGIC)) {
+        throw new IOException("Not a binary table file: " + path);
+      }
+      int version = preamble.get() & 0xFF;
+      if (version != VERSION) {
+        throw new IOException("Unsupported binary table version " + version);
+      }
+      int headerLength = preamble.getInt();
+      if (headerLength < 0 || PREAMBLE_LENGTH + (long) headerLength > channel.size()) {
+        throw new EOFException("File ends inside the header");
+      }
+
+      ByteBuffer header = readFully(channel, PREAMBLE_LENGTH, headerLength);
+      int rowCount = header.getInt();
+      int columnCount = header.getInt();
+      int schemaCount = header.getInt();
+      List<Schema> schema = new ArrayList<>(schemaCount);
+      for (int i = 0; i < schemaCount; i++) {
+        String name = RowCodec.readText(header);
+        String type = RowCodec.readText(header);
+        schema.add(new Schema(name, toAttributeType(type)));
+      }
+
+      long[] offsets = new long[columnCount];
+      long[] lengths = new long[columnCount];
+      long offset = PREAMBLE_LENGTH + (long) headerLength;
+      for (int column = 0; column < columnCount; column++) {
+        offsets[column] = offset;
+        lengths[column] = header.getLong();
+        if (lengths[column] < 0 || lengths[column] > Integer.MAX_VALUE) {
+          throw new IOException("Column " + (column + 1) + " is larger than 2 GB and cannot be loaded");
+        }
+        offset += lengths[column];
+      }
+      if (offset > channel.size()) {
+        throw new EOFException("File ends inside the column data");
+      }
+      return new Layout(schema, rowCount, offsets, lengths);
+    } catch (BufferUnderflowException e) {
+      throw new EOFException("File ends inside the header");
+    }
+  }
+
+  /**
+   * Maps one column block read-only. The mapping stays valid after the channel is closed.
+   */
+  static ByteBuffer map(FileChannel channel, Layout layout, int column) throws IOException {
+    return channel.map(FileChannel.MapMode.READ_ONLY, layout.offsets[column],
+        layout.lengths[column]);
+  }
+
+  /**
+   * Runs the task for every column, on multiple threads when {@code parallel} is set.
+   *
+   * @throws IOException The exception of the first failing column
+   */
+  static void forEachColumn(int columnCount, boolean parallel, ColumnTask task)
+      throws IOException {
+    try {
+      ParallelRows.forEachRange(columnCount, parallel ? 2 : Integer.MAX_VALUE,
+          Runtime.getRuntime().availableProcessors(), (from, to) -> {
+            for (int column = from; column < to; column++) {
+              try {
+                task.run(column);
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            }
+          });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static ByteBuffer header(List<Schema> schema, int rowCount, long[] blockLengths)
+      throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeInt(rowCount);
+    out.writeInt(blockLengths.length);
+    out.writeInt(schema.size());
+    for (Schema column : schema) {
+      RowCodec.writeText(column.getName() == null ? "" : column.getName(), out);
+      RowCodec.writeText(column.getType() == null ? "" : column.getType().name(), out);
+    }
+    for (long length : blockLengths) {
+      out.writeLong(length);
+    }
+    out.flush();
+
+    ByteBuffer buffer = ByteBuffer.allocate(PREAMBLE_LENGTH + bytes.size());
+    buffer.put(MAGIC).put((byte) VERSION).putInt(bytes.size()).put(bytes.toByteArray());
+    buffer.flip();
+    return buffer;
+  }
+
+  private static AttributeType toAttributeType(String name) {
+    if (name.isEmpty()) {
+      return null;
+    }
+    try {
+      return AttributeType.valueOf(name);
+    } catch (IllegalArgumentException e) {
+      // Saved by an SDK with a type this one does not know
+      return null;
+    }
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private static ByteBuffer readFully(FileChannel channel, long position, long length)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate((int) length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new EOFException("File ends inside the column data");
+      }
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+}
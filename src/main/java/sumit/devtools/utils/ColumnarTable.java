@@ -0,0 +1,356 @@
+package sumit.devtools.utils;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-oriented, primitive-backed copy of a {@link Table} for bulk table actions.
+ * Numeric columns are stored as {@code double[]}, low-cardinality text columns as dictionary codes
+ * and everything else as plain arrays. Null and empty cells are tracked in bitsets so emptiness
+ * checks are array loops instead of walks over every {@link Row}.
+ *
+ * <p>Columns are converted on first use, so an action touching one column does not pay for the
+ * others. Values are converted back to SDK values only when the result is built, which also makes
+ * the result independent of the source table.</p>
+ *
+ * @author Sumit Kumar
+ */
+public class ColumnarTable {
+
+  // Text columns with more distinct values than rows / DICTIONARY_RATIO are stored uncompressed
+  private static final int DICTIONARY_RATIO = 2;
+
+  private final List<Schema> schema;
+  private final List<List<Value>> rowValues;
+  private final int rowCount;
+  private final int[] rowLengths;
+  private final Column[] columns;
+
+  private ColumnarTable(List<Schema> schema, List<List<Value>> rowValues, int[] rowLengths,
+      int columnCount) {
+    this.schema = schema;
+    this.rowValues = rowValues;
+    this.rowCount = rowLengths.length;
+    this.rowLengths = rowLengths;
+    this.columns = new Column[columnCount];
+  }
+
+  /**
+   * Creates a columnar view of the table. The column count is the larger of the schema size and the
+   * longest row, so cells outside the schema are kept as well.
+   *
+   * @param table Source table
+   * @return Columnar view of the table
+   */
+  public static ColumnarTable fromTable(Table table) {
+    List<Schema> schema = table.getSchema() != null ? table.getSchema() : new ArrayList<>();
+    List<Row> rows = table.getRows() != null ? table.getRows() : new ArrayList<>();
+
+    int rowCount = rows.size();
+    int[] rowLengths = new int[rowCount];
+    List<List<Value>> rowValues = new ArrayList<>(rowCount);
+    int columnCount = schema.size();
+    for (int r = 0; r < rowCount; r++) {
+      Row row = rows.get(r);
+      List<Value> values = row != null && row.getValues() != null ? row.getValues() : List.of();
+      rowValues.add(values);
+      rowLengths[r] = values.size();
+      columnCount = Math.max(columnCount, values.size());
+    }
+
+    return new ColumnarTable(schema, rowValues, rowLengths, columnCount);
+  }
+
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  public int getColumnCount() {
+    return columns.length;
+  }
+
+  public List<Schema> getSchema() {
+    return schema;
+  }
+
+  /**
+   * Returns the rows having at least one non-empty cell.
+   *
+   * @return Bitset with a bit set for every non-empty row
+   */
+  public BitSet getNonEmptyRows() {
+    return getNonEmptyRows(false);
+  }
+
+  /**
+   * Returns the rows having at least one non-empty cell.
+   *
+   * @param parallel Whether the columns of a large table may be converted in parallel
+   * @return Bitset with a bit set for every non-empty row
+   */
+  public BitSet getNonEmptyRows(boolean parallel) {
+    buildColumns(allColumns(), parallel);
+    BitSet emptyRows = new BitSet(rowCount);
+    emptyRows.set(0, rowCount);
+    for (int c = 0; c < columns.length && !emptyRows.isEmpty(); c++) {
+      emptyRows.and(column(c).empty);
+    }
+    BitSet nonEmptyRows = new BitSet(rowCount);
+    nonEmptyRows.set(0, rowCount);
+    nonEmptyRows.andNot(emptyRows);
+    return nonEmptyRows;
+  }
+
+  /**
+   * Builds an SDK table from the selected columns and rows.
+   *
+   * @param columnIndexes Columns to include, in output order
+   * @param rowIndexes    Rows to include, in output order
+   * @param padMissing    When true, cells missing from short rows are added as null; when false
+   *                      they are left out so rows keep their original length
+   * @return Independent table containing the selection
+   */
+  public Table toTable(int[] columnIndexes, int[] rowIndexes, boolean padMissing) {
+    return toTable(columnIndexes, rowIndexes, padMissing, false);
+  }
+
+  /**
+   * Builds an SDK table from the selected columns and rows.
+   *
+   * @param columnIndexes Columns to include, in output order
+   * @param rowIndexes    Rows to include, in output order
+   * @param padMissing    When true, cells missing from short rows are added as null; when false
+   *                      they are left out so rows keep their original length
+   * @param parallel      Whether the rows of a large result may be built in parallel; the row
+   *                      order is the same either way
+   * @return Independent table containing the selection
+   */
+  public Table toTable(int[] columnIndexes, int[] rowIndexes, boolean padMissing,
+      boolean parallel) {
+    List<Schema> copySchema = new ArrayList<>(columnIndexes.length);
+    for (int columnIndex : columnIndexes) {
+      if (columnIndex < schema.size()) {
+        Schema source = schema.get(columnIndex);
+        copySchema.add(new Schema(source.getName(), source.getType()));
+      }
+    }
+
+    // Columns are converted up front so the row tasks only read them
+    buildColumns(columnIndexes, parallel);
+    Row[] copyRows = new Row[rowIndexes.length];
+    ParallelRows.forEachRange(rowIndexes.length, parallel, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        int rowIndex = rowIndexes[i];
+        List<Value> values = new ArrayList<>(columnIndexes.length);
+        for (int columnIndex : columnIndexes) {
+          if (columnIndex < rowLengths[rowIndex]) {
+            values.add(columns[columnIndex].valueAt(rowIndex));
+          } else if (padMissing) {
+            values.add(null);
+          }
+        }
+        copyRows[i] = new Row(values);
+      }
+    });
+    return new Table(copySchema, new ArrayList<>(Arrays.asList(copyRows)));
+  }
+
+  public int[] allColumns() {
+    int[] indexes = new int[columns.length];
+    for (int i = 0; i < indexes.length; i++) {
+      indexes[i] = i;
+    }
+    return indexes;
+  }
+
+  /**
+   * Converts the given columns that were not converted yet. Each column is independent, so a
+   * large table converts them in parallel.
+   */
+  private void buildColumns(int[] columnIndexes, boolean parallel) {
+    int[] pending = Arrays.stream(columnIndexes)
+        .filter(c -> c < columns.length && columns[c] == null)
+        .distinct()
+        .toArray();
+    boolean large = parallel && rowCount >= ParallelRows.PARALLEL_THRESHOLD;
+    ParallelRows.forEachRange(pending.length, large ? 2 : Integer.MAX_VALUE,
+        Runtime.getRuntime().availableProcessors(), (from, to) -> {
+          for (int i = from; i < to; i++) {
+            columns[pending[i]] = buildColumn(pending[i]);
+          }
+        });
+  }
+
+  private Column column(int columnIndex) {
+    if (columns[columnIndex] == null) {
+      columns[columnIndex] = buildColumn(columnIndex);
+    }
+    return columns[columnIndex];
+  }
+
+  private Column buildColumn(int columnIndex) {
+    boolean allNumbers = true;
+    boolean allStrings = true;
+    for (int r = 0; r < rowCount && (allNumbers || allStrings); r++) {
+      Value value = columnIndex < rowLengths[r] ? rowValues.get(r).get(columnIndex) : null;
+      if (value == null) {
+        continue;
+      }
+      allNumbers &= value instanceof NumberValue && value.get() != null;
+      allStrings &= value instanceof StringValue;
+    }
+
+    if (allNumbers) {
+      double[] data = new double[rowCount];
+      BitSet nulls = new BitSet(rowCount);
+      for (int r = 0; r < rowCount; r++) {
+        Value value = columnIndex < rowLengths[r] ? rowValues.get(r).get(columnIndex) : null;
+        if (value == null) {
+          nulls.set(r);
+        } else {
+          data[r] = ((NumberValue) value).get();
+        }
+      }
+      return new NumberColumn(data, nulls);
+    }
+
+    if (allStrings) {
+      int[] codes = new int[rowCount];
+      Map<String, Integer> dictionary = new HashMap<>();
+      List<String> entries = new ArrayList<>();
+      BitSet nulls = new BitSet(rowCount);
+      BitSet empty = new BitSet(rowCount);
+      for (int r = 0; r < rowCount; r++) {
+        Value value = columnIndex < rowLengths[r] ? rowValues.get(r).get(columnIndex) : null;
+        if (value == null) {
+          nulls.set(r);
+          empty.set(r);
+          continue;
+        }
+        String text = ((StringValue) value).get();
+        if (text == null || text.isEmpty()) {
+          empty.set(r);
+        }
+        Integer code = dictionary.get(text);
+        if (code == null) {
+          code = entries.size();
+          dictionary.put(text, code);
+          entries.add(text);
+        }
+        codes[r] = code;
+      }
+
+      String[] strings = entries.toArray(new String[0]);
+      if (strings.length <= Math.max(1, rowCount / DICTIONARY_RATIO)) {
+        return new DictionaryColumn(codes, strings, nulls, empty);
+      }
+      String[] data = new String[rowCount];
+      for (int r = 0; r < rowCount; r++) {
+        data[r] = nulls.get(r) ? null : strings[codes[r]];
+      }
+      return new StringColumn(data, nulls, empty);
+    }
+
+    Value[] data = new Value[rowCount];
+    BitSet nulls = new BitSet(rowCount);
+    BitSet empty = new BitSet(rowCount);
+    for (int r = 0; r < rowCount; r++) {
+      Value value = columnIndex < rowLengths[r] ? rowValues.get(r).get(columnIndex) : null;
+      data[r] = value;
+      if (value == null) {
+        nulls.set(r);
+        empty.set(r);
+      } else if (value.get() == null || value.get().toString().isEmpty()) {
+        empty.set(r);
+      }
+    }
+    return new ValueColumn(data, nulls, empty);
+  }
+
+  private abstract static class Column {
+
+    final BitSet nulls;
+    final BitSet empty;
+
+    Column(BitSet nulls, BitSet empty) {
+      this.nulls = nulls;
+      this.empty = empty;
+    }
+
+    abstract Value valueAt(int row);
+  }
+
+  private static class NumberColumn extends Column {
+
+    private final double[] data;
+
+    NumberColumn(double[] data, BitSet nulls) {
+      // A number always has a non-empty text form, so only nulls are empty
+      super(nulls, nulls);
+      this.data = data;
+    }
+
+    @Override
+    Value valueAt(int row) {
+      return nulls.get(row) ? null : new NumberValue(data[row]);
+    }
+  }
+
+  private static class DictionaryColumn extends Column {
+
+    private final int[] codes;
+    private final String[] dictionary;
+
+    DictionaryColumn(int[] codes, String[] dictionary, BitSet nulls, BitSet empty) {
+      super(nulls, empty);
+      this.codes = codes;
+      this.dictionary = dictionary;
+    }
+
+    @Override
+    Value valueAt(int row) {
+      return nulls.get(row) ? null : new StringValue(dictionary[codes[row]]);
+    }
+  }
+
+  private static class StringColumn extends Column {
+
+    private final String[] data;
+
+    StringColumn(String[] data, BitSet nulls, BitSet empty) {
+      super(nulls, empty);
+      this.data = data;
+    }
+
+    @Override
+    Value valueAt(int row) {
+      return nulls.get(row) ? null : new StringValue(data[row]);
+    }
+  }
+
+  private static class ValueColumn extends Column {
+
+    private final Value[] data;
+
+    ValueColumn(Value[] data, BitSet nulls, BitSet empty) {
+      super(nulls, empty);
+      this.data = data;
+    }
+
+    @Override
+    Value valueAt(int row) {
+      return ValueUtil.deepCopyValue(data[row]);
+    }
+  }
+
+}
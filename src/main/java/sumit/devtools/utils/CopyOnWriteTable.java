@@ -0,0 +1,177 @@
+package sumit.devtools.utils;
+
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Copy-on-write snapshot of a {@link Table}.
+ * Rows and schema are shared with the source table until they are edited. Only the rows returned
+ * by {@link #editRow(int)} and the schema returned by {@link #editSchema()} are copied, so changing
+ * a single cell costs O(columns) instead of O(rows x columns).
+ *
+ * <p>Rows that were never edited are the same {@link Row} instances as in the source table and
+ * must not be mutated in place by callers.</p>
+ *
+ * @author Sumit Kumar
+ */
+public class CopyOnWriteTable {
+
+  private final Table sourceTable;
+  private final RowList rows;
+  private final Set<Row> ownedRows = Collections.newSetFromMap(new IdentityHashMap<>());
+  private List<Schema> schema;
+
+  public CopyOnWriteTable(Table sourceTable) {
+    this.sourceTable = sourceTable;
+    this.rows = new RowList(sourceTable.getRows());
+  }
+
+  /**
+   * Returns the current schema for reading. Use {@link #editSchema()} before modifying it.
+   *
+   * @return Read-only view of the current schema
+   */
+  public List<Schema> getSchema() {
+    return Collections.unmodifiableList(schema != null ? schema : sourceTable.getSchema());
+  }
+
+  /**
+   * Returns a private, modifiable copy of the schema, copying it on first call.
+   *
+   * @return Modifiable schema owned by this snapshot
+   */
+  public List<Schema> editSchema() {
+    if (schema == null) {
+      schema = sourceTable.getSchema().stream()
+          .map(item -> new Schema(item.getName(), item.getType()))
+          .collect(Collectors.toList());
+    }
+    return schema;
+  }
+
+  public void setSchema(List<Schema> schema) {
+    this.schema = schema;
+  }
+
+  public int getRowCount() {
+    return rows.size();
+  }
+
+  /**
+   * Returns the row at the given index for reading. Use {@link #editRow(int)} before modifying it.
+   *
+   * @param index Row index
+   * @return Row at the index, possibly shared with the source table
+   */
+  public Row getRow(int index) {
+    return rows.get(index);
+  }
+
+  /**
+   * Returns a private, modifiable copy of the row at the given index, deep copying its values on
+   * first call.
+   *
+   * @param index Row index
+   * @return Modifiable row owned by this snapshot
+   */
+  public Row editRow(int index) {
+    Row current = rows.get(index);
+    if (ownedRows.contains(current)) {
+      return current;
+    }
+    Row copy = TableUtil.copyRow(current);
+    rows.set(index, copy);
+    ownedRows.add(copy);
+    return copy;
+  }
+
+  public void removeRow(int index) {
+    ownedRows.remove(rows.remove(index));
+  }
+
+  /**
+   * Builds the resulting table. The schema is copied if it was never edited. The row list is a new
+   * list of row references, so later changes to the source table's row list do not show through;
+   * unedited rows are still shared with the source table.
+   *
+   * @return Table reflecting all edits made through this snapshot
+   */
+  public Table toTable() {
+    return new Table(editSchema(), new ArrayList<>(rows));
+  }
+
+  /**
+   * Row list that reads through to a base list and keeps replaced rows in an overlay. Structural
+   * changes (add/remove) switch it to a flat list of row references.
+   */
+  private static class RowList extends AbstractList<Row> implements RandomAccess {
+
+    private final List<Row> base;
+    private final Map<Integer, Row> overlay = new HashMap<>();
+    private List<Row> flat;
+
+    RowList(List<Row> base) {
+      this.base = base;
+    }
+
+    @Override
+    public Row get(int index) {
+      if (flat != null) {
+        return flat.get(index);
+      }
+      Row replaced = overlay.get(index);
+      return replaced != null ? replaced : base.get(index);
+    }
+
+    @Override
+    public int size() {
+      return flat != null ? flat.size() : base.size();
+    }
+
+    @Override
+    public Row set(int index, Row row) {
+      if (flat != null) {
+        return flat.set(index, row);
+      }
+      Row previous = get(index);
+      overlay.put(index, row);
+      return previous;
+    }
+
+    @Override
+    public void add(int index, Row row) {
+      flatten().add(index, row);
+      modCount++;
+    }
+
+    @Override
+    public Row remove(int index) {
+      Row removed = flatten().remove(index);
+      modCount++;
+      return removed;
+    }
+
+    private List<Row> flatten() {
+      if (flat == null) {
+        flat = new ArrayList<>(base);
+        for (Map.Entry<Integer, Row> entry : overlay.entrySet()) {
+          flat.set(entry.getKey(), entry.getValue());
+        }
+        overlay.clear();
+      }
+      return flat;
+    }
+  }
+
+}
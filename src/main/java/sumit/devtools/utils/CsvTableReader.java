@@ -0,0 +1,78 @@
+package sumit.devtools.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+/**
+ * Streams records from a CSV file into tables. Records are read through a bounded buffer and only
+ * the records of the requested table are held in memory, so large files can be read in pages.
+ *
+ * @author Sumit Kumar
+ */
+public class CsvTableReader extends TableRecordReader {
+
+  private final CSVParser parser;
+  private final Iterator<CSVRecord> records;
+
+  /**
+   * Opens the file and, if requested, reads the first record as header. A leading byte order mark
+   * is skipped.
+   *
+   * @param path      CSV file path
+   * @param charset   Character set of the file
+   * @param format    CSV format to parse with
+   * @param hasHeader Whether the first record contains column names
+   * @throws IOException If the file cannot be opened or read
+   */
+  public CsvTableReader(Path path, Charset charset, CSVFormat format, boolean hasHeader)
+      throws IOException {
+    BufferedReader reader = new BufferedReader(
+        new InputStreamReader(Files.newInputStream(path), charset), CsvUtil.BUFFER_SIZE);
+    try {
+      CsvUtil.skipByteOrderMark(reader);
+      this.parser = CSVParser.parse(reader, format);
+    } catch (IOException | RuntimeException e) {
+      reader.close();
+      throw e;
+    }
+    this.records = parser.iterator();
+
+    if (hasHeader) {
+      try {
+        readHeader();
+      } catch (IOException | RuntimeException e) {
+        parser.close();
+        throw e;
+      }
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return records.hasNext();
+  }
+
+  @Override
+  protected List<String> nextRecord() {
+    CSVRecord record = records.next();
+    List<String> cells = new ArrayList<>(record.size());
+    record.forEach(cells::add);
+    return cells;
+  }
+
+  @Override
+  public void close() throws IOException {
+    parser.close();
+  }
+
+}
@@ -0,0 +1,93 @@
+package sumit.devtools.utils;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import org.apache.commons.csv.CSVFormat;
+
+/**
+ * Utility class for CSV reading and writing.
+ *
+ * @author Sumit Kumar
+ */
+public class CsvUtil {
+
+  // Read/write buffer for streaming CSV files (64KB chunks)
+  public static final int BUFFER_SIZE = 65536;
+
+  /**
+   * Builds a CSV format for the selected delimiter.
+   *
+   * @param delimiterType   One of COMMA, SEMICOLON, TAB, PIPE or CUSTOM
+   * @param customDelimiter Delimiter used when delimiterType is CUSTOM
+   * @return CSV format using the delimiter
+   * @throws BotCommandException If the delimiter type is unknown or the custom delimiter is empty
+   */
+  public static CSVFormat buildFormat(String delimiterType, String customDelimiter) {
+    String delimiter;
+    switch (delimiterType.toUpperCase()) {
+      case "COMMA":
+        delimiter = ",";
+        break;
+      case "SEMICOLON":
+        delimiter = ";";
+        break;
+      case "TAB":
+        delimiter = "\t";
+        break;
+      case "PIPE":
+        delimiter = "|";
+        break;
+      case "CUSTOM":
+        if (customDelimiter == null || customDelimiter.isEmpty()) {
+          throw new BotCommandException("Custom delimiter cannot be empty");
+        }
+        delimiter = customDelimiter;
+        break;
+      default:
+        throw new BotCommandException("Invalid delimiter option: " + delimiterType);
+    }
+
+    return CSVFormat.DEFAULT.builder()
+        .setDelimiter(delimiter)
+        .get();
+  }
+
+  /**
+   * Converts a cell value to its CSV text. Numbers without a fractional part are written without
+   * a trailing ".0".
+   *
+   * @param value Cell value, may be null
+   * @return Text to write for the cell
+   */
+  public static String toCellText(Value value) {
+    if (value == null || value.get() == null) {
+      return "";
+    }
+    if (value instanceof NumberValue) {
+      Double number = ((NumberValue) value).get();
+      if (!number.isNaN() && !number.isInfinite()) {
+        return BigDecimal.valueOf(number).stripTrailingZeros().toPlainString();
+      }
+    }
+    return value.get().toString();
+  }
+
+  /**
+   * Skips a leading byte order mark, which Excel's "CSV UTF-8" format and editors such as Notepad
+   * write at the start of UTF-8 files. Left in place it would become part of the first header.
+   *
+   * @param reader Reader at the start of the text; must support mark
+   * @throws IOException If reading fails
+   */
+  public static void skipByteOrderMark(Reader reader) throws IOException {
+    reader.mark(1);
+    if (reader.read() != '\uFEFF') {
+      reader.reset();
+    }
+  }
+
+}
@@ -0,0 +1,232 @@
+package sumit.devtools.utils;
+
+import com.automationanywhere.botcommand.data.model.table.Row;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * Sorts more rows than fit in memory. Rows are collected until their estimated size reaches the
+ * memory budget, then sorted with {@link SortUtil#sortRows} and spilled to a temporary file in the
+ * {@link RowCodec} format. The sorted runs are merged with a k-way merge that holds one row per
+ * run; with more than {@value #MAX_MERGE_RUNS} runs, neighbouring runs are merged first.
+ * <p>
+ * If every row fits within the budget nothing is written to disk. The sort is stable: rows with
+ * equal keys keep the order in which they were added.
+ *
+ * @author Sumit Kumar
+ */
+public final class ExternalRowSorter implements Closeable {
+
+  /**
+   * Most runs merged at once, which bounds the open files and read buffers.
+   */
+  static final int MAX_MERGE_RUNS = 64;
+
+  // Sort entry and key array added by SortUtil.sortRows for each buffered row
+  private static final long SORT_OVERHEAD = 48;
+
+  private final SortUtil.SortColumns sort;
+  private final long memoryBudget;
+  private final Path tempParent;
+  private final List<Row> buffer = new ArrayList<>();
+  private final List<Path> runs = new ArrayList<>();
+  private Path tempDir;
+  private long bufferSize;
+  private long rowCount;
+
+  /**
+   * Consumer of sorted rows.
+   */
+  @FunctionalInterface
+  public interface RowConsumer {
+
+    void accept(Row row) throws IOException;
+  }
+
+  /**
+   * @param sort         Sort columns
+   * @param memoryBudget Approximate bytes of rows held in memory at once
+   * @param tempParent   Folder for the run files, or null for the system temporary folder
+   */
+  public ExternalRowSorter(SortUtil.SortColumns sort, long memoryBudget, Path tempParent) {
+    this.sort = sort;
+    this.memoryBudget = memoryBudget;
+    this.tempParent = tempParent;
+  }
+
+  /**
+   * Adds a row, spilling the buffered rows to a sorted run when the budget is reached.
+   *
+   * @throws IOException If a run cannot be written
+   */
+  public void add(Row row) throws IOException {
+    buffer.add(row);
+    bufferSize += RowCodec.estimateSize(row) + SORT_OVERHEAD;
+    rowCount++;
+    if (bufferSize >= memoryBudget) {
+      spill();
+    }
+  }
+
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * @return Number of sorted runs written to disk so far
+   */
+  public int getRunCount() {
+    return runs.size();
+  }
+
+  /**
+   * Passes every row added so far to the consumer in sorted order. Call once, after the last
+   * {@link #add}.
+   *
+   * @throws IOException If a run cannot be read or written
+   */
+  public void forEachSorted(RowConsumer consumer) throws IOException {
+    if (runs.isEmpty()) {
+      for (Row row : SortUtil.sortRows(buffer, sort, true)) {
+        consumer.accept(row);
+      }
+      buffer.clear();
+      return;
+    }
+
+    spill();
+    // Merge neighbouring runs, so rows of earlier runs stay first among equal keys
+    while (runs.size() > MAX_MERGE_RUNS) {
+      List<Path> merged = new ArrayList<>();
+      for (int from = 0; from < runs.size(); from += MAX_MERGE_RUNS) {
+        List<Path> group = runs.subList(from, Math.min(from + MAX_MERGE_RUNS, runs.size()));
+        if (group.size() == 1) {
+          merged.add(group.get(0));
+          continue;
+        }
+        Path run = newRunFile();
+        try (DataOutputStream out = openRun(run)) {
+          merge(group, row -> RowCodec.writeRow(row, out));
+        }
+        for (Path source : group) {
+          Files.deleteIfExists(source);
+        }
+        merged.add(run);
+      }
+      runs.clear();
+      runs.addAll(merged);
+    }
+    merge(runs, consumer);
+  }
+
+  private void spill() throws IOException {
+    if (buffer.isEmpty()) {
+      return;
+    }
+    Path run = newRunFile();
+    try (DataOutputStream out = openRun(run)) {
+      for (Row row : SortUtil.sortRows(buffer, sort, true)) {
+        RowCodec.writeRow(row, out);
+      }
+    }
+    runs.add(run);
+    buffer.clear();
+    bufferSize = 0;
+  }
+
+  private void merge(List<Path> sources, RowConsumer consumer) throws IOException {
+    Comparator<RunCursor> order = (c1, c2) -> {
+      int result = SortUtil.compareSortKeys(c1.keys, c2.keys, sort);
+      return result != 0 ? result : Integer.compare(c1.runIndex, c2.runIndex);
+    };
+    PriorityQueue<RunCursor> queue = new PriorityQueue<>(sources.size(), order);
+    List<RunCursor> cursors = new ArrayList<>(sources.size());
+    try {
+      for (int i = 0; i < sources.size(); i++) {
+        RunCursor cursor = new RunCursor(sources.get(i), i);
+        cursors.add(cursor);
+        if (cursor.advance()) {
+          queue.add(cursor);
+        }
+      }
+      while (!queue.isEmpty()) {
+        RunCursor cursor = queue.poll();
+        consumer.accept(cursor.row);
+        if (cursor.advance()) {
+          queue.add(cursor);
+        }
+      }
+    } finally {
+      for (RunCursor cursor : cursors) {
+        cursor.in.close();
+      }
+    }
+  }
+
+  private Path newRunFile() throws IOException {
+    if (tempDir == null) {
+      tempDir = tempParent == null
+          ? Files.createTempDirectory("table-sort")
+          : Files.createTempDirectory(tempParent, "table-sort");
+    }
+    return Files.createTempFile(tempDir, "run", ".bin");
+  }
+
+  private static DataOutputStream openRun(Path run) throws IOException {
+    return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run),
+        CsvUtil.BUFFER_SIZE));
+  }
+
+  /**
+   * Deletes the run files and their temporary folder.
+   */
+  @Override
+  public void close() throws IOException {
+    buffer.clear();
+    runs.clear();
+    if (tempDir != null) {
+      try (Stream<Path> files = Files.list(tempDir)) {
+        for (Path file : (Iterable<Path>) files::iterator) {
+          Files.deleteIfExists(file);
+        }
+      }
+      Files.deleteIfExists(tempDir);
+      tempDir = null;
+    }
+  }
+
+  /**
+   * Current row of one sorted run.
+   */
+  private final class RunCursor {
+
+    private final DataInputStream in;
+    private final int runIndex;
+    private Row row;
+    private Object[] keys;
+
+    private RunCursor(Path run, int runIndex) throws IOException {
+      this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run),
+          CsvUtil.BUFFER_SIZE));
+      this.runIndex = runIndex;
+    }
+
+    private boolean advance() throws IOException {
+      row = RowCodec.readRow(in);
+      keys = row == null ? null : SortUtil.toSortKeys(row, sort);
+      return row != null;
+    }
+  }
+
+}
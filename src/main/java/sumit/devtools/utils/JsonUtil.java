@@ -0,0 +1,423 @@
+package sumit.devtools.utils;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.BooleanValue;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+/**
+ * Converts tables to and from JSON without building an intermediate JSON document.
+ * <p>
+ * The writer emits tokens straight to a {@link Writer}, one cell at a time. The reader walks the
+ * input with a {@link JSONTokener} and turns each element of a top-level array into a row as soon
+ * as it is parsed; object keys keep their order in the input, so columns appear in the order they
+ * are first seen.
+ *
+ * @author Sumit Kumar
+ */
+public final class JsonUtil {
+
+  /**
+   * Column used for array elements that are not objects.
+   */
+  public static final String VALUE_COLUMN = "value";
+
+  // Rows sampled to estimate the output length
+  private static final int SAMPLE_ROWS = 100;
+
+  private JsonUtil() {
+  }
+
+  /**
+   * Writes a table as JSON.
+   *
+   * @param table       Table to write
+   * @param columnar    When false, an array with one object per row. When true, one object with
+   *                    an array of values per column.
+   * @param emptyAsNull Whether empty cells are written as null instead of ""
+   * @param writer      Destination; it is not flushed or closed
+   * @throws IOException If writing fails
+   */
+  public static void writeTable(Table table, boolean columnar, boolean emptyAsNull, Writer writer)
+      throws IOException {
+    List<Schema> schema = table.getSchema() != null ? table.getSchema() : new ArrayList<>();
+    List<Row> rows = table.getRows() != null ? table.getRows() : new ArrayList<>();
+    String[] names = new String[schema.size()];
+    Set<String> seen = new HashSet<>();
+    for (int i = 0; i < names.length; i++) {
+      names[i] = schema.get(i).getName() == null ? "" : schema.get(i).getName();
+      if (!seen.add(names[i])) {
+        throw new IllegalArgumentException("Duplicate column name: " + names[i]);
+      }
+    }
+
+    if (columnar) {
+      writer.write('{');
+      for (int column = 0; column < names.length; column++) {
+        if (column > 0) {
+          writer.write(',');
+        }
+        JSONObject.quote(names[column], writer);
+        writer.write(":[");
+        for (int i = 0; i < rows.size(); i++) {
+          if (i > 0) {
+            writer.write(',');
+          }
+          writeValue(AggregationUtil.cell(rows.get(i), column), emptyAsNull, writer);
+        }
+        writer.write(']');
+      }
+      writer.write('}');
+      return;
+    }
+
+    writer.write('[');
+    for (int i = 0; i < rows.size(); i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      writer.write('{');
+      for (int column = 0; column < names.length; column++) {
+        if (column > 0) {
+          writer.write(',');
+        }
+        JSONObject.quote(names[column], writer);
+        writer.write(':');
+        writeValue(AggregationUtil.cell(rows.get(i), column), emptyAsNull, writer);
+      }
+      writer.write('}');
+    }
+    writer.write(']');
+  }
+
+  /**
+   * Estimates the length of the JSON text of a table from its first rows, so the output buffer
+   * can be sized once instead of growing while writing.
+   *
+   * @param table    Table to be written
+   * @param columnar Whether the columnar layout is used
+   * @return Estimated number of characters
+   */
+  public static int estimateLength(Table table, boolean columnar) {
+    List<Schema> schema = table.getSchema() != null ? table.getSchema() : new ArrayList<>();
+    List<Row> rows = table.getRows() != null ? table.getRows() : new ArrayList<>();
+    long nameLength = 0;
+    for (Schema column : schema) {
+      // Quotes, colon and comma
+      nameLength += (column.getName() == null ? 0 : column.getName().length()) + 4;
+    }
+
+    int sampled = Math.min(rows.size(), SAMPLE_ROWS);
+    long cellLength = 0;
+    for (int i = 0; i < sampled; i++) {
+      for (int column = 0; column < schema.size(); column++) {
+        // Quotes and separator
+        cellLength += CsvUtil.toCellText(AggregationUtil.cell(rows.get(i), column)).length() + 3;
+      }
+    }
+    long rowLength = sampled == 0 ? 0 : cellLength / sampled;
+    long estimate = rows.size() * (rowLength + (columnar ? 0 : nameLength + 2))
+        + (columnar ? nameLength + 2L * schema.size() : 0) + 2;
+    return (int) Math.min(estimate, Integer.MAX_VALUE - 8);
+  }
+
+  private static void writeValue(Value value, boolean emptyAsNull, Writer writer)
+      throws IOException {
+    if (value == null || value.get() == null) {
+      writer.write(emptyAsNull ? "null" : "\"\"");
+      return;
+    }
+    if (value instanceof NumberValue) {
+      Double number = ((NumberValue) value).get();
+      // JSON has no NaN or Infinity
+      writer.write(number.isNaN() || number.isInfinite() ? "null" : CsvUtil.toCellText(value));
+      return;
+    }
+    if (value instanceof BooleanValue) {
+      writer.write(((BooleanValue) value).get().toString());
+      return;
+    }
+    String text = CsvUtil.toCellText(value);
+    if (text.isEmpty() && emptyAsNull) {
+      writer.write("null");
+      return;
+    }
+    JSONObject.quote(text, writer);
+  }
+
+  /**
+   * Reads a table from JSON. The input may be an array of objects (one row per object), an object
+   * whose values are all arrays (one column per key) or a single object (one row). Array
+   * elements that are not objects are read into a {@value #VALUE_COLUMN} column.
+   * <p>
+   * Numbers become number values, booleans boolean values and null an empty cell. Nested arrays
+   * are kept as JSON text.
+   *
+   * @param reader  JSON source; it is not closed
+   * @param flatten When true, nested objects become columns named with the dotted path of their
+   *                keys (e.g., 'address.city'). When false, they are kept as JSON text.
+   * @return Table read from the input
+   * @throws JSONException If the input is not valid JSON
+   */
+  public static Table readTable(Reader reader, boolean flatten) {
+    JSONTokener tokener = new JSONTokener(reader);
+    TableBuilder builder = new TableBuilder(flatten);
+
+    char c = tokener.nextClean();
+    if (c == '[') {
+      // Each element becomes a row as soon as it is parsed
+      if (tokener.nextClean() != ']') {
+        tokener.back();
+        while (true) {
+          builder.addRow(readValue(tokener));
+          c = tokener.nextClean();
+          if (c == ']') {
+            break;
+          }
+          if (c != ',') {
+            throw tokener.syntaxError("Expected a ',' or ']'");
+          }
+        }
+      }
+    } else if (c == '{') {
+      tokener.back();
+      Map<String, Object> object = readObject(tokener);
+      if (!object.isEmpty() && isColumnar(object)) {
+        builder.addColumns(object);
+      } else {
+        builder.addRow(object);
+      }
+    } else {
+      throw tokener.syntaxError("Expected a JSON array or object");
+    }
+
+    if (tokener.nextClean() != 0) {
+      throw tokener.syntaxError("Unexpected text after the end of the JSON value");
+    }
+    return builder.build();
+  }
+
+  private static boolean isColumnar(Map<String, Object> object) {
+    for (Object value : object.values()) {
+      if (!(value instanceof List)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Reads the next value. Objects are read as ordered maps and arrays as lists; other values as
+   * parsed by the tokener.
+   */
+  private static Object readValue(JSONTokener tokener) {
+    char c = tokener.nextClean();
+    tokener.back();
+    if (c == '{') {
+      return readObject(tokener);
+    }
+    if (c == '[') {
+      return readArray(tokener);
+    }
+    return tokener.nextValue();
+  }
+
+  private static Map<String, Object> readObject(JSONTokener tokener) {
+    Map<String, Object> object = new LinkedHashMap<>();
+    if (tokener.nextClean() != '{') {
+      throw tokener.syntaxError("Expected a '{'");
+    }
+    char c = tokener.nextClean();
+    if (c == '}') {
+      return object;
+    }
+    while (true) {
+      if (c != '"' && c != '\'') {
+        throw tokener.syntaxError("Expected a quoted key");
+      }
+      String key = tokener.nextString(c);
+      if (tokener.nextClean() != ':') {
+        throw tokener.syntaxError("Expected a ':' after a key");
+      }
+      object.put(key, readValue(tokener));
+
+      c = tokener.nextClean();
+      if (c == '}') {
+        return object;
+      }
+      if (c != ',') {
+        throw tokener.syntaxError("Expected a ',' or '}'");
+      }
+      c = tokener.nextClean();
+    }
+  }
+
+  private static List<Object> readArray(JSONTokener tokener) {
+    List<Object> array = new ArrayList<>();
+    if (tokener.nextClean() != '[') {
+      throw tokener.syntaxError("Expected a '['");
+    }
+    if (tokener.nextClean() == ']') {
+      return array;
+    }
+    tokener.back();
+    while (true) {
+      array.add(readValue(tokener));
+      char c = tokener.nextClean();
+      if (c == ']') {
+        return array;
+      }
+      if (c != ',') {
+        throw tokener.syntaxError("Expected a ',' or ']'");
+      }
+    }
+  }
+
+  /**
+   * Writes a parsed value back as compact JSON text.
+   */
+  @SuppressWarnings("unchecked")
+  private static void appendJson(Object value, StringBuilder text) {
+    if (value instanceof Map) {
+      text.append('{');
+      boolean first = true;
+      for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+        if (!first) {
+          text.append(',');
+        }
+        first = false;
+        text.append(JSONObject.quote(entry.getKey())).append(':');
+        appendJson(entry.getValue(), text);
+      }
+      text.append('}');
+    } else if (value instanceof List) {
+      text.append('[');
+      boolean first = true;
+      for (Object element : (List<Object>) value) {
+        if (!first) {
+          text.append(',');
+        }
+        first = false;
+        appendJson(element, text);
+      }
+      text.append(']');
+    } else if (value instanceof String) {
+      text.append(JSONObject.quote((String) value));
+    } else if (value instanceof Number) {
+      text.append(JSONObject.numberToString((Number) value));
+    } else {
+      // Booleans and JSONObject.NULL
+      text.append(value);
+    }
+  }
+
+  /**
+   * Collects rows with a growing set of columns. A key seen for the first time adds a column;
+   * rows that lack a column get an empty cell.
+   */
+  private static final class TableBuilder {
+
+    private final boolean flatten;
+    private final Map<String, Integer> columns = new LinkedHashMap<>();
+    private final List<Row> rows = new ArrayList<>();
+
+    private TableBuilder(boolean flatten) {
+      this.flatten = flatten;
+    }
+
+    @SuppressWarnings("unchecked")
+    void addRow(Object element) {
+      List<Value> values = new ArrayList<>(columns.size());
+      if (element instanceof Map) {
+        addCells((Map<String, Object>) element, "", values);
+      } else {
+        setCell(VALUE_COLUMN, element, values);
+      }
+      rows.add(new Row(values));
+    }
+
+    void addColumns(Map<String, Object> object) {
+      int rowCount = 0;
+      for (Object column : object.values()) {
+        rowCount = Math.max(rowCount, ((List<?>) column).size());
+      }
+      for (int i = 0; i < rowCount; i++) {
+        rows.add(new Row(new ArrayList<>(object.size())));
+      }
+      for (Map.Entry<String, Object> column : object.entrySet()) {
+        List<?> cells = (List<?>) column.getValue();
+        for (int i = 0; i < cells.size(); i++) {
+          setCell(column.getKey(), cells.get(i), rows.get(i).getValues());
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addCells(Map<String, Object> object, String prefix, List<Value> values) {
+      for (Map.Entry<String, Object> entry : object.entrySet()) {
+        String name = prefix + entry.getKey();
+        if (flatten && entry.getValue() instanceof Map
+            && !((Map<String, Object>) entry.getValue()).isEmpty()) {
+          addCells((Map<String, Object>) entry.getValue(), name + ".", values);
+        } else {
+          setCell(name, entry.getValue(), values);
+        }
+      }
+    }
+
+    private void setCell(String name, Object element, List<Value> values) {
+      Integer index = columns.get(name);
+      if (index == null) {
+        index = columns.size();
+        columns.put(name, index);
+      }
+      while (values.size() <= index) {
+        values.add(new StringValue());
+      }
+      values.set(index, toValue(element));
+    }
+
+    private static Value toValue(Object element) {
+      if (element == null || JSONObject.NULL.equals(element)) {
+        return new StringValue();
+      }
+      if (element instanceof Boolean) {
+        return new BooleanValue((Boolean) element);
+      }
+      if (element instanceof Number) {
+        return new NumberValue(((Number) element).doubleValue());
+      }
+      if (element instanceof Map || element instanceof List) {
+        StringBuilder text = new StringBuilder();
+        appendJson(element, text);
+        return new StringValue(text.toString());
+      }
+      return new StringValue(element.toString());
+    }
+
+    Table build() {
+      List<Schema> schema = new ArrayList<>(columns.size());
+      for (String name : columns.keySet()) {
+        schema.add(new Schema(name));
+      }
+      TableUtil.addMissingColumnValues(rows, columns.size());
+      return new Table(schema, rows);
+    }
+  }
+
+}
@@ -0,0 +1,232 @@
+package sumit.devtools.utils;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Read-only view of a {@link BinaryTableFile} whose column blocks stay memory-mapped, so the cells
+ * live in the operating system's file cache instead of the Java heap and are decoded only when a
+ * row is requested. Processes that open the same file share its cached pages.
+ * <p>
+ * Cells are variable length, so the offset of every {@value #CHECKPOINT_ROWS}th cell of each
+ * column is recorded when the file is opened; reading a row decodes at most that many cells per
+ * column past the nearest checkpoint. The view is safe to read from several threads. The file
+ * must not be changed while the view is in use; {@link #isOpen} tells writers whether it is.
+ * <p>
+ * {@link #close} unmaps the file at once, which releases the file lock Windows holds on mapped
+ * files. Without it the mapping lasts until the view is garbage collected.
+ *
+ * @author Sumit Kumar
+ */
+public final class MappedBinaryTable implements Closeable {
+
+  /**
+   * Rows between recorded cell offsets.
+   */
+  static final int CHECKPOINT_ROWS = 64;
+
+  // Views that are not closed yet, with their files; weak so a dropped view does not stay listed
+  private static final Map<MappedBinaryTable, Path> OPEN_TABLES = new WeakHashMap<>();
+
+  private final Path path;
+  private final List<Schema> schema;
+  private final int rowCount;
+  private final ByteBuffer[] columns;
+  // Offset of the cell at row i * CHECKPOINT_ROWS, for each column
+  private final int[][] checkpoints;
+  private volatile boolean closed;
+
+  private MappedBinaryTable(Path path, List<Schema> schema, int rowCount, ByteBuffer[] columns,
+      int[][] checkpoints) {
+    this.path = path;
+    this.schema = schema;
+    this.rowCount = rowCount;
+    this.columns = columns;
+    this.checkpoints = checkpoints;
+  }
+
+  /**
+   * Maps a binary table file and records the checkpoints of every column.
+   *
+   * @param path File written by {@link BinaryTableFile#write}
+   * @return The view
+   * @throws IOException If the file cannot be read or is not a binary table
+   */
+  public static MappedBinaryTable open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      BinaryTableFile.Layout layout = BinaryTableFile.readLayout(channel, path);
+      int rowCount = layout.rowCount;
+      int columnCount = layout.offsets.length;
+      ByteBuffer[] columns = new ByteBuffer[columnCount];
+      int[][] checkpoints = new int[columnCount][];
+
+      // Each column is walked once, which also checks that its cells are complete
+      BinaryTableFile.forEachColumn(columnCount, rowCount >= ParallelRows.PARALLEL_THRESHOLD,
+          column -> {
+            ByteBuffer block = BinaryTableFile.map(channel, layout, column);
+            int[] offsets = new int[(rowCount + CHECKPOINT_ROWS - 1) / CHECKPOINT_ROWS];
+            for (int row = 0; row < rowCount; row++) {
+              if (row % CHECKPOINT_ROWS == 0) {
+                offsets[row / CHECKPOINT_ROWS] = block.position();
+              }
+              RowCodec.skipValue(block);
+            }
+            block.rewind();
+            columns[column] = block;
+            checkpoints[column] = offsets;
+          });
+      MappedBinaryTable table = new MappedBinaryTable(normalize(path), layout.schema, rowCount,
+          columns, checkpoints);
+      synchronized (OPEN_TABLES) {
+        OPEN_TABLES.put(table, table.path);
+      }
+      return table;
+    }
+  }
+
+  /**
+   * @return true if a view of the file is open, so the file must not be written
+   */
+  public static boolean isOpen(Path path) {
+    Path file = normalize(path);
+    synchronized (OPEN_TABLES) {
+      return OPEN_TABLES.containsValue(file);
+    }
+  }
+
+  private static Path normalize(Path path) {
+    return path.toAbsolutePath().normalize();
+  }
+
+  /**
+   * Unmaps the file. The view cannot be read afterwards; closing it again has no effect.
+   */
+  @Override
+  public void close() {
+    synchronized (OPEN_TABLES) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      OPEN_TABLES.remove(this);
+    }
+    for (int column = 0; column < columns.length; column++) {
+      unmap(columns[column]);
+      columns[column] = null;
+    }
+  }
+
+  /**
+   * Unmaps a buffer returned by {@link FileChannel#map}. The buffer, and every duplicate of it,
+   * must not be read afterwards.
+   */
+  static void unmap(ByteBuffer buffer) {
+    try {
+      // Java has no public unmap; without this the mapping lasts until garbage collection
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Field field = unsafeClass.getDeclaredField("theUnsafe");
+      field.setAccessible(true);
+      Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      invokeCleaner.invoke(field.get(null), buffer);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // Not available on this runtime; the buffer is released when it is collected
+    }
+  }
+
+  private ByteBuffer column(int column) {
+    // An unmapped buffer must never be read, as that would crash the JVM
+    if (closed) {
+      throw new IllegalStateException("The binary table file is closed: " + path);
+    }
+    return columns[column].duplicate();
+  }
+
+  /**
+   * Receiver of the cells of one column.
+   */
+  @FunctionalInterface
+  public interface CellConsumer {
+
+    void accept(int rowNumber, Value value);
+  }
+
+  /**
+   * Decodes the cells of one column in row order, which is much faster than reading them with
+   * {@link #getCell} one at a time.
+   *
+   * @throws IOException           If the cell data is damaged
+   * @throws IllegalStateException If the view is closed
+   */
+  public void forEachCell(int column, CellConsumer consumer) throws IOException {
+    ByteBuffer block = column(column);
+    for (int row = 0; row < rowCount; row++) {
+      consumer.accept(row, RowCodec.readValue(block));
+    }
+  }
+
+  public List<Schema> getSchema() {
+    return schema;
+  }
+
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  public int getColumnCount() {
+    return columns.length;
+  }
+
+  /**
+   * Decodes one cell.
+   *
+   * @throws IndexOutOfBoundsException If the row or column does not exist
+   * @throws UncheckedIOException      If the cell data is damaged
+   * @throws IllegalStateException     If the view is closed
+   */
+  public Value getCell(int rowNumber, int column) {
+    if (rowNumber < 0 || rowNumber >= rowCount) {
+      throw new IndexOutOfBoundsException("Row " + rowNumber + " of " + rowCount);
+    }
+    // Each reader moves its own duplicate, so the shared buffer's position never changes
+    ByteBuffer block = column(column);
+    block.position(checkpoints[column][rowNumber / CHECKPOINT_ROWS]);
+    try {
+      for (int skip = rowNumber % CHECKPOINT_ROWS; skip > 0; skip--) {
+        RowCodec.skipValue(block);
+      }
+      return RowCodec.readValue(block);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Decodes one row into a new row object.
+   *
+   * @throws IndexOutOfBoundsException If the row does not exist
+   * @throws UncheckedIOException      If the cell data is damaged
+   * @throws IllegalStateException     If the view is closed
+   */
+  public Row getRow(int rowNumber) {
+    List<Value> values = new ArrayList<>(columns.length);
+    for (int column = 0; column < columns.length; column++) {
+      values.add(getCell(rowNumber, column));
+    }
+    return new Row(values);
+  }
+
+}
@@ -0,0 +1,211 @@
+package sumit.devtools.utils;
+
+import com.automationanywhere.botcommand.data.model.table.Row;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * Shared fork/join execution for row-independent table work. The index range is split into
+ * contiguous sub-ranges that run on a dedicated {@link ForkJoinPool}; every result is written to
+ * its own index, so the output order is the same as a sequential loop.
+ * <p>
+ * Work below the threshold runs on the calling thread. If tasks fail, the exception of the
+ * lowest failing index is rethrown unchanged, which is the one a sequential loop would have
+ * thrown.
+ *
+ * @author Sumit Kumar
+ */
+public final class ParallelRows {
+
+  /**
+   * Item count from which the {@code boolean parallel} overloads split work across threads.
+   */
+  public static final int PARALLEL_THRESHOLD = 10_000;
+
+  // Sub-ranges per thread, so uneven rows still balance across the pool
+  private static final int RANGES_PER_THREAD = 4;
+
+  private ParallelRows() {
+  }
+
+  /**
+   * Work on a half-open index range {@code [from, to)}.
+   */
+  @FunctionalInterface
+  public interface RangeTask {
+
+    void run(int from, int to);
+  }
+
+  /**
+   * Runs the task over {@code [0, size)}, in parallel when allowed and {@code size} is at least
+   * {@link #PARALLEL_THRESHOLD}, using up to one thread per available processor.
+   *
+   * @param size     Number of items
+   * @param parallel Whether large ranges may run in parallel
+   * @param task     Work for one sub-range; sub-ranges never overlap
+   */
+  public static void forEachRange(int size, boolean parallel, RangeTask task) {
+    forEachRange(size, parallel ? PARALLEL_THRESHOLD : Integer.MAX_VALUE,
+        Runtime.getRuntime().availableProcessors(), task);
+  }
+
+  /**
+   * Runs the task over {@code [0, size)}.
+   *
+   * @param size           Number of items
+   * @param threshold      Smallest size that runs in parallel
+   * @param maxParallelism Maximum number of threads; 1 or less runs on the calling thread
+   * @param task           Work for one sub-range; sub-ranges never overlap
+   */
+  public static void forEachRange(int size, int threshold, int maxParallelism, RangeTask task) {
+    if (size <= 0) {
+      return;
+    }
+    if (size < threshold || size < 2 || maxParallelism <= 1) {
+      task.run(0, size);
+      return;
+    }
+
+    int threads = Math.min(maxParallelism, size);
+    int rangeSize = Math.max(1, size / (threads * RANGES_PER_THREAD));
+    Failure failure = new Failure();
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    try {
+      pool.invoke(new RangeAction(0, size, rangeSize, task, failure));
+    } finally {
+      pool.shutdown();
+    }
+    failure.rethrow();
+  }
+
+  /**
+   * Finds the rows matching a predicate.
+   *
+   * @param rows      Rows to test
+   * @param parallel  Whether large tables may be tested in parallel
+   * @param predicate Thread-safe predicate
+   * @return Indexes of the matching rows, ascending
+   */
+  public static int[] filterIndexes(List<Row> rows, boolean parallel,
+      Predicate<? super Row> predicate) {
+    List<Row> source = randomAccess(rows);
+    boolean[] matches = new boolean[source.size()];
+    forEachRange(matches.length, parallel, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        matches[i] = predicate.test(source.get(i));
+      }
+    });
+
+    int count = 0;
+    for (boolean match : matches) {
+      count += match ? 1 : 0;
+    }
+    int[] indexes = new int[count];
+    for (int i = 0, n = 0; i < matches.length; i++) {
+      if (matches[i]) {
+        indexes[n++] = i;
+      }
+    }
+    return indexes;
+  }
+
+  /**
+   * Deep copies the rows at the given indexes, keeping their order.
+   *
+   * @param rows     Source rows
+   * @param indexes  Indexes of the rows to copy, in output order
+   * @param parallel Whether large selections may be copied in parallel
+   * @return Independent row copies
+   */
+  public static List<Row> copyRows(List<Row> rows, int[] indexes, boolean parallel) {
+    List<Row> source = randomAccess(rows);
+    Row[] copies = new Row[indexes.length];
+    forEachRange(copies.length, parallel, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        copies[i] = TableUtil.copyRow(source.get(indexes[i]));
+      }
+    });
+    return new ArrayList<>(Arrays.asList(copies));
+  }
+
+  private static List<Row> randomAccess(List<Row> rows) {
+    return rows instanceof RandomAccess ? rows : new ArrayList<>(rows);
+  }
+
+  /**
+   * Splits its range in halves until it is small enough to run directly.
+   */
+  private static final class RangeAction extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int from;
+    private final int to;
+    private final int rangeSize;
+    private final RangeTask task;
+    private final Failure failure;
+
+    private RangeAction(int from, int to, int rangeSize, RangeTask task, Failure failure) {
+      this.from = from;
+      this.to = to;
+      this.rangeSize = rangeSize;
+      this.task = task;
+      this.failure = failure;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= rangeSize) {
+        // Ranges after a failure would be discarded anyway
+        if (failure.isAfterFailure(from)) {
+          return;
+        }
+        try {
+          task.run(from, to);
+        } catch (RuntimeException | Error e) {
+          failure.record(from, e);
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new RangeAction(from, middle, rangeSize, task, failure),
+          new RangeAction(middle, to, rangeSize, task, failure));
+    }
+  }
+
+  /**
+   * Keeps the exception of the lowest failing range.
+   */
+  private static final class Failure {
+
+    private int from = Integer.MAX_VALUE;
+    private Throwable error;
+
+    synchronized boolean isAfterFailure(int rangeStart) {
+      return rangeStart > from;
+    }
+
+    synchronized void record(int rangeStart, Throwable e) {
+      if (rangeStart < from) {
+        from = rangeStart;
+        error = e;
+      }
+    }
+
+    synchronized void rethrow() {
+      if (error instanceof RuntimeException) {
+        throw (RuntimeException) error;
+      }
+      if (error instanceof Error) {
+        throw (Error) error;
+      }
+    }
+  }
+
+}
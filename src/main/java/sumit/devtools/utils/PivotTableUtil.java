@@ -4,6 +4,7 @@ import com.automationanywhere.botcommand.exception.BotCommandException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.Cell;
@@ -213,8 +214,8 @@ public class PivotTableUtil {
         continue;
       }
 
-      // Convert to lowercase for case-insensitive comparison
-      String normalizedHeader = headerValue.toLowerCase();
+      // Trim and lower-case, the same way column names are looked up in the headers
+      String normalizedHeader = headerValue.trim().toLowerCase(Locale.ROOT);
 
       // Check for duplicate header
       if (headerMap.containsKey(normalizedHeader)) {
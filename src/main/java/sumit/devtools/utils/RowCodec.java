@@ -0,0 +1,301 @@
+package sumit.devtools.utils;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.BooleanValue;
+import com.automationanywhere.botcommand.data.impl.DateTimeValue;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary format for table rows. A row is its cell count followed by the cells; each cell
+ * is a type tag followed by its data, so numbers, booleans and dates read back with their type.
+ * <ul>
+ *   <li>Empty: tag only</li>
+ *   <li>Text: length in bytes, then UTF-8 bytes</li>
+ *   <li>Number: 8-byte IEEE double</li>
+ *   <li>Boolean: a tag for true and one for false</li>
+ *   <li>Date and time: epoch seconds, nanoseconds and zone id</li>
+ * </ul>
+ * Counts and lengths are unsigned variable-length integers (7 bits per byte). Cells of other
+ * types are written as their text.
+ *
+ * @author Sumit Kumar
+ */
+public final class RowCodec {
+
+  private static final int EMPTY = 0;
+  private static final int TEXT = 1;
+  private static final int NUMBER = 2;
+  private static final int TRUE = 3;
+  private static final int FALSE = 4;
+  private static final int DATETIME = 5;
+
+  private RowCodec() {
+  }
+
+  /**
+   * Writes one row.
+   *
+   * @param row Row to write; a null row is written as a row without cells
+   * @param out Destination
+   * @throws IOException If writing fails
+   */
+  public static void writeRow(Row row, DataOutput out) throws IOException {
+    List<Value> values = row == null || row.getValues() == null ? null : row.getValues();
+    int size = values == null ? 0 : values.size();
+    writeVarInt(size, out);
+    for (int i = 0; i < size; i++) {
+      writeValue(values.get(i), out);
+    }
+  }
+
+  /**
+   * Reads one row.
+   *
+   * @param in Source positioned at the start of a row
+   * @return The row, or null if the source is at its end
+   * @throws EOFException If the source ends inside a row
+   * @throws IOException  If reading fails or the data is not in this format
+   */
+  public static Row readRow(DataInputStream in) throws IOException {
+    int first = in.read();
+    if (first < 0) {
+      return null;
+    }
+    int size = readVarInt(first, in);
+    List<Value> values = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      values.add(readValue(in));
+    }
+    return new Row(values);
+  }
+
+  /**
+   * Estimates the heap used by a row, for callers that keep rows within a memory budget.
+   *
+   * @return Approximate size in bytes
+   */
+  public static long estimateSize(Row row) {
+    // Row, value list and array headers
+    long size = 64;
+    if (row != null && row.getValues() != null) {
+      for (Value value : row.getValues()) {
+        // Reference, value object and boxed or string object
+        size += 48;
+        if (value instanceof StringValue && value.get() != null) {
+          size += 2L * ((StringValue) value).get().length();
+        }
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Writes one cell.
+   *
+   * @param value Cell to write, may be null
+   * @param out   Destination
+   * @throws IOException If writing fails
+   */
+  public static void writeValue(Value value, DataOutput out) throws IOException {
+    if (value == null || value.get() == null) {
+      out.writeByte(EMPTY);
+    } else if (value instanceof NumberValue) {
+      out.writeByte(NUMBER);
+      out.writeDouble(((NumberValue) value).get());
+    } else if (value instanceof BooleanValue) {
+      out.writeByte(((BooleanValue) value).get() ? TRUE : FALSE);
+    } else if (value instanceof DateTimeValue) {
+      ZonedDateTime dateTime = ((DateTimeValue) value).get();
+      out.writeByte(DATETIME);
+      out.writeLong(dateTime.toEpochSecond());
+      out.writeInt(dateTime.getNano());
+      writeText(dateTime.getZone().getId(), out);
+    } else {
+      out.writeByte(TEXT);
+      writeText(value instanceof StringValue
+          ? ((StringValue) value).get() : CsvUtil.toCellText(value), out);
+    }
+  }
+
+  private static Value readValue(DataInputStream in) throws IOException {
+    int tag = in.readUnsignedByte();
+    switch (tag) {
+      case EMPTY:
+        return new StringValue();
+      case TEXT:
+        return new StringValue(readText(in));
+      case NUMBER:
+        return new NumberValue(in.readDouble());
+      case TRUE:
+        return new BooleanValue(true);
+      case FALSE:
+        return new BooleanValue(false);
+      case DATETIME:
+        long seconds = in.readLong();
+        int nanos = in.readInt();
+        return new DateTimeValue(ZonedDateTime.ofInstant(Instant.ofEpochSecond(seconds, nanos),
+            ZoneId.of(readText(in))));
+      default:
+        throw new IOException("Invalid cell type " + tag + "; the data is not a binary table");
+    }
+  }
+
+  /**
+   * Reads one cell from a buffer, advancing its position.
+   *
+   * @param in Buffer positioned at the start of a cell
+   * @return The cell
+   * @throws IOException If the buffer ends inside the cell or the data is not in this format
+   */
+  public static Value readValue(ByteBuffer in) throws IOException {
+    try {
+      int tag = in.get() & 0xFF;
+      switch (tag) {
+        case EMPTY:
+          return new StringValue();
+        case TEXT:
+          return new StringValue(readText(in));
+        case NUMBER:
+          return new NumberValue(in.getDouble());
+        case TRUE:
+          return new BooleanValue(true);
+        case FALSE:
+          return new BooleanValue(false);
+        case DATETIME:
+          long seconds = in.getLong();
+          int nanos = in.getInt();
+          return new DateTimeValue(ZonedDateTime.ofInstant(Instant.ofEpochSecond(seconds, nanos),
+              ZoneId.of(readText(in))));
+        default:
+          throw new IOException("Invalid cell type " + tag + "; the data is not a binary table");
+      }
+    } catch (BufferUnderflowException e) {
+      throw new EOFException("Data ends inside a cell");
+    }
+  }
+
+  /**
+   * Moves a buffer past one cell without decoding it.
+   *
+   * @param in Buffer positioned at the start of a cell
+   * @throws IOException If the buffer ends inside the cell or the data is not in this format
+   */
+  public static void skipValue(ByteBuffer in) throws IOException {
+    try {
+      int tag = in.get() & 0xFF;
+      switch (tag) {
+        case EMPTY:
+        case TRUE:
+        case FALSE:
+          return;
+        case TEXT:
+          skipText(in);
+          return;
+        case NUMBER:
+          in.position(in.position() + 8);
+          return;
+        case DATETIME:
+          in.position(in.position() + 12);
+          skipText(in);
+          return;
+        default:
+          throw new IOException("Invalid cell type " + tag + "; the data is not a binary table");
+      }
+    } catch (BufferUnderflowException | IllegalArgumentException e) {
+      // position() rejects a position past the limit
+      throw new EOFException("Data ends inside a cell");
+    }
+  }
+
+  private static void skipText(ByteBuffer in) throws IOException {
+    int length = readVarInt(in);
+    in.position(in.position() + length);
+  }
+
+  /**
+   * Writes text as its UTF-8 length followed by the bytes.
+   */
+  public static void writeText(String text, DataOutput out) throws IOException {
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    writeVarInt(bytes.length, out);
+    out.write(bytes);
+  }
+
+  private static String readText(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[readVarInt(in.readUnsignedByte(), in)];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Reads text written by {@link #writeText} from a buffer, advancing its position.
+   */
+  public static String readText(ByteBuffer in) throws IOException {
+    int length = readVarInt(in);
+    if (length > in.remaining()) {
+      throw new EOFException("Data ends inside a text cell");
+    }
+    String text;
+    if (in.hasArray()) {
+      // Decoded in place, without copying the bytes first
+      text = new String(in.array(), in.arrayOffset() + in.position(), length,
+          StandardCharsets.UTF_8);
+      in.position(in.position() + length);
+    } else {
+      byte[] bytes = new byte[length];
+      in.get(bytes);
+      text = new String(bytes, StandardCharsets.UTF_8);
+    }
+    return text;
+  }
+
+  private static int readVarInt(ByteBuffer in) throws IOException {
+    int value = 0;
+    for (int shift = 0; ; shift += 7) {
+      if (shift > 28) {
+        throw new IOException("Invalid length; the data is not a binary table");
+      }
+      int b = in.get() & 0xFF;
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+  }
+
+  private static void writeVarInt(int value, DataOutput out) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  private static int readVarInt(int first, DataInputStream in) throws IOException {
+    int value = first & 0x7F;
+    int b = first;
+    for (int shift = 7; (b & 0x80) != 0; shift += 7) {
+      if (shift > 28) {
+        throw new IOException("Invalid length; the data is not a binary table");
+      }
+      b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+    }
+    return value;
+  }
+
+}
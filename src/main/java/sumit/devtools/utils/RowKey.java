@@ -0,0 +1,129 @@
+package sumit.devtools.utils;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.model.table.Row;
+
+/**
+ * Hash key over selected cells of a table row. The hash is computed once from the cells
+ * themselves and equality compares the cells one by one, so no combined key is built per row and
+ * hash collisions never merge different keys.
+ * <p>
+ * Cells compare by their text, as {@link AggregationUtil#toKeyText} does for grouping and joins:
+ * numbers are written without trailing zeros, so the number 1 and the text '1' are the same key,
+ * text follows the case sensitivity of the key and empty cells equal each other.
+ *
+ * @author Sumit Kumar
+ */
+public final class RowKey {
+
+  private final Row row;
+  private final int[] columns;
+  private final boolean caseSensitive;
+  private final int hash;
+
+  /**
+   * @param row           Row the key refers to; it is not copied
+   * @param columns       Indexes of the key cells, in order
+   * @param caseSensitive Whether text cells that differ only in case are different keys
+   */
+  public RowKey(Row row, int[] columns, boolean caseSensitive) {
+    this.row = row;
+    this.columns = columns;
+    this.caseSensitive = caseSensitive;
+
+    int h = 1;
+    for (int column : columns) {
+      h = 31 * h + hashCell(cell(column));
+    }
+    this.hash = h;
+  }
+
+  public Row getRow() {
+    return row;
+  }
+
+  /**
+   * @return The key cell at the given key position, or null if the row is too short
+   */
+  public Value getKeyValue(int keyIndex) {
+    return cell(columns[keyIndex]);
+  }
+
+  /**
+   * @return true if every key cell is empty
+   */
+  public boolean isEmpty() {
+    for (int column : columns) {
+      if (!textOf(cell(column)).isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Value cell(int column) {
+    if (row == null || row.getValues() == null || column >= row.getValues().size()) {
+      return null;
+    }
+    return row.getValues().get(column);
+  }
+
+  private int hashCell(Value value) {
+    String text = textOf(value);
+    if (text.isEmpty()) {
+      return 0;
+    }
+    if (caseSensitive) {
+      return text.hashCode();
+    }
+    // Same folding as String.equalsIgnoreCase, without building a lower-case copy
+    int h = 0;
+    for (int i = 0; i < text.length(); i++) {
+      h = 31 * h + Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+    }
+    return h;
+  }
+
+  /**
+   * Compares two cells with the same rules the key uses.
+   */
+  public static boolean cellsEqual(Value a, Value b, boolean caseSensitive) {
+    String textA = textOf(a);
+    String textB = textOf(b);
+    return caseSensitive ? textA.equals(textB) : textA.equalsIgnoreCase(textB);
+  }
+
+  private boolean cellEquals(Value a, Value b) {
+    return cellsEqual(a, b, caseSensitive);
+  }
+
+  private static String textOf(Value value) {
+    return CsvUtil.toCellText(value);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof RowKey)) {
+      return false;
+    }
+    RowKey other = (RowKey) obj;
+    if (hash != other.hash || columns.length != other.columns.length) {
+      return false;
+    }
+    for (int i = 0; i < columns.length; i++) {
+      if (!cellEquals(cell(columns[i]), other.cell(other.columns[i]))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
@@ -4,8 +4,15 @@ import com.automationanywhere.botcommand.data.Value;
 import com.automationanywhere.botcommand.data.impl.DateTimeValue;
 import com.automationanywhere.botcommand.data.impl.NumberValue;
 import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.ToIntFunction;
 
 public class SortUtil {
 
@@ -54,4 +61,254 @@ public class SortUtil {
     return getAscendingComparator(caseSensitive).reversed();
   }
 
-}
\ No newline at end of file
+  /**
+   * Row count from which {@link #sortRows} uses a parallel merge sort when allowed.
+   */
+  public static final int PARALLEL_THRESHOLD = ParallelRows.PARALLEL_THRESHOLD;
+
+  /**
+   * Sorts table rows by several columns, with the same comparison rules as the list sorts:
+   * numbers, text and dates compare within their own type and mixing types is an error. Empty
+   * cells sort last in either direction.
+   * <p>
+   * Sort keys are extracted once per row before sorting, so comparisons work on plain doubles,
+   * strings and dates instead of unwrapping values on every comparison. The sort is stable.
+   *
+   * @param rows          Rows to sort, not modified
+   * @param columns       Column indexes, most significant first
+   * @param descending    Direction of each column
+   * @param caseSensitive Text comparison of each column
+   * @param parallel      Whether to use a parallel sort when there are at least
+   *                      {@link #PARALLEL_THRESHOLD} rows
+   * @return New list with the same row objects in sorted order
+   * @throws IllegalArgumentException If a column holds values of different types
+   */
+  public static List<Row> sortRows(List<Row> rows, int[] columns, boolean[] descending,
+      boolean[] caseSensitive, boolean parallel) {
+    return sortRows(rows, new SortColumns(columns, descending, caseSensitive,
+        new boolean[columns.length]), parallel);
+  }
+
+  /**
+   * Sorts table rows as {@link #sortRows(List, int[], boolean[], boolean[], boolean)} does, with
+   * numeric columns comparing text cells as numbers.
+   *
+   * @param rows     Rows to sort, not modified
+   * @param sort     Sort columns
+   * @param parallel Whether to use a parallel sort when there are at least
+   *                 {@link #PARALLEL_THRESHOLD} rows
+   * @return New list with the same row objects in sorted order
+   * @throws IllegalArgumentException If a column holds values of different types, or a numeric
+   *                                  column holds text that is not a number
+   */
+  public static List<Row> sortRows(List<Row> rows, SortColumns sort, boolean parallel) {
+    SortEntry[] entries = new SortEntry[rows.size()];
+    Class<?>[] columnTypes = new Class<?>[sort.columns.length];
+
+    // Decorate: one key array per row, type checked per column up front
+    for (int r = 0; r < entries.length; r++) {
+      Row row = rows.get(r);
+      Object[] keys = toSortKeys(row, sort);
+      for (int c = 0; c < keys.length; c++) {
+        Object key = keys[c];
+        if (key != null) {
+          if (columnTypes[c] == null) {
+            columnTypes[c] = key.getClass();
+          } else if (columnTypes[c] != key.getClass()) {
+            throw new IllegalArgumentException("Cannot compare values of different types " +
+                columnTypes[c].getSimpleName() + " and " + key.getClass().getSimpleName() +
+                " in sort column " + (c + 1) + " at row " + (r + 1));
+          }
+        }
+      }
+      entries[r] = new SortEntry(row, keys);
+    }
+
+    Comparator<SortEntry> comparator = (e1, e2) -> compareSortKeys(e1.keys, e2.keys, sort);
+    if (parallel && entries.length >= PARALLEL_THRESHOLD) {
+      Arrays.parallelSort(entries, comparator);
+    } else {
+      Arrays.sort(entries, comparator);
+    }
+
+    // Undecorate
+    List<Row> sorted = new ArrayList<>(entries.length);
+    for (SortEntry entry : entries) {
+      sorted.add(entry.row);
+    }
+    return sorted;
+  }
+
+  /**
+   * Extracts the sort keys of a row, for callers that compare rows outside of
+   * {@link #sortRows}, such as merging sorted runs.
+   *
+   * @return One key per sort column: Double, String or ZonedDateTime, or null for an empty cell
+   * @throws IllegalArgumentException If a numeric column holds text that is not a number
+   */
+  public static Object[] toSortKeys(Row row, SortColumns sort) {
+    Object[] keys = new Object[sort.columns.length];
+    for (int c = 0; c < keys.length; c++) {
+      Value value = AggregationUtil.cell(row, sort.columns[c]);
+      keys[c] = sort.numeric[c] ? AggregationUtil.toNumber(value) : toSortKey(value);
+    }
+    return keys;
+  }
+
+  /**
+   * Compares two key arrays from {@link #toSortKeys} with the rules of {@link #sortRows}.
+   *
+   * @throws IllegalArgumentException If keys of one column have different types
+   */
+  public static int compareSortKeys(Object[] k1, Object[] k2, SortColumns sort) {
+    for (int c = 0; c < k1.length; c++) {
+      Object key1 = k1[c];
+      Object key2 = k2[c];
+      if (key1 == null || key2 == null) {
+        if (key1 != key2) {
+          // Empty cells last regardless of direction
+          return key1 == null ? 1 : -1;
+        }
+        continue;
+      }
+
+      int result;
+      if (key1.getClass() != key2.getClass()) {
+        throw new IllegalArgumentException("Cannot compare values of different types " +
+            key1.getClass().getSimpleName() + " and " + key2.getClass().getSimpleName() +
+            " in sort column " + (c + 1));
+      } else if (key1 instanceof Double) {
+        result = Double.compare((Double) key1, (Double) key2);
+      } else if (key1 instanceof String) {
+        result = sort.caseSensitive[c]
+            ? ((String) key1).compareTo((String) key2)
+            : ((String) key1).compareToIgnoreCase((String) key2);
+      } else {
+        result = ((ZonedDateTime) key1).compareTo((ZonedDateTime) key2);
+      }
+      if (result != 0) {
+        return sort.descending[c] ? -result : result;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Parses sort column entries. Each entry is a column followed by optional options, read from
+   * the end so column names may contain spaces: ASC or DESC, CASE_SENSITIVE or
+   * CASE_INSENSITIVE, and NUMERIC to compare text cells as numbers.
+   *
+   * @param entries     Sort column entries, most significant first
+   * @param defaultCase Case sensitivity of entries without a case option
+   * @param resolver    Resolves a column name to its index, failing if it does not exist
+   * @return Parsed sort columns
+   * @throws BotCommandException If there are no entries or an entry has no column name
+   */
+  public static SortColumns parseSortColumns(List<StringValue> entries, boolean defaultCase,
+      ToIntFunction<String> resolver) {
+    if (entries == null || entries.isEmpty()) {
+      throw new BotCommandException("No sort columns provided");
+    }
+
+    int[] columns = new int[entries.size()];
+    boolean[] descending = new boolean[columns.length];
+    boolean[] columnCase = new boolean[columns.length];
+    boolean[] numeric = new boolean[columns.length];
+
+    for (int i = 0; i < columns.length; i++) {
+      StringValue entry = entries.get(i);
+      String spec = entry == null || entry.get() == null ? "" : entry.get().trim();
+      List<String> tokens = new ArrayList<>(Arrays.asList(spec.split("\\s+")));
+      columnCase[i] = defaultCase;
+
+      while (tokens.size() > 1) {
+        String option = tokens.get(tokens.size() - 1).toUpperCase(Locale.ROOT);
+        if ("ASC".equals(option)) {
+          descending[i] = false;
+        } else if ("DESC".equals(option)) {
+          descending[i] = true;
+        } else if ("CASE_SENSITIVE".equals(option)) {
+          columnCase[i] = true;
+        } else if ("CASE_INSENSITIVE".equals(option)) {
+          columnCase[i] = false;
+        } else if ("NUMERIC".equals(option)) {
+          numeric[i] = true;
+        } else {
+          break;
+        }
+        tokens.remove(tokens.size() - 1);
+      }
+
+      String columnName = String.join(" ", tokens);
+      if (columnName.isEmpty()) {
+        throw new BotCommandException("Sort column " + (i + 1) + " has no column name");
+      }
+      columns[i] = resolver.applyAsInt(columnName);
+    }
+    return new SortColumns(columns, descending, columnCase, numeric);
+  }
+
+  /**
+   * Extracts the comparable part of a value.
+   *
+   * @return Double, String or ZonedDateTime, or null for an empty cell
+   * @throws UnsupportedOperationException If the value type cannot be sorted
+   */
+  private static Object toSortKey(Value value) {
+    if (value == null || value.get() == null) {
+      return null;
+    }
+    if (value instanceof NumberValue) {
+      return ((NumberValue) value).get();
+    }
+    if (value instanceof StringValue) {
+      String text = ((StringValue) value).get();
+      return text.isEmpty() ? null : text;
+    }
+    if (value instanceof DateTimeValue) {
+      return ((DateTimeValue) value).get();
+    }
+    throw new UnsupportedOperationException("Unsupported value type " + value.getClass());
+  }
+
+  /**
+   * Columns, directions and comparison options of a multi-column sort.
+   */
+  public static final class SortColumns {
+
+    private final int[] columns;
+    private final boolean[] descending;
+    private final boolean[] caseSensitive;
+    private final boolean[] numeric;
+
+    /**
+     * @param columns       Column indexes, most significant first
+     * @param descending    Direction of each column
+     * @param caseSensitive Text comparison of each column
+     * @param numeric       Whether text cells of each column compare as numbers
+     */
+    public SortColumns(int[] columns, boolean[] descending, boolean[] caseSensitive,
+        boolean[] numeric) {
+      this.columns = columns;
+      this.descending = descending;
+      this.caseSensitive = caseSensitive;
+      this.numeric = numeric;
+    }
+
+    public int[] getColumns() {
+      return columns;
+    }
+  }
+
+  private static final class SortEntry {
+
+    private final Row row;
+    private final Object[] keys;
+
+    private SortEntry(Row row, Object[] keys) {
+      this.row = row;
+      this.keys = keys;
+    }
+  }
+
+}
@@ -0,0 +1,1049 @@
+package sumit.devtools.utils;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Compiles row conditions over table columns, such as {@code Amount > 1000 AND Status = 'OPEN'},
+ * into a predicate tree. Parsing and column lookup happen once, so evaluating a row only reads the
+ * referenced cells.
+ * <p>
+ * Syntax:
+ * <ul>
+ *   <li>Columns: {@code Name}, or {@code [Unit Price]} / {@code "Unit Price"} for names with
+ *   spaces</li>
+ *   <li>Literals: numbers ({@code 10}, {@code -2.5}) and text in single quotes
+ *   ({@code 'O''Brien'})</li>
+ *   <li>Comparisons: {@code = != <> < <= > >=}, {@code CONTAINS}, {@code STARTS_WITH},
+ *   {@code ENDS_WITH}, {@code IN (...)}, {@code IS EMPTY}, {@code IS NOT EMPTY}</li>
+ *   <li>Logic: {@code AND}, {@code OR}, {@code NOT} and parentheses</li>
+ * </ul>
+ * Comparisons with a number literal are numeric; cells that are empty or not a number do not match
+ * them. Comparisons between two columns are numeric when both cells are numbers and textual
+ * otherwise.
+ * <p>
+ * {@link #compileColumn(String, List, boolean)} compiles value expressions for computed columns,
+ * such as {@code Qty * Price} or {@code CONCAT(First, ' ', Last)}, with {@code + - * / %},
+ * parentheses and the functions {@code CONCAT, UPPER, LOWER, TRIM, LENGTH, ROUND, ABS, MIN, MAX}.
+ * They are evaluated a column at a time: each referenced column is converted to a number or text
+ * array once and every operator runs as one loop over the arrays.
+ *
+ * @author Sumit Kumar
+ */
+public class TableExpression {
+
+  private final List<Token> tokens;
+  private final List<Schema> schema;
+  private final boolean caseSensitive;
+  private int position = 0;
+
+  private TableExpression(String expression, List<Schema> schema, boolean caseSensitive) {
+    this.tokens = tokenize(expression);
+    this.schema = schema;
+    this.caseSensitive = caseSensitive;
+  }
+
+  /**
+   * Compiles a condition into a row predicate.
+   *
+   * @param expression    Condition text
+   * @param schema        Schema of the table the predicate will be applied to
+   * @param caseSensitive Whether column names and text comparisons are case-sensitive
+   * @return Predicate that is true for matching rows
+   * @throws BotCommandException If the condition is invalid or references unknown columns
+   */
+  public static Predicate<Row> compilePredicate(String expression, List<Schema> schema,
+      boolean caseSensitive) {
+    if (expression == null || expression.trim().isEmpty()) {
+      throw new BotCommandException("Condition cannot be empty");
+    }
+    TableExpression parser = new TableExpression(expression, schema, caseSensitive);
+    Predicate<Row> predicate = parser.parseOr();
+    if (parser.peek().type != TokenType.END) {
+      throw parser.error("Unexpected '" + parser.peek().text + "'");
+    }
+    return predicate;
+  }
+
+  /**
+   * Compiles a value expression for a computed column.
+   *
+   * @param expression    Expression text, e.g. {@code Qty * Price}
+   * @param schema        Schema of the table the expression will be evaluated on
+   * @param caseSensitive Whether column names are case-sensitive
+   * @return Compiled expression
+   * @throws BotCommandException If the expression is invalid or references unknown columns
+   */
+  public static ComputedColumn compileColumn(String expression, List<Schema> schema,
+      boolean caseSensitive) {
+    if (expression == null || expression.trim().isEmpty()) {
+      throw new BotCommandException("Expression cannot be empty");
+    }
+    TableExpression parser = new TableExpression(expression, schema, caseSensitive);
+    Node root = parser.parseAdditive();
+    if (parser.peek().type != TokenType.END) {
+      throw parser.error("Unexpected '" + parser.peek().text + "'");
+    }
+    return new ComputedColumn(root);
+  }
+
+  /**
+   * Compiled value expression, see {@link #compileColumn(String, List, boolean)}.
+   */
+  public static final class ComputedColumn {
+
+    private final Node root;
+
+    private ComputedColumn(Node root) {
+      this.root = root;
+    }
+
+    /**
+     * Evaluates the expression for every row. Arithmetic results are numbers, text functions give
+     * text and a bare column gives copies of its cells. Rows where an operand is empty give an
+     * empty cell.
+     *
+     * @param rows Rows of a table with the schema the expression was compiled for
+     * @return One value per row, in row order
+     * @throws BotCommandException If a cell used in arithmetic is not a number, or on division by
+     *                             zero
+     */
+    public List<Value> evaluate(List<Row> rows) {
+      return evaluate(rows, false);
+    }
+
+    /**
+     * Same as {@link #evaluate(List)}, optionally splitting large tables into row ranges that are
+     * evaluated in parallel. The result and any error are the same either way.
+     *
+     * @param rows     Rows of a table with the schema the expression was compiled for
+     * @param parallel Whether large tables may be evaluated in parallel
+     * @return One value per row, in row order
+     */
+    public List<Value> evaluate(List<Row> rows, boolean parallel) {
+      List<Row> source = rows instanceof RandomAccess ? rows : new ArrayList<>(rows);
+      Value[] values = new Value[source.size()];
+      ParallelRows.forEachRange(values.length, parallel, (from, to) ->
+          evaluateRange(new Batch(source.subList(from, to), from), values));
+      return new ArrayList<>(Arrays.asList(values));
+    }
+
+    private void evaluateRange(Batch batch, Value[] values) {
+      if (root instanceof ColumnNode) {
+        int index = ((ColumnNode) root).index;
+        for (int i = 0; i < batch.size; i++) {
+          Value cell = AggregationUtil.cell(batch.rows.get(i), index);
+          values[batch.offset + i] = cell == null ? new StringValue("")
+              : ValueUtil.deepCopyValue(cell);
+        }
+      } else if (root.isNumeric()) {
+        double[] numbers = root.numbers(batch);
+        for (int i = 0; i < batch.size; i++) {
+          values[batch.offset + i] = Double.isNaN(numbers[i]) ? new StringValue("")
+              : new NumberValue(numbers[i]);
+        }
+      } else {
+        String[] texts = root.texts(batch);
+        for (int i = 0; i < batch.size; i++) {
+          values[batch.offset + i] = new StringValue(texts[i]);
+        }
+      }
+    }
+  }
+
+  // ---------------------------------------------------------------------------------------------
+  // Parser
+
+  private Predicate<Row> parseOr() {
+    Predicate<Row> left = parseAnd();
+    while (acceptKeyword("OR")) {
+      left = left.or(parseAnd());
+    }
+    return left;
+  }
+
+  private Predicate<Row> parseAnd() {
+    Predicate<Row> left = parseNot();
+    while (acceptKeyword("AND")) {
+      left = left.and(parseNot());
+    }
+    return left;
+  }
+
+  private Predicate<Row> parseNot() {
+    if (acceptKeyword("NOT")) {
+      return parseNot().negate();
+    }
+    return parseComparison();
+  }
+
+  private Predicate<Row> parseComparison() {
+    // A parenthesis here is a grouped condition, operands never start with one
+    if (acceptSymbol("(")) {
+      Predicate<Row> inner = parseOr();
+      expectSymbol(")");
+      return inner;
+    }
+
+    Operand left = parseOperand();
+
+    if (acceptKeyword("IS")) {
+      boolean negate = acceptKeyword("NOT");
+      expectKeyword("EMPTY");
+      Predicate<Row> isEmpty = row -> left.text(row).isEmpty();
+      return negate ? isEmpty.negate() : isEmpty;
+    }
+
+    boolean negate = acceptKeyword("NOT");
+    if (acceptKeyword("IN")) {
+      Predicate<Row> in = parseIn(left);
+      return negate ? in.negate() : in;
+    }
+    for (String keyword : new String[]{"CONTAINS", "STARTS_WITH", "ENDS_WITH"}) {
+      if (acceptKeyword(keyword)) {
+        Predicate<Row> match = textMatch(keyword, left, parseOperand());
+        return negate ? match.negate() : match;
+      }
+    }
+    if (negate) {
+      throw error("Expected IN, CONTAINS, STARTS_WITH or ENDS_WITH after NOT");
+    }
+
+    Token operator = peek();
+    if (operator.type != TokenType.SYMBOL || !isComparison(operator.text)) {
+      throw error("Expected a comparison after '" + left.describe() + "'");
+    }
+    position++;
+    return compare(left, operator.text, parseOperand());
+  }
+
+  private Predicate<Row> parseIn(Operand left) {
+    expectSymbol("(");
+    List<Operand> options = new ArrayList<>();
+    do {
+      options.add(parseOperand());
+    } while (acceptSymbol(","));
+    expectSymbol(")");
+
+    // Literal lists become a set lookup, anything else is compared one by one
+    boolean allLiterals = options.stream().allMatch(option -> option instanceof Literal);
+    if (allLiterals) {
+      boolean numeric = options.stream().allMatch(option -> ((Literal) option).number != null);
+      if (numeric) {
+        Set<Double> numbers = new HashSet<>();
+        options.forEach(option -> numbers.add(((Literal) option).number));
+        return row -> {
+          Double number = left.number(row);
+          return number != null && numbers.contains(number);
+        };
+      }
+      Set<String> texts = new HashSet<>();
+      options.forEach(option -> texts.add(normalize(((Literal) option).text)));
+      return row -> texts.contains(normalize(left.text(row)));
+    }
+
+    Predicate<Row> any = row -> false;
+    for (Operand option : options) {
+      any = any.or(compare(left, "=", option));
+    }
+    return any;
+  }
+
+  private Operand parseOperand() {
+    Token token = peek();
+    if (token.type == TokenType.SYMBOL && "-".equals(token.text)
+        && peek(1).type == TokenType.NUMBER) {
+      position += 2;
+      return new Literal("-" + peek(-1).text);
+    }
+    position++;
+    switch (token.type) {
+      case NUMBER:
+      case STRING:
+        return new Literal(token.text, token.type == TokenType.NUMBER);
+      case IDENTIFIER:
+      case QUOTED_IDENTIFIER:
+        return new ColumnOperand(token.text,
+            TableUtil.requireColumnIndex(schema, token.text, caseSensitive));
+      default:
+        position--;
+        throw error(token.type == TokenType.END
+            ? "Condition ends unexpectedly"
+            : "Expected a column or value but found '" + token.text + "'");
+    }
+  }
+
+  // ---------------------------------------------------------------------------------------------
+  // Predicate builders
+
+  private Predicate<Row> compare(Operand left, String operator, Operand right) {
+    boolean numeric = isNumberLiteral(left) || isNumberLiteral(right);
+    boolean bothColumns = !(left instanceof Literal) && !(right instanceof Literal);
+
+    if (numeric) {
+      return row -> {
+        Double a = left.number(row);
+        Double b = right.number(row);
+        return a != null && b != null && test(operator, Double.compare(a, b));
+      };
+    }
+    if (bothColumns) {
+      return row -> {
+        Double a = left.number(row);
+        Double b = right.number(row);
+        if (a != null && b != null) {
+          return test(operator, Double.compare(a, b));
+        }
+        return test(operator, compareText(left.text(row), right.text(row)));
+      };
+    }
+    return row -> test(operator, compareText(left.text(row), right.text(row)));
+  }
+
+  private Predicate<Row> textMatch(String keyword, Operand left, Operand right) {
+    return row -> {
+      String text = normalize(left.text(row));
+      String part = normalize(right.text(row));
+      switch (keyword) {
+        case "CONTAINS":
+          return text.contains(part);
+        case "STARTS_WITH":
+          return text.startsWith(part);
+        default:
+          return text.endsWith(part);
+      }
+    };
+  }
+
+  private int compareText(String a, String b) {
+    return caseSensitive ? a.compareTo(b) : a.compareToIgnoreCase(b);
+  }
+
+  private String normalize(String text) {
+    return caseSensitive ? text : text.toLowerCase(Locale.ROOT);
+  }
+
+  private static boolean test(String operator, int comparison) {
+    switch (operator) {
+      case "=":
+        return comparison == 0;
+      case "!=":
+      case "<>":
+        return comparison != 0;
+      case "<":
+        return comparison < 0;
+      case "<=":
+        return comparison <= 0;
+      case ">":
+        return comparison > 0;
+      default:
+        return comparison >= 0;
+    }
+  }
+
+  private static boolean isComparison(String symbol) {
+    switch (symbol) {
+      case "=":
+      case "!=":
+      case "<>":
+      case "<":
+      case "<=":
+      case ">":
+      case ">=":
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static boolean isNumberLiteral(Operand operand) {
+    return operand instanceof Literal && ((Literal) operand).number != null;
+  }
+
+  // ---------------------------------------------------------------------------------------------
+  // Operands
+
+  private interface Operand {
+
+    /**
+     * @return Cell text, empty for empty cells
+     */
+    String text(Row row);
+
+    /**
+     * @return Numeric value, or null if empty or not a number
+     */
+    Double number(Row row);
+
+    String describe();
+  }
+
+  private static final class Literal implements Operand {
+
+    private final String text;
+    private final Double number;
+
+    private Literal(String numberText) {
+      this(numberText, true);
+    }
+
+    private Literal(String text, boolean isNumber) {
+      Double parsed = isNumber ? Double.valueOf(text) : null;
+      this.number = parsed;
+      this.text = isNumber ? CsvUtil.toCellText(new NumberValue(parsed)) : text;
+    }
+
+    @Override
+    public String text(Row row) {
+      return text;
+    }
+
+    @Override
+    public Double number(Row row) {
+      return number;
+    }
+
+    @Override
+    public String describe() {
+      return text;
+    }
+  }
+
+  private static final class ColumnOperand implements Operand {
+
+    private final String name;
+    private final int index;
+
+    private ColumnOperand(String name, int index) {
+      this.name = name;
+      this.index = index;
+    }
+
+    private Value cell(Row row) {
+      if (row == null || row.getValues() == null || index >= row.getValues().size()) {
+        return null;
+      }
+      return row.getValues().get(index);
+    }
+
+    @Override
+    public String text(Row row) {
+      return CsvUtil.toCellText(cell(row));
+    }
+
+    @Override
+    public Double number(Row row) {
+      try {
+        return AggregationUtil.toNumber(cell(row));
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+    }
+
+    @Override
+    public String describe() {
+      return name;
+    }
+  }
+
+  // ---------------------------------------------------------------------------------------------
+  // Value expressions
+
+  private Node parseAdditive() {
+    Node left = parseMultiplicative();
+    while (peek().type == TokenType.SYMBOL && "+-".contains(peek().text)) {
+      char operator = peek().text.charAt(0);
+      position++;
+      left = new ArithmeticNode(operator, requireNumeric(left), requireNumeric(parseMultiplicative()));
+    }
+    return left;
+  }
+
+  private Node parseMultiplicative() {
+    Node left = parseUnary();
+    while (peek().type == TokenType.SYMBOL && "*/%".contains(peek().text)) {
+      char operator = peek().text.charAt(0);
+      position++;
+      left = new ArithmeticNode(operator, requireNumeric(left), requireNumeric(parseUnary()));
+    }
+    return left;
+  }
+
+  private Node parseUnary() {
+    if (acceptSymbol("-")) {
+      Node operand = requireNumeric(parseUnary());
+      if (operand instanceof NumberLiteral) {
+        return new NumberLiteral(-((NumberLiteral) operand).number);
+      }
+      return new NumberFunction(Collections.singletonList(operand), values -> -values[0]);
+    }
+    return parsePrimary();
+  }
+
+  private Node columnNode(Token token) {
+    return new ColumnNode(token.text,
+        TableUtil.requireColumnIndex(schema, token.text, caseSensitive));
+  }
+
+  private Node parsePrimary() {
+    Token token = peek();
+    position++;
+    switch (token.type) {
+      case NUMBER:
+        return new NumberLiteral(Double.parseDouble(token.text));
+      case STRING:
+        return new TextLiteral(token.text);
+      case IDENTIFIER:
+        if (acceptSymbol("(")) {
+          return parseFunction(token);
+        }
+        return columnNode(token);
+      case QUOTED_IDENTIFIER:
+        return columnNode(token);
+      default:
+        if ("(".equals(token.text)) {
+          Node inner = parseAdditive();
+          expectSymbol(")");
+          return inner;
+        }
+        position--;
+        throw error(token.type == TokenType.END
+            ? "Expression ends unexpectedly"
+            : "Expected a column, value or function but found '" + token.text + "'");
+    }
+  }
+
+  private Node parseFunction(Token name) {
+    List<Node> args = new ArrayList<>();
+    if (!acceptSymbol(")")) {
+      do {
+        args.add(parseAdditive());
+      } while (acceptSymbol(","));
+      expectSymbol(")");
+    }
+
+    String function = name.text.toUpperCase(Locale.ROOT);
+    switch (function) {
+      case "CONCAT":
+        requireArgs(name, args, 1, Integer.MAX_VALUE);
+        return new TextFunction(args, parts -> String.join("", parts));
+      case "UPPER":
+        requireArgs(name, args, 1, 1);
+        return new TextFunction(args, parts -> parts[0].toUpperCase(Locale.ROOT));
+      case "LOWER":
+        requireArgs(name, args, 1, 1);
+        return new TextFunction(args, parts -> parts[0].toLowerCase(Locale.ROOT));
+      case "TRIM":
+        requireArgs(name, args, 1, 1);
+        return new TextFunction(args, parts -> parts[0].trim());
+      case "LENGTH":
+        requireArgs(name, args, 1, 1);
+        return new LengthNode(args.get(0));
+      case "ROUND":
+        requireArgs(name, args, 1, 2);
+        return new NumberFunction(requireNumeric(args),
+            values -> round(values[0], values.length > 1 ? values[1] : 0));
+      case "ABS":
+        requireArgs(name, args, 1, 1);
+        return new NumberFunction(requireNumeric(args), values -> Math.abs(values[0]));
+      case "MIN":
+        requireArgs(name, args, 1, Integer.MAX_VALUE);
+        return new NumberFunction(requireNumeric(args), values -> {
+          double min = values[0];
+          for (double value : values) {
+            min = Math.min(min, value);
+          }
+          return min;
+        });
+      case "MAX":
+        requireArgs(name, args, 1, Integer.MAX_VALUE);
+        return new NumberFunction(requireNumeric(args), values -> {
+          double max = values[0];
+          for (double value : values) {
+            max = Math.max(max, value);
+          }
+          return max;
+        });
+      default:
+        throw new BotCommandException("Unknown function '" + name.text + "' at position " +
+            (name.offset + 1));
+    }
+  }
+
+  private void requireArgs(Token name, List<Node> args, int min, int max) {
+    if (args.size() < min || args.size() > max) {
+      String expected = min == max ? String.valueOf(min)
+          : max == Integer.MAX_VALUE ? "at least " + min : min + " to " + max;
+      throw new BotCommandException(name.text.toUpperCase(Locale.ROOT) + " expects " + expected +
+          " argument(s) at position " + (name.offset + 1));
+    }
+  }
+
+  private List<Node> requireNumeric(List<Node> nodes) {
+    nodes.forEach(this::requireNumeric);
+    return nodes;
+  }
+
+  private Node requireNumeric(Node node) {
+    // Columns are converted when evaluated; text literals and text functions never are numbers
+    if (node instanceof TextLiteral || node instanceof TextFunction) {
+      throw error("Arithmetic needs numbers, use CONCAT to join text");
+    }
+    return node;
+  }
+
+  private static double round(double value, double digits) {
+    if (Double.isInfinite(value)) {
+      return value;
+    }
+    return BigDecimal.valueOf(value).setScale((int) digits, RoundingMode.HALF_UP).doubleValue();
+  }
+
+  /**
+   * Range of rows being evaluated, with each referenced column converted at most once per form.
+   * A batch is used by one thread only.
+   */
+  private static final class Batch {
+
+    private final List<Row> rows;
+    private final int size;
+    // Index of the first row in the table, for error messages
+    private final int offset;
+    private final Map<Integer, double[]> numbers = new HashMap<>();
+    private final Map<Integer, String[]> texts = new HashMap<>();
+
+    private Batch(List<Row> rows, int offset) {
+      this.rows = rows;
+      this.size = rows.size();
+      this.offset = offset;
+    }
+
+    private double[] numbers(ColumnNode column) {
+      return numbers.computeIfAbsent(column.index, index -> {
+        double[] result = new double[size];
+        for (int i = 0; i < size; i++) {
+          Value cell = AggregationUtil.cell(rows.get(i), index);
+          try {
+            Double number = AggregationUtil.toNumber(cell);
+            result[i] = number == null ? Double.NaN : number;
+          } catch (IllegalArgumentException e) {
+            throw new BotCommandException(e.getMessage() + " in column '" + column.name +
+                "' at row " + (offset + i + 1));
+          }
+        }
+        return result;
+      });
+    }
+
+    private String[] texts(ColumnNode column) {
+      return texts.computeIfAbsent(column.index, index -> {
+        String[] result = new String[size];
+        for (int i = 0; i < size; i++) {
+          result[i] = CsvUtil.toCellText(AggregationUtil.cell(rows.get(i), index));
+        }
+        return result;
+      });
+    }
+  }
+
+  /**
+   * Expression node evaluated over all rows of a batch at once. Empty or missing numbers are NaN.
+   */
+  private abstract static class Node {
+
+    abstract boolean isNumeric();
+
+    abstract double[] numbers(Batch batch);
+
+    abstract String[] texts(Batch batch);
+  }
+
+  /**
+   * Node that computes numbers; its text form is the number formatted like a table cell.
+   */
+  private abstract static class NumberNode extends Node {
+
+    @Override
+    boolean isNumeric() {
+      return true;
+    }
+
+    @Override
+    String[] texts(Batch batch) {
+      double[] numbers = numbers(batch);
+      String[] texts = new String[numbers.length];
+      for (int i = 0; i < numbers.length; i++) {
+        texts[i] = Double.isNaN(numbers[i]) ? "" : CsvUtil.toCellText(new NumberValue(numbers[i]));
+      }
+      return texts;
+    }
+  }
+
+  /**
+   * Node that computes text; its number form parses the text.
+   */
+  private abstract static class TextNode extends Node {
+
+    @Override
+    boolean isNumeric() {
+      return false;
+    }
+
+    @Override
+    double[] numbers(Batch batch) {
+      String[] texts = texts(batch);
+      double[] numbers = new double[texts.length];
+      for (int i = 0; i < texts.length; i++) {
+        try {
+          Double number = AggregationUtil.toNumber(new StringValue(texts[i]));
+          numbers[i] = number == null ? Double.NaN : number;
+        } catch (IllegalArgumentException e) {
+          throw new BotCommandException(e.getMessage() + " at row " + (batch.offset + i + 1));
+        }
+      }
+      return numbers;
+    }
+  }
+
+  private static final class NumberLiteral extends NumberNode {
+
+    private final double number;
+
+    private NumberLiteral(double number) {
+      this.number = number;
+    }
+
+    @Override
+    double[] numbers(Batch batch) {
+      double[] numbers = new double[batch.size];
+      Arrays.fill(numbers, number);
+      return numbers;
+    }
+  }
+
+  private static final class TextLiteral extends TextNode {
+
+    private final String text;
+
+    private TextLiteral(String text) {
+      this.text = text;
+    }
+
+    @Override
+    String[] texts(Batch batch) {
+      String[] texts = new String[batch.size];
+      Arrays.fill(texts, text);
+      return texts;
+    }
+  }
+
+  private static final class ColumnNode extends TextNode {
+
+    private final String name;
+    private final int index;
+
+    private ColumnNode(String name, int index) {
+      this.name = name;
+      this.index = index;
+    }
+
+    @Override
+    double[] numbers(Batch batch) {
+      return batch.numbers(this);
+    }
+
+    @Override
+    String[] texts(Batch batch) {
+      return batch.texts(this);
+    }
+  }
+
+  private static final class ArithmeticNode extends NumberNode {
+
+    private final char operator;
+    private final Node left;
+    private final Node right;
+
+    private ArithmeticNode(char operator, Node left, Node right) {
+      this.operator = operator;
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    double[] numbers(Batch batch) {
+      double[] a = left.numbers(batch);
+      double[] b = right.numbers(batch);
+      double[] result = new double[a.length];
+      switch (operator) {
+        case '+':
+          for (int i = 0; i < result.length; i++) {
+            result[i] = a[i] + b[i];
+          }
+          break;
+        case '-':
+          for (int i = 0; i < result.length; i++) {
+            result[i] = a[i] - b[i];
+          }
+          break;
+        case '*':
+          for (int i = 0; i < result.length; i++) {
+            result[i] = a[i] * b[i];
+          }
+          break;
+        default:
+          for (int i = 0; i < result.length; i++) {
+            if (b[i] == 0 && !Double.isNaN(a[i])) {
+              throw new BotCommandException("Division by zero at row " + (batch.offset + i + 1));
+            }
+            result[i] = operator == '/' ? a[i] / b[i] : a[i] % b[i];
+          }
+      }
+      return result;
+    }
+  }
+
+  private static final class NumberFunction extends NumberNode {
+
+    private final List<Node> args;
+    private final ToDoubleFunction<double[]> function;
+
+    private NumberFunction(List<Node> args, ToDoubleFunction<double[]> function) {
+      this.args = args;
+      this.function = function;
+    }
+
+    @Override
+    double[] numbers(Batch batch) {
+      double[][] columns = new double[args.size()][];
+      for (int a = 0; a < columns.length; a++) {
+        columns[a] = args.get(a).numbers(batch);
+      }
+      double[] result = new double[batch.size];
+      double[] values = new double[columns.length];
+      for (int i = 0; i < result.length; i++) {
+        boolean empty = false;
+        for (int a = 0; a < columns.length; a++) {
+          values[a] = columns[a][i];
+          empty |= Double.isNaN(values[a]);
+        }
+        result[i] = empty ? Double.NaN : function.applyAsDouble(values);
+      }
+      return result;
+    }
+  }
+
+  private static final class TextFunction extends TextNode {
+
+    private final List<Node> args;
+    private final Function<String[], String> function;
+
+    private TextFunction(List<Node> args, Function<String[], String> function) {
+      this.args = args;
+      this.function = function;
+    }
+
+    @Override
+    String[] texts(Batch batch) {
+      String[][] columns = new String[args.size()][];
+      for (int a = 0; a < columns.length; a++) {
+        columns[a] = args.get(a).texts(batch);
+      }
+      String[] result = new String[batch.size];
+      String[] parts = new String[columns.length];
+      for (int i = 0; i < result.length; i++) {
+        for (int a = 0; a < columns.length; a++) {
+          parts[a] = columns[a][i];
+        }
+        result[i] = function.apply(parts);
+      }
+      return result;
+    }
+  }
+
+  private static final class LengthNode extends NumberNode {
+
+    private final Node arg;
+
+    private LengthNode(Node arg) {
+      this.arg = arg;
+    }
+
+    @Override
+    double[] numbers(Batch batch) {
+      String[] texts = arg.texts(batch);
+      double[] result = new double[texts.length];
+      for (int i = 0; i < texts.length; i++) {
+        result[i] = texts[i].length();
+      }
+      return result;
+    }
+  }
+
+  // ---------------------------------------------------------------------------------------------
+  // Tokens
+
+  private enum TokenType {
+    NUMBER, STRING, IDENTIFIER, QUOTED_IDENTIFIER, SYMBOL, END
+  }
+
+  private static final class Token {
+
+    private final TokenType type;
+    private final String text;
+    private final int offset;
+
+    private Token(TokenType type, String text, int offset) {
+      this.type = type;
+      this.text = text;
+      this.offset = offset;
+    }
+  }
+
+  private Token peek() {
+    return peek(0);
+  }
+
+  private Token peek(int ahead) {
+    return tokens.get(Math.min(position + ahead, tokens.size() - 1));
+  }
+
+  private boolean acceptKeyword(String keyword) {
+    Token token = peek();
+    if (token.type == TokenType.IDENTIFIER && token.text.equalsIgnoreCase(keyword)) {
+      position++;
+      return true;
+    }
+    return false;
+  }
+
+  private void expectKeyword(String keyword) {
+    if (!acceptKeyword(keyword)) {
+      throw error("Expected " + keyword);
+    }
+  }
+
+  private boolean acceptSymbol(String symbol) {
+    Token token = peek();
+    if (token.type == TokenType.SYMBOL && token.text.equals(symbol)) {
+      position++;
+      return true;
+    }
+    return false;
+  }
+
+  private void expectSymbol(String symbol) {
+    if (!acceptSymbol(symbol)) {
+      throw error("Expected '" + symbol + "'");
+    }
+  }
+
+  private BotCommandException error(String message) {
+    return new BotCommandException(message + " at position " + (peek().offset + 1));
+  }
+
+  private static List<Token> tokenize(String expression) {
+    List<Token> tokens = new ArrayList<>();
+    int i = 0;
+    int length = expression.length();
+    while (i < length) {
+      char c = expression.charAt(i);
+      if (Character.isWhitespace(c)) {
+        i++;
+      } else if (Character.isDigit(c) || (c == '.' && i + 1 < length
+          && Character.isDigit(expression.charAt(i + 1)))) {
+        int start = i;
+        while (i < length && (Character.isDigit(expression.charAt(i))
+            || expression.charAt(i) == '.')) {
+          i++;
+        }
+        if (i < length && (expression.charAt(i) == 'e' || expression.charAt(i) == 'E')) {
+          i++;
+          if (i < length && (expression.charAt(i) == '+' || expression.charAt(i) == '-')) {
+            i++;
+          }
+          while (i < length && Character.isDigit(expression.charAt(i))) {
+            i++;
+          }
+        }
+        String number = expression.substring(start, i);
+        try {
+          Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+          throw new BotCommandException("Invalid number '" + number + "' at position " +
+              (start + 1));
+        }
+        tokens.add(new Token(TokenType.NUMBER, number, start));
+      } else if (c == '\'' || c == '"' || c == '[') {
+        int start = i;
+        char close = c == '[' ? ']' : c;
+        StringBuilder text = new StringBuilder();
+        i++;
+        boolean closed = false;
+        while (i < length) {
+          char ch = expression.charAt(i);
+          if (ch == close) {
+            // Doubled quote is an escaped quote
+            if (close != ']' && i + 1 < length && expression.charAt(i + 1) == close) {
+              text.append(close);
+              i += 2;
+              continue;
+            }
+            i++;
+            closed = true;
+            break;
+          }
+          text.append(ch);
+          i++;
+        }
+        if (!closed) {
+          throw new BotCommandException("Missing closing " + close + " for text starting at " +
+              "position " + (start + 1));
+        }
+        tokens.add(new Token(c == '\'' ? TokenType.STRING : TokenType.QUOTED_IDENTIFIER,
+            text.toString(), start));
+      } else if (Character.isLetter(c) || c == '_') {
+        int start = i;
+        while (i < length && (Character.isLetterOrDigit(expression.charAt(i))
+            || expression.charAt(i) == '_')) {
+          i++;
+        }
+        tokens.add(new Token(TokenType.IDENTIFIER, expression.substring(start, i), start));
+      } else {
+        String two = i + 1 < length ? expression.substring(i, i + 2) : "";
+        if ("!=".equals(two) || "<>".equals(two) || "<=".equals(two) || ">=".equals(two)) {
+          tokens.add(new Token(TokenType.SYMBOL, two, i));
+          i += 2;
+        } else if ("=<>(),+-*/%".indexOf(c) >= 0) {
+          tokens.add(new Token(TokenType.SYMBOL, String.valueOf(c), i));
+          i++;
+        } else {
+          throw new BotCommandException("Unexpected character '" + c + "' at position " +
+              (i + 1));
+        }
+      }
+    }
+    tokens.add(new Token(TokenType.END, "", length));
+    return tokens;
+  }
+
+}
@@ -0,0 +1,298 @@
+package sumit.devtools.utils;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * Hashed index from the key cells of a table to its row numbers, built once and kept in the
+ * package session so repeated lookups do not rescan the table.
+ * <p>
+ * Keys compare by cell text (see {@link AggregationUtil#toKeyText}), so the number 1 and the text
+ * '1' are the same key. The index holds no keys: an open-addressing table of int arrays keeps the
+ * key hash and first row of every distinct key, and rows with equal keys are chained through an
+ * array of row numbers. A lookup confirms a candidate by reading its key cells from the table, so
+ * the index costs a few ints per row whatever the key size.
+ * <p>
+ * An index of a {@link MappedBinaryTable} therefore holds no cells in the heap at all; key cells
+ * and rows are decoded from the mapping when they are needed, and {@link #close} unmaps the file.
+ *
+ * @author Sumit Kumar
+ */
+public final class TableIndex implements Closeable {
+
+  private static final int MIN_CAPACITY = 16;
+
+  /**
+   * Reads one cell of the indexed table.
+   */
+  @FunctionalInterface
+  private interface CellReader {
+
+    Value cell(int rowNumber, int column);
+  }
+
+  private final List<Schema> schema;
+  private final IntFunction<Row> rows;
+  private final CellReader cells;
+  // Mapped table the rows are read from, or null for an in-memory table
+  private final MappedBinaryTable mappedTable;
+  private final int[] keyColumns;
+  private final String[] keyNames;
+  private final boolean caseSensitive;
+  // First row of each key plus one, 0 for a free slot, and the key hash; at most half full
+  private final int[] slots;
+  private final int[] slotHashes;
+  private final int slotShift;
+  // Next row with the same key as the row at each index, or -1
+  private final int[] nextRows;
+  private int distinctKeys;
+
+  private TableIndex(List<Schema> schema, IntFunction<Row> rows, CellReader cells,
+      MappedBinaryTable mappedTable, int[] keyColumns, boolean caseSensitive, int rowCount) {
+    this.schema = schema;
+    this.rows = rows;
+    this.cells = cells;
+    this.mappedTable = mappedTable;
+    this.keyColumns = keyColumns.clone();
+    this.keyNames = keyNames(schema, keyColumns);
+    this.caseSensitive = caseSensitive;
+    int capacity = MIN_CAPACITY;
+    while (capacity < 2L * rowCount) {
+      capacity <<= 1;
+    }
+    this.slots = new int[capacity];
+    this.slotHashes = new int[capacity];
+    this.slotShift = Integer.numberOfLeadingZeros(capacity) + 1;
+    this.nextRows = new int[rowCount];
+  }
+
+  /**
+   * Indexes the rows of a table. The table is kept by reference and must not be changed while
+   * the index is in use.
+   *
+   * @param table         Table to index
+   * @param keyColumns    Indexes of the key columns, in key order
+   * @param caseSensitive Whether text keys that differ only in case are different keys
+   */
+  public TableIndex(Table table, int[] keyColumns, boolean caseSensitive) {
+    this(table.getSchema(), randomAccessRows(table), keyColumns, caseSensitive);
+  }
+
+  private TableIndex(List<Schema> schema, List<Row> rowList, int[] keyColumns,
+      boolean caseSensitive) {
+    this(schema, rowList::get,
+        (rowNumber, column) -> AggregationUtil.cell(rowList.get(rowNumber), column), null,
+        keyColumns, caseSensitive, rowList.size());
+    int[] hashes = new int[rowList.size()];
+    for (int row = 0; row < hashes.length; row++) {
+      for (int column : keyColumns) {
+        hashes[row] = 31 * hashes[row] + keyText(cells.cell(row, column)).hashCode();
+      }
+    }
+    insertAll(hashes);
+  }
+
+  /**
+   * Indexes a memory-mapped table. Only the key hashes and row chains are held in the heap; key
+   * cells and matching rows are decoded from the file when they are needed.
+   *
+   * @param table         Table to index
+   * @param keyColumns    Indexes of the key columns, in key order
+   * @param caseSensitive Whether text keys that differ only in case are different keys
+   * @throws IOException If the key cells cannot be read
+   */
+  public TableIndex(MappedBinaryTable table, int[] keyColumns, boolean caseSensitive)
+      throws IOException {
+    this(table.getSchema(), table::getRow, table::getCell, table, keyColumns, caseSensitive,
+        table.getRowCount());
+    // Key columns are hashed in one sequential pass each, not cell by cell
+    int[] hashes = new int[table.getRowCount()];
+    for (int column : keyColumns) {
+      table.forEachCell(column,
+          (rowNumber, value) -> hashes[rowNumber] = 31 * hashes[rowNumber]
+              + keyText(value).hashCode());
+    }
+    insertAll(hashes);
+  }
+
+  private static List<Row> randomAccessRows(Table table) {
+    List<Row> sourceRows = table.getRows() != null ? table.getRows() : new ArrayList<>();
+    return sourceRows instanceof RandomAccess ? sourceRows : new ArrayList<>(sourceRows);
+  }
+
+  private static String[] keyNames(List<Schema> schema, int[] keyColumns) {
+    String[] names = new String[keyColumns.length];
+    for (int i = 0; i < keyColumns.length; i++) {
+      names[i] = schema.get(keyColumns[i]).getName();
+    }
+    return names;
+  }
+
+  /**
+   * Keeps an index in the package session under a name, closing the index it replaces.
+   */
+  public static void store(Map<String, Object> sessions, String name, TableIndex index) {
+    Object previous = sessions.put(name, index);
+    if (previous instanceof TableIndex && previous != index) {
+      ((TableIndex) previous).close();
+    }
+  }
+
+  /**
+   * Removes an index from the package session and closes it.
+   *
+   * @return true if an index with that name existed
+   */
+  public static boolean remove(Map<String, Object> sessions, String name) {
+    Object previous = sessions.get(name);
+    if (!(previous instanceof TableIndex)) {
+      return false;
+    }
+    sessions.remove(name);
+    ((TableIndex) previous).close();
+    return true;
+  }
+
+  private String keyText(Value value) {
+    return AggregationUtil.toKeyText(value, caseSensitive);
+  }
+
+  private int firstSlot(int hash) {
+    // Fibonacci hashing spreads the close hashes of keys such as 'SKU-1' and 'SKU-2'
+    return (hash * 0x9E3779B9) >>> slotShift;
+  }
+
+  private void insertAll(int[] hashes) {
+    // Walking backwards leaves every chain in ascending row order
+    for (int row = hashes.length - 1; row >= 0; row--) {
+      insert(row, hashes[row]);
+    }
+  }
+
+  private void insert(int row, int hash) {
+    int mask = slots.length - 1;
+    String[] key = null;
+    for (int slot = firstSlot(hash); ; slot = (slot + 1) & mask) {
+      int first = slots[slot] - 1;
+      if (first < 0) {
+        slots[slot] = row + 1;
+        slotHashes[slot] = hash;
+        nextRows[row] = -1;
+        distinctKeys++;
+        return;
+      }
+      if (slotHashes[slot] == hash) {
+        if (key == null) {
+          key = new String[keyColumns.length];
+          for (int i = 0; i < key.length; i++) {
+            key[i] = keyText(cells.cell(row, keyColumns[i]));
+          }
+        }
+        if (hasKey(first, key)) {
+          nextRows[row] = first;
+          slots[slot] = row + 1;
+          return;
+        }
+      }
+    }
+  }
+
+  private boolean hasKey(int row, String[] key) {
+    for (int i = 0; i < key.length; i++) {
+      if (!key[i].equals(keyText(cells.cell(row, keyColumns[i])))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public List<Schema> getSchema() {
+    return schema;
+  }
+
+  /**
+   * @return Names of the key columns, in key order
+   */
+  public String[] getKeyNames() {
+    return keyNames.clone();
+  }
+
+  /**
+   * @return Number of distinct keys
+   */
+  public int getKeyCount() {
+    return distinctKeys;
+  }
+
+  /**
+   * Finds the rows with the given key.
+   *
+   * @param keyValues One value per key column, in key order
+   * @return Row numbers of the matching rows, ascending; empty if none match
+   * @throws IllegalArgumentException If the number of values does not match the key columns
+   */
+  public int[] lookup(List<? extends Value> keyValues) {
+    if (keyValues == null || keyValues.size() != keyColumns.length) {
+      throw new IllegalArgumentException("Expected " + keyColumns.length + " key value(s) for " +
+          String.join(", ", keyNames) + ", got " + (keyValues == null ? 0 : keyValues.size()));
+    }
+
+    String[] key = new String[keyColumns.length];
+    int hash = 0;
+    for (int i = 0; i < key.length; i++) {
+      key[i] = keyText(keyValues.get(i));
+      hash = 31 * hash + key[i].hashCode();
+    }
+
+    int mask = slots.length - 1;
+    int first = -1;
+    for (int slot = firstSlot(hash); slots[slot] != 0; slot = (slot + 1) & mask) {
+      if (slotHashes[slot] == hash && hasKey(slots[slot] - 1, key)) {
+        first = slots[slot] - 1;
+        break;
+      }
+    }
+    if (first < 0) {
+      return new int[0];
+    }
+
+    int[] matches = new int[4];
+    int count = 0;
+    for (int row = first; row >= 0; row = nextRows[row]) {
+      if (count == matches.length) {
+        matches = Arrays.copyOf(matches, count * 2);
+      }
+      matches[count++] = row;
+    }
+    return Arrays.copyOf(matches, count);
+  }
+
+  /**
+   * @return The row at the given row number
+   */
+  public Row getRow(int rowNumber) {
+    return rows.apply(rowNumber);
+  }
+
+  /**
+   * Unmaps the file of an index built from a {@link MappedBinaryTable}. An index of an in-memory
+   * table holds nothing to release.
+   */
+  @Override
+  public void close() {
+    if (mappedTable != null) {
+      mappedTable.close();
+    }
+  }
+
+}
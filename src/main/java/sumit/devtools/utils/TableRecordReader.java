@@ -0,0 +1,102 @@
+package sumit.devtools.utils;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for readers that stream text records from a file into tables. Only the records of
+ * the table being built are held in memory, so large files can be read in pages or chunks.
+ *
+ * @author Sumit Kumar
+ */
+public abstract class TableRecordReader implements Closeable {
+
+  private final List<String> header = new ArrayList<>();
+
+  /**
+   * Reads the next record as header, if there is one. Subclasses call this once they are ready to
+   * read records.
+   *
+   * @throws IOException If the record cannot be read
+   */
+  protected void readHeader() throws IOException {
+    if (hasNext()) {
+      header.addAll(nextRecord());
+    }
+  }
+
+  /**
+   * @return true if another record is available
+   * @throws IOException If the source cannot be read
+   */
+  public abstract boolean hasNext() throws IOException;
+
+  /**
+   * @return Cell texts of the next record
+   * @throws IOException If the source cannot be read
+   */
+  protected abstract List<String> nextRecord() throws IOException;
+
+  public List<String> getHeader() {
+    return header;
+  }
+
+  /**
+   * Skips data records without building rows for them.
+   *
+   * @param count Number of records to skip
+   * @return Number of records actually skipped
+   * @throws IOException If the source cannot be read
+   */
+  public long skip(long count) throws IOException {
+    long skipped = 0;
+    while (skipped < count && hasNext()) {
+      nextRecord();
+      skipped++;
+    }
+    return skipped;
+  }
+
+  /**
+   * Reads the next records into a table. Rows shorter than the widest row or header are padded
+   * with empty values, and columns without a header name get an empty name.
+   *
+   * @param maxRows Maximum number of records to read; 0 or less reads all remaining records
+   * @return Table holding the records read
+   * @throws IOException If the source cannot be read
+   */
+  public Table readTable(long maxRows) throws IOException {
+    List<Row> rowList = new ArrayList<>();
+    int maxColumnCount = header.size();
+
+    while ((maxRows <= 0 || rowList.size() < maxRows) && hasNext()) {
+      List<String> record = nextRecord();
+      List<Value> rowValues = new ArrayList<>(Math.max(record.size(), header.size()));
+      for (String cell : record) {
+        rowValues.add(new StringValue(cell));
+      }
+      rowList.add(new Row(rowValues));
+      maxColumnCount = Math.max(maxColumnCount, rowValues.size());
+    }
+
+    TableUtil.addMissingColumnValues(rowList, maxColumnCount);
+
+    List<Schema> schemaList = new ArrayList<>(maxColumnCount);
+    for (String name : header) {
+      schemaList.add(new Schema(name));
+    }
+    while (schemaList.size() < maxColumnCount) {
+      schemaList.add(new Schema(""));
+    }
+
+    return new Table(schemaList, rowList);
+  }
+
+}
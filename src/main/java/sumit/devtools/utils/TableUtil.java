@@ -6,6 +6,7 @@ import com.automationanywhere.botcommand.data.model.Schema;
 import com.automationanywhere.botcommand.data.model.record.Record;
 import com.automationanywhere.botcommand.data.model.table.Row;
 import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,24 +30,60 @@ public class TableUtil {
     return -1;
   }
 
+  /**
+   * Same as {@link #getColumnIndex(List, String, boolean)} but fails when the column does not
+   * exist.
+   *
+   * @throws BotCommandException If no column has the given name
+   */
+  public static int requireColumnIndex(List<Schema> schema, String columnName,
+      boolean caseSensitive) {
+    int index = getColumnIndex(schema, columnName, caseSensitive);
+    if (index < 0) {
+      throw new BotCommandException("Column not found: " + columnName);
+    }
+    return index;
+  }
+
+  /**
+   * Resolves a list of column names to their indexes, in the order given.
+   *
+   * @throws BotCommandException If the list is empty or a column does not exist
+   */
+  public static int[] requireColumnIndexes(List<Schema> schema, List<? extends Value> columnNames,
+      boolean caseSensitive) {
+    if (columnNames == null || columnNames.isEmpty()) {
+      throw new BotCommandException("No column names provided");
+    }
+    int[] indexes = new int[columnNames.size()];
+    for (int i = 0; i < indexes.length; i++) {
+      Value name = columnNames.get(i);
+      indexes[i] = requireColumnIndex(schema,
+          name == null || name.get() == null ? "" : name.get().toString(), caseSensitive);
+    }
+    return indexes;
+  }
+
   public static Table copyTable(Table sourceTable) {
     List<Schema> schemas = sourceTable.getSchema().stream()
         .map(schema -> new Schema(schema.getName(), schema.getType()))
         .collect(Collectors.toList());
 
     List<Row> rows = sourceTable.getRows().stream()
-        .map(row -> {
-          List<Value> valueList = new ArrayList<>();
-          for (Value value : row.getValues()) {
-            valueList.add(ValueUtil.deepCopyValue(value));
-          }
-          return new Row(valueList);
-        })
+        .map(TableUtil::copyRow)
         .collect(Collectors.toList());
 
     return new Table(schemas, rows);
   }
 
+  public static Row copyRow(Row sourceRow) {
+    List<Value> valueList = new ArrayList<>(sourceRow.getValues().size());
+    for (Value value : sourceRow.getValues()) {
+      valueList.add(ValueUtil.deepCopyValue(value));
+    }
+    return new Row(valueList);
+  }
+
   public static Record copyRecord(Record sourceRecord) {
     List<Schema> schemas = sourceRecord.getSchema().stream()
         .map(schema -> new Schema(schema.getName(), schema.getType()))
@@ -0,0 +1,233 @@
+package sumit.devtools.utils;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.DictionaryValue;
+import com.automationanywhere.botcommand.data.impl.ListValue;
+import com.automationanywhere.botcommand.data.impl.RecordValue;
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Lightweight, index-mapped views over the rows and columns of a {@link Table}.
+ * A view keeps only the selected row and column indexes; rows and cells are read from the source
+ * table when accessed, so selecting 100 rows of a large table costs 100 entries instead of a deep
+ * copy of every cell.
+ *
+ * <p>Views are copy-on-write: the first change to a row's values copies that row's selected cells,
+ * and the first structural change to the row list copies the row references. The source table is
+ * never modified through a view. Reading a cell that holds a list, dictionary, table or record
+ * also copies the row, so nested values can be changed without reaching the source table. Other
+ * cells that were not copied are the same {@link Value} instances as in the source table.</p>
+ *
+ * @author Sumit Kumar
+ */
+public final class TableView {
+
+  private TableView() {
+  }
+
+  /**
+   * Creates a view with the given rows and all columns of the source table.
+   *
+   * @param source     Table to read from
+   * @param rowIndexes Source row indexes, in output order
+   * @return Table view
+   */
+  public static Table ofRows(Table source, int[] rowIndexes) {
+    return of(source, rowIndexes, null);
+  }
+
+  /**
+   * Creates a view with the given rows and columns of the source table.
+   *
+   * @param source        Table to read from
+   * @param rowIndexes    Source row indexes, in output order
+   * @param columnIndexes Source column indexes, in output order, or null for all columns. Cells
+   *                      missing from short rows read as null.
+   * @return Table view
+   */
+  public static Table of(Table source, int[] rowIndexes, int[] columnIndexes) {
+    List<Schema> sourceSchema = source.getSchema() != null ? source.getSchema() : new ArrayList<>();
+    List<Row> sourceRows = source.getRows() != null ? source.getRows() : new ArrayList<>();
+    for (int rowIndex : rowIndexes) {
+      if (rowIndex < 0 || rowIndex >= sourceRows.size()) {
+        throw new IndexOutOfBoundsException("Row index out of range: " + rowIndex);
+      }
+    }
+
+    List<Schema> schema = new ArrayList<>();
+    if (columnIndexes == null) {
+      for (Schema column : sourceSchema) {
+        schema.add(new Schema(column.getName(), column.getType()));
+      }
+    } else {
+      for (int columnIndex : columnIndexes) {
+        if (columnIndex < sourceSchema.size()) {
+          Schema column = sourceSchema.get(columnIndex);
+          schema.add(new Schema(column.getName(), column.getType()));
+        }
+      }
+    }
+
+    return new Table(schema, new RowView(sourceRows, rowIndexes, columnIndexes));
+  }
+
+  /**
+   * Rows of a view. Each row wraps its source row in a {@link CellView} on first access and is
+   * cached, so edits made through {@code getValues()} are kept.
+   */
+  private static class RowView extends AbstractList<Row> implements RandomAccess {
+
+    private final List<Row> sourceRows;
+    private final int[] rowIndexes;
+    private final int[] columnIndexes;
+    private final Row[] wrapped;
+    private List<Row> flat;
+
+    RowView(List<Row> sourceRows, int[] rowIndexes, int[] columnIndexes) {
+      this.sourceRows = sourceRows;
+      this.rowIndexes = rowIndexes;
+      this.columnIndexes = columnIndexes;
+      this.wrapped = new Row[rowIndexes.length];
+    }
+
+    @Override
+    public Row get(int index) {
+      if (flat != null) {
+        return flat.get(index);
+      }
+      Row row = wrapped[index];
+      if (row == null) {
+        Row source = sourceRows.get(rowIndexes[index]);
+        List<Value> values = source != null && source.getValues() != null
+            ? source.getValues() : new ArrayList<>();
+        row = new Row(new CellView(values, columnIndexes));
+        wrapped[index] = row;
+      }
+      return row;
+    }
+
+    @Override
+    public int size() {
+      return flat != null ? flat.size() : rowIndexes.length;
+    }
+
+    @Override
+    public Row set(int index, Row row) {
+      if (flat != null) {
+        return flat.set(index, row);
+      }
+      Row previous = get(index);
+      wrapped[index] = row;
+      return previous;
+    }
+
+    @Override
+    public void add(int index, Row row) {
+      flatten().add(index, row);
+      modCount++;
+    }
+
+    @Override
+    public Row remove(int index) {
+      Row removed = flatten().remove(index);
+      modCount++;
+      return removed;
+    }
+
+    private List<Row> flatten() {
+      if (flat == null) {
+        List<Row> rows = new ArrayList<>(rowIndexes.length);
+        for (int i = 0; i < rowIndexes.length; i++) {
+          rows.add(get(i));
+        }
+        flat = rows;
+      }
+      return flat;
+    }
+  }
+
+  /**
+   * Cells of one view row. Reads through to the source row until the first change, or the first
+   * read of a nested value, which deep copies the selected cells into a private list.
+   */
+  private static class CellView extends AbstractList<Value> implements RandomAccess {
+
+    private final List<Value> sourceValues;
+    private final int[] columnIndexes;
+    private List<Value> copy;
+
+    CellView(List<Value> sourceValues, int[] columnIndexes) {
+      this.sourceValues = sourceValues;
+      this.columnIndexes = columnIndexes;
+    }
+
+    @Override
+    public Value get(int index) {
+      if (copy != null) {
+        return copy.get(index);
+      }
+      Value value = sourceValue(index);
+      // Nested values can be changed in place, so they are never handed out from the source
+      if (value instanceof ListValue || value instanceof DictionaryValue
+          || value instanceof TableValue || value instanceof RecordValue) {
+        return materialize().get(index);
+      }
+      return value;
+    }
+
+    private Value sourceValue(int index) {
+      if (columnIndexes == null) {
+        return sourceValues.get(index);
+      }
+      int column = columnIndexes[index];
+      return column < sourceValues.size() ? sourceValues.get(column) : null;
+    }
+
+    @Override
+    public int size() {
+      if (copy != null) {
+        return copy.size();
+      }
+      return columnIndexes == null ? sourceValues.size() : columnIndexes.length;
+    }
+
+    @Override
+    public Value set(int index, Value value) {
+      return materialize().set(index, value);
+    }
+
+    @Override
+    public void add(int index, Value value) {
+      materialize().add(index, value);
+      modCount++;
+    }
+
+    @Override
+    public Value remove(int index) {
+      Value removed = materialize().remove(index);
+      modCount++;
+      return removed;
+    }
+
+    private List<Value> materialize() {
+      if (copy == null) {
+        int size = size();
+        List<Value> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          Value value = sourceValue(i);
+          values.add(value == null ? null : ValueUtil.deepCopyValue(value));
+        }
+        copy = values;
+      }
+      return copy;
+    }
+  }
+
+}
@@ -0,0 +1,276 @@
+package sumit.devtools.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.SAXException;
+
+/**
+ * Streams rows from one sheet of an XLSX workbook into tables. The sheet XML is pulled one element
+ * at a time and strings are looked up in the read-only shared strings table, so the workbook is
+ * never loaded as a full XSSFWorkbook and memory use does not grow with the sheet size.
+ * <p>
+ * Cells are read as the text Excel displays for them. Formula cells give their cached result.
+ * Rows that contain no cells are not stored in the file and are skipped.
+ *
+ * @author Sumit Kumar
+ */
+public class XlsxSheetReader extends TableRecordReader {
+
+  private final OPCPackage pkg;
+  private final InputStream sheetStream;
+  private final XMLStreamReader xml;
+  private final ReadOnlySharedStringsTable sharedStrings;
+  private final StylesTable styles;
+  private final DataFormatter formatter = new DataFormatter();
+
+  // Set once the next <row> start element has been reached
+  private boolean rowPending = false;
+  private boolean endOfSheet = false;
+
+  /**
+   * Opens the workbook read-only, locates the sheet and, if requested, reads the first row as
+   * header.
+   *
+   * @param path       XLSX file path
+   * @param sheetName  Name of the sheet to read, or null to select by index
+   * @param sheetIndex Zero based index of the sheet to read when no name is given
+   * @param hasHeader  Whether the first row contains column names
+   * @throws IOException If the file cannot be opened, is not a valid workbook, or has no such sheet
+   */
+  public XlsxSheetReader(Path path, String sheetName, int sheetIndex, boolean hasHeader)
+      throws IOException {
+    try {
+      this.pkg = OPCPackage.open(path.toFile(), PackageAccess.READ);
+    } catch (OpenXML4JException | RuntimeException e) {
+      throw new IOException("Not a valid XLSX file: " + e.getMessage(), e);
+    }
+
+    InputStream stream = null;
+    try {
+      XSSFReader reader = new XSSFReader(pkg);
+      this.sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+      this.styles = reader.getStylesTable();
+
+      stream = openSheet(reader, sheetName, sheetIndex);
+      this.sheetStream = stream;
+      this.xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(stream);
+    } catch (OpenXML4JException | SAXException | XMLStreamException | RuntimeException e) {
+      closeQuietly(stream);
+      pkg.revert();
+      throw new IOException(e.getMessage(), e);
+    } catch (IOException e) {
+      closeQuietly(stream);
+      pkg.revert();
+      throw e;
+    }
+
+    if (hasHeader) {
+      try {
+        readHeader();
+      } catch (IOException | RuntimeException e) {
+        // Release the workbook, which otherwise stays locked on Windows
+        try {
+          close();
+        } catch (IOException closeError) {
+          e.addSuppressed(closeError);
+        }
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Finds the sheet part by name or position without parsing the other sheets.
+   */
+  private static InputStream openSheet(XSSFReader reader, String sheetName, int sheetIndex)
+      throws IOException, OpenXML4JException {
+    XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+    List<String> names = new ArrayList<>();
+    while (sheets.hasNext()) {
+      InputStream stream = sheets.next();
+      String name = sheets.getSheetName();
+      boolean match = sheetName != null ? sheetName.equals(name) : names.size() == sheetIndex;
+      if (match) {
+        return stream;
+      }
+      stream.close();
+      names.add(name);
+    }
+
+    if (sheetName != null) {
+      throw new IOException("Sheet not found: " + sheetName + ". Available sheets: " + names);
+    }
+    throw new IOException("Sheet index out of range: " + (sheetIndex + 1) +
+        ". Workbook has " + names.size() + " sheet(s)");
+  }
+
+  @Override
+  public boolean hasNext() throws IOException {
+    if (rowPending) {
+      return true;
+    }
+    if (endOfSheet) {
+      return false;
+    }
+    try {
+      while (xml.hasNext()) {
+        int event = xml.next();
+        if (event == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+          rowPending = true;
+          return true;
+        }
+        if (event == XMLStreamConstants.END_ELEMENT && "sheetData".equals(xml.getLocalName())) {
+          break;
+        }
+      }
+    } catch (XMLStreamException e) {
+      throw new IOException("Invalid sheet content: " + e.getMessage(), e);
+    }
+    endOfSheet = true;
+    return false;
+  }
+
+  @Override
+  protected List<String> nextRecord() throws IOException {
+    if (!hasNext()) {
+      return Collections.emptyList();
+    }
+    rowPending = false;
+
+    List<String> cells = new ArrayList<>();
+    try {
+      while (xml.hasNext()) {
+        int event = xml.next();
+        if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+          readCell(cells);
+        } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+          break;
+        }
+      }
+    } catch (XMLStreamException e) {
+      throw new IOException("Invalid sheet content: " + e.getMessage(), e);
+    }
+    return cells;
+  }
+
+  /**
+   * Reads the cell the stream is positioned at and stores its text at the cell's column, filling
+   * skipped columns with empty text.
+   */
+  private void readCell(List<String> cells) throws XMLStreamException {
+    String ref = xml.getAttributeValue(null, "r");
+    String type = xml.getAttributeValue(null, "t");
+    String styleIndex = xml.getAttributeValue(null, "s");
+
+    String value = null;
+    StringBuilder inlineText = null;
+    while (xml.hasNext()) {
+      int event = xml.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        String name = xml.getLocalName();
+        if ("v".equals(name)) {
+          value = xml.getElementText();
+        } else if ("t".equals(name)) {
+          // Inline string, possibly split into rich text runs
+          if (inlineText == null) {
+            inlineText = new StringBuilder();
+          }
+          inlineText.append(xml.getElementText());
+        }
+      } else if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+        break;
+      }
+    }
+
+    int column = ref != null ? new CellReference(ref).getCol() : cells.size();
+    while (cells.size() < column) {
+      cells.add("");
+    }
+    String text = formatCell(type, styleIndex, value, inlineText);
+    if (column < cells.size()) {
+      cells.set(column, text);
+    } else {
+      cells.add(text);
+    }
+  }
+
+  private String formatCell(String type, String styleIndex, String value,
+      StringBuilder inlineText) {
+    if ("inlineStr".equals(type)) {
+      return inlineText == null ? "" : inlineText.toString();
+    }
+    if (value == null) {
+      return "";
+    }
+    if (type == null || "n".equals(type)) {
+      return formatNumber(styleIndex, value);
+    }
+    switch (type) {
+      case "s":
+        return sharedStrings.getItemAt(Integer.parseInt(value.trim())).getString();
+      case "b":
+        return "0".equals(value) ? "FALSE" : "TRUE";
+      case "e":
+        return "ERROR:" + value;
+      default:
+        // Formula strings ("str") and ISO dates ("d") are stored as text
+        return value;
+    }
+  }
+
+  private String formatNumber(String styleIndex, String value) {
+    if (styleIndex == null || styles == null) {
+      return formatter.formatRawCellContents(Double.parseDouble(value), -1, "General");
+    }
+    XSSFCellStyle style = styles.getStyleAt(Integer.parseInt(styleIndex));
+    if (style == null) {
+      return formatter.formatRawCellContents(Double.parseDouble(value), -1, "General");
+    }
+    String formatString = style.getDataFormatString();
+    if (formatString == null) {
+      formatString = "General";
+    }
+    return formatter.formatRawCellContents(Double.parseDouble(value), style.getDataFormat(),
+        formatString);
+  }
+
+  private static void closeQuietly(InputStream stream) {
+    if (stream != null) {
+      try {
+        stream.close();
+      } catch (IOException e) {
+        // Ignore, the original error is reported
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      xml.close();
+    } catch (XMLStreamException e) {
+      // Ignore, the stream is closed below
+    }
+    sheetStream.close();
+    // Read-only package, discard instead of saving
+    pkg.revert();
+  }
+
+}
@@ -0,0 +1,140 @@
+package excel;
+
+import static table.TableTestUtil.names;
+
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFPivotTable;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.excel.CreatePivotTable;
+
+/**
+ * Test class for CreatePivotTable action.
+ */
+public class CreatePivotTableTest {
+
+  private Path tempDir;
+  private Path workbookFile;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("pivot-tests");
+    workbookFile = tempDir.resolve("sales.xlsx");
+
+    try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+      Sheet data = workbook.createSheet("Data");
+      Row header = data.createRow(0);
+      header.createCell(0).setCellValue("Region");
+      header.createCell(1).setCellValue("Quarter");
+      header.createCell(2).setCellValue("Amount");
+
+      String[] regions = {"North", "South", "North"};
+      String[] quarters = {"Q1", "Q1", "Q2"};
+      for (int i = 0; i < regions.length; i++) {
+        Row row = data.createRow(i + 1);
+        row.createCell(0).setCellValue(regions[i]);
+        row.createCell(1).setCellValue(quarters[i]);
+        row.createCell(2).setCellValue((i + 1) * 10);
+      }
+
+      try (OutputStream out = Files.newOutputStream(workbookFile)) {
+        workbook.write(out);
+      }
+    }
+  }
+
+  @AfterMethod
+  public void tearDown() throws IOException {
+    Files.walk(tempDir)
+        .sorted((p1, p2) -> -p1.compareTo(p2))
+        .forEach(p -> {
+          try {
+            Files.deleteIfExists(p);
+          } catch (IOException e) {
+            // Ignore, best effort cleanup
+          }
+        });
+  }
+
+  @Test
+  public void testCreatePivotOnNewSheet() throws IOException {
+    CreatePivotTable.action(workbookFile.toString(), "Data", null, "Pivot", "A3",
+        names("region"), names("Quarter"), "Amount", "SUM");
+
+    try (InputStream in = Files.newInputStream(workbookFile);
+        XSSFWorkbook workbook = new XSSFWorkbook(in)) {
+      XSSFSheet pivotSheet = workbook.getSheet("Pivot");
+      Assert.assertNotNull(pivotSheet);
+      List<XSSFPivotTable> pivotTables = pivotSheet.getPivotTables();
+      Assert.assertEquals(pivotTables.size(), 1);
+
+      XSSFPivotTable pivotTable = pivotTables.get(0);
+      Assert.assertEquals(pivotTable.getCTPivotTableDefinition().getRowFields().getCount(), 1);
+      Assert.assertEquals(pivotTable.getCTPivotTableDefinition().getDataFields().getCount(), 1);
+      Assert.assertEquals(pivotTable.getCTPivotTableDefinition().getLocation().getRef()
+          .substring(0, 2), "A3");
+    }
+  }
+
+  @Test
+  public void testExplicitSourceRange() throws IOException {
+    CreatePivotTable.action(workbookFile.toString(), "Data", "A1:C3", "Data", "F1",
+        names("Region"), null, "Amount", "COUNT");
+
+    try (InputStream in = Files.newInputStream(workbookFile);
+        XSSFWorkbook workbook = new XSSFWorkbook(in)) {
+      Assert.assertEquals(workbook.getSheet("Data").getPivotTables().size(), 1);
+      Assert.assertEquals(workbook.getNumberOfSheets(), 1);
+    }
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testUnknownValueColumn() {
+    CreatePivotTable.action(workbookFile.toString(), "Data", null, "Pivot", "A3",
+        names("Region"), null, "Total", "SUM");
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testMissingSourceSheet() {
+    CreatePivotTable.action(workbookFile.toString(), "Sales", null, "Pivot", "A3",
+        names("Region"), null, "Amount", "SUM");
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testHeaderOnlyRange() {
+    CreatePivotTable.action(workbookFile.toString(), "Data", "A1:C1", "Pivot", "A3",
+        names("Region"), null, "Amount", "SUM");
+  }
+
+  @Test
+  public void testHeadersDifferingOnlyBySpacesAreDuplicates() throws IOException {
+    try (InputStream in = Files.newInputStream(workbookFile);
+        XSSFWorkbook workbook = new XSSFWorkbook(in)) {
+      workbook.getSheet("Data").getRow(0).getCell(1).setCellValue("Region ");
+      try (OutputStream out = Files.newOutputStream(workbookFile)) {
+        workbook.write(out);
+      }
+    }
+
+    try {
+      CreatePivotTable.action(workbookFile.toString(), "Data", null, "Pivot", "A3",
+          names("Region"), null, "Amount", "SUM");
+      Assert.fail("Expected a duplicate header error");
+    } catch (BotCommandException e) {
+      Assert.assertTrue(e.getMessage().contains("Duplicate header"), e.getMessage());
+    }
+  }
+
+}
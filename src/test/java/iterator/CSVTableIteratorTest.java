@@ -0,0 +1,148 @@
+package iterator;
+
+import static org.testng.Assert.*;
+
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import sumit.devtools.iterators.csv.CSVTableIterator;
+
+/**
+ * Test cases for CSVTableIterator.
+ *
+ * @author Sumit Kumar
+ */
+public class CSVTableIteratorTest {
+
+  private static Path tempDir;
+
+  @BeforeClass
+  public static void setup() throws IOException {
+    tempDir = Files.createTempDirectory("csvtable-test");
+  }
+
+  @AfterClass
+  public static void cleanup() throws IOException {
+    if (tempDir != null && Files.exists(tempDir)) {
+      Files.walk(tempDir)
+          .sorted((a, b) -> b.compareTo(a)) // Delete files before directories
+          .forEach(path -> {
+            try {
+              Files.delete(path);
+            } catch (IOException e) {
+              // Ignore cleanup errors
+            }
+          });
+    }
+  }
+
+  private static Path writeCsv(String name, int rowCount) throws IOException {
+    StringBuilder csv = new StringBuilder("Id,Name\n");
+    for (int i = 0; i < rowCount; i++) {
+      csv.append(i).append(",Name ").append(i).append('\n');
+    }
+    Path file = tempDir.resolve(name);
+    Files.writeString(file, csv.toString(), StandardCharsets.UTF_8);
+    return file;
+  }
+
+  private static CSVTableIterator createIterator(Path file, boolean hasHeader, double chunkSize) {
+    CSVTableIterator iterator = new CSVTableIterator();
+    iterator.setFilePath(file.toString());
+    iterator.setCharsetName("UTF-8");
+    iterator.setDelimiterType("COMMA");
+    iterator.setHasHeader(hasHeader);
+    iterator.setChunkSize(chunkSize);
+    return iterator;
+  }
+
+  @Test
+  public void testIteratorYieldsChunks() throws Exception {
+    // Given: 25 data rows and chunk size of 10
+    CSVTableIterator iterator = createIterator(writeCsv("chunks.csv", 25), true, 10.0);
+
+    // Then: Should yield chunks of 10, 10 and 5 rows
+    assertTrue(iterator.hasNext());
+    Table chunk1 = iterator.next().get();
+    assertEquals(chunk1.getRows().size(), 10);
+    assertEquals(chunk1.getSchema().get(1).getName(), "Name");
+    assertEquals(chunk1.getRows().get(0).getValues().get(0).toString(), "0");
+
+    assertTrue(iterator.hasNext());
+    Table chunk2 = iterator.next().get();
+    assertEquals(chunk2.getRows().size(), 10);
+    assertEquals(chunk2.getSchema().get(0).getName(), "Id", "Every chunk should have the header");
+    assertEquals(chunk2.getRows().get(0).getValues().get(0).toString(), "10");
+
+    assertTrue(iterator.hasNext());
+    Table chunk3 = iterator.next().get();
+    assertEquals(chunk3.getRows().size(), 5);
+    assertEquals(chunk3.getRows().get(4).getValues().get(1).toString(), "Name 24");
+
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  public void testExactMultipleOfChunkSize() throws Exception {
+    CSVTableIterator iterator = createIterator(writeCsv("exact.csv", 20), true, 10.0);
+
+    int chunks = 0;
+    while (iterator.hasNext()) {
+      assertEquals(iterator.next().get().getRows().size(), 10);
+      chunks++;
+    }
+    assertEquals(chunks, 2);
+  }
+
+  @Test
+  public void testWithoutHeader() throws Exception {
+    CSVTableIterator iterator = createIterator(writeCsv("noheader.csv", 3), false, 100.0);
+
+    assertTrue(iterator.hasNext());
+    TableValue table = iterator.next();
+    assertEquals(table.get().getRows().size(), 4);
+    assertEquals(table.get().getRows().get(0).getValues().get(0).toString(), "Id");
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  public void testHeaderOnlyFile() throws Exception {
+    CSVTableIterator iterator = createIterator(writeCsv("headeronly.csv", 0), true, 10.0);
+
+    assertFalse(iterator.hasNext(), "Header only file should have no chunks");
+  }
+
+  @Test
+  public void testMultipleHasNextCalls() throws Exception {
+    CSVTableIterator iterator = createIterator(writeCsv("hasnext.csv", 5), true, 10.0);
+
+    assertTrue(iterator.hasNext());
+    assertTrue(iterator.hasNext());
+    assertEquals(iterator.next().get().getRows().size(), 5);
+    assertFalse(iterator.hasNext());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testExceptionWhenNoMoreChunks() throws Exception {
+    CSVTableIterator iterator = createIterator(writeCsv("exhausted.csv", 2), true, 10.0);
+
+    iterator.next();
+    iterator.next(); // This should throw
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testMissingFile() {
+    CSVTableIterator iterator = createIterator(tempDir.resolve("missing.csv"), true, 10.0);
+
+    iterator.hasNext();
+  }
+
+}
@@ -0,0 +1,137 @@
+package iterator;
+
+import static org.testng.Assert.*;
+
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import sumit.devtools.iterators.excel.ExcelTableIterator;
+
+/**
+ * Test cases for ExcelTableIterator.
+ *
+ * @author Sumit Kumar
+ */
+public class ExcelTableIteratorTest {
+
+  private static Path tempDir;
+
+  @BeforeClass
+  public static void setup() throws IOException {
+    tempDir = Files.createTempDirectory("exceltable-test");
+  }
+
+  @AfterClass
+  public static void cleanup() throws IOException {
+    if (tempDir != null && Files.exists(tempDir)) {
+      Files.walk(tempDir)
+          .sorted((a, b) -> b.compareTo(a)) // Delete files before directories
+          .forEach(path -> {
+            try {
+              Files.delete(path);
+            } catch (IOException e) {
+              // Ignore cleanup errors
+            }
+          });
+    }
+  }
+
+  private static Path writeWorkbook(String name, int rowCount) throws IOException {
+    Path file = tempDir.resolve(name);
+    try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+      Sheet sheet = workbook.createSheet("Data");
+      Row header = sheet.createRow(0);
+      header.createCell(0).setCellValue("Id");
+      header.createCell(1).setCellValue("Name");
+      for (int i = 0; i < rowCount; i++) {
+        Row row = sheet.createRow(i + 1);
+        row.createCell(0).setCellValue(i);
+        row.createCell(1).setCellValue("Name " + i);
+      }
+      try (OutputStream out = Files.newOutputStream(file)) {
+        workbook.write(out);
+      }
+    }
+    return file;
+  }
+
+  private static ExcelTableIterator createIterator(Path file, double chunkSize) {
+    ExcelTableIterator iterator = new ExcelTableIterator();
+    iterator.setFilePath(file.toString());
+    iterator.setSheetSelection("NAME");
+    iterator.setSheetName("Data");
+    iterator.setHasHeader(true);
+    iterator.setChunkSize(chunkSize);
+    return iterator;
+  }
+
+  @Test
+  public void testIteratorYieldsChunks() throws Exception {
+    // Given: 25 data rows and chunk size of 10
+    ExcelTableIterator iterator = createIterator(writeWorkbook("chunks.xlsx", 25), 10.0);
+
+    // Then: Should yield chunks of 10, 10 and 5 rows
+    assertTrue(iterator.hasNext());
+    Table chunk1 = iterator.next().get();
+    assertEquals(chunk1.getRows().size(), 10);
+    assertEquals(chunk1.getSchema().get(1).getName(), "Name");
+    assertEquals(chunk1.getRows().get(0).getValues().get(0).toString(), "0");
+
+    assertTrue(iterator.hasNext());
+    Table chunk2 = iterator.next().get();
+    assertEquals(chunk2.getRows().size(), 10);
+    assertEquals(chunk2.getSchema().get(0).getName(), "Id", "Every chunk should have the header");
+    assertEquals(chunk2.getRows().get(0).getValues().get(0).toString(), "10");
+
+    assertTrue(iterator.hasNext());
+    Table chunk3 = iterator.next().get();
+    assertEquals(chunk3.getRows().size(), 5);
+    assertEquals(chunk3.getRows().get(4).getValues().get(1).toString(), "Name 24");
+
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  public void testSheetByPosition() throws Exception {
+    ExcelTableIterator iterator = createIterator(writeWorkbook("position.xlsx", 3), 100.0);
+    iterator.setSheetSelection("INDEX");
+    iterator.setSheetPosition(1.0);
+
+    assertTrue(iterator.hasNext());
+    assertEquals(iterator.next().get().getRows().size(), 3);
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  public void testHeaderOnlySheet() throws Exception {
+    ExcelTableIterator iterator = createIterator(writeWorkbook("headeronly.xlsx", 0), 10.0);
+
+    assertFalse(iterator.hasNext(), "Header only sheet should have no chunks");
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testExceptionWhenNoMoreChunks() throws Exception {
+    ExcelTableIterator iterator = createIterator(writeWorkbook("exhausted.xlsx", 2), 10.0);
+
+    iterator.next();
+    iterator.next(); // This should throw
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testMissingSheet() throws Exception {
+    ExcelTableIterator iterator = createIterator(writeWorkbook("missing.xlsx", 2), 10.0);
+    iterator.setSheetName("Other");
+
+    iterator.hasNext();
+  }
+
+}
@@ -1,6 +1,7 @@
 package table;
 
 import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
 import com.automationanywhere.botcommand.data.impl.StringValue;
 import com.automationanywhere.botcommand.data.impl.TableValue;
 import com.automationanywhere.botcommand.data.model.Schema;
@@ -69,7 +70,10 @@ public class AddColumnTest {
         null, // position not needed for END
         "DEFAULT", // Use default value
         new StringValue("Default"), // Default value
-        null // List not needed for DEFAULT
+        null, // List not needed for DEFAULT
+        null, // Expression not needed
+        false, // Case-insensitive
+        true // Parallel
     );
 
     Table resultTable = result.get();
@@ -94,7 +98,10 @@ public class AddColumnTest {
         1.0, // Position (index 1, which is the second column)
         "DEFAULT", // Use default value
         new StringValue("Inserted"), // Default value
-        null // List not needed for DEFAULT
+        null, // List not needed for DEFAULT
+        null, // Expression not needed
+        false, // Case-insensitive
+        true // Parallel
     );
 
     Table resultTable = result.get();
@@ -123,7 +130,10 @@ public class AddColumnTest {
         null, // position not needed for END
         "LIST", // Use list of values
         null, // Default value not needed for LIST
-        columnValues // List of values
+        columnValues, // List of values
+        null, // Expression not needed
+        false, // Case-insensitive
+        true // Parallel
     );
 
     Table resultTable = result.get();
@@ -152,7 +162,10 @@ public class AddColumnTest {
         null,
         "LIST",
         null,
-        insufficientValues
+        insufficientValues,
+        null,
+        false,
+        true
     );
   }
 
@@ -170,11 +183,121 @@ public class AddColumnTest {
         null,
         "DEFAULT",
         new StringValue("Default"),
-        null
+        null,
+        null,
+        false,
+        true
     );
 
     // Verify the original table hasn't changed
     Assert.assertEquals(inputTable.getSchema().size(), originalSchemaSize);
   }
 
-}
\ No newline at end of file
+  private static Table createOrderTable() {
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("First"));
+    schema.add(new Schema("Last"));
+    schema.add(new Schema("Qty"));
+    schema.add(new Schema("Unit Price"));
+
+    List<Row> rows = new ArrayList<>();
+    rows.add(new Row(new ArrayList<>(Arrays.asList(new StringValue("Ada"),
+        new StringValue("Lovelace"), new NumberValue(3), new StringValue("2.5")))));
+    rows.add(new Row(new ArrayList<>(Arrays.asList(new StringValue("Alan"),
+        new StringValue("Turing"), new StringValue(""), new NumberValue(4)))));
+    return new Table(schema, rows);
+  }
+
+  private static Table addExpressionColumn(Table table, String expression) {
+    return AddColumn.action(null, table, "Computed", "END", null, "EXPRESSION", null, null,
+        expression, false,
+        true).get();
+  }
+
+  @Test
+  public void testAddColumnWithArithmeticExpression() {
+    Table orders = createOrderTable();
+
+    Table resultTable = addExpressionColumn(orders, "qty * [Unit Price] + 1");
+
+    Assert.assertEquals(resultTable.getSchema().get(4).getName(), "Computed");
+    Assert.assertEquals(resultTable.getRows().get(0).getValues().get(4).get(), 8.5);
+    Assert.assertEquals(resultTable.getRows().get(1).getValues().get(4).get(), "",
+        "Empty operand should give an empty cell");
+    Assert.assertEquals(orders.getSchema().size(), 4);
+  }
+
+  @Test
+  public void testAddColumnWithTextExpression() {
+    Table resultTable = addExpressionColumn(createOrderTable(),
+        "CONCAT(UPPER(Last), ', ', First, ' x', ROUND(-[Unit Price] / 3, 1))");
+
+    Assert.assertEquals(resultTable.getRows().get(0).getValues().get(4).get(),
+        "LOVELACE, Ada x-0.8");
+    Assert.assertEquals(resultTable.getRows().get(1).getValues().get(4).get(),
+        "TURING, Alan x-1.3");
+  }
+
+  @Test
+  public void testAddColumnWithFunctions() {
+    Table resultTable = addExpressionColumn(createOrderTable(),
+        "MAX(LENGTH(First), ABS(2 - 10 % 7)) * (1 + 1)");
+
+    Assert.assertEquals(resultTable.getRows().get(0).getValues().get(4).get(), 6.0);
+    Assert.assertEquals(resultTable.getRows().get(1).getValues().get(4).get(), 8.0);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Value is not a number: 'Ada' in column 'First' at row 1.*")
+  public void testAddColumnWithNonNumericOperand() {
+    addExpressionColumn(createOrderTable(), "First * 2");
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Column not found: Price.*")
+  public void testAddColumnWithUnknownColumn() {
+    addExpressionColumn(createOrderTable(), "Qty * Price");
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Arithmetic needs numbers.*")
+  public void testAddColumnWithTextArithmetic() {
+    addExpressionColumn(createOrderTable(), "First + ' ' + Last");
+  }
+
+  @Test
+  public void testAddColumnWithExpressionInParallel() {
+    Table orders = createOrderTable();
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 40_000; i++) {
+      rows.add(new Row(new ArrayList<>(Arrays.asList(new StringValue("F" + i),
+          new StringValue("L"), new NumberValue(i), new NumberValue(2)))));
+    }
+    orders.setRows(rows);
+
+    Table resultTable = AddColumn.action(null, orders, "Total", "END", null, "EXPRESSION", null,
+        null, "Qty * [Unit Price]", false, true).get();
+
+    Assert.assertEquals(resultTable.getRows().size(), 40_000);
+    for (int i = 0; i < 40_000; i++) {
+      Assert.assertEquals(resultTable.getRows().get(i).getValues().get(4).get(), i * 2.0);
+    }
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Value is not a number: 'x' in column 'Qty' at row 25001.*")
+  public void testAddColumnWithExpressionInParallelReportsFirstError() {
+    Table orders = createOrderTable();
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 40_000; i++) {
+      Value qty = i == 25_000 || i == 39_000 ? new StringValue("x") : new NumberValue(i);
+      rows.add(new Row(new ArrayList<>(Arrays.asList(new StringValue("F"), new StringValue("L"),
+          qty, new NumberValue(2)))));
+    }
+    orders.setRows(rows);
+
+    AddColumn.action(null, orders, "Total", "END", null, "EXPRESSION", null, null,
+        "Qty * [Unit Price]", false, true);
+  }
+
+}
@@ -0,0 +1,158 @@
+package table;
+
+import static table.TableTestUtil.names;
+import static table.TableTestUtil.row;
+import static table.TableTestUtil.values;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.BooleanValue;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.BuildBinaryFileIndex;
+import sumit.devtools.actions.table.LookupRowsByKey;
+import sumit.devtools.actions.table.SaveTableToBinaryFile;
+import sumit.devtools.utils.TableIndex;
+
+/**
+ * Test class for BuildBinaryFileIndex action.
+ */
+public class BuildBinaryFileIndexTest {
+
+  private Path tempDir;
+  private Path file;
+  private Map<String, Object> sessions;
+  private BuildBinaryFileIndex buildIndex;
+  private LookupRowsByKey lookup;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("binary-index-tests");
+    file = tempDir.resolve("prices.bin");
+
+    // Both actions share the package session map, as in a bot run
+    sessions = new HashMap<>();
+    buildIndex = new BuildBinaryFileIndex();
+    buildIndex.setSessions(sessions);
+    lookup = new LookupRowsByKey();
+    lookup.setSessions(sessions);
+
+    List<Schema> schema = Arrays.asList(new Schema("Region"), new Schema("Code"),
+        new Schema("Price"));
+    List<Row> rows = new ArrayList<>();
+    rows.add(row(new StringValue("North"), new NumberValue(100), new NumberValue(1)));
+    rows.add(row(new StringValue("South"), new NumberValue(100), new NumberValue(2)));
+    rows.add(row(new StringValue("north"), new NumberValue(200), new NumberValue(3)));
+    rows.add(row(new StringValue("North"), new NumberValue(100), new NumberValue(4)));
+    SaveTableToBinaryFile.action(new Table(schema, rows), file.toString(), "FAIL");
+  }
+
+  @AfterMethod
+  public void tearDown() throws IOException {
+    // Mapped files cannot be deleted on Windows until the index is closed
+    for (String name : new ArrayList<>(sessions.keySet())) {
+      TableIndex.remove(sessions, name);
+    }
+    Files.walk(tempDir)
+        .sorted((p1, p2) -> -p1.compareTo(p2))
+        .forEach(p -> {
+          try {
+            Files.deleteIfExists(p);
+          } catch (IOException e) {
+            // Ignore, best effort cleanup
+          }
+        });
+  }
+
+  private static List<Object> prices(Table table) {
+    List<Object> prices = new ArrayList<>();
+    for (Row row : table.getRows()) {
+      prices.add(row.getValues().get(2).get());
+    }
+    return prices;
+  }
+
+  @Test
+  public void testCompositeKeyLookup() {
+    Number count = buildIndex.action("Prices", file.toString(), names("Region", "Code"), false)
+        .get();
+
+    Assert.assertEquals(count.intValue(), 3);
+    Assert.assertTrue(sessions.get("Prices") instanceof TableIndex);
+    Table result = lookup.action("Prices", values(new StringValue("NORTH"), new StringValue("100")),
+        "EMPTY").get();
+    Assert.assertEquals(result.getSchema().get(2).getName(), "Price");
+    Assert.assertEquals(prices(result), Arrays.asList(1.0, 4.0));
+    Assert.assertTrue(result.getRows().get(0).getValues().get(2) instanceof NumberValue);
+  }
+
+  @Test
+  public void testCaseSensitiveKey() {
+    Number count = buildIndex.action("Default", file.toString(), names("Region"), true).get();
+
+    Assert.assertEquals(count.intValue(), 3);
+    Table result = lookup.action("Default", values(new StringValue("north")), "EMPTY").get();
+    Assert.assertEquals(prices(result), Arrays.asList(3.0));
+  }
+
+  @Test
+  public void testLargeFileLookupAcrossCheckpoints() throws IOException {
+    Path large = tempDir.resolve("catalog.bin");
+    List<Schema> schema = Arrays.asList(new Schema("Sku"), new Schema("Name"),
+        new Schema("InStock"));
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 30_000; i++) {
+      rows.add(row(new StringValue("SKU-" + i), new StringValue("Product " + i + " ü"),
+          new BooleanValue(i % 3 == 0)));
+    }
+    SaveTableToBinaryFile.action(new Table(schema, rows), large.toString(), "FAIL");
+
+    Number count = buildIndex.action("Catalog", large.toString(), names("sku"), false).get();
+    Assert.assertEquals(count.intValue(), 30_000);
+    for (int i : new int[]{0, 1, 63, 64, 65, 127, 4_321, 29_999}) {
+      Table result = lookup.action("Catalog", values(new StringValue("sku-" + i)), "FAIL").get();
+      Assert.assertEquals(result.getRows().size(), 1);
+      List<Value> values = result.getRows().get(0).getValues();
+      Assert.assertEquals(values.get(0).get(), "SKU-" + i);
+      Assert.assertEquals(values.get(1).get(), "Product " + i + " ü");
+      Assert.assertEquals(values.get(2).get(), i % 3 == 0);
+    }
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Column not found: Missing.*")
+  public void testMissingKeyColumn() {
+    buildIndex.action("Prices", file.toString(), names("Missing"), false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Not a binary table file.*")
+  public void testNotBinaryTableFile() throws IOException {
+    Path csv = tempDir.resolve("prices.csv");
+    Files.write(csv, "Region,Code\nNorth,100\n".getBytes(StandardCharsets.UTF_8));
+    buildIndex.action("Prices", csv.toString(), names("Region"), false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*File not found.*")
+  public void testMissingFile() {
+    buildIndex.action("Prices", tempDir.resolve("missing.bin").toString(), names("Region"), false);
+  }
+
+}
@@ -0,0 +1,103 @@
+package table;
+
+import static table.TableTestUtil.names;
+import static table.TableTestUtil.row;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.BuildTableIndex;
+import sumit.devtools.utils.TableIndex;
+
+/**
+ * Test class for BuildTableIndex action.
+ */
+public class BuildTableIndexTest {
+
+  private Map<String, Object> sessions;
+  private BuildTableIndex buildIndex;
+  private Table inputTable;
+
+  @BeforeMethod
+  public void setUp() {
+    sessions = new HashMap<>();
+    buildIndex = new BuildTableIndex();
+    buildIndex.setSessions(sessions);
+
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Region"));
+    schema.add(new Schema("Code"));
+    schema.add(new Schema("Price"));
+    inputTable = new Table(schema, new ArrayList<>());
+    inputTable.getRows().add(row(new StringValue("North"), new StringValue("A"), new NumberValue(1)));
+    inputTable.getRows().add(row(new StringValue("north"), new StringValue("B"), new NumberValue(2)));
+    inputTable.getRows().add(row(new StringValue("South"), new StringValue("A"), new NumberValue(3)));
+  }
+
+  @Test
+  public void testSingleKeyIndex() {
+    NumberValue keys = buildIndex.action("Prices", inputTable, names("region"), false);
+
+    Assert.assertEquals(keys.get(), 2.0);
+    Assert.assertTrue(sessions.get("Prices") instanceof TableIndex);
+    Assert.assertEquals(((TableIndex) sessions.get("Prices")).getKeyNames(),
+        new String[]{"Region"});
+  }
+
+  @Test
+  public void testCompositeCaseSensitiveIndex() {
+    Assert.assertEquals(buildIndex.action("Prices", inputTable, names("Region", "Code"), true).get(),
+        3.0);
+    Assert.assertEquals(buildIndex.action("Prices", inputTable, names("Code"), true).get(), 2.0);
+  }
+
+  @Test
+  public void testRebuildReplacesIndex() {
+    buildIndex.action("Default", inputTable, names("Region"), false);
+    Object first = sessions.get("Default");
+    buildIndex.action("Default", inputTable, names("Code"), false);
+
+    Assert.assertEquals(sessions.size(), 1);
+    Assert.assertNotSame(sessions.get("Default"), first);
+    Assert.assertEquals(((TableIndex) sessions.get("Default")).getKeyNames(), new String[]{"Code"});
+  }
+
+  @Test
+  public void testKeysWithEqualHashesStayApart() {
+    // 'Aa' and 'BB' have the same String hash code
+    Table table = new Table(Arrays.asList(new Schema("Code")), new ArrayList<>());
+    for (String code : new String[]{"Aa", "BB", "Aa", "BB", "Aa"}) {
+      table.getRows().add(new Row(new ArrayList<>(Arrays.<Value>asList(new StringValue(code)))));
+    }
+
+    Assert.assertEquals(buildIndex.action("Codes", table, names("Code"), true).get(), 2.0);
+    TableIndex index = (TableIndex) sessions.get("Codes");
+    Assert.assertEquals(index.lookup(Arrays.asList(new StringValue("Aa"))), new int[]{0, 2, 4});
+    Assert.assertEquals(index.lookup(Arrays.asList(new StringValue("BB"))), new int[]{1, 3});
+    Assert.assertEquals(index.lookup(Arrays.asList(new StringValue("C#"))), new int[0]);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Column not found: Missing.*")
+  public void testMissingColumn() {
+    buildIndex.action("Default", inputTable, names("Missing"), false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Input table cannot be null.*")
+  public void testNullTable() {
+    buildIndex.action("Default", null, names("Region"), false);
+  }
+}
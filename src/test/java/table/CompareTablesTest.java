@@ -0,0 +1,171 @@
+package table;
+
+import static table.TableTestUtil.names;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.BooleanValue;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.CompareTables;
+
+/**
+ * Test class for CompareTables action.
+ */
+public class CompareTablesTest {
+
+  private Table previousTable;
+  private Table currentTable;
+
+  @BeforeMethod
+  public void setUp() {
+    previousTable = new Table(schema("Id", "Status", "Amount"), new ArrayList<>());
+    previousTable.getRows().add(createRow("1", new StringValue("Open"), new NumberValue(10)));
+    previousTable.getRows().add(createRow("2", new StringValue("Open"), new NumberValue(20)));
+    previousTable.getRows().add(createRow("3", new StringValue("Paid"), new NumberValue(30)));
+
+    // Columns in a different order to check they are matched by name
+    currentTable = new Table(schema("Amount", "Id", "Status"), new ArrayList<>());
+    currentTable.getRows().add(createRow(new NumberValue(10.0), "1", new StringValue("OPEN")));
+    currentTable.getRows().add(createRow(new NumberValue(25), "2", new StringValue("Paid")));
+    currentTable.getRows().add(createRow(new NumberValue(40), "4", new StringValue("Open")));
+  }
+
+  private static List<Schema> schema(String... names) {
+    List<Schema> schema = new ArrayList<>();
+    for (String name : names) {
+      schema.add(new Schema(name));
+    }
+    return schema;
+  }
+
+  private static Row createRow(Object... cells) {
+    List<Value> values = new ArrayList<>();
+    for (Object cell : cells) {
+      values.add(cell instanceof Value ? (Value) cell : new StringValue(cell.toString()));
+    }
+    return new Row(values);
+  }
+
+  private static Table table(Map<String, Value> result, String name) {
+    return (Table) result.get(name).get();
+  }
+
+  private static List<String> columnNames(Table table) {
+    List<String> columnNames = new ArrayList<>();
+    for (Schema column : table.getSchema()) {
+      columnNames.add(column.getName());
+    }
+    return columnNames;
+  }
+
+  @Test
+  public void testNumericKeysMatchTextKeys() {
+    // Numbers from a database or Excel against text from a CSV file
+    Table numeric = new Table(schema("Id", "Amount"), new ArrayList<>());
+    numeric.getRows().add(createRow(new NumberValue(1001), new NumberValue(100)));
+    numeric.getRows().add(createRow(new NumberValue(1002), new NumberValue(250.5)));
+    Table text = new Table(schema("Id", "Amount"), new ArrayList<>());
+    text.getRows().add(createRow("1001", "100"));
+    text.getRows().add(createRow("1002", "260"));
+
+    Map<String, Value> result = CompareTables.action(numeric, text, names("Id"), null, false)
+        .get();
+
+    Assert.assertTrue(table(result, CompareTables.ADDED).getRows().isEmpty());
+    Assert.assertTrue(table(result, CompareTables.REMOVED).getRows().isEmpty());
+    Table modified = table(result, CompareTables.MODIFIED);
+    Assert.assertEquals(modified.getRows().size(), 1);
+    Assert.assertEquals(modified.getRows().get(0).getValues().get(0).toString(), "1002");
+  }
+
+  @Test
+  public void testAddedRemovedModified() {
+    Map<String, Value> result = CompareTables.action(previousTable, currentTable, names("Id"),
+        null, false).get();
+
+    Table added = table(result, CompareTables.ADDED);
+    Assert.assertEquals(added.getRows().size(), 1);
+    Assert.assertEquals(added.getRows().get(0).getValues().get(1).get(), "4");
+    Assert.assertEquals(columnNames(added), Arrays.asList("Amount", "Id", "Status"));
+
+    Table removed = table(result, CompareTables.REMOVED);
+    Assert.assertEquals(removed.getRows().size(), 1);
+    Assert.assertEquals(removed.getRows().get(0).getValues().get(0).get(), "3");
+
+    Table modified = table(result, CompareTables.MODIFIED);
+    Assert.assertEquals(columnNames(modified), Arrays.asList("Id",
+        "Amount_old", "Amount_new", "Amount_changed",
+        "Status_old", "Status_new", "Status_changed"));
+    Assert.assertEquals(modified.getRows().size(), 1,
+        "Row 1 only differs by case and number format");
+
+    List<Value> values = modified.getRows().get(0).getValues();
+    Assert.assertEquals(values.get(0).get(), "2");
+    Assert.assertEquals(((NumberValue) values.get(1)).get(), 20.0);
+    Assert.assertEquals(((NumberValue) values.get(2)).get(), 25.0);
+    Assert.assertEquals(((BooleanValue) values.get(3)).get(), Boolean.TRUE);
+    Assert.assertEquals(values.get(4).get(), "Open");
+    Assert.assertEquals(values.get(5).get(), "Paid");
+    Assert.assertEquals(((BooleanValue) values.get(6)).get(), Boolean.TRUE);
+  }
+
+  @Test
+  public void testCaseSensitiveValues() {
+    Map<String, Value> result = CompareTables.action(previousTable, currentTable, names("Id"),
+        names("Status"), true).get();
+
+    Table modified = table(result, CompareTables.MODIFIED);
+    Assert.assertEquals(modified.getRows().size(), 2);
+    Assert.assertEquals(columnNames(modified),
+        Arrays.asList("Id", "Status_old", "Status_new", "Status_changed"));
+    Assert.assertEquals(modified.getRows().get(0).getValues().get(2).get(), "OPEN");
+  }
+
+  @Test
+  public void testUnchangedColumnFlag() {
+    Map<String, Value> result = CompareTables.action(previousTable, currentTable, names("Id"),
+        names("Amount", "Status"), true).get();
+
+    Table modified = table(result, CompareTables.MODIFIED);
+    List<Value> first = modified.getRows().get(0).getValues();
+    Assert.assertEquals(first.get(0).get(), "1");
+    Assert.assertEquals(((BooleanValue) first.get(3)).get(), Boolean.FALSE);
+    Assert.assertEquals(((BooleanValue) first.get(6)).get(), Boolean.TRUE);
+  }
+
+  @Test
+  public void testIdenticalTables() {
+    Map<String, Value> result = CompareTables.action(previousTable, previousTable, names("Id"),
+        null, false).get();
+
+    Assert.assertEquals(table(result, CompareTables.ADDED).getRows(), Collections.emptyList());
+    Assert.assertEquals(table(result, CompareTables.REMOVED).getRows(), Collections.emptyList());
+    Assert.assertEquals(table(result, CompareTables.MODIFIED).getRows(), Collections.emptyList());
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Duplicate key in current table at row 2.*")
+  public void testDuplicateKey() {
+    currentTable.getRows().set(1, createRow(new NumberValue(25), "1", new StringValue("Paid")));
+
+    CompareTables.action(previousTable, currentTable, names("Id"), null, false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testMissingKeyColumn() {
+    CompareTables.action(previousTable, currentTable, names("Code"), null, false);
+  }
+
+}
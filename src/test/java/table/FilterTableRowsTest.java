@@ -0,0 +1,157 @@
+package table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.FilterTableRows;
+
+/**
+ * Test class for FilterTableRows action.
+ */
+public class FilterTableRowsTest {
+
+  private Table inputTable;
+
+  @BeforeMethod
+  public void setUp() {
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Id"));
+    schema.add(new Schema("Status"));
+    schema.add(new Schema("Amount"));
+    schema.add(new Schema("Unit Price"));
+
+    List<Row> rows = new ArrayList<>();
+    rows.add(createRow(1, "OPEN", new NumberValue(1500), "10"));
+    rows.add(createRow(2, "closed", new NumberValue(2500), "30"));
+    rows.add(createRow(3, "Open", new StringValue("900"), ""));
+    rows.add(createRow(4, "O'Brien", new StringValue("n/a"), "5"));
+    rows.add(createRow(5, "", new StringValue(""), "20"));
+
+    inputTable = new Table(schema, rows);
+  }
+
+  private Row createRow(int id, String status, Value amount, String price) {
+    List<Value> values = new ArrayList<>();
+    values.add(new NumberValue(id));
+    values.add(new StringValue(status));
+    values.add(amount);
+    values.add(new StringValue(price));
+    return new Row(values);
+  }
+
+  private List<Integer> filter(String condition, boolean caseSensitive) {
+    Table result = FilterTableRows.action(inputTable, condition, caseSensitive, true).get();
+    List<Integer> ids = new ArrayList<>();
+    for (Row row : result.getRows()) {
+      ids.add(((NumberValue) row.getValues().get(0)).get().intValue());
+    }
+    return ids;
+  }
+
+  @Test
+  public void testAndWithNumericAndTextComparison() {
+    Assert.assertEquals(filter("Amount > 1000 AND Status = 'OPEN'", false), Arrays.asList(1));
+  }
+
+  @Test
+  public void testCaseSensitiveText() {
+    Assert.assertEquals(filter("status = 'open'", false), Arrays.asList(1, 3));
+    Assert.assertEquals(filter("Status = 'open'", true), Arrays.asList());
+  }
+
+  @Test
+  public void testNumericComparisonSkipsNonNumbers() {
+    Assert.assertEquals(filter("Amount <= 2500", false), Arrays.asList(1, 2, 3));
+    Assert.assertEquals(filter("NOT Amount <= 2500", false), Arrays.asList(4, 5));
+  }
+
+  @Test
+  public void testOrAndParentheses() {
+    Assert.assertEquals(filter("(Id = 1 OR Id = 2) AND NOT Status = 'closed'", false),
+        Arrays.asList(1));
+    Assert.assertEquals(filter("Id = 1 OR Id = 2 AND Status = 'OPEN'", false), Arrays.asList(1),
+        "AND should bind tighter than OR");
+  }
+
+  @Test
+  public void testTextOperators() {
+    Assert.assertEquals(filter("Status CONTAINS 'PE'", false), Arrays.asList(1, 3));
+    Assert.assertEquals(filter("Status STARTS_WITH 'o'", false), Arrays.asList(1, 3, 4));
+    Assert.assertEquals(filter("Status NOT ENDS_WITH 'n'", false), Arrays.asList(2, 5));
+    Assert.assertEquals(filter("Status = 'O''Brien'", false), Arrays.asList(4));
+  }
+
+  @Test
+  public void testInAndIsEmpty() {
+    Assert.assertEquals(filter("Id IN (2, 4, 6)", false), Arrays.asList(2, 4));
+    Assert.assertEquals(filter("Status NOT IN ('open', 'closed')", false), Arrays.asList(4, 5));
+    Assert.assertEquals(filter("[Unit Price] IS EMPTY OR Status IS EMPTY", false),
+        Arrays.asList(3, 5));
+    Assert.assertEquals(filter("\"Unit Price\" IS NOT EMPTY AND Id > -1", false),
+        Arrays.asList(1, 2, 4, 5));
+  }
+
+  @Test
+  public void testColumnToColumnComparison() {
+    Assert.assertEquals(filter("[Unit Price] > Id", false), Arrays.asList(1, 2, 4, 5));
+  }
+
+  @Test
+  public void testResultIsIndependentCopy() {
+    Table result = FilterTableRows.action(inputTable, "Id = 1", false, true).get();
+
+    Assert.assertNotSame(result.getRows().get(0), inputTable.getRows().get(0));
+    Assert.assertEquals(inputTable.getRows().size(), 5);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testUnknownColumn() {
+    filter("Price > 10", false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testInvalidSyntax() {
+    filter("Amount > ", false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testUnclosedText() {
+    filter("Status = 'OPEN", false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testTrailingTokens() {
+    filter("Id = 1 Id = 2", false);
+  }
+
+  @Test
+  public void testParallelFilterKeepsRowOrder() {
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 50_000; i++) {
+      rows.add(createRow(i, i % 3 == 0 ? "OPEN" : "CLOSED", new NumberValue(i), "1"));
+    }
+    inputTable = new Table(inputTable.getSchema(), rows);
+
+    Table parallel = FilterTableRows.action(inputTable, "Status = 'open'", false, true).get();
+    Table sequential = FilterTableRows.action(inputTable, "Status = 'open'", false, false).get();
+
+    Assert.assertEquals(parallel.getRows().size(), 16_667);
+    for (int i = 0; i < parallel.getRows().size(); i++) {
+      Assert.assertEquals(parallel.getRows().get(i).getValues().get(0).get(), (double) i * 3);
+      Assert.assertEquals(parallel.getRows().get(i).getValues().get(0).get(),
+          sequential.getRows().get(i).getValues().get(0).get());
+    }
+    Assert.assertNotSame(parallel.getRows().get(0), rows.get(0));
+  }
+
+}
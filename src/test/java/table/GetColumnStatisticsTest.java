@@ -0,0 +1,152 @@
+package table;
+
+import static table.TableTestUtil.names;
+import static table.TableTestUtil.row;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.GetColumnStatistics;
+
+/**
+ * Test class for GetColumnStatistics action.
+ */
+public class GetColumnStatisticsTest {
+
+  private Table inputTable;
+
+  @BeforeMethod
+  public void setUp() {
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Status"));
+    schema.add(new Schema("Amount"));
+    inputTable = new Table(schema, new ArrayList<>());
+    inputTable.getRows().add(row(new StringValue("Paid"), new NumberValue(1)));
+    inputTable.getRows().add(row(new StringValue("PAID"), new StringValue("2")));
+    inputTable.getRows().add(row(new StringValue("Open"), new NumberValue(3)));
+    inputTable.getRows().add(row(new StringValue(""), new NumberValue(4)));
+    inputTable.getRows().add(row(new StringValue("Open"), new StringValue("")));
+  }
+
+  private static List<Value> numbers(double... numbers) {
+    List<Value> list = new ArrayList<>();
+    for (double number : numbers) {
+      list.add(new NumberValue(number));
+    }
+    return list;
+  }
+
+  private static int column(Table table, String name) {
+    for (int i = 0; i < table.getSchema().size(); i++) {
+      if (table.getSchema().get(i).getName().equals(name)) {
+        return i;
+      }
+    }
+    throw new AssertionError("Column not found: " + name);
+  }
+
+  private static Value cell(Table table, int row, String name) {
+    return table.getRows().get(row).getValues().get(column(table, name));
+  }
+
+  private static double number(Table table, int row, String name) {
+    return ((NumberValue) cell(table, row, name)).get();
+  }
+
+  @Test
+  public void testNumericColumnStatistics() {
+    Table result = GetColumnStatistics.action(inputTable, names("amount"), null, "AUTO", false).get();
+
+    Assert.assertEquals(result.getRows().size(), 1);
+    Assert.assertEquals(cell(result, 0, "Column").get(), "Amount");
+    Assert.assertEquals(number(result, 0, "Count"), 4.0);
+    Assert.assertEquals(number(result, 0, "Empty"), 1.0);
+    Assert.assertEquals(number(result, 0, "Distinct"), 4.0);
+    Assert.assertEquals(number(result, 0, "Numeric"), 4.0);
+    Assert.assertEquals(number(result, 0, "Min"), 1.0);
+    Assert.assertEquals(number(result, 0, "Max"), 4.0);
+    Assert.assertEquals(number(result, 0, "Sum"), 10.0);
+    Assert.assertEquals(number(result, 0, "Mean"), 2.5);
+    Assert.assertEquals(number(result, 0, "StdDev"), Math.sqrt(5.0 / 3), 1e-9);
+    // Same as Excel PERCENTILE.INC
+    Assert.assertEquals(number(result, 0, "P25"), 1.75, 1e-9);
+    Assert.assertEquals(number(result, 0, "P50"), 2.5, 1e-9);
+    Assert.assertEquals(number(result, 0, "P75"), 3.25, 1e-9);
+  }
+
+  @Test
+  public void testAllColumnsAndTextColumn() {
+    Table result = GetColumnStatistics.action(inputTable, null, numbers(50), "EXACT", false).get();
+
+    Assert.assertEquals(result.getRows().size(), 2);
+    Assert.assertEquals(result.getSchema().size(), 11);
+    Assert.assertEquals(cell(result, 0, "Column").get(), "Status");
+    Assert.assertEquals(number(result, 0, "Count"), 4.0);
+    Assert.assertEquals(number(result, 0, "Empty"), 1.0);
+    // 'Paid' and 'PAID' are one value when case-insensitive
+    Assert.assertEquals(number(result, 0, "Distinct"), 2.0);
+    Assert.assertEquals(number(result, 0, "Numeric"), 0.0);
+    Assert.assertEquals(cell(result, 0, "Min").get(), "");
+    Assert.assertEquals(cell(result, 0, "P50").get(), "");
+    Assert.assertEquals(cell(result, 1, "Column").get(), "Amount");
+  }
+
+  @Test
+  public void testCaseSensitiveDistinct() {
+    Table result = GetColumnStatistics.action(inputTable, names("Status"), null, "AUTO", true).get();
+    Assert.assertEquals(number(result, 0, "Distinct"), 3.0);
+  }
+
+  @Test
+  public void testCustomPercentileNames() {
+    Table result = GetColumnStatistics.action(inputTable, names("Amount"), numbers(90, 99.5),
+        "EXACT", false).get();
+    Assert.assertEquals(result.getSchema().get(10).getName(), "P90");
+    Assert.assertEquals(result.getSchema().get(11).getName(), "P99.5");
+    Assert.assertEquals(number(result, 0, "P90"), 3.7, 1e-9);
+  }
+
+  @Test
+  public void testApproximatePercentilesOnLargeTable() {
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Value"));
+    Table large = new Table(schema, new ArrayList<>());
+    for (int i = 1; i <= 20_000; i++) {
+      large.getRows().add(row(new NumberValue(i)));
+    }
+
+    Table result = GetColumnStatistics.action(large, null, numbers(50, 90), "APPROXIMATE", false)
+        .get();
+
+    Assert.assertEquals(number(result, 0, "Count"), 20_000.0);
+    Assert.assertEquals(number(result, 0, "Mean"), 10_000.5, 1e-9);
+    Assert.assertEquals(number(result, 0, "P50"), 10_000.5, 100);
+    Assert.assertEquals(number(result, 0, "P90"), 18_000, 100);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Invalid percentile: 150.*")
+  public void testInvalidPercentile() {
+    GetColumnStatistics.action(inputTable, null, numbers(150), "AUTO", false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Column not found: Missing.*")
+  public void testMissingColumn() {
+    GetColumnStatistics.action(inputTable, names("Missing"), null, "AUTO", false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Input table cannot be null.*")
+  public void testNullTable() {
+    GetColumnStatistics.action(null, null, null, "AUTO", false);
+  }
+}
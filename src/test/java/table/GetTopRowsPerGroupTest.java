@@ -0,0 +1,161 @@
+package table;
+
+import static table.TableTestUtil.names;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.GetTopRowsPerGroup;
+import sumit.devtools.actions.table.SortTable;
+
+/**
+ * Test class for GetTopRowsPerGroup action.
+ */
+public class GetTopRowsPerGroupTest {
+
+  private Table invoiceTable;
+
+  @BeforeMethod
+  public void setUp() {
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Vendor"));
+    schema.add(new Schema("Invoice"));
+    schema.add(new Schema("Amount"));
+
+    List<Row> rows = new ArrayList<>();
+    rows.add(createRow("Acme", "I1", new NumberValue(100)));
+    rows.add(createRow("Globex", "I2", new NumberValue(50)));
+    rows.add(createRow("ACME", "I3", new NumberValue(300)));
+    rows.add(createRow("Acme", "I4", new NumberValue(200)));
+    rows.add(createRow("Globex", "I5", new StringValue("")));
+    rows.add(createRow("Acme", "I6", new NumberValue(300)));
+    rows.add(createRow("Globex", "I7", new NumberValue(75)));
+    invoiceTable = new Table(schema, rows);
+  }
+
+  private static Row createRow(String vendor, String invoice, Value amount) {
+    return new Row(new ArrayList<>(Arrays.asList(new StringValue(vendor),
+        new StringValue(invoice), amount)));
+  }
+
+  private static List<String> invoices(Table table) {
+    List<String> invoices = new ArrayList<>();
+    for (Row row : table.getRows()) {
+      invoices.add(row.getValues().get(1).toString());
+    }
+    return invoices;
+  }
+
+  @Test
+  public void testLargestPerGroup() {
+    Table result = GetTopRowsPerGroup.action(invoiceTable, names("Vendor"),
+        names("Amount DESC"), 2.0, false).get();
+
+    // Ties keep table order: I3 comes before I6
+    Assert.assertEquals(invoices(result), Arrays.asList("I3", "I6", "I7", "I2"));
+    Assert.assertEquals(result.getSchema().size(), 3);
+  }
+
+  @Test
+  public void testSmallestPerGroupEmptyLast() {
+    Table result = GetTopRowsPerGroup.action(invoiceTable, names("Vendor"),
+        names("Amount ASC"), 3.0, false).get();
+
+    Assert.assertEquals(invoices(result), Arrays.asList("I1", "I4", "I3", "I2", "I7", "I5"));
+  }
+
+  @Test
+  public void testCaseSensitiveGroups() {
+    Table result = GetTopRowsPerGroup.action(invoiceTable, names("Vendor"),
+        names("Amount DESC"), 1.0, true).get();
+
+    Assert.assertEquals(invoices(result), Arrays.asList("I6", "I7", "I3"));
+  }
+
+  @Test
+  public void testWholeTableWhenNoGroupColumns() {
+    Table result = GetTopRowsPerGroup.action(invoiceTable, null, names("Amount DESC"), 3.0,
+        false).get();
+
+    Assert.assertEquals(invoices(result), Arrays.asList("I3", "I6", "I4"));
+  }
+
+  @Test
+  public void testMatchesSortedTable() {
+    List<Schema> schema = Arrays.asList(new Schema("Group"), new Schema("Id"),
+        new Schema("Score"));
+    List<Row> rows = new ArrayList<>();
+    Random random = new Random(42);
+    for (int i = 0; i < 5_000; i++) {
+      rows.add(new Row(new ArrayList<>(Arrays.<Value>asList(
+          new StringValue("G" + random.nextInt(20)), new StringValue(String.valueOf(i)),
+          new NumberValue(random.nextInt(100))))));
+    }
+    Table table = new Table(schema, rows);
+
+    Table result = GetTopRowsPerGroup.action(table, names("Group"), names("Score DESC"), 4.0,
+        false).get();
+    Table sorted = SortTable.action(table, names("Group", "Score DESC"), false, false).get();
+
+    // The sorted table holds each group's rows in the same order; take the first 4 of each
+    List<String> expected = new ArrayList<>();
+    String group = null;
+    int taken = 0;
+    for (Row row : sorted.getRows()) {
+      String rowGroup = row.getValues().get(0).toString();
+      if (!rowGroup.equals(group)) {
+        group = rowGroup;
+        taken = 0;
+      }
+      if (taken++ < 4) {
+        expected.add(row.getValues().get(1).toString());
+      }
+    }
+    List<String> actual = invoices(result);
+    Assert.assertEquals(actual.size(), 80);
+    Collections.sort(expected);
+    Collections.sort(actual);
+    Assert.assertEquals(actual, expected);
+  }
+
+  @Test
+  public void testCopiesRows() {
+    Table result = GetTopRowsPerGroup.action(invoiceTable, names("Vendor"),
+        names("Amount DESC"), 1.0, false).get();
+
+    Assert.assertNotSame(result.getRows().get(0), invoiceTable.getRows().get(2));
+    Assert.assertNotSame(result.getRows().get(0).getValues().get(0),
+        invoiceTable.getRows().get(2).getValues().get(0));
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Column not found: Total.*")
+  public void testMissingSortColumn() {
+    GetTopRowsPerGroup.action(invoiceTable, names("Vendor"), names("Total DESC"), 2.0, false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Rows per group must be at least 1.*")
+  public void testInvalidRowCount() {
+    GetTopRowsPerGroup.action(invoiceTable, names("Vendor"), names("Amount"), 0.0, false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Input table cannot be null.*")
+  public void testNullTable() {
+    GetTopRowsPerGroup.action(null, names("Vendor"), names("Amount"), 2.0, false);
+  }
+
+}
@@ -0,0 +1,124 @@
+package table;
+
+import static table.TableTestUtil.names;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.GroupTable;
+
+/**
+ * Test class for GroupTable action.
+ */
+public class GroupTableTest {
+
+  private Table ordersTable;
+
+  @BeforeMethod
+  public void setUp() {
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Region"));
+    schema.add(new Schema("Customer"));
+    schema.add(new Schema("Amount"));
+
+    List<Row> rows = new ArrayList<>();
+    rows.add(createRow("North", "Acme", new NumberValue(100)));
+    rows.add(createRow("South", "Beta", new NumberValue(40)));
+    rows.add(createRow("NORTH", "acme", new StringValue("20")));
+    rows.add(createRow("North", "Core", new StringValue("")));
+    rows.add(createRow("South", "Beta", new NumberValue(60)));
+
+    ordersTable = new Table(schema, rows);
+  }
+
+  private Row createRow(String region, String customer, Value amount) {
+    List<Value> values = new ArrayList<>();
+    values.add(new StringValue(region));
+    values.add(new StringValue(customer));
+    values.add(amount);
+    return new Row(values);
+  }
+
+  private static Double number(Table table, int row, int column) {
+    return ((NumberValue) table.getRows().get(row).getValues().get(column)).get();
+  }
+
+  @Test
+  public void testAllAggregates() {
+    Table result = GroupTable.action(ordersTable, names("region"),
+        names("SUM(Amount) as Total", "COUNT(*)", "COUNT(Amount)", "AVERAGE(Amount)",
+            "MIN(Amount)", "MAX(Amount)", "DISTINCT_COUNT(Customer) AS Customers"),
+        false).get();
+
+    Assert.assertEquals(result.getSchema().size(), 8);
+    Assert.assertEquals(result.getSchema().get(0).getName(), "Region");
+    Assert.assertEquals(result.getSchema().get(1).getName(), "Total");
+    Assert.assertEquals(result.getSchema().get(2).getName(), "COUNT(*)");
+    Assert.assertEquals(result.getSchema().get(7).getName(), "Customers");
+
+    Assert.assertEquals(result.getRows().size(), 2);
+    Assert.assertEquals(result.getRows().get(0).getValues().get(0).toString(), "North");
+    Assert.assertEquals(number(result, 0, 1), 120.0);
+    Assert.assertEquals(number(result, 0, 2), 3.0);
+    Assert.assertEquals(number(result, 0, 3), 2.0, "Empty cells should not be counted");
+    Assert.assertEquals(number(result, 0, 4), 60.0);
+    Assert.assertEquals(number(result, 0, 5), 20.0);
+    Assert.assertEquals(number(result, 0, 6), 100.0);
+    Assert.assertEquals(number(result, 0, 7), 2.0, "Acme and acme should be one customer");
+
+    Assert.assertEquals(number(result, 1, 1), 100.0);
+  }
+
+  @Test
+  public void testCaseSensitiveGroups() {
+    Table result = GroupTable.action(ordersTable, names("Region"),
+        names("DISTINCT_COUNT(Customer)"), true).get();
+
+    Assert.assertEquals(result.getRows().size(), 3);
+    Assert.assertEquals(result.getRows().get(2).getValues().get(0).toString(), "NORTH");
+    Assert.assertEquals(number(result, 0, 1), 2.0);
+  }
+
+  @Test
+  public void testMultipleGroupColumns() {
+    Table result = GroupTable.action(ordersTable, names("Region", "Customer"),
+        names("SUM(Amount)"), false).get();
+
+    Assert.assertEquals(result.getRows().size(), 3);
+    Assert.assertEquals(number(result, 0, 2), 120.0);
+    Assert.assertEquals(number(result, 2, 2), 0.0);
+  }
+
+  @Test
+  public void testSourceTableUnchanged() {
+    GroupTable.action(ordersTable, names("Region"), names("COUNT(*)"), false);
+
+    Assert.assertEquals(ordersTable.getRows().size(), 5);
+    Assert.assertEquals(ordersTable.getRows().get(0).getValues().size(), 3);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testInvalidExpression() {
+    GroupTable.action(ordersTable, names("Region"), names("Amount"), false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testStarOnlyWithCount() {
+    GroupTable.action(ordersTable, names("Region"), names("SUM(*)"), false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testNonNumericValue() {
+    GroupTable.action(ordersTable, names("Amount"), names("SUM(Customer)"), false);
+  }
+
+}
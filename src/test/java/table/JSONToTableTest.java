@@ -0,0 +1,165 @@
+package table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.BooleanValue;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.ConvertJSONToTable;
+import sumit.devtools.actions.table.ConvertTableToJSON;
+
+/**
+ * Test class for ConvertJSONToTable action.
+ */
+public class JSONToTableTest {
+
+  private static List<String> headers(Table table) {
+    List<String> names = new ArrayList<>();
+    for (Schema schema : table.getSchema()) {
+      names.add(schema.getName());
+    }
+    return names;
+  }
+
+  private static Object cell(Table table, int row, int column) {
+    return table.getRows().get(row).getValues().get(column).get();
+  }
+
+  private static boolean isEmpty(Table table, int row, int column) {
+    Object value = cell(table, row, column);
+    return value == null || value.toString().isEmpty();
+  }
+
+  @Test
+  public void testArrayOfObjectsWithFlattening() {
+    String json = "[{\"Name\": \"A\", \"Address\": {\"City\": \"Pune\", \"Geo\": {\"Lat\": 18.5}}, \"Tags\": [\"x\", 1]},"
+        + " {\"Name\": \"B\", \"Active\": true, \"Address\": null}]";
+    Table table = ConvertJSONToTable.action("STRING", json, null, null, true).get();
+
+    Assert.assertEquals(headers(table),
+        List.of("Name", "Address.City", "Address.Geo.Lat", "Tags", "Active", "Address"));
+    Assert.assertEquals(table.getRows().size(), 2);
+    Assert.assertEquals(cell(table, 0, 1), "Pune");
+    Assert.assertTrue(table.getRows().get(0).getValues().get(2) instanceof NumberValue);
+    Assert.assertEquals(cell(table, 0, 2), 18.5);
+    Assert.assertEquals(cell(table, 0, 3), "[\"x\",1]");
+    // Missing keys and null read as empty cells
+    Assert.assertEquals(table.getRows().get(0).getValues().size(), 6);
+    Assert.assertTrue(isEmpty(table, 0, 4));
+    Assert.assertEquals(cell(table, 1, 0), "B");
+    Assert.assertTrue(isEmpty(table, 1, 1));
+    Assert.assertTrue(table.getRows().get(1).getValues().get(4) instanceof BooleanValue);
+    Assert.assertEquals(cell(table, 1, 4), true);
+    Assert.assertTrue(isEmpty(table, 1, 5));
+  }
+
+  @Test
+  public void testNestedObjectsAsText() {
+    String json = "[{\"Name\": \"A\", \"Address\": {\"City\": \"Pune\", \"Zip\": \"411001\"}}]";
+    Table table = ConvertJSONToTable.action("STRING", json, null, null, false).get();
+
+    Assert.assertEquals(headers(table), List.of("Name", "Address"));
+    // Key order of the input is kept
+    Assert.assertEquals(cell(table, 0, 1), "{\"City\":\"Pune\",\"Zip\":\"411001\"}");
+  }
+
+  @Test
+  public void testObjectOfColumnArrays() {
+    String json = "{\"Name\": [\"A\", \"B\", \"C\"], \"Amount\": [1, 2.5]}";
+    Table table = ConvertJSONToTable.action("STRING", json, null, null, true).get();
+
+    Assert.assertEquals(headers(table), List.of("Name", "Amount"));
+    Assert.assertEquals(table.getRows().size(), 3);
+    Assert.assertEquals(cell(table, 1, 1), 2.5);
+    Assert.assertTrue(isEmpty(table, 2, 1));
+  }
+
+  @Test
+  public void testSingleObjectAndScalarArray() {
+    Table single = ConvertJSONToTable.action("STRING", "{\"Id\": 7, \"Name\": \"A\"}", null, null,
+        true).get();
+    Assert.assertEquals(headers(single), List.of("Id", "Name"));
+    Assert.assertEquals(single.getRows().size(), 1);
+
+    Table scalars = ConvertJSONToTable.action("STRING", "[\"a\", \"b\"]", null, null, true).get();
+    Assert.assertEquals(headers(scalars), List.of("value"));
+    Assert.assertEquals(cell(scalars, 1, 0), "b");
+
+    Table empty = ConvertJSONToTable.action("STRING", " [ ] ", null, null, true).get();
+    Assert.assertTrue(empty.getSchema().isEmpty());
+    Assert.assertTrue(empty.getRows().isEmpty());
+  }
+
+  @Test
+  public void testRoundTripThroughFile() throws IOException {
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Name"));
+    schema.add(new Schema("Amount"));
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      List<Value> values = new ArrayList<>();
+      values.add(new StringValue("Name, \"" + i + "\" é"));
+      values.add(new NumberValue(i * 1.5));
+      rows.add(new Row(values));
+    }
+    Path file = Files.createTempFile("json-tests", ".json");
+    try {
+      ConvertTableToJSON.action(new Table(schema, rows), "ROWS", "FILE", file.toString(),
+          "OVERWRITE", false);
+      Table table = ConvertJSONToTable.action("FILE", null, file.toString(), "UTF-8", true).get();
+
+      Assert.assertEquals(headers(table), List.of("Name", "Amount"));
+      Assert.assertEquals(table.getRows().size(), 1000);
+      Assert.assertEquals(cell(table, 999, 0), "Name, \"999\" é");
+      Assert.assertEquals(cell(table, 999, 1), 1498.5);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testFileWithByteOrderMarkAndCharset() throws IOException {
+    Path file = Files.createTempFile("json-tests", ".json");
+    try {
+      Files.write(file, "\uFEFF[{\"Name\": \"Zoë\"}]".getBytes(StandardCharsets.UTF_8));
+      Table table = ConvertJSONToTable.action("FILE", null, file.toString(), "UTF-8", true).get();
+      Assert.assertEquals(headers(table), List.of("Name"));
+      Assert.assertEquals(cell(table, 0, 0), "Zoë");
+
+      Files.write(file, "[{\"Name\": \"Zoë\"}]".getBytes(StandardCharsets.UTF_16LE));
+      table = ConvertJSONToTable.action("FILE", null, file.toString(), "UTF-16LE", true).get();
+      Assert.assertEquals(cell(table, 0, 0), "Zoë");
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Error converting JSON to table.*")
+  public void testInvalidJson() {
+    ConvertJSONToTable.action("STRING", "[{\"Name\": \"A\"", null, null, true);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Unexpected text after the end.*")
+  public void testTrailingText() {
+    ConvertJSONToTable.action("STRING", "[1] [2]", null, null, true);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*File not found.*")
+  public void testMissingFile() {
+    ConvertJSONToTable.action("FILE", null, "does-not-exist.json", "UTF-8", true);
+  }
+}
@@ -0,0 +1,167 @@
+package table;
+
+import static table.TableTestUtil.names;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.JoinTables;
+
+/**
+ * Test class for JoinTables action.
+ */
+public class JoinTablesTest {
+
+  private Table orders;
+  private Table customers;
+
+  @BeforeMethod
+  public void setUp() {
+    orders = createTable(Arrays.asList("OrderId", "CustomerId", "Name"),
+        new Object[][]{
+            {1, "C1", "Order one"},
+            {2, "C2", "Order two"},
+            {3, "C9", "Order three"},
+            {4, "c1", "Order four"},
+            {5, "", "Order five"}
+        });
+    customers = createTable(Arrays.asList("customerid", "Name"),
+        new Object[][]{
+            {"C1", "Acme"},
+            {"C2", "Beta"},
+            {"C3", "Core"}
+        });
+  }
+
+  private static Table createTable(List<String> headers, Object[][] data) {
+    List<Schema> schema = new ArrayList<>();
+    headers.forEach(header -> schema.add(new Schema(header)));
+    List<Row> rows = new ArrayList<>();
+    for (Object[] rowData : data) {
+      List<Value> values = new ArrayList<>();
+      for (Object cell : rowData) {
+        values.add(cell instanceof Number ? new NumberValue(cell) : new StringValue(cell));
+      }
+      rows.add(new Row(values));
+    }
+    return new Table(schema, rows);
+  }
+
+  private static String cell(Table table, int row, int column) {
+    return table.getRows().get(row).getValues().get(column).toString();
+  }
+
+  @Test
+  public void testInnerJoin() {
+    Table result = JoinTables.action(orders, customers, names("CustomerId"), null, "INNER",
+        false).get();
+
+    Assert.assertEquals(result.getSchema().size(), 4);
+    Assert.assertEquals(result.getSchema().get(3).getName(), "Name_right",
+        "Duplicate column names should get a suffix");
+    Assert.assertEquals(result.getRows().size(), 3);
+    Assert.assertEquals(cell(result, 0, 3), "Acme");
+    Assert.assertEquals(cell(result, 1, 3), "Beta");
+    Assert.assertEquals(cell(result, 2, 2), "Order four", "Keys should match case-insensitively");
+  }
+
+  @Test
+  public void testLeftJoinCaseSensitive() {
+    Table result = JoinTables.action(orders, customers, names("CustomerId"), names("customerid"),
+        "LEFT", true).get();
+
+    Assert.assertEquals(result.getRows().size(), 5);
+    Assert.assertEquals(cell(result, 0, 3), "Acme");
+    Assert.assertEquals(cell(result, 2, 3), "", "Unmatched rows should have empty right values");
+    Assert.assertEquals(cell(result, 3, 3), "", "c1 should not match C1");
+    Assert.assertEquals(cell(result, 4, 3), "", "Empty keys should never match");
+  }
+
+  @Test
+  public void testRightJoinFollowsRightOrder() {
+    Table result = JoinTables.action(orders, customers, names("CustomerId"), null, "RIGHT",
+        false).get();
+
+    Assert.assertEquals(result.getRows().size(), 4);
+    Assert.assertEquals(cell(result, 0, 2), "Order one");
+    Assert.assertEquals(cell(result, 1, 2), "Order four");
+    Assert.assertEquals(cell(result, 2, 3), "Beta");
+    Assert.assertEquals(cell(result, 3, 1), "C3", "Unmatched right rows should keep their key");
+    Assert.assertEquals(cell(result, 3, 0), "");
+  }
+
+  @Test
+  public void testFullJoin() {
+    Table result = JoinTables.action(orders, customers, names("CustomerId"), null, "FULL",
+        false).get();
+
+    Assert.assertEquals(result.getRows().size(), 6);
+    Assert.assertEquals(cell(result, 5, 1), "C3");
+    Assert.assertEquals(cell(result, 5, 3), "Core");
+  }
+
+  @Test
+  public void testAntiJoin() {
+    Table result = JoinTables.action(orders, customers, names("CustomerId"), null, "ANTI",
+        false).get();
+
+    Assert.assertEquals(result.getSchema().size(), 3);
+    Assert.assertEquals(result.getRows().size(), 2);
+    Assert.assertEquals(cell(result, 0, 1), "C9");
+    Assert.assertEquals(cell(result, 1, 2), "Order five");
+  }
+
+  @Test
+  public void testSmallerLeftSideKeepsOrder() {
+    Table result = JoinTables.action(customers, orders, names("customerid"), names("CustomerId"),
+        "LEFT", false).get();
+
+    Assert.assertEquals(result.getRows().size(), 4);
+    Assert.assertEquals(cell(result, 0, 3), "Order one");
+    Assert.assertEquals(cell(result, 1, 3), "Order four");
+    Assert.assertEquals(cell(result, 2, 1), "Beta");
+    Assert.assertEquals(cell(result, 3, 3), "");
+  }
+
+  @Test
+  public void testNumericAndTextKeysMatch() {
+    Table left = createTable(Arrays.asList("Id"), new Object[][]{{7}});
+    Table right = createTable(Arrays.asList("Id", "Label"), new Object[][]{{"7", "Seven"}});
+
+    Table result = JoinTables.action(left, right, names("Id"), null, "INNER", false).get();
+
+    Assert.assertEquals(result.getRows().size(), 1);
+    Assert.assertEquals(cell(result, 0, 1), "Seven");
+  }
+
+  @Test
+  public void testResultIsIndependentCopy() {
+    Table result = JoinTables.action(orders, customers, names("CustomerId"), null, "INNER",
+        false).get();
+
+    Assert.assertNotSame(result.getRows().get(0).getValues().get(2),
+        orders.getRows().get(0).getValues().get(2));
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testKeyCountMismatch() {
+    JoinTables.action(orders, customers, names("CustomerId", "Name"), names("customerid"),
+        "INNER", false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testInvalidJoinType() {
+    JoinTables.action(orders, customers, names("CustomerId"), null, "CROSS", false);
+  }
+
+}
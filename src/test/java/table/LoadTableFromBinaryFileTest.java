@@ -0,0 +1,162 @@
+package table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.BooleanValue;
+import com.automationanywhere.botcommand.data.impl.DateTimeValue;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import com.automationanywhere.botcore.api.dto.AttributeType;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.LoadTableFromBinaryFile;
+import sumit.devtools.actions.table.SaveTableToBinaryFile;
+
+/**
+ * Test class for LoadTableFromBinaryFile action.
+ */
+public class LoadTableFromBinaryFileTest {
+
+  private static final ZonedDateTime DATE =
+      ZonedDateTime.of(2024, 3, 15, 10, 30, 45, 123_000_000, ZoneId.of("Europe/Berlin"));
+
+  private Path tempDir;
+  private Path file;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("binary-table-tests");
+    file = tempDir.resolve("table.bin");
+
+    List<Schema> schema = Arrays.asList(
+        new Schema("Name", AttributeType.STRING),
+        new Schema("Amount", AttributeType.NUMBER),
+        new Schema("Active", AttributeType.BOOLEAN),
+        new Schema("Updated", AttributeType.DATETIME));
+    List<Row> rows = new ArrayList<>();
+    rows.add(new Row(Arrays.<Value>asList(new StringValue("Zoë, \"quoted\""),
+        new NumberValue(12.5), new BooleanValue(true), new DateTimeValue(DATE))));
+    rows.add(new Row(Arrays.<Value>asList(new StringValue(""), new NumberValue(-3),
+        new BooleanValue(false), new StringValue())));
+    // Short row is padded with empty cells
+    rows.add(new Row(Arrays.<Value>asList(new StringValue("Short"))));
+    SaveTableToBinaryFile.action(new Table(schema, rows), file.toString(), "FAIL");
+  }
+
+  @AfterMethod
+  public void tearDown() throws IOException {
+    Files.walk(tempDir)
+        .sorted((p1, p2) -> -p1.compareTo(p2))
+        .forEach(p -> {
+          try {
+            Files.deleteIfExists(p);
+          } catch (IOException e) {
+            // Ignore, best effort cleanup
+          }
+        });
+  }
+
+  private static boolean isEmpty(Value value) {
+    return value.get() == null || value.get().toString().isEmpty();
+  }
+
+  private void assertRoundTrip(Table table) {
+    Assert.assertEquals(table.getSchema().size(), 4);
+    Assert.assertEquals(table.getSchema().get(0).getName(), "Name");
+    Assert.assertEquals(table.getSchema().get(1).getType(), AttributeType.NUMBER);
+    Assert.assertEquals(table.getSchema().get(2).getType(), AttributeType.BOOLEAN);
+    Assert.assertEquals(table.getSchema().get(3).getType(), AttributeType.DATETIME);
+    Assert.assertEquals(table.getRows().size(), 3);
+
+    List<Value> first = table.getRows().get(0).getValues();
+    Assert.assertEquals(first.get(0).get(), "Zoë, \"quoted\"");
+    Assert.assertTrue(first.get(1) instanceof NumberValue);
+    Assert.assertEquals(((NumberValue) first.get(1)).get(), 12.5);
+    Assert.assertTrue(first.get(2) instanceof BooleanValue);
+    Assert.assertEquals(first.get(2).get(), Boolean.TRUE);
+    Assert.assertTrue(first.get(3) instanceof DateTimeValue);
+    Assert.assertEquals(first.get(3).get(), DATE);
+
+    List<Value> second = table.getRows().get(1).getValues();
+    Assert.assertTrue(isEmpty(second.get(0)));
+    Assert.assertEquals(((NumberValue) second.get(1)).get(), -3.0);
+    Assert.assertEquals(second.get(2).get(), Boolean.FALSE);
+    Assert.assertTrue(isEmpty(second.get(3)));
+
+    List<Value> third = table.getRows().get(2).getValues();
+    Assert.assertEquals(third.size(), 4);
+    Assert.assertEquals(third.get(0).get(), "Short");
+    Assert.assertTrue(isEmpty(third.get(1)));
+    Assert.assertTrue(isEmpty(third.get(3)));
+  }
+
+  @Test
+  public void testLoadKeepsTypes() {
+    assertRoundTrip(LoadTableFromBinaryFile.action(file.toString(), false, false).get());
+  }
+
+  @Test
+  public void testLoadMemoryMapped() {
+    assertRoundTrip(LoadTableFromBinaryFile.action(file.toString(), true, false).get());
+  }
+
+  @Test
+  public void testLargeTableParallelAndMemoryMapped() {
+    List<Schema> schema = Arrays.asList(new Schema("Id"), new Schema("Text"), new Schema("Even"));
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 25_000; i++) {
+      rows.add(new Row(Arrays.<Value>asList(new NumberValue(i), new StringValue("row " + i),
+          new BooleanValue(i % 2 == 0))));
+    }
+    Path large = tempDir.resolve("large.bin");
+    SaveTableToBinaryFile.action(new Table(schema, rows), large.toString(), "FAIL");
+
+    for (boolean memoryMap : new boolean[]{false, true}) {
+      Table loaded = LoadTableFromBinaryFile.action(large.toString(), memoryMap, true).get();
+      Assert.assertEquals(loaded.getRows().size(), 25_000);
+      for (int i = 0; i < 25_000; i += 997) {
+        List<Value> values = loaded.getRows().get(i).getValues();
+        Assert.assertEquals(((NumberValue) values.get(0)).get(), (double) i);
+        Assert.assertEquals(values.get(1).get(), "row " + i);
+        Assert.assertEquals(values.get(2).get(), i % 2 == 0);
+      }
+    }
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Not a binary table file.*")
+  public void testNotBinaryTableFile() throws IOException {
+    Path csv = tempDir.resolve("table.csv");
+    Files.write(csv, "Name,Amount\nApple,10\n".getBytes(StandardCharsets.UTF_8));
+    LoadTableFromBinaryFile.action(csv.toString(), false, false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*File ends inside.*")
+  public void testTruncatedFile() throws IOException {
+    byte[] bytes = Files.readAllBytes(file);
+    Files.write(file, Arrays.copyOf(bytes, bytes.length - 5));
+    LoadTableFromBinaryFile.action(file.toString(), false, false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*File not found.*")
+  public void testMissingFile() {
+    LoadTableFromBinaryFile.action(tempDir.resolve("missing.bin").toString(), false, false);
+  }
+
+}
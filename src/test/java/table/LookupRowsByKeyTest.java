@@ -0,0 +1,123 @@
+package table;
+
+import static table.TableTestUtil.names;
+import static table.TableTestUtil.row;
+import static table.TableTestUtil.values;
+
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.BuildTableIndex;
+import sumit.devtools.actions.table.LookupRowsByKey;
+
+/**
+ * Test class for LookupRowsByKey action.
+ */
+public class LookupRowsByKeyTest {
+
+  private Map<String, Object> sessions;
+  private BuildTableIndex buildIndex;
+  private LookupRowsByKey lookup;
+  private Table inputTable;
+
+  @BeforeMethod
+  public void setUp() {
+    // Both actions share the package session map, as in a bot run
+    sessions = new HashMap<>();
+    buildIndex = new BuildTableIndex();
+    buildIndex.setSessions(sessions);
+    lookup = new LookupRowsByKey();
+    lookup.setSessions(sessions);
+
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Region"));
+    schema.add(new Schema("Code"));
+    schema.add(new Schema("Price"));
+    inputTable = new Table(schema, new ArrayList<>());
+    inputTable.getRows().add(row(new StringValue("North"), new NumberValue(100), new NumberValue(1)));
+    inputTable.getRows().add(row(new StringValue("South"), new NumberValue(100), new NumberValue(2)));
+    inputTable.getRows().add(row(new StringValue("north"), new NumberValue(200), new NumberValue(3)));
+    inputTable.getRows().add(row(new StringValue("North"), new NumberValue(100), new NumberValue(4)));
+  }
+
+  private static List<Object> prices(Table table) {
+    List<Object> prices = new ArrayList<>();
+    for (Row row : table.getRows()) {
+      prices.add(row.getValues().get(2).get());
+    }
+    return prices;
+  }
+
+  @Test
+  public void testCompositeKeyMatchesNumberAsText() {
+    buildIndex.action("Prices", inputTable, names("Region", "Code"), false);
+
+    Table result = lookup.action("Prices", values(new StringValue("NORTH"), new StringValue("100")),
+        "EMPTY").get();
+
+    Assert.assertEquals(result.getSchema().size(), 3);
+    Assert.assertEquals(prices(result), List.of(1.0, 4.0));
+  }
+
+  @Test
+  public void testCaseSensitiveKey() {
+    buildIndex.action("Default", inputTable, names("Region"), true);
+
+    Assert.assertEquals(prices(lookup.action("Default", values(new StringValue("north")), "EMPTY").get()),
+        List.of(3.0));
+    Assert.assertEquals(prices(lookup.action("Default", values(new StringValue("North")), "EMPTY").get()),
+        List.of(1.0, 4.0));
+  }
+
+  @Test
+  public void testRepeatedLookupsReturnIndependentCopies() {
+    buildIndex.action("Default", inputTable, names("Code"), false);
+
+    Table first = lookup.action("Default", values(new NumberValue(200)), "EMPTY").get();
+    first.getRows().get(0).getValues().set(2, new NumberValue(99));
+    Table second = lookup.action("Default", values(new NumberValue(200)), "EMPTY").get();
+
+    Assert.assertEquals(prices(second), List.of(3.0));
+    Assert.assertEquals(inputTable.getRows().get(2).getValues().get(2).get(), 3.0);
+  }
+
+  @Test
+  public void testNoMatchReturnsEmptyTable() {
+    buildIndex.action("Default", inputTable, names("Region"), false);
+
+    Table result = lookup.action("Default", values(new StringValue("East")), "EMPTY").get();
+    Assert.assertEquals(result.getSchema().size(), 3);
+    Assert.assertTrue(result.getRows().isEmpty());
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*No row found for key: \\[East\\].*")
+  public void testNoMatchFails() {
+    buildIndex.action("Default", inputTable, names("Region"), false);
+    lookup.action("Default", values(new StringValue("East")), "FAIL");
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Expected 2 key value\\(s\\) for Region, Code, got 1.*")
+  public void testWrongKeyValueCount() {
+    buildIndex.action("Default", inputTable, names("Region", "Code"), false);
+    lookup.action("Default", values(new StringValue("North")), "EMPTY");
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Table index not found: Other.*")
+  public void testMissingIndex() {
+    buildIndex.action("Default", inputTable, names("Region"), false);
+    lookup.action("Other", values(new StringValue("North")), "EMPTY");
+  }
+}
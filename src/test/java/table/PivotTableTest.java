@@ -0,0 +1,135 @@
+package table;
+
+import static table.TableTestUtil.names;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.PivotTable;
+
+/**
+ * Test class for PivotTable action.
+ */
+public class PivotTableTest {
+
+  private Table salesTable;
+
+  @BeforeMethod
+  public void setUp() {
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Region"));
+    schema.add(new Schema("Quarter"));
+    schema.add(new Schema("Amount"));
+
+    List<Row> rows = new ArrayList<>();
+    rows.add(createRow("North", "Q1", new NumberValue(100)));
+    rows.add(createRow("South", "Q1", new NumberValue(50)));
+    rows.add(createRow("north", "Q2", new StringValue("25.5")));
+    rows.add(createRow("North", "Q1", new NumberValue(10)));
+    rows.add(createRow("South", "Q2", new StringValue("")));
+
+    salesTable = new Table(schema, rows);
+  }
+
+  private Row createRow(String region, String quarter, Value amount) {
+    List<Value> values = new ArrayList<>();
+    values.add(new StringValue(region));
+    values.add(new StringValue(quarter));
+    values.add(amount);
+    return new Row(values);
+  }
+
+  private static String cell(Table table, int row, int column) {
+    return table.getRows().get(row).getValues().get(column).toString();
+  }
+
+  @Test
+  public void testSumByRowAndColumnLabels() {
+    Table result = PivotTable.action(salesTable, names("Region"), "Quarter", "Amount", "SUM",
+        false).get();
+
+    Assert.assertEquals(result.getSchema().size(), 3);
+    Assert.assertEquals(result.getSchema().get(0).getName(), "Region");
+    Assert.assertEquals(result.getSchema().get(1).getName(), "Q1");
+    Assert.assertEquals(result.getSchema().get(2).getName(), "Q2");
+
+    Assert.assertEquals(result.getRows().size(), 2, "Labels should be grouped case-insensitively");
+    Assert.assertEquals(cell(result, 0, 0), "North");
+    Assert.assertEquals(((NumberValue) result.getRows().get(0).getValues().get(1)).get(), 110.0);
+    Assert.assertEquals(((NumberValue) result.getRows().get(0).getValues().get(2)).get(), 25.5);
+    Assert.assertEquals(((NumberValue) result.getRows().get(1).getValues().get(1)).get(), 50.0);
+    Assert.assertEquals(((NumberValue) result.getRows().get(1).getValues().get(2)).get(), 0.0,
+        "Sum of only empty cells should be 0");
+  }
+
+  @Test
+  public void testCaseSensitiveLabels() {
+    Table result = PivotTable.action(salesTable, names("Region"), null, "Amount", "COUNT",
+        true).get();
+
+    Assert.assertEquals(result.getRows().size(), 3);
+    Assert.assertEquals(result.getSchema().get(1).getName(), "Count of Amount");
+    Assert.assertEquals(((NumberValue) result.getRows().get(0).getValues().get(1)).get(), 2.0);
+    Assert.assertEquals(((NumberValue) result.getRows().get(1).getValues().get(1)).get(), 1.0,
+        "Empty cells should not be counted");
+  }
+
+  @Test
+  public void testMissingCombinationIsEmpty() {
+    salesTable.getRows().add(createRow("East", "Q3", new NumberValue(5)));
+
+    Table result = PivotTable.action(salesTable, names("Region"), "Quarter", "Amount", "MAX",
+        false).get();
+
+    Assert.assertEquals(result.getSchema().get(3).getName(), "Q3");
+    Assert.assertEquals(cell(result, 0, 3), "");
+    Assert.assertEquals(cell(result, 1, 2), "", "Max of only empty cells should be empty");
+    Assert.assertEquals(((NumberValue) result.getRows().get(2).getValues().get(3)).get(), 5.0);
+  }
+
+  @Test
+  public void testAverageByMultipleRowLabels() {
+    Table result = PivotTable.action(salesTable, names("Region", "Quarter"), "", "Amount",
+        "AVERAGE", false).get();
+
+    Assert.assertEquals(result.getRows().size(), 4);
+    Assert.assertEquals(result.getSchema().get(2).getName(), "Average of Amount");
+    Assert.assertEquals(((NumberValue) result.getRows().get(0).getValues().get(2)).get(), 55.0);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testNonNumericValue() {
+    salesTable.getRows().add(createRow("East", "Q3", new StringValue("n/a")));
+
+    PivotTable.action(salesTable, names("Region"), null, "Amount", "SUM", false);
+  }
+
+  @Test
+  public void testFirstValueKeepsCells() {
+    Table result = PivotTable.action(salesTable, names("Region"), "Quarter", "Amount", "FIRST",
+        false).get();
+
+    Assert.assertEquals(result.getSchema().get(1).getName(), "Q1");
+    Assert.assertEquals(result.getRows().size(), 2);
+    // North Q1 keeps the first of 100 and 10, without summing
+    Assert.assertTrue(result.getRows().get(0).getValues().get(1) instanceof NumberValue);
+    Assert.assertEquals(result.getRows().get(0).getValues().get(1).get(), 100.0);
+    Assert.assertEquals(result.getRows().get(0).getValues().get(2).get(), "25.5");
+    Assert.assertEquals(cell(result, 1, 2), "");
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testMissingColumn() {
+    PivotTable.action(salesTable, names("Country"), null, "Amount", "SUM", false);
+  }
+
+}
@@ -0,0 +1,141 @@
+package table;
+
+import com.automationanywhere.botcommand.data.impl.TableValue;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.ReadCSVToTable;
+
+/**
+ * Test class for ReadCSVToTable action.
+ */
+public class ReadCSVToTableTest {
+
+  private Path tempDir;
+  private Path csvFile;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("csv-tests");
+    csvFile = tempDir.resolve("input.csv");
+    Files.writeString(csvFile,
+        "Name,Age,City\n" +
+            "John,30,New York\n" +
+            "Alice,25,\"Boston, MA\"\n" +
+            "Bob,35,Chicago\n" +
+            "Eve,28\n",
+        StandardCharsets.UTF_8);
+  }
+
+  @AfterMethod
+  public void tearDown() throws IOException {
+    Files.walk(tempDir)
+        .sorted((p1, p2) -> -p1.compareTo(p2))
+        .forEach(p -> {
+          try {
+            Files.deleteIfExists(p);
+          } catch (IOException e) {
+            // Ignore, best effort cleanup
+          }
+        });
+  }
+
+  @Test
+  public void testReadWithHeader() {
+    TableValue result = ReadCSVToTable.action(csvFile.toString(), "UTF-8", "COMMA", null, true,
+        0.0, 0.0);
+
+    Table table = result.get();
+    Assert.assertEquals(table.getSchema().size(), 3);
+    Assert.assertEquals(table.getSchema().get(2).getName(), "City");
+    Assert.assertEquals(table.getRows().size(), 4);
+    Assert.assertEquals(table.getRows().get(1).getValues().get(2).toString(), "Boston, MA");
+  }
+
+  @Test
+  public void testShortRowsArePadded() {
+    TableValue result = ReadCSVToTable.action(csvFile.toString(), "UTF-8", "COMMA", null, true,
+        0.0, 0.0);
+
+    Table table = result.get();
+    Assert.assertEquals(table.getRows().get(3).getValues().size(), 3);
+    Assert.assertEquals(table.getRows().get(3).getValues().get(2).toString(), "");
+  }
+
+  @Test
+  public void testReadWithoutHeader() {
+    TableValue result = ReadCSVToTable.action(csvFile.toString(), "UTF-8", "COMMA", null, false,
+        0.0, 0.0);
+
+    Table table = result.get();
+    Assert.assertEquals(table.getRows().size(), 5);
+    Assert.assertEquals(table.getRows().get(0).getValues().get(0).toString(), "Name");
+    Assert.assertEquals(table.getSchema().get(0).getName(), "");
+  }
+
+  @Test
+  public void testSkipAndLimitRows() {
+    TableValue result = ReadCSVToTable.action(csvFile.toString(), "UTF-8", "COMMA", null, true,
+        1.0, 2.0);
+
+    Table table = result.get();
+    Assert.assertEquals(table.getSchema().get(0).getName(), "Name");
+    Assert.assertEquals(table.getRows().size(), 2);
+    Assert.assertEquals(table.getRows().get(0).getValues().get(0).toString(), "Alice");
+    Assert.assertEquals(table.getRows().get(1).getValues().get(0).toString(), "Bob");
+  }
+
+  @Test
+  public void testSkipPastEndReturnsEmptyTable() {
+    TableValue result = ReadCSVToTable.action(csvFile.toString(), "UTF-8", "COMMA", null, true,
+        100.0, 0.0);
+
+    Assert.assertEquals(result.get().getRows().size(), 0);
+    Assert.assertEquals(result.get().getSchema().size(), 3);
+  }
+
+  @Test
+  public void testCustomDelimiterAndCharset() throws IOException {
+    Path file = tempDir.resolve("latin.csv");
+    Files.writeString(file, "Name;Stadt\nJürgen;München\n", StandardCharsets.ISO_8859_1);
+
+    TableValue result = ReadCSVToTable.action(file.toString(), "ISO-8859-1", "CUSTOM", ";", true,
+        0.0, 0.0);
+
+    Table table = result.get();
+    Assert.assertEquals(table.getSchema().get(1).getName(), "Stadt");
+    Assert.assertEquals(table.getRows().get(0).getValues().get(1).toString(), "München");
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testMissingFile() {
+    ReadCSVToTable.action(tempDir.resolve("missing.csv").toString(), "UTF-8", "COMMA", null, true,
+        0.0, 0.0);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testEmptyCustomDelimiter() {
+    ReadCSVToTable.action(csvFile.toString(), "UTF-8", "CUSTOM", "", true, 0.0, 0.0);
+  }
+
+  @Test
+  public void testByteOrderMarkIsSkipped() throws IOException {
+    // Excel's "CSV UTF-8" format starts the file with a byte order mark
+    Path file = tempDir.resolve("excel.csv");
+    Files.writeString(file, "\uFEFFName,Age\nJohn,30\n", StandardCharsets.UTF_8);
+
+    Table table = ReadCSVToTable.action(file.toString(), "UTF-8", "COMMA", null, true, 0.0, 0.0)
+        .get();
+
+    Assert.assertEquals(table.getSchema().get(0).getName(), "Name");
+    Assert.assertEquals(table.getRows().get(0).getValues().get(0).toString(), "John");
+  }
+
+}
@@ -0,0 +1,136 @@
+package table;
+
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.ReadExcelSheetToTable;
+
+/**
+ * Test class for ReadExcelSheetToTable action.
+ */
+public class ReadExcelSheetToTableTest {
+
+  private Path tempDir;
+  private Path workbookFile;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("excel-tests");
+    workbookFile = tempDir.resolve("input.xlsx");
+
+    try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+      workbook.createSheet("Summary").createRow(0).createCell(0).setCellValue("Ignore me");
+
+      Sheet data = workbook.createSheet("Data");
+      Row header = data.createRow(0);
+      header.createCell(0).setCellValue("Name");
+      header.createCell(1).setCellValue("Amount");
+      header.createCell(2).setCellValue("Active");
+
+      CellStyle twoDecimals = workbook.createCellStyle();
+      twoDecimals.setDataFormat(workbook.createDataFormat().getFormat("0.00"));
+
+      for (int i = 1; i <= 5; i++) {
+        Row row = data.createRow(i);
+        row.createCell(0).setCellValue("Name " + i);
+        row.createCell(1).setCellValue(i * 1.5);
+        row.getCell(1).setCellStyle(twoDecimals);
+        row.createCell(2).setCellValue(i % 2 == 0);
+      }
+
+      // Sparse row: only the third column is set
+      data.createRow(6).createCell(2).setCellFormula("1=1");
+
+      try (OutputStream out = Files.newOutputStream(workbookFile)) {
+        workbook.write(out);
+      }
+    }
+  }
+
+  @AfterMethod
+  public void tearDown() throws IOException {
+    Files.walk(tempDir)
+        .sorted((p1, p2) -> -p1.compareTo(p2))
+        .forEach(p -> {
+          try {
+            Files.deleteIfExists(p);
+          } catch (IOException e) {
+            // Ignore, best effort cleanup
+          }
+        });
+  }
+
+  @Test
+  public void testReadSheetByName() {
+    Table result = ReadExcelSheetToTable.action(workbookFile.toString(), "NAME", "Data", null,
+        true, 0.0, 0.0).get();
+
+    Assert.assertEquals(result.getSchema().size(), 3);
+    Assert.assertEquals(result.getSchema().get(1).getName(), "Amount");
+    Assert.assertEquals(result.getRows().size(), 6);
+    Assert.assertEquals(result.getRows().get(0).getValues().get(0).toString(), "Name 1");
+    Assert.assertEquals(result.getRows().get(0).getValues().get(1).toString(), "1.50",
+        "Numbers should be formatted as displayed");
+    Assert.assertEquals(result.getRows().get(1).getValues().get(2).toString(), "TRUE");
+  }
+
+  @Test
+  public void testSparseRowIsPadded() {
+    Table result = ReadExcelSheetToTable.action(workbookFile.toString(), "NAME", "Data", null,
+        true, 0.0, 0.0).get();
+
+    Assert.assertEquals(result.getRows().get(5).getValues().size(), 3);
+    Assert.assertEquals(result.getRows().get(5).getValues().get(0).toString(), "");
+  }
+
+  @Test
+  public void testReadSheetByPosition() {
+    Table result = ReadExcelSheetToTable.action(workbookFile.toString(), "INDEX", null, 1.0,
+        false, 0.0, 0.0).get();
+
+    Assert.assertEquals(result.getRows().size(), 1);
+    Assert.assertEquals(result.getRows().get(0).getValues().get(0).toString(), "Ignore me");
+    Assert.assertEquals(result.getSchema().get(0).getName(), "");
+  }
+
+  @Test
+  public void testSkipAndLimitRows() {
+    Table result = ReadExcelSheetToTable.action(workbookFile.toString(), "INDEX", null, 2.0,
+        true, 2.0, 2.0).get();
+
+    Assert.assertEquals(result.getRows().size(), 2);
+    Assert.assertEquals(result.getRows().get(0).getValues().get(0).toString(), "Name 3");
+    Assert.assertEquals(result.getRows().get(1).getValues().get(0).toString(), "Name 4");
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testMissingSheet() {
+    ReadExcelSheetToTable.action(workbookFile.toString(), "NAME", "Missing", null, true, 0.0,
+        0.0);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testSheetPositionOutOfRange() {
+    ReadExcelSheetToTable.action(workbookFile.toString(), "INDEX", null, 3.0, true, 0.0, 0.0);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testNotAWorkbook() throws IOException {
+    Path file = tempDir.resolve("plain.xlsx");
+    Files.writeString(file, "not a workbook");
+
+    ReadExcelSheetToTable.action(file.toString(), "INDEX", null, 1.0, true, 0.0, 0.0);
+  }
+
+}
@@ -0,0 +1,153 @@
+package table;
+
+import static table.TableTestUtil.names;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.RemoveDuplicateRows;
+
+/**
+ * Test class for RemoveDuplicateRows action.
+ */
+public class RemoveDuplicateRowsTest {
+
+  private Table inputTable;
+
+  @BeforeMethod
+  public void setUp() {
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Email"));
+    schema.add(new Schema("Amount"));
+    schema.add(new Schema("Order"));
+
+    List<Row> rows = new ArrayList<>();
+    rows.add(createRow("a@x.com", new NumberValue(10), 1));
+    rows.add(createRow("b@x.com", new NumberValue(20), 2));
+    rows.add(createRow("A@X.com", new NumberValue(10), 3));
+    rows.add(createRow("a@x.com", new NumberValue(10.0), 4));
+    rows.add(createRow("c@x.com", new StringValue("10"), 5));
+    rows.add(createRow("b@x.com", new NumberValue(25), 6));
+
+    inputTable = new Table(schema, rows);
+  }
+
+  private Row createRow(String email, Value amount, int order) {
+    List<Value> values = new ArrayList<>();
+    values.add(new StringValue(email));
+    values.add(amount);
+    values.add(new NumberValue(order));
+    return new Row(values);
+  }
+
+  private static List<Integer> orders(Table table) {
+    List<Integer> orders = new ArrayList<>();
+    for (Row row : table.getRows()) {
+      orders.add(((NumberValue) row.getValues().get(2)).get().intValue());
+    }
+    return orders;
+  }
+
+  @Test
+  public void testKeepFirstByKeyColumn() {
+    Table result = RemoveDuplicateRows.action(inputTable, "KEY_COLUMNS", names("email"), "FIRST",
+        "UNIQUE", false).get();
+
+    Assert.assertEquals(orders(result), Arrays.asList(1, 2, 5));
+  }
+
+  @Test
+  public void testKeepLastByKeyColumn() {
+    Table result = RemoveDuplicateRows.action(inputTable, "KEY_COLUMNS", names("Email"), "LAST",
+        "UNIQUE", false).get();
+
+    Assert.assertEquals(orders(result), Arrays.asList(4, 5, 6),
+        "Kept rows should stay in original order");
+  }
+
+  @Test
+  public void testReturnDuplicates() {
+    Table result = RemoveDuplicateRows.action(inputTable, "KEY_COLUMNS", names("Email"), "FIRST",
+        "DUPLICATES", false).get();
+
+    Assert.assertEquals(orders(result), Arrays.asList(3, 4, 6));
+  }
+
+  @Test
+  public void testCaseSensitiveMultipleKeys() {
+    Table result = RemoveDuplicateRows.action(inputTable, "KEY_COLUMNS",
+        names("Email", "Amount"), "FIRST", "UNIQUE", true).get();
+
+    Assert.assertEquals(orders(result), Arrays.asList(1, 2, 3, 5, 6),
+        "10 and 10.0 should be equal numbers");
+  }
+
+  @Test
+  public void testNumberAndNumberTextAreEqual() {
+    Table result = RemoveDuplicateRows.action(inputTable, "KEY_COLUMNS", names("Amount"), "FIRST",
+        "UNIQUE", false).get();
+
+    Assert.assertEquals(orders(result), Arrays.asList(1, 2, 6),
+        "The text '10' should duplicate the number 10, as in Group table");
+  }
+
+  @Test
+  public void testNullRows() {
+    inputTable.getRows().add(null);
+    inputTable.getRows().add(new Row());
+
+    Table result = RemoveDuplicateRows.action(inputTable, "ALL_COLUMNS", null, "FIRST",
+        "UNIQUE", false).get();
+
+    // The null row and the row without cells are duplicates of each other
+    Assert.assertEquals(result.getRows().size(), 7);
+    Assert.assertTrue(result.getRows().get(6).getValues().isEmpty());
+  }
+
+  @Test
+  public void testAllColumns() {
+    inputTable.getRows().add(createRow("b@x.com", new NumberValue(20), 2));
+
+    Table result = RemoveDuplicateRows.action(inputTable, "ALL_COLUMNS", null, "FIRST",
+        "UNIQUE", false).get();
+
+    Assert.assertEquals(result.getRows().size(), 6);
+  }
+
+  @Test
+  public void testEmptyTable() {
+    Table empty = new Table(inputTable.getSchema(), new ArrayList<>());
+
+    Table result = RemoveDuplicateRows.action(empty, "ALL_COLUMNS", null, "FIRST", "UNIQUE",
+        false).get();
+
+    Assert.assertEquals(result.getRows(), Collections.emptyList());
+  }
+
+  @Test
+  public void testOriginalTableUnchanged() {
+    Table result = RemoveDuplicateRows.action(inputTable, "KEY_COLUMNS", names("Email"), "FIRST",
+        "UNIQUE", false).get();
+
+    Assert.assertEquals(inputTable.getRows().size(), 6);
+    Assert.assertNotSame(result.getRows().get(0), inputTable.getRows().get(0));
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testUnknownKeyColumn() {
+    RemoveDuplicateRows.action(inputTable, "KEY_COLUMNS", names("Phone"), "FIRST", "UNIQUE",
+        false);
+  }
+
+}
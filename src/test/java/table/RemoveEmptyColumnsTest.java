@@ -1,6 +1,7 @@
 package table;
 
 import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
 import com.automationanywhere.botcommand.data.impl.StringValue;
 import com.automationanywhere.botcommand.data.impl.TableValue;
 import com.automationanywhere.botcommand.data.model.Schema;
@@ -348,4 +349,39 @@ public class RemoveEmptyColumnsTest {
     Assert.assertEquals(result.get().getSchema().get(1).getName(), "Col4");
   }
 
+  @Test
+  public void testPreservesCellTypesAndValues() {
+    // Numeric column, repeated text column and an empty column
+    Table typedTable = new Table();
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Amount"));
+    schema.add(new Schema("Status"));
+    schema.add(new Schema("Notes"));
+    typedTable.setSchema(schema);
+
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      List<Value> rowValues = new ArrayList<>();
+      rowValues.add(i == 3 ? null : new NumberValue(i * 1.5));
+      rowValues.add(new StringValue(i % 2 == 0 ? "OPEN" : "CLOSED"));
+      rowValues.add(new StringValue(""));
+      rows.add(new Row(rowValues));
+    }
+    typedTable.setRows(rows);
+
+    TableValue result = RemoveEmptyColumns.action(
+        typedTable,
+        null
+    );
+
+    Table resultTable = result.get();
+    Assert.assertEquals(resultTable.getSchema().size(), 2);
+    Assert.assertEquals(resultTable.getRows().size(), 6);
+    Assert.assertTrue(resultTable.getRows().get(2).getValues().get(0) instanceof NumberValue);
+    Assert.assertEquals(((NumberValue) resultTable.getRows().get(2).getValues().get(0)).get(), 3.0);
+    Assert.assertNull(resultTable.getRows().get(3).getValues().get(0));
+    Assert.assertEquals(resultTable.getRows().get(4).getValues().get(1).toString(), "OPEN");
+    Assert.assertEquals(resultTable.getRows().get(5).getValues().get(1).toString(), "CLOSED");
+  }
+
 }
@@ -79,7 +79,8 @@ public class RemoveEmptyRowsTest {
     // Remove empty rows
     TableValue result = RemoveEmptyRows.action(
         null, // help parameter not used
-        inputTable
+        inputTable,
+        true
     );
 
     Table resultTable = result.get();
@@ -113,7 +114,8 @@ public class RemoveEmptyRowsTest {
     // Remove empty rows
     TableValue result = RemoveEmptyRows.action(
         null,
-        allEmptyTable
+        allEmptyTable,
+        true
     );
 
     // Verify the result
@@ -139,7 +141,8 @@ public class RemoveEmptyRowsTest {
     // Remove empty rows
     TableValue result = RemoveEmptyRows.action(
         null,
-        noEmptyTable
+        noEmptyTable,
+        true
     );
 
     // Verify the result
@@ -156,7 +159,8 @@ public class RemoveEmptyRowsTest {
     // Remove empty rows
     TableValue result = RemoveEmptyRows.action(
         null,
-        emptyTable
+        emptyTable,
+        true
     );
 
     // Verify the result
@@ -171,7 +175,8 @@ public class RemoveEmptyRowsTest {
     // Remove empty rows
     RemoveEmptyRows.action(
         null,
-        inputTable
+        inputTable,
+        true
     );
 
     // Verify the original table hasn't changed
@@ -183,7 +188,8 @@ public class RemoveEmptyRowsTest {
     // Try to remove empty rows from a null table
     RemoveEmptyRows.action(
         null,
-        null
+        null,
+        true
     );
   }
 
@@ -214,11 +220,40 @@ public class RemoveEmptyRowsTest {
     // Remove empty rows
     TableValue result = RemoveEmptyRows.action(
         null,
-        partialEmptyTable
+        partialEmptyTable,
+        true
     );
 
     // Verify the result
     Assert.assertEquals(result.get().getRows().size(), 1);
   }
 
-}
\ No newline at end of file
+  @Test
+  public void testRemoveEmptyRowsFromLargeTableInParallel() {
+    Table largeTable = new Table();
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Name"));
+    schema.add(new Schema("Value"));
+    largeTable.setSchema(schema);
+
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 30_000; i++) {
+      List<Value> values = new ArrayList<>();
+      values.add(new StringValue(i % 2 == 0 ? "Row" + i : ""));
+      values.add(null);
+      rows.add(new Row(values));
+    }
+    largeTable.setRows(rows);
+
+    Table parallel = RemoveEmptyRows.action(null, largeTable, true).get();
+    Table sequential = RemoveEmptyRows.action(null, largeTable, false).get();
+
+    Assert.assertEquals(parallel.getRows().size(), 15_000);
+    for (int i = 0; i < parallel.getRows().size(); i++) {
+      Assert.assertEquals(parallel.getRows().get(i).getValues().get(0).get(), "Row" + (i * 2));
+      Assert.assertEquals(parallel.getRows().get(i).getValues().get(0).get(),
+          sequential.getRows().get(i).getValues().get(0).get());
+    }
+  }
+
+}
@@ -0,0 +1,145 @@
+package table;
+
+import static table.TableTestUtil.names;
+import static table.TableTestUtil.values;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.BuildBinaryFileIndex;
+import sumit.devtools.actions.table.BuildTableIndex;
+import sumit.devtools.actions.table.LoadTableFromBinaryFile;
+import sumit.devtools.actions.table.LookupRowsByKey;
+import sumit.devtools.actions.table.RemoveTableIndex;
+import sumit.devtools.actions.table.SaveTableToBinaryFile;
+import sumit.devtools.utils.MappedBinaryTable;
+
+/**
+ * Test class for RemoveTableIndex action.
+ */
+public class RemoveTableIndexTest {
+
+  private Path tempDir;
+  private Path file;
+  private Table table;
+  private Map<String, Object> sessions;
+  private BuildBinaryFileIndex buildBinaryIndex;
+  private RemoveTableIndex removeIndex;
+  private LookupRowsByKey lookup;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("remove-index-tests");
+    file = tempDir.resolve("prices.bin");
+
+    // The actions share the package session map, as in a bot run
+    sessions = new HashMap<>();
+    buildBinaryIndex = new BuildBinaryFileIndex();
+    buildBinaryIndex.setSessions(sessions);
+    removeIndex = new RemoveTableIndex();
+    removeIndex.setSessions(sessions);
+    lookup = new LookupRowsByKey();
+    lookup.setSessions(sessions);
+
+    List<Row> rows = new ArrayList<>();
+    rows.add(new Row(new ArrayList<>(Arrays.<Value>asList(new StringValue("North"),
+        new NumberValue(1)))));
+    rows.add(new Row(new ArrayList<>(Arrays.<Value>asList(new StringValue("South"),
+        new NumberValue(2)))));
+    table = new Table(Arrays.asList(new Schema("Region"), new Schema("Price")), rows);
+    SaveTableToBinaryFile.action(table, file.toString(), "FAIL");
+  }
+
+  @AfterMethod
+  public void tearDown() throws IOException {
+    removeIndex.action("Prices");
+    Files.walk(tempDir)
+        .sorted((p1, p2) -> -p1.compareTo(p2))
+        .forEach(p -> {
+          try {
+            Files.deleteIfExists(p);
+          } catch (IOException e) {
+            // Ignore, best effort cleanup
+          }
+        });
+  }
+
+  @Test
+  public void testRemoveBinaryIndexReleasesFile() {
+    buildBinaryIndex.action("Prices", file.toString(), names("Region"), false);
+    Assert.assertTrue(MappedBinaryTable.isOpen(file));
+
+    Assert.assertTrue(removeIndex.action("Prices").get());
+    Assert.assertFalse(sessions.containsKey("Prices"));
+    Assert.assertFalse(MappedBinaryTable.isOpen(file));
+
+    // The file can be written again once the index is gone
+    SaveTableToBinaryFile.action(table, file.toString(), "OVERWRITE");
+    Assert.assertEquals(LoadTableFromBinaryFile.action(file.toString(), false, false).get()
+        .getRows().size(), 2);
+  }
+
+  @Test
+  public void testRemoveInMemoryIndex() {
+    BuildTableIndex buildIndex = new BuildTableIndex();
+    buildIndex.setSessions(sessions);
+    buildIndex.action("Prices", table, names("Region"), false);
+
+    Assert.assertTrue(removeIndex.action(" Prices ").get());
+    Assert.assertFalse(sessions.containsKey("Prices"));
+  }
+
+  @Test
+  public void testRemoveMissingIndex() {
+    sessions.put("Other", "not an index");
+
+    Assert.assertFalse(removeIndex.action("Prices").get());
+    Assert.assertFalse(removeIndex.action("Other").get());
+    Assert.assertEquals(sessions.get("Other"), "not an index");
+  }
+
+  @Test
+  public void testReplacingIndexReleasesPreviousFile() throws IOException {
+    Path other = tempDir.resolve("other.bin");
+    SaveTableToBinaryFile.action(table, other.toString(), "FAIL");
+    buildBinaryIndex.action("Prices", file.toString(), names("Region"), false);
+
+    buildBinaryIndex.action("Prices", other.toString(), names("Region"), false);
+
+    Assert.assertFalse(MappedBinaryTable.isOpen(file));
+    Assert.assertTrue(MappedBinaryTable.isOpen(other));
+    Assert.assertEquals(lookup.action("Prices", values(new StringValue("south")), "FAIL").get().getRows().size(), 1);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Table index not found: Prices.*")
+  public void testLookupAfterRemove() {
+    buildBinaryIndex.action("Prices", file.toString(), names("Region"), false);
+    removeIndex.action("Prices");
+
+    lookup.action("Prices", values(new StringValue("North")), "EMPTY");
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Index name cannot be empty.*")
+  public void testEmptyIndexName() {
+    removeIndex.action(" ");
+  }
+
+}
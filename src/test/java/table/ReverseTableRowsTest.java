@@ -67,7 +67,8 @@ public class ReverseTableRowsTest {
     // Reverse the order of rows
     TableValue result = ReverseTableRows.action(
         null, // help parameter not used
-        inputTable
+        inputTable,
+        false
     );
 
     Table resultTable = result.get();
@@ -105,7 +106,8 @@ public class ReverseTableRowsTest {
     // Reverse the order of rows
     TableValue result = ReverseTableRows.action(
         null,
-        oneRowTable
+        oneRowTable,
+        false
     );
 
     Table resultTable = result.get();
@@ -126,7 +128,8 @@ public class ReverseTableRowsTest {
     // Reverse the order of rows
     TableValue result = ReverseTableRows.action(
         null,
-        emptyTable
+        emptyTable,
+        false
     );
 
     // Verify the result
@@ -144,7 +147,8 @@ public class ReverseTableRowsTest {
     // Reverse the order of rows
     ReverseTableRows.action(
         null,
-        inputTable
+        inputTable,
+        false
     );
 
     // Verify the original table hasn't changed
@@ -159,13 +163,15 @@ public class ReverseTableRowsTest {
     // Reverse the order of rows
     TableValue firstResult = ReverseTableRows.action(
         null,
-        inputTable
+        inputTable,
+        false
     );
 
     // Reverse the order of rows again
     TableValue secondResult = ReverseTableRows.action(
         null,
-        firstResult.get()
+        firstResult.get(),
+        false
     );
 
     Table resultTable = secondResult.get();
@@ -182,8 +188,29 @@ public class ReverseTableRowsTest {
     // Try to reverse a null table
     ReverseTableRows.action(
         null,
-        null
+        null,
+        false
     );
   }
 
-}
\ No newline at end of file
+  @Test
+  public void testReverseTableRowsAsView() {
+    // Reverse the order of rows as a view
+    TableValue result = ReverseTableRows.action(
+        null,
+        inputTable,
+        true
+    );
+
+    Table resultTable = result.get();
+    Assert.assertEquals(resultTable.getRows().size(), 4);
+    Assert.assertEquals(resultTable.getRows().get(0).getValues().get(1).get(), "Fourth");
+    Assert.assertEquals(resultTable.getRows().get(3).getValues().get(1).get(), "First");
+
+    // Editing the view copies the row and leaves the original unchanged
+    resultTable.getRows().get(0).getValues().add(new StringValue("Extra"));
+    Assert.assertEquals(resultTable.getRows().get(0).getValues().size(), 3);
+    Assert.assertEquals(inputTable.getRows().get(3).getValues().size(), 2);
+  }
+
+}
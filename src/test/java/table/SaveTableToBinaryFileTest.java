@@ -0,0 +1,149 @@
+package table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.BuildBinaryFileIndex;
+import sumit.devtools.actions.table.LoadTableFromBinaryFile;
+import sumit.devtools.actions.table.SaveTableToBinaryFile;
+import sumit.devtools.utils.TableIndex;
+
+/**
+ * Test class for SaveTableToBinaryFile action.
+ */
+public class SaveTableToBinaryFileTest {
+
+  private Path tempDir;
+  private Table table;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("binary-table-tests");
+    List<Schema> schema = Arrays.asList(new Schema("Name"), new Schema("Amount"));
+    List<Row> rows = new ArrayList<>();
+    rows.add(new Row(Arrays.<Value>asList(new StringValue("Apple"), new NumberValue(10))));
+    rows.add(new Row(Arrays.<Value>asList(new StringValue("Banana"), new NumberValue(20))));
+    table = new Table(schema, rows);
+  }
+
+  @AfterMethod
+  public void tearDown() throws IOException {
+    Files.walk(tempDir)
+        .sorted((p1, p2) -> -p1.compareTo(p2))
+        .forEach(p -> {
+          try {
+            Files.deleteIfExists(p);
+          } catch (IOException e) {
+            // Ignore, best effort cleanup
+          }
+        });
+  }
+
+  @Test
+  public void testSaveCreatesFile() {
+    Path file = tempDir.resolve("table.bin");
+    SaveTableToBinaryFile.action(table, file.toString(), "FAIL");
+
+    Assert.assertTrue(Files.exists(file));
+    Table loaded = LoadTableFromBinaryFile.action(file.toString(), false, false).get();
+    Assert.assertEquals(loaded.getRows().size(), 2);
+    Assert.assertEquals(loaded.getRows().get(1).getValues().get(0).toString(), "Banana");
+  }
+
+  @Test
+  public void testCreatesParentDirectories() {
+    Path file = tempDir.resolve("nested").resolve("dir").resolve("table.bin");
+    SaveTableToBinaryFile.action(table, file.toString(), "FAIL");
+
+    Assert.assertTrue(Files.exists(file));
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*overwrite option is not enabled.*")
+  public void testExistingFileFails() throws IOException {
+    Path file = tempDir.resolve("table.bin");
+    Files.write(file, new byte[]{1, 2, 3});
+    SaveTableToBinaryFile.action(table, file.toString(), "FAIL");
+  }
+
+  @Test
+  public void testOverwriteReplacesLargerFile() throws IOException {
+    Path file = tempDir.resolve("table.bin");
+    Files.write(file, new byte[100_000]);
+    SaveTableToBinaryFile.action(table, file.toString(), "OVERWRITE");
+
+    Assert.assertTrue(Files.size(file) < 1000);
+    Table loaded = LoadTableFromBinaryFile.action(file.toString(), false, false).get();
+    Assert.assertEquals(loaded.getRows().size(), 2);
+  }
+
+  @Test
+  public void testIndexedFileIsNotOverwritten() {
+    Path file = tempDir.resolve("table.bin");
+    SaveTableToBinaryFile.action(table, file.toString(), "FAIL");
+    Map<String, Object> sessions = new HashMap<>();
+    BuildBinaryFileIndex buildIndex = new BuildBinaryFileIndex();
+    buildIndex.setSessions(sessions);
+    buildIndex.action("Default", file.toString(),
+        Collections.singletonList(new StringValue("Name")), false);
+
+    try {
+      SaveTableToBinaryFile.action(table, file.toString(), "OVERWRITE");
+      Assert.fail("Expected the indexed file to be refused");
+    } catch (BotCommandException e) {
+      Assert.assertTrue(e.getMessage().contains("in use by a table index"), e.getMessage());
+    } finally {
+      TableIndex.remove(sessions, "Default");
+    }
+    SaveTableToBinaryFile.action(table, file.toString(), "OVERWRITE");
+  }
+
+  @Test
+  public void testOverwriteLeavesNoTemporaryFile() throws IOException {
+    Path file = tempDir.resolve("table.bin");
+    SaveTableToBinaryFile.action(table, file.toString(), "FAIL");
+    SaveTableToBinaryFile.action(table, file.toString(), "OVERWRITE");
+
+    try (Stream<Path> files = Files.list(tempDir)) {
+      Assert.assertEquals(files.count(), 1);
+    }
+    Assert.assertEquals(LoadTableFromBinaryFile.action(file.toString(), false, false).get()
+        .getRows().size(), 2);
+  }
+
+  @Test
+  public void testEmptyTable() {
+    Path file = tempDir.resolve("empty.bin");
+    SaveTableToBinaryFile.action(new Table(new ArrayList<>(), new ArrayList<>()),
+        file.toString(), "FAIL");
+
+    Table loaded = LoadTableFromBinaryFile.action(file.toString(), false, false).get();
+    Assert.assertTrue(loaded.getSchema().isEmpty());
+    Assert.assertTrue(loaded.getRows().isEmpty());
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Input table cannot be null.*")
+  public void testNullTable() {
+    SaveTableToBinaryFile.action(null, tempDir.resolve("table.bin").toString(), "FAIL");
+  }
+
+}
@@ -85,7 +85,8 @@ public class SliceColumnsTest {
         inputTable,
         "INDEX_LIST", // Select by index
         indexList,    // List of indexes to extract
-        null          // Column names not used
+        null,         // Column names not used
+        false         // Deep copy
     );
 
     Table resultTable = result.get();
@@ -113,7 +114,8 @@ public class SliceColumnsTest {
         inputTable,
         "COLUMN_NAMES", // Select by name
         null,           // Indexes not used
-        columnNameList  // List of column names to extract
+        columnNameList, // List of column names to extract
+        false           // Deep copy
     );
 
     Table resultTable = result.get();
@@ -138,7 +140,8 @@ public class SliceColumnsTest {
         inputTable,
         "INDEX_LIST",
         null, // Null index list
-        null
+        null,
+        false
     );
   }
 
@@ -149,7 +152,8 @@ public class SliceColumnsTest {
         inputTable,
         "COLUMN_NAMES",
         null,
-        null // Null column name list
+        null, // Null column name list
+        false // Deep copy
     );
   }
 
@@ -166,7 +170,8 @@ public class SliceColumnsTest {
         inputTable,
         "INDEX_LIST",
         invalidIndexList,
-        null
+        null,
+        false
     );
   }
 
@@ -183,7 +188,8 @@ public class SliceColumnsTest {
         inputTable,
         "COLUMN_NAMES",
         null,
-        invalidColumnNameList
+        invalidColumnNameList,
+        false
     );
     Table resultTable = result.get();
     Assert.assertEquals(resultTable.getSchema().size(), 1);
@@ -198,7 +204,8 @@ public class SliceColumnsTest {
         inputTable,
         "INVALID_METHOD", // Invalid method
         indexList,
-        null
+        null,
+        false
     );
   }
 
@@ -218,7 +225,8 @@ public class SliceColumnsTest {
         inputTable,
         "INDEX_LIST",
         allIndexesList,
-        null
+        null,
+        false
     );
 
     Table resultTable = result.get();
@@ -240,7 +248,8 @@ public class SliceColumnsTest {
         inputTable,
         "INDEX_LIST",
         singleIndexList,
-        null
+        null,
+        false
     );
 
     Table resultTable = result.get();
@@ -262,7 +271,8 @@ public class SliceColumnsTest {
         inputTable,
         "INDEX_LIST",
         indexList,
-        null
+        null,
+        false
     );
 
     // Verify the original table hasn't changed
@@ -276,8 +286,33 @@ public class SliceColumnsTest {
         null, // Null table
         "INDEX_LIST",
         indexList,
-        null
+        null,
+        false
     );
   }
 
-}
\ No newline at end of file
+  @Test
+  public void testSliceColumnsAsView() {
+    // Extract columns by name as a view
+    TableValue result = SliceColumns.action(
+        inputTable,
+        "COLUMN_NAMES",
+        null,
+        columnNameList,
+        true           // Lightweight view
+    );
+
+    Table resultTable = result.get();
+    Assert.assertEquals(resultTable.getSchema().size(), 3);
+    Assert.assertEquals(resultTable.getSchema().get(1).getName(), "City");
+    Assert.assertEquals(resultTable.getRows().get(1).getValues().size(), 3);
+    Assert.assertEquals(resultTable.getRows().get(1).getValues().get(2).get(), "Doctor");
+
+    // Editing the view copies the row and leaves the original unchanged
+    resultTable.getRows().get(0).getValues().set(1, new StringValue("Chicago"));
+    Assert.assertEquals(resultTable.getRows().get(0).getValues().get(1).get(), "Chicago");
+    Assert.assertEquals(inputTable.getRows().get(0).getValues().get(2).get(), "New York");
+    Assert.assertEquals(inputTable.getRows().get(0).getValues().size(), 5);
+  }
+
+}
@@ -1,6 +1,7 @@
 package table;
 
 import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.ListValue;
 import com.automationanywhere.botcommand.data.impl.NumberValue;
 import com.automationanywhere.botcommand.data.impl.StringValue;
 import com.automationanywhere.botcommand.data.impl.TableValue;
@@ -67,7 +68,8 @@ public class SliceTableTest {
         "RANGE",    // Select by range
         1.0,        // Start row index (second row)
         3.0,        // End row index (fourth row)
-        null        // Index list not used
+        null,       // Index list not used
+        false       // Deep copy
     );
 
     Table resultTable = result.get();
@@ -95,7 +97,8 @@ public class SliceTableTest {
         "INDEX_LIST", // Select by index list
         null,         // Start row not used
         null,         // End row not used
-        indexList     // List of indices to extract
+        indexList,    // List of indices to extract
+        false         // Deep copy
     );
 
     Table resultTable = result.get();
@@ -120,7 +123,8 @@ public class SliceTableTest {
         "RANGE",
         3.0,        // Start row index (fourth row)
         10.0,       // End row index (exceeds table size)
-        null
+        null,
+        false
     );
 
     Table resultTable = result.get();
@@ -139,7 +143,8 @@ public class SliceTableTest {
         "RANGE",
         2.0,        // Start row index (third row)
         2.0,        // End row index (same as start)
-        null
+        null,
+        false
     );
 
     Table resultTable = result.get();
@@ -162,7 +167,8 @@ public class SliceTableTest {
         "INDEX_LIST",
         null,
         null,
-        singleIndexList
+        singleIndexList,
+        false
     );
 
     Table resultTable = result.get();
@@ -186,7 +192,8 @@ public class SliceTableTest {
         "INDEX_LIST",
         null,
         null,
-        invalidIndexList
+        invalidIndexList,
+        false
     );
   }
 
@@ -198,7 +205,8 @@ public class SliceTableTest {
         "RANGE",
         -1.0,  // Negative start index
         3.0,
-        null
+        null,
+        false
     );
   }
 
@@ -210,7 +218,8 @@ public class SliceTableTest {
         "RANGE",
         0.0,
         -1.0,  // Negative end index
-        null
+        null,
+        false
     );
     Table resultTable = result.get();
     Assert.assertEquals(resultTable.getRows().size(), 0);
@@ -224,7 +233,8 @@ public class SliceTableTest {
         "RANGE",
         3.0,   // Start index
         1.0,   // End index less than start
-        null
+        null,
+        false
     );
     Table resultTable = result.get();
     Assert.assertEquals(resultTable.getRows().size(), 0);
@@ -238,7 +248,8 @@ public class SliceTableTest {
         "INDEX_LIST",
         null,
         null,
-        null  // Null index list
+        null, // Null index list
+        false // Deep copy
     );
   }
 
@@ -250,7 +261,8 @@ public class SliceTableTest {
         "INVALID_METHOD",  // Invalid method
         0.0,
         3.0,
-        null
+        null,
+        false
     );
   }
 
@@ -265,7 +277,8 @@ public class SliceTableTest {
         "RANGE",
         1.0,
         3.0,
-        null
+        null,
+        false
     );
 
     // Verify the original table hasn't changed
@@ -280,8 +293,66 @@ public class SliceTableTest {
         "RANGE",
         0.0,
         3.0,
-        null
+        null,
+        false
+    );
+  }
+
+  @Test
+  public void testSliceTableAsView() {
+    // Extract rows by index list as a view
+    TableValue result = SliceTable.action(
+        inputTable,
+        "INDEX_LIST",
+        null,
+        null,
+        indexList,
+        true          // Lightweight view
+    );
+
+    Table resultTable = result.get();
+    Assert.assertEquals(resultTable.getRows().size(), 3);
+    Assert.assertEquals(resultTable.getRows().get(1).getValues().get(1).get(), "Name3");
+
+    // Editing the view copies the row and leaves the original unchanged
+    resultTable.getRows().get(1).getValues().set(1, new StringValue("Changed"));
+    Assert.assertEquals(resultTable.getRows().get(1).getValues().get(1).get(), "Changed");
+    Assert.assertEquals(inputTable.getRows().get(2).getValues().get(1).get(), "Name3");
+
+    resultTable.getRows().remove(0);
+    Assert.assertEquals(resultTable.getRows().size(), 2);
+    Assert.assertEquals(resultTable.getRows().get(0).getValues().get(1).get(), "Changed");
+    Assert.assertEquals(inputTable.getRows().size(), 5);
+  }
+
+  @Test
+  public void testSliceTableAsViewCopiesNestedValues() {
+    ListValue<Value> tags = new ListValue<>();
+    tags.get().add(new StringValue("a"));
+    inputTable.getRows().get(2).getValues().set(1, tags);
+
+    Table resultTable = SliceTable.action(inputTable, "INDEX_LIST", null, null, indexList, true)
+        .get();
+
+    // Changing a nested list through the view leaves the base table's list unchanged
+    Value cell = resultTable.getRows().get(1).getValues().get(1);
+    Assert.assertNotSame(cell, tags);
+    ((ListValue<Value>) cell).get().add(new StringValue("b"));
+    Assert.assertEquals(((ListValue<?>) resultTable.getRows().get(1).getValues().get(1)).get()
+        .size(), 2);
+    Assert.assertEquals(tags.get().size(), 1);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testSliceTableAsViewWithInvalidIndex() {
+    SliceTable.action(
+        inputTable,
+        "INDEX_LIST",
+        null,
+        null,
+        Arrays.asList(new NumberValue(10)),
+        true
     );
   }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,173 @@
+package table;
+
+import static table.TableTestUtil.names;
+
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.SortCSVFile;
+
+/**
+ * Test class for SortCSVFile action.
+ */
+public class SortCSVFileTest {
+
+  private Path tempDir;
+  private Path inputFile;
+  private Path outputFile;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("csv-sort-tests");
+    inputFile = tempDir.resolve("input.csv");
+    outputFile = tempDir.resolve("output.csv");
+    write(inputFile,
+        "Name,Amount,Order",
+        "banana,10,1",
+        "Apple,9,2",
+        "apple,100,3",
+        "\"Cherry, red\",,4",
+        "banana,20,5");
+  }
+
+  @AfterMethod
+  public void tearDown() throws IOException {
+    Files.walk(tempDir)
+        .sorted((p1, p2) -> -p1.compareTo(p2))
+        .forEach(p -> {
+          try {
+            Files.deleteIfExists(p);
+          } catch (IOException e) {
+            // Ignore, best effort cleanup
+          }
+        });
+  }
+
+  private static void write(Path file, String... lines) throws IOException {
+    Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+  }
+
+  private static List<String> read(Path file) throws IOException {
+    return Files.readAllLines(file, StandardCharsets.UTF_8);
+  }
+
+  private Double sort(Path input, boolean hasHeader, List<StringValue> sortColumns,
+      double memoryBudgetMb, String tempFolder, String existingFileAction) {
+    return SortCSVFile.action(input.toString(), outputFile.toString(), "UTF-8", "COMMA", null,
+        hasHeader, sortColumns, false, memoryBudgetMb, tempFolder, existingFileAction).get();
+  }
+
+  @Test
+  public void testSortInMemory() throws IOException {
+    Double count = sort(inputFile, true, names("name", "Amount DESC NUMERIC"), 256, null, "FAIL");
+
+    Assert.assertEquals(count, 5.0);
+    Assert.assertEquals(read(outputFile), Arrays.asList(
+        "Name,Amount,Order",
+        "apple,100,3",
+        "Apple,9,2",
+        "banana,20,5",
+        "banana,10,1",
+        "\"Cherry, red\",,4"));
+  }
+
+  @Test
+  public void testNumericEmptyCellsLast() throws IOException {
+    sort(inputFile, true, names("Amount NUMERIC"), 256, null, "FAIL");
+
+    List<String> lines = read(outputFile);
+    Assert.assertEquals(lines.subList(1, 6), Arrays.asList(
+        "Apple,9,2", "banana,10,1", "banana,20,5", "apple,100,3", "\"Cherry, red\",,4"));
+  }
+
+  @Test
+  public void testSortByFirstColumnAfterByteOrderMark() throws IOException {
+    write(inputFile, "\uFEFFName,Amount", "b,2", "a,3");
+
+    sort(inputFile, true, names("Name"), 256, null, "FAIL");
+
+    Assert.assertEquals(read(outputFile), Arrays.asList("Name,Amount", "a,3", "b,2"));
+  }
+
+  @Test
+  public void testSortWithoutHeaderByIndex() throws IOException {
+    write(inputFile, "b,2", "a,3", "c,1");
+
+    sort(inputFile, false, names("1 NUMERIC"), 256, null, "FAIL");
+
+    Assert.assertEquals(read(outputFile), Arrays.asList("c,1", "b,2", "a,3"));
+  }
+
+  @Test
+  public void testLargeFileSortedInRunsIsStable() throws IOException {
+    // About 9 MB of estimated rows against a 1 MB budget, so several runs are merged
+    int rowCount = 30_000;
+    Random random = new Random(7);
+    List<String> lines = new ArrayList<>(rowCount + 1);
+    lines.add("Key,Order,Padding");
+    for (int i = 0; i < rowCount; i++) {
+      lines.add("k" + random.nextInt(500) + "," + i + ",some padding text");
+    }
+    Files.write(inputFile, lines, StandardCharsets.UTF_8);
+    Path runFolder = Files.createDirectories(tempDir.resolve("runs"));
+
+    Double count = sort(inputFile, true, names("Key"), 1, runFolder.toString(), "FAIL");
+
+    Assert.assertEquals(count, (double) rowCount);
+    List<String> sorted = read(outputFile);
+    Assert.assertEquals(sorted.size(), rowCount + 1);
+    for (int i = 2; i < sorted.size(); i++) {
+      String[] previous = sorted.get(i - 1).split(",");
+      String[] current = sorted.get(i).split(",");
+      int order = previous[0].compareTo(current[0]);
+      Assert.assertTrue(order < 0
+          || (order == 0 && Integer.parseInt(previous[1]) < Integer.parseInt(current[1])),
+          "Rows out of order at line " + (i + 1));
+    }
+    // Run files are removed once the output is written
+    try (Stream<Path> files = Files.list(runFolder)) {
+      Assert.assertEquals(files.count(), 0L);
+    }
+  }
+
+  @Test
+  public void testOverwriteInputInPlace() throws IOException {
+    outputFile = inputFile;
+
+    sort(inputFile, true, names("Order DESC NUMERIC"), 256, null, "OVERWRITE");
+
+    Assert.assertEquals(read(inputFile).get(1), "banana,20,5");
+    Assert.assertEquals(read(inputFile).size(), 6);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*already exists.*")
+  public void testExistingOutputFails() throws IOException {
+    write(outputFile, "old");
+    sort(inputFile, true, names("Name"), 256, null, "FAIL");
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Value is not a number: 'banana'.*")
+  public void testNumericColumnWithText() {
+    sort(inputFile, true, names("Name NUMERIC"), 256, null, "FAIL");
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Column not found: Price.*")
+  public void testUnknownColumn() {
+    sort(inputFile, true, names("Price"), 256, null, "FAIL");
+  }
+}
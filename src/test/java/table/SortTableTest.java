@@ -0,0 +1,156 @@
+package table;
+
+import static table.TableTestUtil.names;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.DateTimeValue;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.SortTable;
+
+/**
+ * Test class for SortTable action.
+ */
+public class SortTableTest {
+
+  private Table inputTable;
+
+  @BeforeMethod
+  public void setUp() {
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Name"));
+    schema.add(new Schema("Amount"));
+    schema.add(new Schema("Order"));
+
+    List<Row> rows = new ArrayList<>();
+    rows.add(createRow(new StringValue("banana"), new NumberValue(10), 1));
+    rows.add(createRow(new StringValue("Apple"), new NumberValue(30), 2));
+    rows.add(createRow(new StringValue("apple"), new NumberValue(10), 3));
+    rows.add(createRow(new StringValue("Cherry"), new StringValue(""), 4));
+    rows.add(createRow(new StringValue("banana"), new NumberValue(20), 5));
+
+    inputTable = new Table(schema, rows);
+  }
+
+  private Row createRow(Value name, Value amount, int order) {
+    List<Value> values = new ArrayList<>();
+    values.add(name);
+    values.add(amount);
+    values.add(new NumberValue(order));
+    return new Row(values);
+  }
+
+  private static List<Integer> orders(Table table) {
+    List<Integer> orders = new ArrayList<>();
+    for (Row row : table.getRows()) {
+      orders.add(((NumberValue) row.getValues().get(2)).get().intValue());
+    }
+    return orders;
+  }
+
+  @Test
+  public void testSortByTextIsStableAndCaseInsensitive() {
+    Table result = SortTable.action(inputTable, names("name"), false, false).get();
+
+    Assert.assertEquals(orders(result), Arrays.asList(2, 3, 1, 5, 4));
+  }
+
+  @Test
+  public void testMultipleColumnsWithDirections() {
+    Table result = SortTable.action(inputTable, names("Amount DESC", "Name ASC"), false, false)
+        .get();
+
+    Assert.assertEquals(orders(result), Arrays.asList(2, 5, 3, 1, 4),
+        "Empty cells should sort last even when descending");
+  }
+
+  @Test
+  public void testPerColumnCaseSensitivity() {
+    Table result = SortTable.action(inputTable, names("Name CASE_SENSITIVE"), false, false)
+        .get();
+
+    Assert.assertEquals(orders(result), Arrays.asList(2, 4, 3, 1, 5));
+  }
+
+  @Test
+  public void testSortByDate() {
+    ZonedDateTime base = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+    for (int i = 0; i < inputTable.getRows().size(); i++) {
+      inputTable.getRows().get(i).getValues().set(0, new DateTimeValue(base.minusDays(i)));
+    }
+
+    Table result = SortTable.action(inputTable, names("Name"), false, false).get();
+
+    Assert.assertEquals(orders(result), Arrays.asList(5, 4, 3, 2, 1));
+  }
+
+  @Test
+  public void testParallelSortMatchesSequential() {
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Key"));
+    schema.add(new Schema("Order"));
+    List<Row> rows = new ArrayList<>();
+    Random random = new Random(42);
+    for (int i = 0; i < 25_000; i++) {
+      List<Value> values = new ArrayList<>();
+      values.add(new NumberValue(random.nextInt(100)));
+      values.add(new NumberValue(i));
+      rows.add(new Row(values));
+    }
+    Table table = new Table(schema, rows);
+
+    Table parallel = SortTable.action(table, names("Key"), false, true).get();
+    Table sequential = SortTable.action(table, names("Key"), false, false).get();
+
+    for (int i = 0; i < rows.size(); i++) {
+      Assert.assertEquals(parallel.getRows().get(i).getValues().get(1).toString(),
+          sequential.getRows().get(i).getValues().get(1).toString());
+    }
+  }
+
+  @Test
+  public void testNumericTextSort() {
+    String[] amounts = {"9", "10.5", "", "-2", "100"};
+    for (int i = 0; i < amounts.length; i++) {
+      inputTable.getRows().get(i).getValues().set(1, new StringValue(amounts[i]));
+    }
+
+    Table result = SortTable.action(inputTable, names("Amount DESC NUMERIC"), false, false).get();
+
+    Assert.assertEquals(orders(result), Arrays.asList(5, 2, 1, 4, 3));
+  }
+
+  @Test
+  public void testOriginalTableUnchanged() {
+    Table result = SortTable.action(inputTable, names("Amount"), false, false).get();
+
+    Assert.assertEquals(orders(inputTable), Arrays.asList(1, 2, 3, 4, 5));
+    Assert.assertNotSame(result.getRows().get(0), inputTable.getRows().get(0));
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testMixedTypesFail() {
+    inputTable.getRows().get(0).getValues().set(1, new StringValue("ten"));
+
+    SortTable.action(inputTable, names("Amount"), false, false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testUnknownColumn() {
+    SortTable.action(inputTable, names("Price DESC"), false, false);
+  }
+
+}
@@ -0,0 +1,43 @@
+package table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fixture builders shared by the table action tests.
+ */
+public final class TableTestUtil {
+
+  private TableTestUtil() {
+  }
+
+  /**
+   * @return Row with a modifiable list of the given cells
+   */
+  public static Row row(Value... values) {
+    return new Row(values(values));
+  }
+
+  /**
+   * @return Modifiable list of the given cells
+   */
+  public static List<Value> values(Value... values) {
+    return new ArrayList<>(Arrays.asList(values));
+  }
+
+  /**
+   * @return Text values for list parameters such as column names or sort specs
+   */
+  public static List<StringValue> names(String... names) {
+    List<StringValue> list = new ArrayList<>(names.length);
+    for (String name : names) {
+      list.add(new StringValue(name));
+    }
+    return list;
+  }
+
+}
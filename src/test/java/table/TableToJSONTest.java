@@ -0,0 +1,135 @@
+package table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.BooleanValue;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.ConvertTableToJSON;
+
+/**
+ * Test class for ConvertTableToJSON action.
+ */
+public class TableToJSONTest {
+
+  private Path tempDir;
+  private Table inputTable;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("json-tests");
+
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Name"));
+    schema.add(new Schema("Amount"));
+    schema.add(new Schema("Paid"));
+
+    List<Row> rows = new ArrayList<>();
+    List<Value> row1Values = new ArrayList<>();
+    row1Values.add(new StringValue("John \"JD\""));
+    row1Values.add(new NumberValue(100));
+    row1Values.add(new BooleanValue(true));
+    rows.add(new Row(row1Values));
+
+    // Short row: the missing cell is written as empty
+    List<Value> row2Values = new ArrayList<>();
+    row2Values.add(new StringValue("Alice"));
+    row2Values.add(new NumberValue(12.5));
+    rows.add(new Row(row2Values));
+
+    inputTable = new Table(schema, rows);
+  }
+
+  @AfterMethod
+  public void tearDown() throws IOException {
+    Files.walk(tempDir)
+        .sorted((p1, p2) -> -p1.compareTo(p2))
+        .forEach(p -> {
+          try {
+            Files.deleteIfExists(p);
+          } catch (IOException e) {
+            // Ignore, best effort cleanup
+          }
+        });
+  }
+
+  @Test
+  public void testArrayOfRowObjects() {
+    String json = ConvertTableToJSON.action(inputTable, "ROWS", "STRING", null, null, false).get();
+    Assert.assertEquals(json, "[{\"Name\":\"John \\\"JD\\\"\",\"Amount\":100,\"Paid\":true}," +
+        "{\"Name\":\"Alice\",\"Amount\":12.5,\"Paid\":\"\"}]");
+  }
+
+  @Test
+  public void testObjectOfColumnArraysWithNulls() {
+    String json = ConvertTableToJSON.action(inputTable, "COLUMNS", "STRING", null, null, true).get();
+    Assert.assertEquals(json, "{\"Name\":[\"John \\\"JD\\\"\",\"Alice\"],\"Amount\":[100,12.5]," +
+        "\"Paid\":[true,null]}");
+  }
+
+  @Test
+  public void testEmptyTable() {
+    Table empty = new Table(new ArrayList<>(inputTable.getSchema()), new ArrayList<>());
+    Assert.assertEquals(ConvertTableToJSON.action(empty, "ROWS", "STRING", null, null, false).get(),
+        "[]");
+    Assert.assertEquals(ConvertTableToJSON.action(empty, "COLUMNS", "STRING", null, null, false).get(),
+        "{\"Name\":[],\"Amount\":[],\"Paid\":[]}");
+  }
+
+  @Test
+  public void testWriteToFile() throws IOException {
+    Path file = tempDir.resolve("out/table.json");
+    String result = ConvertTableToJSON.action(inputTable, "ROWS", "FILE", file.toString(), "FAIL",
+        false).get();
+
+    Assert.assertEquals(result, file.toAbsolutePath().toString());
+    Assert.assertEquals(new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+        ConvertTableToJSON.action(inputTable, "ROWS", "STRING", null, null, false).get());
+  }
+
+  @Test
+  public void testOverwriteFile() throws IOException {
+    Path file = tempDir.resolve("table.json");
+    Files.write(file, "old content that is longer than the new one".getBytes(StandardCharsets.UTF_8));
+
+    Table single = new Table(new ArrayList<>(inputTable.getSchema()), new ArrayList<>());
+    single.getRows().add(inputTable.getRows().get(1));
+    ConvertTableToJSON.action(single, "ROWS", "FILE", file.toString(), "OVERWRITE", false);
+
+    Assert.assertEquals(new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+        "[{\"Name\":\"Alice\",\"Amount\":12.5,\"Paid\":\"\"}]");
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*already exists.*")
+  public void testExistingFileFails() throws IOException {
+    Path file = Files.createFile(tempDir.resolve("table.json"));
+    ConvertTableToJSON.action(inputTable, "ROWS", "FILE", file.toString(), "FAIL", false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Duplicate column name: Name.*")
+  public void testDuplicateColumnNames() {
+    inputTable.getSchema().add(new Schema("Name"));
+    ConvertTableToJSON.action(inputTable, "ROWS", "STRING", null, null, false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Input table cannot be null.*")
+  public void testNullTable() {
+    ConvertTableToJSON.action(null, "ROWS", "STRING", null, null, false);
+  }
+}
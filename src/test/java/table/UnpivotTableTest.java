@@ -0,0 +1,129 @@
+package table;
+
+import static table.TableTestUtil.names;
+import static table.TableTestUtil.row;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.PivotTable;
+import sumit.devtools.actions.table.UnpivotTable;
+
+/**
+ * Test class for UnpivotTable action.
+ */
+public class UnpivotTableTest {
+
+  private Table reportTable;
+
+  @BeforeMethod
+  public void setUp() {
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Region"));
+    schema.add(new Schema("Jan"));
+    schema.add(new Schema("Feb"));
+    schema.add(new Schema("Mar"));
+
+    List<Row> rows = new ArrayList<>();
+    rows.add(row(new StringValue("North"), new NumberValue(10), new NumberValue(20),
+        new StringValue("")));
+    rows.add(row(new StringValue("South"), new NumberValue(5), new StringValue("n/a"),
+        new NumberValue(7)));
+    reportTable = new Table(schema, rows);
+  }
+
+  private static String cell(Table table, int row, int column) {
+    return table.getRows().get(row).getValues().get(column).toString();
+  }
+
+  @Test
+  public void testAllOtherColumnsByDefault() {
+    Table result = UnpivotTable.action(reportTable, names("Region"), null, "Month", "Amount",
+        false, false).get();
+
+    Assert.assertEquals(result.getSchema().size(), 3);
+    Assert.assertEquals(result.getSchema().get(1).getName(), "Month");
+    Assert.assertEquals(result.getSchema().get(2).getName(), "Amount");
+    Assert.assertEquals(result.getRows().size(), 6);
+    Assert.assertEquals(cell(result, 0, 0), "North");
+    Assert.assertEquals(cell(result, 0, 1), "Jan");
+    Assert.assertTrue(result.getRows().get(0).getValues().get(2) instanceof NumberValue);
+    Assert.assertEquals(cell(result, 1, 1), "Feb");
+    Assert.assertEquals(cell(result, 2, 2), "");
+    Assert.assertEquals(cell(result, 4, 2), "n/a");
+    Assert.assertEquals(cell(result, 5, 0), "South");
+    Assert.assertEquals(cell(result, 5, 1), "Mar");
+  }
+
+  @Test
+  public void testSelectedColumnsAndSkipEmpty() {
+    Table result = UnpivotTable.action(reportTable, names("region"), names("mar", "jan"),
+        "Attribute", "Value", true, false).get();
+
+    Assert.assertEquals(result.getSchema().get(0).getName(), "Region");
+    Assert.assertEquals(result.getRows().size(), 3);
+    Assert.assertEquals(cell(result, 0, 1), "Jan");
+    Assert.assertEquals(cell(result, 1, 1), "Mar");
+    Assert.assertEquals(result.getRows().get(1).getValues().get(2).get(), 7.0);
+    Assert.assertEquals(cell(result, 2, 1), "Jan");
+  }
+
+  @Test
+  public void testCopiesCells() {
+    Table result = UnpivotTable.action(reportTable, names("Region"), null, "Month", "Amount",
+        false, false).get();
+
+    Assert.assertNotSame(result.getRows().get(0).getValues().get(0),
+        reportTable.getRows().get(0).getValues().get(0));
+  }
+
+  @Test
+  public void testPivotFirstValueRestoresTable() {
+    Table unpivoted = UnpivotTable.action(reportTable, names("Region"), null, "Month", "Amount",
+        false, false).get();
+    Table result = PivotTable.action(unpivoted, names("Region"), "Month", "Amount", "FIRST",
+        false).get();
+
+    Assert.assertEquals(result.getSchema().size(), 4);
+    Assert.assertEquals(result.getSchema().get(3).getName(), "Mar");
+    Assert.assertEquals(cell(result, 0, 2), cell(reportTable, 0, 2));
+    Assert.assertEquals(cell(result, 1, 2), "n/a");
+    Assert.assertEquals(cell(result, 1, 3), cell(reportTable, 1, 3));
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*both an identifier and a value column: Region.*")
+  public void testIdentifierAsValueColumn() {
+    UnpivotTable.action(reportTable, names("Region"), names("Region", "Jan"), "Month", "Amount",
+        false, false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Column header is already used: region.*")
+  public void testHeaderClash() {
+    UnpivotTable.action(reportTable, names("Region"), null, "region", "Amount", false, false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Column not found: Apr.*")
+  public void testMissingValueColumn() {
+    UnpivotTable.action(reportTable, names("Region"), names("Apr"), "Month", "Amount", false,
+        false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Input table cannot be null.*")
+  public void testNullTable() {
+    UnpivotTable.action(null, names("Region"), null, "Month", "Amount", false, false);
+  }
+
+}
@@ -235,6 +235,28 @@ public class UpdateCellTest {
     Assert.assertEquals(inputTable.getRows().get(0).getValues().get(0).toString(), originalValue);
   }
 
+  @Test
+  public void testUpdateCellCopiesOnlyUpdatedRow() {
+    TableValue result = UpdateCell.action(
+        inputTable,
+        "NAME",
+        "City",
+        false,
+        null,
+        1.0,
+        new StringValue("Denver")
+    );
+
+    Table resultTable = result.get();
+
+    // Updated row is a separate copy, untouched rows are shared with the original table
+    Assert.assertNotSame(resultTable.getRows().get(1), inputTable.getRows().get(1));
+    Assert.assertSame(resultTable.getRows().get(0), inputTable.getRows().get(0));
+    Assert.assertSame(resultTable.getRows().get(2), inputTable.getRows().get(2));
+    Assert.assertEquals(inputTable.getRows().get(1).getValues().get(2).toString(), "Boston");
+    Assert.assertEquals(resultTable.getRows().get(1).getValues().get(2).toString(), "Denver");
+  }
+
   @Test(expectedExceptions = BotCommandException.class)
   public void testWithNullTable() {
     // Try to update a cell in a null table
@@ -308,4 +330,26 @@ public class UpdateCellTest {
         "Canada");
   }
 
-}
\ No newline at end of file
+  @Test
+  public void testResultIgnoresLaterChangesToInputRows() {
+    TableValue result = UpdateCell.action(
+        inputTable,
+        "NAME",
+        "City",
+        false,
+        null,
+        1.0,
+        new StringValue("Denver")
+    );
+
+    // Removing a row from the input must not shift the result's rows or its updated cell
+    inputTable.getRows().remove(0);
+
+    Table resultTable = result.get();
+    Assert.assertEquals(resultTable.getRows().size(), 3);
+    Assert.assertEquals(resultTable.getRows().get(0).getValues().get(0).toString(), "John");
+    Assert.assertEquals(resultTable.getRows().get(1).getValues().get(2).toString(), "Denver");
+    Assert.assertEquals(resultTable.getRows().get(2).getValues().get(2).toString(), "Chicago");
+  }
+
+}
@@ -0,0 +1,138 @@
+package table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.DictionaryValue;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.UpdateCells;
+
+/**
+ * Test class for UpdateCells action.
+ */
+public class UpdateCellsTest {
+
+  private Table inputTable;
+
+  @BeforeMethod
+  public void setUp() {
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Id"));
+    schema.add(new Schema("Status"));
+    schema.add(new Schema("Amount"));
+
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      List<Value> values = new ArrayList<>();
+      values.add(new StringValue(String.valueOf(i + 1)));
+      values.add(new StringValue("Open"));
+      values.add(new NumberValue(i * 10));
+      rows.add(new Row(values));
+    }
+    inputTable = new Table(schema, rows);
+  }
+
+  private static Table updates(Object[]... updates) {
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Row"));
+    schema.add(new Schema("Column"));
+    schema.add(new Schema("Value"));
+    List<Row> rows = new ArrayList<>();
+    for (Object[] update : updates) {
+      List<Value> values = new ArrayList<>();
+      for (Object cell : update) {
+        values.add(cell instanceof Value ? (Value) cell : new StringValue(cell.toString()));
+      }
+      rows.add(new Row(values));
+    }
+    return new Table(schema, rows);
+  }
+
+  private static Object cell(Table table, int row, int column) {
+    return table.getRows().get(row).getValues().get(column).get();
+  }
+
+  @Test
+  public void testUpdatesFromTable() {
+    Table updates = updates(
+        new Object[]{new NumberValue(0), "status", "Done"},
+        new Object[]{"2", "Amount", new NumberValue(99)},
+        new Object[]{new NumberValue(0), "AMOUNT", new NumberValue(5)});
+
+    Table result = UpdateCells.action(inputTable, "TABLE", updates, null, "NAME", false).get();
+
+    Assert.assertEquals(cell(result, 0, 1), "Done");
+    Assert.assertEquals(cell(result, 0, 2), 5.0);
+    Assert.assertEquals(cell(result, 2, 2), 99.0);
+    Assert.assertEquals(cell(result, 1, 1), "Open");
+  }
+
+  @Test
+  public void testOriginalTableUnchanged() {
+    Table updates = updates(new Object[]{"1", "Status", "Done"});
+
+    Table result = UpdateCells.action(inputTable, "TABLE", updates, null, "NAME", false).get();
+
+    Assert.assertEquals(cell(result, 1, 1), "Done");
+    Assert.assertEquals(cell(inputTable, 1, 1), "Open");
+    Assert.assertSame(result.getRows().get(0), inputTable.getRows().get(0),
+        "Rows without updates should be shared");
+  }
+
+  @Test
+  public void testUpdatesByColumnIndex() {
+    Table updates = updates(new Object[]{"3", "1", "Closed"});
+
+    Table result = UpdateCells.action(inputTable, "TABLE", updates, null, "INDEX", false).get();
+
+    Assert.assertEquals(cell(result, 3, 1), "Closed");
+  }
+
+  @Test
+  public void testUpdatesFromDictionary() {
+    Map<String, Value> rowOne = new LinkedHashMap<>();
+    rowOne.put("Status", new StringValue("Done"));
+    rowOne.put("Amount", new NumberValue(1));
+    Map<String, Value> updates = new LinkedHashMap<>();
+    updates.put("1", new DictionaryValue(rowOne));
+
+    Table result = UpdateCells.action(inputTable, "DICTIONARY", null, updates, "NAME", false)
+        .get();
+
+    Assert.assertEquals(cell(result, 1, 1), "Done");
+    Assert.assertEquals(cell(result, 1, 2), 1.0);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Column not found in update 1: status.*")
+  public void testCaseSensitiveColumnNotFound() {
+    UpdateCells.action(inputTable, "TABLE", updates(new Object[]{"0", "status", "Done"}), null,
+        "NAME", true);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class,
+      expectedExceptionsMessageRegExp = ".*Invalid row index in update 1.*")
+  public void testRowIndexOutOfRange() {
+    UpdateCells.action(inputTable, "TABLE", updates(new Object[]{"4", "Status", "Done"}), null,
+        "NAME", false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testDictionaryValueNotDictionary() {
+    Map<String, Value> updates = new LinkedHashMap<>();
+    updates.put("0", new StringValue("Done"));
+
+    UpdateCells.action(inputTable, "DICTIONARY", null, updates, "NAME", false);
+  }
+
+}
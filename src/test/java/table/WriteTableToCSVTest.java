@@ -0,0 +1,127 @@
+package table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.ReadCSVToTable;
+import sumit.devtools.actions.table.WriteTableToCSV;
+
+/**
+ * Test class for WriteTableToCSV action.
+ */
+public class WriteTableToCSVTest {
+
+  private Path tempDir;
+  private Table inputTable;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("csv-tests");
+
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Name"));
+    schema.add(new Schema("Amount"));
+    schema.add(new Schema("Note"));
+
+    List<Row> rows = new ArrayList<>();
+    List<Value> row1Values = new ArrayList<>();
+    row1Values.add(new StringValue("John"));
+    row1Values.add(new NumberValue(100));
+    row1Values.add(new StringValue("Paid, in full"));
+    rows.add(new Row(row1Values));
+
+    List<Value> row2Values = new ArrayList<>();
+    row2Values.add(new StringValue("Alice"));
+    row2Values.add(new NumberValue(12.5));
+    row2Values.add(null);
+    rows.add(new Row(row2Values));
+
+    inputTable = new Table(schema, rows);
+  }
+
+  @AfterMethod
+  public void tearDown() throws IOException {
+    Files.walk(tempDir)
+        .sorted((p1, p2) -> -p1.compareTo(p2))
+        .forEach(p -> {
+          try {
+            Files.deleteIfExists(p);
+          } catch (IOException e) {
+            // Ignore, best effort cleanup
+          }
+        });
+  }
+
+  @Test
+  public void testWriteWithHeader() throws IOException {
+    Path file = tempDir.resolve("output.csv");
+
+    WriteTableToCSV.action(inputTable, file.toString(), "UTF-8", "COMMA", null, true, "FAIL");
+
+    List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+    Assert.assertEquals(lines.size(), 3);
+    Assert.assertEquals(lines.get(0), "Name,Amount,Note");
+    Assert.assertEquals(lines.get(1), "John,100,\"Paid, in full\"");
+    Assert.assertEquals(lines.get(2), "Alice,12.5,");
+  }
+
+  @Test
+  public void testAppendSkipsHeaderForExistingFile() throws IOException {
+    Path file = tempDir.resolve("output.csv");
+
+    WriteTableToCSV.action(inputTable, file.toString(), "UTF-8", "COMMA", null, true, "APPEND");
+    WriteTableToCSV.action(inputTable, file.toString(), "UTF-8", "COMMA", null, true, "APPEND");
+
+    List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+    Assert.assertEquals(lines.size(), 5);
+    Assert.assertEquals(lines.get(3), "John,100,\"Paid, in full\"");
+  }
+
+  @Test
+  public void testOverwriteExistingFile() throws IOException {
+    Path file = tempDir.resolve("output.csv");
+    Files.writeString(file, "old content that is longer than the new content will be\n".repeat(5));
+
+    WriteTableToCSV.action(inputTable, file.toString(), "UTF-8", "TAB", null, false, "OVERWRITE");
+
+    List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+    Assert.assertEquals(lines.size(), 2);
+    Assert.assertEquals(lines.get(0), "John\t100\tPaid, in full");
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testExistingFileWithoutOverwrite() throws IOException {
+    Path file = tempDir.resolve("output.csv");
+    Files.writeString(file, "existing");
+
+    WriteTableToCSV.action(inputTable, file.toString(), "UTF-8", "COMMA", null, true, "FAIL");
+  }
+
+  @Test
+  public void testRoundTripWithReadCSVToTable() {
+    Path file = tempDir.resolve("nested/output.csv");
+
+    WriteTableToCSV.action(inputTable, file.toString(), "UTF-16", "PIPE", null, true, "FAIL");
+    Table result = ReadCSVToTable.action(file.toString(), "UTF-16", "PIPE", null, true, 0.0, 0.0)
+        .get();
+
+    Assert.assertEquals(result.getSchema().get(1).getName(), "Amount");
+    Assert.assertEquals(result.getRows().size(), 2);
+    Assert.assertEquals(result.getRows().get(0).getValues().get(2).toString(), "Paid, in full");
+  }
+
+}
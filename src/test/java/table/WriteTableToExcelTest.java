@@ -0,0 +1,158 @@
+package table;
+
+import com.automationanywhere.botcommand.data.Value;
+import com.automationanywhere.botcommand.data.impl.BooleanValue;
+import com.automationanywhere.botcommand.data.impl.DateTimeValue;
+import com.automationanywhere.botcommand.data.impl.NumberValue;
+import com.automationanywhere.botcommand.data.impl.StringValue;
+import com.automationanywhere.botcommand.data.model.Schema;
+import com.automationanywhere.botcommand.data.model.table.Row;
+import com.automationanywhere.botcommand.data.model.table.Table;
+import com.automationanywhere.botcommand.exception.BotCommandException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sumit.devtools.actions.table.ReadExcelSheetToTable;
+import sumit.devtools.actions.table.WriteTableToExcel;
+
+/**
+ * Test class for WriteTableToExcel action.
+ */
+public class WriteTableToExcelTest {
+
+  private static final ZonedDateTime DATE = ZonedDateTime.of(
+      2024, 3, 15, 10, 30, 0, 0, ZoneId.of("UTC"));
+
+  private Path tempDir;
+  private Table inputTable;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("excel-write-tests");
+
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Name"));
+    schema.add(new Schema("Amount"));
+    schema.add(new Schema("Due"));
+    schema.add(new Schema("Paid"));
+
+    List<Row> rows = new ArrayList<>();
+    List<Value> row1Values = new ArrayList<>();
+    row1Values.add(new StringValue("John"));
+    row1Values.add(new NumberValue(100));
+    row1Values.add(new DateTimeValue(DATE));
+    row1Values.add(new BooleanValue(true));
+    rows.add(new Row(row1Values));
+
+    List<Value> row2Values = new ArrayList<>();
+    row2Values.add(new StringValue("Alice"));
+    row2Values.add(new NumberValue(12.5));
+    row2Values.add(null);
+    row2Values.add(new BooleanValue(false));
+    rows.add(new Row(row2Values));
+
+    inputTable = new Table(schema, rows);
+  }
+
+  @AfterMethod
+  public void tearDown() throws IOException {
+    Files.walk(tempDir)
+        .sorted((p1, p2) -> -p1.compareTo(p2))
+        .forEach(p -> {
+          try {
+            Files.deleteIfExists(p);
+          } catch (IOException e) {
+            // Ignore, best effort cleanup
+          }
+        });
+  }
+
+  @Test
+  public void testCellTypesArePreserved() throws IOException {
+    Path file = tempDir.resolve("output.xlsx");
+
+    WriteTableToExcel.action(inputTable, file.toString(), "Report", true, 100.0, false);
+
+    try (InputStream in = Files.newInputStream(file);
+        XSSFWorkbook workbook = new XSSFWorkbook(in)) {
+      XSSFSheet sheet = workbook.getSheet("Report");
+      Assert.assertNotNull(sheet);
+      Assert.assertEquals(sheet.getLastRowNum(), 2);
+      Assert.assertEquals(sheet.getRow(0).getCell(1).getStringCellValue(), "Amount");
+
+      Assert.assertEquals(sheet.getRow(1).getCell(0).getStringCellValue(), "John");
+      Assert.assertEquals(sheet.getRow(1).getCell(1).getCellType(), CellType.NUMERIC);
+      Assert.assertEquals(sheet.getRow(1).getCell(1).getNumericCellValue(), 100.0);
+      Assert.assertTrue(DateUtil.isCellDateFormatted(sheet.getRow(1).getCell(2)));
+      Assert.assertEquals(sheet.getRow(1).getCell(2).getLocalDateTimeCellValue(),
+          LocalDateTime.of(2024, 3, 15, 10, 30));
+      Assert.assertTrue(sheet.getRow(1).getCell(3).getBooleanCellValue());
+
+      Assert.assertNull(sheet.getRow(2).getCell(2), "Null values should leave the cell empty");
+    }
+  }
+
+  @Test
+  public void testRowWindowSmallerThanTable() {
+    List<Schema> schema = new ArrayList<>();
+    schema.add(new Schema("Id"));
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      List<Value> values = new ArrayList<>();
+      values.add(new NumberValue(i));
+      rows.add(new Row(values));
+    }
+    Path file = tempDir.resolve("nested/large.xlsx");
+
+    WriteTableToExcel.action(new Table(schema, rows), file.toString(), "Sheet1", true, 10.0,
+        false);
+
+    Table result = ReadExcelSheetToTable.action(file.toString(), "INDEX", null, 1.0, true, 0.0,
+        0.0).get();
+    Assert.assertEquals(result.getRows().size(), 1000);
+    Assert.assertEquals(result.getRows().get(999).getValues().get(0).toString(), "999");
+  }
+
+  @Test
+  public void testOverwriteExistingFile() {
+    Path file = tempDir.resolve("output.xlsx");
+
+    WriteTableToExcel.action(inputTable, file.toString(), "Sheet1", true, 100.0, false);
+    WriteTableToExcel.action(inputTable, file.toString(), "Sheet1", false, 100.0, true);
+
+    Table result = ReadExcelSheetToTable.action(file.toString(), "INDEX", null, 1.0, false, 0.0,
+        0.0).get();
+    Assert.assertEquals(result.getRows().size(), 2);
+    Assert.assertEquals(result.getRows().get(0).getValues().get(0).toString(), "John");
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testExistingFileWithoutOverwrite() throws IOException {
+    Path file = tempDir.resolve("output.xlsx");
+    Files.writeString(file, "existing");
+
+    WriteTableToExcel.action(inputTable, file.toString(), "Sheet1", true, 100.0, false);
+  }
+
+  @Test(expectedExceptions = BotCommandException.class)
+  public void testInvalidSheetName() {
+    Path file = tempDir.resolve("output.xlsx");
+
+    WriteTableToExcel.action(inputTable, file.toString(), "Bad/Name", true, 100.0, false);
+  }
+
+}